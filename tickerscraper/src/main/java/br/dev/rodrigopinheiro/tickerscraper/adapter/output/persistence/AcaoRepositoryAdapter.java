@@ -7,11 +7,13 @@ import br.dev.rodrigopinheiro.tickerscraper.application.dto.PageQuery;
 import br.dev.rodrigopinheiro.tickerscraper.application.dto.PagedResult;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.AcaoRepositoryPort;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.Acao;
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Cotacao;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.enums.TipoAtivo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -91,4 +93,11 @@ public class AcaoRepositoryAdapter implements AcaoRepositoryPort {
     public long countByTipoAtivo(TipoAtivo tipoAtivo) {
         return jpa.countByTipoAtivo(tipoAtivo);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public boolean updateCotacao(String ticker, Cotacao cotacao) {
+        return jpa.updateCotacao(ticker, cotacao.preco(), cotacao.variacao12M(), cotacao.dividendYield(),
+                cotacao.dataAtualizacao()) > 0;
+    }
+}
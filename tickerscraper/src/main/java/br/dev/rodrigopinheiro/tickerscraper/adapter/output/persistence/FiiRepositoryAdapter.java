@@ -7,6 +7,7 @@ import br.dev.rodrigopinheiro.tickerscraper.application.dto.PageQuery;
 import br.dev.rodrigopinheiro.tickerscraper.application.dto.PagedResult;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.FiiRepositoryPort;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.FundoImobiliario;
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Cotacao;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.enums.TipoAtivo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -121,6 +122,11 @@ public class FiiRepositoryAdapter implements FiiRepositoryPort {
         return jpa.findByTicker(ticker).map(FundoImobiliarioEntity::getDadosBrutosJson);
     }
 
+    @Override
+    public Optional<Long> findInternalIdByTicker(String ticker) {
+        return jpa.findInternalIdByTicker(ticker);
+    }
+
     @Override
     public List<FundoImobiliario> findByTipoAtivo(TipoAtivo tipoAtivo) {
         return jpa.findByTipoAtivo(tipoAtivo).stream()
@@ -140,4 +146,11 @@ public class FiiRepositoryAdapter implements FiiRepositoryPort {
     public long countByTipoAtivo(TipoAtivo tipoAtivo) {
         return jpa.countByTipoAtivo(tipoAtivo);
     }
+
+    @Override
+    @Transactional
+    public boolean updateCotacao(String ticker, Cotacao cotacao) {
+        return jpa.updateCotacao(ticker, cotacao.preco(), cotacao.variacao12M(), cotacao.dividendYield(),
+                cotacao.dataAtualizacao()) > 0;
+    }
 }
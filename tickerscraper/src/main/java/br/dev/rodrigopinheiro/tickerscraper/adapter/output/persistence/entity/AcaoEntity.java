@@ -186,6 +186,10 @@ public class AcaoEntity {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
 
+    // Atualizada só pela cotação via Brapi (update pontual), não pelo scraping completo
+    @Column(name = "data_atualizacao_cotacao")
+    private LocalDateTime dataAtualizacaoCotacao;
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
@@ -122,4 +122,8 @@ public class FundoImobiliarioEntity {
     @UpdateTimestamp
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
+
+    // Atualizada só pela cotação via Brapi (update pontual), não pelo scraping completo
+    @Column(name = "data_atualizacao_cotacao")
+    private LocalDateTime dataAtualizacaoCotacao;
 }
@@ -5,8 +5,13 @@ import br.dev.rodrigopinheiro.tickerscraper.domain.model.enums.TipoAtivo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +26,18 @@ public interface AcaoJpaRepository extends JpaRepository<AcaoEntity, Long> {
     Page<AcaoEntity> findByTipoAtivo(TipoAtivo tipoAtivo, Pageable pageable);
     long countByTipoAtivo(TipoAtivo tipoAtivo);
 
+    // Update pontual da cotação: não passa pelo @UpdateTimestamp de data_atualizacao
+    @Modifying(clearAutomatically = true)
+    @Query("""
+       update AcaoEntity a
+       set a.precoAtual = :preco, a.variacao12M = :variacao12M, a.dividendYield = :dividendYield,
+           a.dataAtualizacaoCotacao = :dataAtualizacao
+       where a.ticker = :ticker
+    """)
+    int updateCotacao(@Param("ticker") String ticker,
+                      @Param("preco") BigDecimal preco,
+                      @Param("variacao12M") BigDecimal variacao12M,
+                      @Param("dividendYield") BigDecimal dividendYield,
+                      @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
 }
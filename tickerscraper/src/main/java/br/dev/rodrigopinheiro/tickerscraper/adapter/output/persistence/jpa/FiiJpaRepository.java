@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,9 @@ public interface FiiJpaRepository extends JpaRepository<FundoImobiliarioEntity,
     """)
     Optional<FundoImobiliarioEntity> findByTickerWithDividendos(@Param("ticker") String ticker);
 
+    @Query("select f.internalId from FundoImobiliarioEntity f where f.ticker = :ticker")
+    Optional<Long> findInternalIdByTicker(@Param("ticker") String ticker);
+
     @Modifying
     @Query("DELETE FROM FiiDividendoEntity d WHERE d.fundoImobiliario.id = :fundoId")
     void deleteAllDividendosByFundoId(@Param("fundoId") Long fundoId);
@@ -35,4 +40,18 @@ public interface FiiJpaRepository extends JpaRepository<FundoImobiliarioEntity,
     Page<FundoImobiliarioEntity> findByTipoAtivo(TipoAtivo tipoAtivo, Pageable pageable);
     long countByTipoAtivo(TipoAtivo tipoAtivo);
 
+    // Update pontual da cotação: não passa pelo @UpdateTimestamp de data_atualizacao
+    @Modifying(clearAutomatically = true)
+    @Query("""
+       update FundoImobiliarioEntity f
+       set f.cotacao = :cotacao, f.variacao12M = :variacao12M, f.dividendYield = :dividendYield,
+           f.dataAtualizacaoCotacao = :dataAtualizacao
+       where f.ticker = :ticker
+    """)
+    int updateCotacao(@Param("ticker") String ticker,
+                      @Param("cotacao") BigDecimal cotacao,
+                      @Param("variacao12M") BigDecimal variacao12M,
+                      @Param("dividendYield") BigDecimal dividendYield,
+                      @Param("dataAtualizacao") LocalDateTime dataAtualizacao);
+
 }
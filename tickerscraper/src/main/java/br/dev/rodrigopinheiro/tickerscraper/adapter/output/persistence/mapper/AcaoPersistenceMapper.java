@@ -67,6 +67,7 @@ public interface AcaoPersistenceMapper {
             @Mapping(target = "id",              ignore = true),
             @Mapping(target = "dadosBrutosJson", ignore = true),
             @Mapping(target = "dataAtualizacao", ignore = true),
+            @Mapping(target = "dataAtualizacaoCotacao", ignore = true), // só pelo update de cotação
 
             @Mapping(source = "ticker",              target = "ticker"),
             @Mapping(source = "nomeEmpresa",         target = "nomeEmpresa"),
@@ -125,7 +126,8 @@ public interface AcaoPersistenceMapper {
     @Mappings({
             @Mapping(target = "id",              ignore = true),
             @Mapping(target = "dadosBrutosJson", ignore = true),
-            @Mapping(target = "dataAtualizacao", ignore = true)
+            @Mapping(target = "dataAtualizacao", ignore = true),
+            @Mapping(target = "dataAtualizacaoCotacao", ignore = true)
     })
     void updateEntity(Acao source, @MappingTarget AcaoEntity target);
 }
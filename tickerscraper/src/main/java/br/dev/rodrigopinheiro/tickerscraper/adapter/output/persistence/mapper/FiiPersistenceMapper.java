@@ -57,6 +57,7 @@ public interface FiiPersistenceMapper {
             @Mapping(target = "internalId",       ignore = true),
             @Mapping(target = "dadosBrutosJson",  ignore = true),
             @Mapping(target = "dataAtualizacao",  ignore = true),
+            @Mapping(target = "dataAtualizacaoCotacao", ignore = true), // só pelo update de cotação
             @Mapping(source = "ticker",                  target = "ticker"),
             @Mapping(source = "tipoAtivo",               target = "tipoAtivo"),
             @Mapping(source = "nomeEmpresa",             target = "nomeEmpresa"),
@@ -100,6 +101,7 @@ public interface FiiPersistenceMapper {
             @Mapping(target = "internalId",       ignore = true),
             @Mapping(target = "dadosBrutosJson",  ignore = true),
             @Mapping(target = "dataAtualizacao",  ignore = true),
+            @Mapping(target = "dataAtualizacaoCotacao", ignore = true), // só pelo update de cotação
             @Mapping(target = "fiiDividendos",    ignore = true) // coleção tratada à parte
     })
     void updateEntity(FundoImobiliario source, @MappingTarget FundoImobiliarioEntity target);
@@ -6,7 +6,6 @@ import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDa
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfDadosFinanceirosDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
 import org.mapstruct.Mapper;
-import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import java.time.LocalDateTime;
@@ -39,8 +38,8 @@ public interface RawDataMapper {
     /**
      * Converte DTO de infraestrutura de Ação para DTO da camada application.
      *
-     * <p>Utiliza mapeamento declarativo do MapStruct com Methods auxiliares qualificados
-     * para lógica de conversão complexa. O mapeamento inclui:</p>
+     * <p>Os dados brutos são montados uma única vez, como visão somente leitura sobre o DTO
+     * ({@link RawDataView}), e reaproveitados no status de processamento e nos metadados. Inclui:</p>
      * <ul>
      *   <li>Extração do ticker do header com valor padrão</li>
      *   <li>Timestamp automático de scraping</li>
@@ -52,13 +51,24 @@ public interface RawDataMapper {
      * @param infraDto DTO de infraestrutura com dados coletados do scraping
      * @return DTO da application com dados estruturados e metadados
      */
-    @Mapping(target = "ticker", source = "infoHeader.ticker", defaultValue = "UNKNOWN")
-    @Mapping(target = "source", constant = "PLAYWRIGHT_SCRAPER")
-    @Mapping(target = "scrapingTimestamp", expression = "java(java.time.LocalDateTime.now())")
-    @Mapping(target = "processingStatus", source = ".", qualifiedByName = "determineAcaoProcessingStatus")
-    @Mapping(target = "rawData", source = ".", qualifiedByName = "buildAcaoRawDataMap")
-    @Mapping(target = "metadata", source = ".", qualifiedByName = "buildAcaoMetadata")
-    AcaoRawDataResponse toAcaoRawDataResponse(AcaoDadosFinanceirosDTO infraDto);
+    default AcaoRawDataResponse toAcaoRawDataResponse(AcaoDadosFinanceirosDTO infraDto) {
+        if (infraDto == null) {
+            return null;
+        }
+
+        String ticker = infraDto.infoHeader() != null && infraDto.infoHeader().ticker() != null
+                ? infraDto.infoHeader().ticker() : "UNKNOWN";
+        Map<String, Object> rawData = buildAcaoRawDataMap(infraDto);
+
+        return new AcaoRawDataResponse(
+                ticker,
+                rawData,
+                "PLAYWRIGHT_SCRAPER",
+                LocalDateTime.now(),
+                determineProcessingStatus(rawData),
+                buildAcaoMetadata(infraDto, rawData)
+        );
+    }
 
     /**
      * Constrói mapa de dados brutos para Ação a partir do DTO de infraestrutura.
@@ -67,45 +77,11 @@ public interface RawDataMapper {
      * seções do DTO de infraestrutura em um mapa chave-valor estruturado.</p>
      *
      * @param infraDto DTO de infraestrutura da ação
-     * @return Mapa com dados brutos organizados por categoria
+     * @return Visão somente leitura com dados brutos organizados por categoria
      */
     @Named("buildAcaoRawDataMap")
     default Map<String, Object> buildAcaoRawDataMap(AcaoDadosFinanceirosDTO infraDto) {
-        Map<String, Object> rawData = Collections.synchronizedMap(new HashMap<>());
-
-        if (infraDto == null) return rawData;
-
-        // Converter dados do header
-        if (infraDto.infoHeader() != null) {
-            rawData.put("ticker", infraDto.infoHeader().ticker());
-            rawData.put("nomeEmpresa", infraDto.infoHeader().nomeEmpresa());
-        }
-
-        // Converter dados dos cards
-        if (infraDto.infoCards() != null) {
-            rawData.put("cotacao", infraDto.infoCards().cotacao());
-            rawData.put("variacao12M", infraDto.infoCards().variacao12M());
-        }
-
-        // Converter dados detalhados
-        if (infraDto.infoDetailed() != null) {
-            rawData.put("valorMercado", infraDto.infoDetailed().valorMercado());
-            rawData.put("valorFirma", infraDto.infoDetailed().valorFirma());
-            rawData.put("patrimonioLiquido", infraDto.infoDetailed().patrimonioLiquido());
-            rawData.put("numeroTotalPapeis", infraDto.infoDetailed().numeroTotalPapeis());
-            rawData.put("ativos", infraDto.infoDetailed().ativos());
-            rawData.put("ativoCirculante", infraDto.infoDetailed().ativoCirculante());
-            rawData.put("dividaBruta", infraDto.infoDetailed().dividaBruta());
-            rawData.put("dividaLiquida", infraDto.infoDetailed().dividaLiquida());
-            rawData.put("disponibilidade", infraDto.infoDetailed().disponibilidade());
-        }
-
-        // Converter indicadores fundamentalistas
-        if (infraDto.fundamentalIndicators() != null) {
-            rawData.put("indicadores", infraDto.fundamentalIndicators());
-        }
-
-        return rawData;
+        return RawDataViews.acao(infraDto);
     }
 
     /**
@@ -136,11 +112,21 @@ public interface RawDataMapper {
      */
     @Named("buildAcaoMetadata")
     default Map<String, String> buildAcaoMetadata(AcaoDadosFinanceirosDTO infraDto) {
+        return buildAcaoMetadata(infraDto, buildAcaoRawDataMap(infraDto));
+    }
+
+    /**
+     * Metadados da Ação a partir de dados brutos já montados.
+     *
+     * @param infraDto DTO de infraestrutura da ação
+     * @param rawData Dados brutos de {@link #buildAcaoRawDataMap}
+     * @return Mapa com metadados descritivos
+     */
+    default Map<String, String> buildAcaoMetadata(AcaoDadosFinanceirosDTO infraDto, Map<String, Object> rawData) {
         if (infraDto == null) {
             return Map.of("total_fields", "0");
         }
 
-        Map<String, Object> rawData = buildAcaoRawDataMap(infraDto);
         return Map.of(
                 "total_fields", String.valueOf(rawData.size()),
                 "has_header", String.valueOf(infraDto.infoHeader() != null),
@@ -165,8 +151,8 @@ public interface RawDataMapper {
 
         String ticker = infraDto.infoHeader() != null ? infraDto.infoHeader().ticker() : "UNKNOWN";
         Map<String, Object> rawData = buildFiiRawDataMap(infraDto);
-        ProcessingStatus status = determineFiiProcessingStatus(infraDto);
-        Map<String, String> metadata = buildFiiMetadata(infraDto, apiUrls);
+        ProcessingStatus status = determineProcessingStatus(rawData);
+        Map<String, String> metadata = buildFiiMetadata(infraDto, apiUrls, rawData);
 
         return new FiiRawDataResponse(
                 ticker,
@@ -187,47 +173,11 @@ public interface RawDataMapper {
      * de header, cards, informações sobre o fundo, cotação, histórico e dividendos.</p>
      *
      * @param infraDto DTO de infraestrutura do FII
-     * @return Mapa com dados brutos organizados por categoria
+     * @return Visão somente leitura com dados brutos organizados por categoria
      */
     @Named("buildFiiRawDataMap")
     default Map<String, Object> buildFiiRawDataMap(FiiDadosFinanceirosDTO infraDto) {
-        Map<String, Object> rawData = Collections.synchronizedMap(new HashMap<>());
-
-        if (infraDto == null) return rawData;
-
-        // Converter dados do header
-        if (infraDto.infoHeader() != null) {
-            rawData.put("ticker", infraDto.infoHeader().ticker());
-            rawData.put("nomeEmpresa", infraDto.infoHeader().nomeEmpresa());
-        }
-
-        // Converter dados dos cards
-        if (infraDto.infoCards() != null) {
-            rawData.put("cotacao", infraDto.infoCards().cotacao());
-            rawData.put("variacao12M", infraDto.infoCards().variacao12M());
-        }
-
-        // Converter informações sobre o fundo
-        if (infraDto.infoSobre() != null) {
-            rawData.put("infoSobre", infraDto.infoSobre());
-        }
-
-        // Converter dados de cotação da API
-        if (infraDto.cotacao() != null) {
-            rawData.put("cotacaoApi", infraDto.cotacao());
-        }
-
-        // Converter histórico de indicadores
-        if (infraDto.infoHistorico() != null) {
-            rawData.put("indicadorHistorico", infraDto.infoHistorico());
-        }
-
-        // Converter dividendos
-        if (infraDto.dividendos() != null) {
-            rawData.put("dividendos", infraDto.dividendos());
-        }
-
-        return rawData;
+        return RawDataViews.fii(infraDto);
     }
 
     /**
@@ -259,11 +209,23 @@ public interface RawDataMapper {
      */
     @Named("buildFiiMetadata")
     default Map<String, String> buildFiiMetadata(FiiDadosFinanceirosDTO infraDto, Map<String, String> apiUrls) {
+        return buildFiiMetadata(infraDto, apiUrls, buildFiiRawDataMap(infraDto));
+    }
+
+    /**
+     * Metadados do FII a partir de dados brutos já montados.
+     *
+     * @param infraDto DTO de infraestrutura do FII
+     * @param apiUrls URLs das APIs capturadas durante o scraping
+     * @param rawData Dados brutos de {@link #buildFiiRawDataMap}
+     * @return Mapa com metadados descritivos específicos de FII
+     */
+    default Map<String, String> buildFiiMetadata(FiiDadosFinanceirosDTO infraDto, Map<String, String> apiUrls,
+                                                 Map<String, Object> rawData) {
         if (infraDto == null) {
             return Map.of("total_fields", "0", "apis_captured", "0");
         }
 
-        Map<String, Object> rawData = buildFiiRawDataMap(infraDto);
         return Map.of(
                 "total_fields", String.valueOf(rawData.size()),
                 "apis_captured", String.valueOf(apiUrls != null ? apiUrls.size() : 0),
@@ -348,8 +310,8 @@ public interface RawDataMapper {
 
         String ticker = infraDto.infoHeader() != null ? infraDto.infoHeader().ticker() : "UNKNOWN";
         Map<String, Object> rawData = buildEtfRawDataMap(infraDto);
-        ProcessingStatus status = determineEtfProcessingStatus(infraDto);
-        Map<String, String> metadata = buildEtfMetadata(infraDto);
+        ProcessingStatus status = determineProcessingStatus(rawData);
+        Map<String, String> metadata = buildEtfMetadata(infraDto, rawData);
 
         return new EtfRawDataResponse(
                 ticker,
@@ -369,30 +331,11 @@ public interface RawDataMapper {
      * de header e cards com informações financeiras do ETF.</p>
      *
      * @param infraDto DTO de infraestrutura do ETF
-     * @return Mapa com dados brutos organizados por categoria
+     * @return Visão somente leitura com dados brutos organizados por categoria
      */
     @Named("buildEtfRawDataMap")
     default Map<String, Object> buildEtfRawDataMap(EtfDadosFinanceirosDTO infraDto) {
-        Map<String, Object> rawData = Collections.synchronizedMap(new HashMap<>());
-
-        if (infraDto == null) return rawData;
-
-        // Converter dados do header
-        if (infraDto.infoHeader() != null) {
-            rawData.put("ticker", infraDto.infoHeader().ticker());
-            rawData.put("nomeEtf", infraDto.infoHeader().nomeEtf());
-        }
-
-        // Converter dados dos cards
-        if (infraDto.infoCards() != null) {
-            rawData.put("valorAtual", infraDto.infoCards().valorAtual());
-            rawData.put("capitalizacao", infraDto.infoCards().capitalizacao());
-            rawData.put("variacao12M", infraDto.infoCards().variacao12M());
-            rawData.put("variacao60M", infraDto.infoCards().variacao60M());
-            rawData.put("dy", infraDto.infoCards().dy());
-        }
-
-        return rawData;
+        return RawDataViews.etf(infraDto);
     }
 
     /**
@@ -423,11 +366,21 @@ public interface RawDataMapper {
      */
     @Named("buildEtfMetadata")
     default Map<String, String> buildEtfMetadata(EtfDadosFinanceirosDTO infraDto) {
+        return buildEtfMetadata(infraDto, buildEtfRawDataMap(infraDto));
+    }
+
+    /**
+     * Metadados do ETF a partir de dados brutos já montados.
+     *
+     * @param infraDto DTO de infraestrutura do ETF
+     * @param rawData Dados brutos de {@link #buildEtfRawDataMap}
+     * @return Mapa com metadados descritivos específicos de ETF
+     */
+    default Map<String, String> buildEtfMetadata(EtfDadosFinanceirosDTO infraDto, Map<String, Object> rawData) {
         if (infraDto == null) {
             return Map.of("total_fields", "0");
         }
 
-        Map<String, Object> rawData = buildEtfRawDataMap(infraDto);
         return Map.of(
                 "total_fields", String.valueOf(rawData.size()),
                 "has_header", String.valueOf(infraDto.infoHeader() != null),
@@ -533,71 +486,11 @@ public interface RawDataMapper {
      * de header, cards, informações sobre o BDR, indicadores, demonstrativos e dividendos.
      *
      * @param infraDto DTO de infraestrutura do BDR
-     * @return Mapa com dados brutos organizados por categoria
+     * @return Visão somente leitura com dados brutos organizados por categoria
      */
     @Named("buildBdrRawDataMap")
     default Map<String, Object> buildBdrRawDataMap(BdrDadosFinanceirosDTO infraDto) {
-        if (infraDto == null) return Collections.emptyMap();
-
-        Map<String, Object> rawData = new HashMap<>();
-
-        // Header
-        if (infraDto.infoHeader() != null) {
-            Map<String, Object> header = new HashMap<>();
-            header.put("ticker", infraDto.infoHeader().ticker());
-            header.put("nomeBdr", infraDto.infoHeader().nomeBdr());
-            rawData.put("header", header);
-        }
-
-        // Cards (cotação, variação)
-        if (infraDto.infoCards() != null) {
-            Map<String, Object> cards = new HashMap<>();
-            cards.put("cotacao", infraDto.infoCards().cotacao());
-            cards.put("variacao12M", infraDto.infoCards().variacao12M());
-            rawData.put("cards", cards);
-        }
-
-        // Info Sobre (setor, indústria, market cap, paridade)
-        if (infraDto.infoSobre() != null) {
-            Map<String, Object> sobre = new HashMap<>();
-            sobre.put("marketCapText", infraDto.infoSobre().marketCapText());
-            sobre.put("setor", infraDto.infoSobre().setor());
-            sobre.put("industria", infraDto.infoSobre().industria());
-            sobre.put("paridadeText", infraDto.infoSobre().paridadeText());
-            rawData.put("sobre", sobre);
-        }
-
-        // Indicadores
-        if (infraDto.indicadores() != null && !infraDto.indicadores().isEmpty()) {
-            rawData.put("indicadores", infraDto.indicadores());
-        }
-
-        // Demonstrativos
-        if (infraDto.demonstrativos() != null) {
-            Map<String, Object> demonstrativos = new HashMap<>();
-            if (infraDto.demonstrativos().dre() != null) {
-                demonstrativos.put("dre", infraDto.demonstrativos().dre());
-            }
-            if (infraDto.demonstrativos().bp() != null) {
-                demonstrativos.put("bp", infraDto.demonstrativos().bp());
-            }
-            if (infraDto.demonstrativos().fc() != null) {
-                demonstrativos.put("fc", infraDto.demonstrativos().fc());
-            }
-            if (!demonstrativos.isEmpty()) {
-                rawData.put("demonstrativos", demonstrativos);
-            }
-        }
-
-        // Dividendos
-        if (infraDto.dividendos() != null && !infraDto.dividendos().isEmpty()) {
-            rawData.put("dividendos", infraDto.dividendos());
-        }
-
-        // Timestamp
-        rawData.put("updatedAt", infraDto.updatedAt());
-
-        return rawData;
+        return RawDataViews.bdr(infraDto);
     }
 
     /**
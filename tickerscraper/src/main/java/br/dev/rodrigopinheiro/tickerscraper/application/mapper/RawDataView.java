@@ -0,0 +1,177 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.mapper;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Visão somente leitura, preguiçosa e memoizada de um DTO de infraestrutura como mapa de dados brutos.
+ *
+ * <p>Substitui a cópia campo a campo para um {@code Collections.synchronizedMap(new HashMap<>())}:
+ * nenhum mapa é alocado por resposta. As chaves presentes são calculadas no primeiro acesso
+ * (tamanho, iteração ou busca) e cada valor é lido do DTO apenas na primeira vez em que é pedido.</p>
+ *
+ * <p>Não é sincronizada: a visão é montada e serializada na mesma cadeia da requisição.
+ * Mutações lançam {@link UnsupportedOperationException}.</p>
+ *
+ * @param <T> Tipo do DTO de infraestrutura
+ */
+final class RawDataView<T> extends AbstractMap<String, Object> {
+
+    private static final Object NAO_LIDO = new Object();
+
+    private final Esquema<T> esquema;
+    private final T dto;
+
+    // Índices (no esquema) dos campos presentes, em ordem de declaração; null até o primeiro acesso
+    private int[] presentes;
+    private Object[] valores;
+
+    private RawDataView(Esquema<T> esquema, T dto) {
+        this.esquema = esquema;
+        this.dto = dto;
+    }
+
+    /**
+     * Inicia a declaração dos campos de uma visão.
+     */
+    static <T> Esquema<T> esquema() {
+        return new Esquema<>();
+    }
+
+    /**
+     * Campos da visão (chave, condição de presença, leitura do valor), declarados uma vez por tipo de DTO
+     * e compartilhados por todas as visões dele.
+     */
+    static final class Esquema<T> {
+
+        private final List<String> chaves = new ArrayList<>();
+        private final List<Predicate<? super T>> presencas = new ArrayList<>();
+        private final List<Function<? super T, ?>> leitores = new ArrayList<>();
+
+        private Esquema() {
+        }
+
+        /**
+         * Campo sempre presente.
+         */
+        Esquema<T> campo(String chave, Function<? super T, ?> leitor) {
+            return campoSe(chave, dto -> true, leitor);
+        }
+
+        /**
+         * Campo presente quando {@code presente} é verdadeiro para o DTO.
+         */
+        Esquema<T> campoSe(String chave, Predicate<? super T> presente, Function<? super T, ?> leitor) {
+            chaves.add(chave);
+            presencas.add(presente);
+            leitores.add(leitor);
+            return this;
+        }
+
+        /**
+         * Campo lido de uma seção do DTO, presente quando a seção não é nula.
+         */
+        <S> Esquema<T> campo(String chave, Function<? super T, ? extends S> secao, Function<? super S, ?> leitor) {
+            return campoSe(chave, dto -> secao.apply(dto) != null, dto -> leitor.apply(secao.apply(dto)));
+        }
+
+        /**
+         * Visão sobre o DTO; {@code null} resulta em uma visão vazia.
+         */
+        RawDataView<T> sobre(T dto) {
+            return new RawDataView<>(this, dto);
+        }
+    }
+
+    @Override
+    public Object get(Object chave) {
+        int posicao = posicaoDe(chave);
+        return posicao < 0 ? null : valor(posicao);
+    }
+
+    @Override
+    public boolean containsKey(Object chave) {
+        return posicaoDe(chave) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return presentes().length;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int proxima;
+
+                    @Override
+                    public boolean hasNext() {
+                        return proxima < presentes().length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int posicao = proxima++;
+                        return new SimpleImmutableEntry<>(esquema.chaves.get(presentes[posicao]), valor(posicao));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return RawDataView.this.size();
+            }
+        };
+    }
+
+    private int[] presentes() {
+        if (presentes == null) {
+            int[] indices = new int[esquema.chaves.size()];
+            int total = 0;
+            if (dto != null) {
+                for (int i = 0; i < indices.length; i++) {
+                    if (esquema.presencas.get(i).test(dto)) {
+                        indices[total++] = i;
+                    }
+                }
+            }
+            presentes = Arrays.copyOf(indices, total);
+            valores = new Object[total];
+            Arrays.fill(valores, NAO_LIDO);
+        }
+        return presentes;
+    }
+
+    private int posicaoDe(Object chave) {
+        int[] indices = presentes();
+        for (int posicao = 0; posicao < indices.length; posicao++) {
+            if (esquema.chaves.get(indices[posicao]).equals(chave)) {
+                return posicao;
+            }
+        }
+        return -1;
+    }
+
+    private Object valor(int posicao) {
+        Object valor = valores[posicao];
+        if (valor == NAO_LIDO) {
+            valor = esquema.leitores.get(presentes[posicao]).apply(dto);
+            valores[posicao] = valor;
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,109 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoDetailedDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.Demonstrativos;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoCards;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoHeader;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoSobre;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
+
+import java.util.Map;
+
+/**
+ * Esquemas das visões de dados brutos ({@link RawDataView}) de cada tipo de ativo.
+ *
+ * <p>As chaves e condições de presença são as mesmas dos mapas montados antes pelo {@link RawDataMapper}:
+ * campos de uma seção só aparecem quando a seção existe, ainda que o valor seja nulo.</p>
+ */
+final class RawDataViews {
+
+    private static final RawDataView.Esquema<AcaoDadosFinanceirosDTO> ACAO = RawDataView.<AcaoDadosFinanceirosDTO>esquema()
+            .campo("ticker", AcaoDadosFinanceirosDTO::infoHeader, h -> h.ticker())
+            .campo("nomeEmpresa", AcaoDadosFinanceirosDTO::infoHeader, h -> h.nomeEmpresa())
+            .campo("cotacao", AcaoDadosFinanceirosDTO::infoCards, c -> c.cotacao())
+            .campo("variacao12M", AcaoDadosFinanceirosDTO::infoCards, c -> c.variacao12M())
+            .campo("valorMercado", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::valorMercado)
+            .campo("valorFirma", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::valorFirma)
+            .campo("patrimonioLiquido", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::patrimonioLiquido)
+            .campo("numeroTotalPapeis", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::numeroTotalPapeis)
+            .campo("ativos", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::ativos)
+            .campo("ativoCirculante", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::ativoCirculante)
+            .campo("dividaBruta", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::dividaBruta)
+            .campo("dividaLiquida", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::dividaLiquida)
+            .campo("disponibilidade", AcaoDadosFinanceirosDTO::infoDetailed, AcaoInfoDetailedDTO::disponibilidade)
+            .campoSe("indicadores", dto -> dto.fundamentalIndicators() != null, AcaoDadosFinanceirosDTO::fundamentalIndicators);
+
+    private static final RawDataView.Esquema<FiiDadosFinanceirosDTO> FII = RawDataView.<FiiDadosFinanceirosDTO>esquema()
+            .campo("ticker", FiiDadosFinanceirosDTO::infoHeader, h -> h.ticker())
+            .campo("nomeEmpresa", FiiDadosFinanceirosDTO::infoHeader, h -> h.nomeEmpresa())
+            .campo("cotacao", FiiDadosFinanceirosDTO::infoCards, c -> c.cotacao())
+            .campo("variacao12M", FiiDadosFinanceirosDTO::infoCards, c -> c.variacao12M())
+            .campoSe("infoSobre", dto -> dto.infoSobre() != null, FiiDadosFinanceirosDTO::infoSobre)
+            .campoSe("cotacaoApi", dto -> dto.cotacao() != null, FiiDadosFinanceirosDTO::cotacao)
+            .campoSe("indicadorHistorico", dto -> dto.infoHistorico() != null, FiiDadosFinanceirosDTO::infoHistorico)
+            .campoSe("dividendos", dto -> dto.dividendos() != null, FiiDadosFinanceirosDTO::dividendos);
+
+    private static final RawDataView.Esquema<EtfDadosFinanceirosDTO> ETF = RawDataView.<EtfDadosFinanceirosDTO>esquema()
+            .campo("ticker", EtfDadosFinanceirosDTO::infoHeader, h -> h.ticker())
+            .campo("nomeEtf", EtfDadosFinanceirosDTO::infoHeader, h -> h.nomeEtf())
+            .campo("valorAtual", EtfDadosFinanceirosDTO::infoCards, c -> c.valorAtual())
+            .campo("capitalizacao", EtfDadosFinanceirosDTO::infoCards, c -> c.capitalizacao())
+            .campo("variacao12M", EtfDadosFinanceirosDTO::infoCards, c -> c.variacao12M())
+            .campo("variacao60M", EtfDadosFinanceirosDTO::infoCards, c -> c.variacao60M())
+            .campo("dy", EtfDadosFinanceirosDTO::infoCards, c -> c.dy());
+
+    private static final RawDataView.Esquema<InfoHeader> BDR_HEADER = RawDataView.<InfoHeader>esquema()
+            .campo("ticker", InfoHeader::ticker)
+            .campo("nomeBdr", InfoHeader::nomeBdr);
+
+    private static final RawDataView.Esquema<InfoCards> BDR_CARDS = RawDataView.<InfoCards>esquema()
+            .campo("cotacao", InfoCards::cotacao)
+            .campo("variacao12M", InfoCards::variacao12M);
+
+    private static final RawDataView.Esquema<InfoSobre> BDR_SOBRE = RawDataView.<InfoSobre>esquema()
+            .campo("marketCapText", InfoSobre::marketCapText)
+            .campo("setor", InfoSobre::setor)
+            .campo("industria", InfoSobre::industria)
+            .campo("paridadeText", InfoSobre::paridadeText);
+
+    private static final RawDataView.Esquema<Demonstrativos> BDR_DEMONSTRATIVOS = RawDataView.<Demonstrativos>esquema()
+            .campoSe("dre", d -> d.dre() != null, Demonstrativos::dre)
+            .campoSe("bp", d -> d.bp() != null, Demonstrativos::bp)
+            .campoSe("fc", d -> d.fc() != null, Demonstrativos::fc);
+
+    private static final RawDataView.Esquema<BdrDadosFinanceirosDTO> BDR = RawDataView.<BdrDadosFinanceirosDTO>esquema()
+            .campo("header", BdrDadosFinanceirosDTO::infoHeader, BDR_HEADER::sobre)
+            .campo("cards", BdrDadosFinanceirosDTO::infoCards, BDR_CARDS::sobre)
+            .campo("sobre", BdrDadosFinanceirosDTO::infoSobre, BDR_SOBRE::sobre)
+            .campoSe("indicadores", dto -> naoVazio(dto.indicadores()), BdrDadosFinanceirosDTO::indicadores)
+            .campoSe("demonstrativos", dto -> dto.demonstrativos() != null && !BDR_DEMONSTRATIVOS.sobre(dto.demonstrativos()).isEmpty(),
+                    dto -> BDR_DEMONSTRATIVOS.sobre(dto.demonstrativos()))
+            .campoSe("dividendos", dto -> naoVazio(dto.dividendos()), BdrDadosFinanceirosDTO::dividendos)
+            .campo("updatedAt", BdrDadosFinanceirosDTO::updatedAt);
+
+    private RawDataViews() {
+    }
+
+    static Map<String, Object> acao(AcaoDadosFinanceirosDTO dto) {
+        return ACAO.sobre(dto);
+    }
+
+    static Map<String, Object> fii(FiiDadosFinanceirosDTO dto) {
+        return FII.sobre(dto);
+    }
+
+    static Map<String, Object> etf(EtfDadosFinanceirosDTO dto) {
+        return ETF.sobre(dto);
+    }
+
+    static Map<String, Object> bdr(BdrDadosFinanceirosDTO dto) {
+        return BDR.sobre(dto);
+    }
+
+    private static boolean naoVazio(Map<?, ?> mapa) {
+        return mapa != null && !mapa.isEmpty();
+    }
+}
@@ -3,6 +3,7 @@ package br.dev.rodrigopinheiro.tickerscraper.application.port.output;
 import br.dev.rodrigopinheiro.tickerscraper.application.dto.PageQuery;
 import br.dev.rodrigopinheiro.tickerscraper.application.dto.PagedResult;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.Acao;
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Cotacao;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.enums.TipoAtivo;
 
 import java.util.List;
@@ -23,4 +24,10 @@ public interface AcaoRepositoryPort {
     PagedResult<Acao> findByTipoAtivo(TipoAtivo tipoAtivo, PageQuery query);
     long countByTipoAtivo(TipoAtivo tipoAtivo);
 
+    /**
+     * Atualiza só os campos de cotação do ticker (update pontual, sem regravar o restante).
+     *
+     * @return false se o ticker não existe
+     */
+    boolean updateCotacao(String ticker, Cotacao cotacao);
 }
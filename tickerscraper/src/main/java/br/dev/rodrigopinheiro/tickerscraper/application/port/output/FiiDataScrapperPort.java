@@ -6,4 +6,12 @@ import reactor.core.publisher.Mono;
 public interface FiiDataScrapperPort {
     Mono<FiiDadosFinanceirosDTO> scrape(String ticker);
 
+    /**
+     * Atualiza um FII já conhecido a partir do internal_id persistido.
+     * Implementações podem ir direto nas APIs; o padrão é o scrape completo.
+     */
+    default Mono<FiiDadosFinanceirosDTO> refresh(String ticker, Long internalId) {
+        return scrape(ticker);
+    }
+
 }
@@ -5,11 +5,15 @@ import br.dev.rodrigopinheiro.tickerscraper.application.mapper.RawDataMapper;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.input.AcaoUseCasePort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.AcaoDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.AcaoRepositoryPort;
-import br.dev.rodrigopinheiro.tickerscraper.application.service.base.AbstractTickerUseCaseService;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.AbstractCotacaoTickerUseCaseService;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.DomainCachePolicy;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.Acao;
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Cotacao;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.BrapiHttpClient;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.mapper.AcaoScraperMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -21,7 +25,7 @@ import java.util.Optional;
 
 @Service
 public class AcaoUseCaseService
-        extends AbstractTickerUseCaseService<AcaoDadosFinanceirosDTO, Acao, AcaoRawDataResponse>
+        extends AbstractCotacaoTickerUseCaseService<AcaoDadosFinanceirosDTO, Acao, AcaoRawDataResponse>
         implements AcaoUseCasePort {
 
     private final AcaoDataScrapperPort scraper;
@@ -33,8 +37,12 @@ public class AcaoUseCaseService
                               AcaoRepositoryPort repo,
                               AcaoScraperMapper scraperMapper,
                               RawDataMapper rawDataMapper,
-                              ObjectMapper json) {
-        super(json, Duration.ofDays(1), AcaoDadosFinanceirosDTO.class);
+                              ObjectMapper json,
+                              MeterRegistry meterRegistry,
+                              DomainCachePolicy cachePolicy,
+                              TickerNegativeCacheService negativeCache,
+                              BrapiHttpClient brapiClient) {
+        super(json, cachePolicy, AcaoDadosFinanceirosDTO.class, negativeCache, meterRegistry, "acao", brapiClient);
         this.scraper = scraper;
         this.repo = repo;
         this.scraperMapper = scraperMapper;
@@ -61,11 +69,26 @@ public class AcaoUseCaseService
                 Duration.between(updatedAt, LocalDateTime.now()).compareTo(maxAge) < 0;
     }
 
+    @Override
+    protected Cotacao cotacaoAtual(Acao d) {
+        return new Cotacao(d.getPrecoAtual(), d.getVariacao12M(), d.getDividendYield(), d.getDataAtualizacaoCotacao());
+    }
+
+    @Override
+    protected boolean updateCotacao(String t, Cotacao cotacao) {
+        return repo.updateCotacao(t, cotacao);
+    }
+
     @Override
     protected Acao toDomain(AcaoDadosFinanceirosDTO raw) {
         return scraperMapper.toDomain(raw);
     }
 
+    @Override
+    protected Acao copiar(Acao domain) {
+        return new Acao(domain);
+    }
+
     @Override
     protected Acao saveDomain(Acao domain, AcaoDadosFinanceirosDTO raw) {
         String audit = null;
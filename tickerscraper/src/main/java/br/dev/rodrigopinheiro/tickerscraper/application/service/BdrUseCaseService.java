@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import br.dev.rodrigopinheiro.tickerscraper.application.dto.BdrRawDataResponse;
 import br.dev.rodrigopinheiro.tickerscraper.application.mapper.RawDataMapper;
@@ -17,6 +18,7 @@ import br.dev.rodrigopinheiro.tickerscraper.application.port.input.BdrUseCasePor
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.BdrDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.BdrRepositoryPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.service.base.AbstractTickerUseCaseService;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.DomainCachePolicy;
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.DataParsingException;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.Bdr;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDadosFinanceirosDTO;
@@ -40,8 +42,11 @@ public class BdrUseCaseService
             BdrRepositoryPort repo,
             BdrScraperMapper scraperMapper,
             RawDataMapper rawDataMapper,
-            ObjectMapper objectMapper) {
-        super(objectMapper, Duration.ofDays(1), BdrDadosFinanceirosDTO.class);
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            DomainCachePolicy cachePolicy,
+            TickerNegativeCacheService negativeCache) {
+        super(objectMapper, cachePolicy, BdrDadosFinanceirosDTO.class, negativeCache, meterRegistry, "bdr");
         this.scraper = scraper;
         this.repo = repo;
         this.scraperMapper = scraperMapper;
@@ -76,6 +81,11 @@ public class BdrUseCaseService
         return scraperMapper.toDomain(raw);
     }
 
+    @Override
+    protected Bdr copiar(Bdr domain) {
+        return new Bdr(domain);
+    }
+
     @Override
     protected Bdr saveDomain(Bdr domain, BdrDadosFinanceirosDTO raw) {
         System.out.println("=== DEBUG: BdrUseCaseService.saveDomain CHAMADO! Ticker: " + domain.getTicker() + " ===");
@@ -6,10 +6,12 @@ import br.dev.rodrigopinheiro.tickerscraper.application.port.input.EtfUseCasePor
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.EtfScraperPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.EtfRepositoryPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.service.base.AbstractTickerUseCaseService;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.DomainCachePolicy;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.Etf;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfDadosFinanceirosDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.mapper.EtfScraperMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -35,8 +37,11 @@ public class EtfUseCaseService extends AbstractTickerUseCaseService<EtfDadosFina
                             EtfRepositoryPort repo,
                             EtfScraperMapper scraperMapper,
                             RawDataMapper rawDataMapper,
-                            ObjectMapper objectMapper) {
-        super(objectMapper, Duration.ofDays(1), EtfDadosFinanceirosDTO.class);
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            DomainCachePolicy cachePolicy,
+                            TickerNegativeCacheService negativeCache) {
+        super(objectMapper, cachePolicy, EtfDadosFinanceirosDTO.class, negativeCache, meterRegistry, "etf");
         this.scraper = scraper;
         this.repo = repo;
         this.scraperMapper = scraperMapper;
@@ -105,6 +110,11 @@ public class EtfUseCaseService extends AbstractTickerUseCaseService<EtfDadosFina
         return scraperMapper.toDomain(scrapedData);
     }
 
+    @Override
+    protected Etf copiar(Etf domain) {
+        return new Etf(domain);
+    }
+
     /**
      * Salva a entidade de domínio no repositório.
      */
@@ -6,12 +6,16 @@ import br.dev.rodrigopinheiro.tickerscraper.application.mapper.RawDataMapper;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.input.FiiUseCasePort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.FiiDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.FiiRepositoryPort;
-import br.dev.rodrigopinheiro.tickerscraper.application.service.base.AbstractTickerUseCaseService;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.AbstractCotacaoTickerUseCaseService;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.DomainCachePolicy;
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Cotacao;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.FundoImobiliario;
 
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.BrapiHttpClient;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.mapper.FiiScraperMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -25,7 +29,7 @@ import java.util.Optional;
 
 @Service
 public class FiiUseCaseService
-        extends AbstractTickerUseCaseService<FiiDadosFinanceirosDTO, FundoImobiliario, FiiRawDataResponse>
+        extends AbstractCotacaoTickerUseCaseService<FiiDadosFinanceirosDTO, FundoImobiliario, FiiRawDataResponse>
         implements FiiUseCasePort {
 
     private final FiiDataScrapperPort scraper;
@@ -37,8 +41,12 @@ public class FiiUseCaseService
                              FiiRepositoryPort repo,
                              FiiScraperMapper scraperMapper,
                              RawDataMapper rawDataMapper,
-                             ObjectMapper objectMapper) {
-        super(objectMapper, Duration.ofDays(1), FiiDadosFinanceirosDTO.class);
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             DomainCachePolicy cachePolicy,
+                             TickerNegativeCacheService negativeCache,
+                             BrapiHttpClient brapiClient) {
+        super(objectMapper, cachePolicy, FiiDadosFinanceirosDTO.class, negativeCache, meterRegistry, "fii", brapiClient);
         this.scraper = scraper;
         this.repo = repo;
         this.scraperMapper = scraperMapper;
@@ -54,7 +62,16 @@ public class FiiUseCaseService
                 .subscribeOn(Schedulers.boundedElastic());
     }
 
-    @Override protected Mono<FiiDadosFinanceirosDTO> scrape(String t) { return scraper.scrape(t); }
+    /**
+     * FII já persistido tem internal_id conhecido: o scraper pode atualizar direto nas APIs,
+     * sem renderizar a página. Sem internal_id, scrape completo.
+     */
+    @Override protected Mono<FiiDadosFinanceirosDTO> scrape(String t) {
+        return Mono.fromCallable(() -> repo.findInternalIdByTicker(t))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(id -> id.map(internalId -> scraper.refresh(t, internalId))
+                        .orElseGet(() -> scraper.scrape(t)));
+    }
 
     @Override protected boolean isCacheValid(FundoImobiliario d, Duration maxAge) {
         return d.getDataAtualizacao() != null &&
@@ -62,10 +79,24 @@ public class FiiUseCaseService
                         .compareTo(maxAge) < 0;
     }
 
+    @Override
+    protected Cotacao cotacaoAtual(FundoImobiliario d) {
+        return new Cotacao(d.getCotacao(), d.getVariacao12M(), d.getDividendYield(), d.getDataAtualizacaoCotacao());
+    }
+
+    @Override
+    protected boolean updateCotacao(String t, Cotacao cotacao) {
+        return repo.updateCotacao(t, cotacao);
+    }
+
     @Override protected FundoImobiliario toDomain(FiiDadosFinanceirosDTO raw) {
         return scraperMapper.toDomain(raw);
     }
 
+    @Override protected FundoImobiliario copiar(FundoImobiliario domain) {
+        return new FundoImobiliario(domain);
+    }
+
     @Override
     protected FundoImobiliario saveDomain(FundoImobiliario domain, FiiDadosFinanceirosDTO raw) {
         if (raw.internalId() == null) {
@@ -0,0 +1,119 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache negativo de tickers inexistentes ou deslistados, por ticker normalizado e tipo de ativo.
+ *
+ * <p>Evita repetir a classificação na Brapi e o scraping de um ticker que já respondeu "não encontrado".
+ * A entrada de {@link #QUALQUER} (Brapi sem o ticker) vale para todos os tipos de ativo;
+ * a de um tipo específico (ex.: "fii") só bloqueia o scraping daquele tipo.</p>
+ */
+@Slf4j
+@Service
+public class TickerNegativeCacheService {
+
+    /**
+     * Tipo de ativo das entradas registradas na classificação, quando o tipo ainda é desconhecido.
+     */
+    public static final String QUALQUER = "*";
+
+    private final Cache<Chave, TickerNotFoundException> cache;
+
+    public TickerNegativeCacheService(Cache<Chave, TickerNotFoundException> tickerNegativeCache) {
+        this.cache = tickerNegativeCache;
+    }
+
+    /**
+     * Busca o ticker no cache negativo para o tipo de ativo (ou para {@link #QUALQUER}).
+     *
+     * @return Nova exceção de ticker não encontrado com os dados da original, se houver entrada
+     */
+    public Optional<TickerNotFoundException> get(String ticker, String tipo) {
+        String t = normalizar(ticker);
+        TickerNotFoundException original = cache.getIfPresent(new Chave(t, tipo));
+        if (original == null && !QUALQUER.equals(tipo)) {
+            original = cache.getIfPresent(new Chave(t, QUALQUER));
+        }
+        if (original == null) {
+            return Optional.empty();
+        }
+        log.debug("Cache negativo HIT para ticker {} ({})", t, tipo);
+        // Exceção nova a cada consulta: a guardada é compartilhada entre requisições
+        return Optional.of(new TickerNotFoundException(original.getTicker(), original.getUrl(),
+                original.getSearchAttempted(), original.getSimilarTickers(), original.isDefinitivo()));
+    }
+
+    /**
+     * Registra o ticker como não encontrado para o tipo de ativo.
+     * O prazo depende de {@link TickerNotFoundException#isDefinitivo()} (ver configuração do cache).
+     */
+    public void put(String ticker, String tipo, TickerNotFoundException motivo) {
+        cache.put(new Chave(normalizar(ticker), tipo), motivo);
+        log.info("Ticker {} marcado como não encontrado ({}, {}): {}", normalizar(ticker), tipo,
+                motivo.isDefinitivo() ? "definitivo" : "presumido", motivo.getUrl());
+    }
+
+    /**
+     * Remove as entradas do ticker em todos os tipos de ativo
+     */
+    public void evict(String ticker) {
+        String t = normalizar(ticker);
+        cache.asMap().keySet().removeIf(chave -> chave.ticker().equals(t));
+        log.debug("Cache negativo EVICT: {}", t);
+    }
+
+    /**
+     * Limpa todo o cache
+     */
+    public void clear() {
+        cache.invalidateAll();
+        log.info("Cache negativo limpo completamente");
+    }
+
+    /**
+     * Entradas atuais, ordenadas por ticker e tipo
+     */
+    public List<Entrada> listar() {
+        return cache.asMap().entrySet().stream()
+                .map(e -> new Entrada(e.getKey().ticker(), e.getKey().tipo(), e.getValue().getUrl(),
+                        e.getValue().isDefinitivo(), e.getValue().getMessage()))
+                .sorted(Comparator.comparing(Entrada::ticker).thenComparing(Entrada::tipo))
+                .toList();
+    }
+
+    /**
+     * Estatísticas do cache
+     */
+    public String getStats() {
+        var stats = cache.stats();
+        return String.format(
+            "Cache Negativo Stats - Hits: %d, Misses: %d, Hit Rate: %.2f%%, Size: %d",
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate() * 100,
+            cache.estimatedSize()
+        );
+    }
+
+    private static String normalizar(String ticker) {
+        return ticker.trim().toUpperCase();
+    }
+
+    public record Chave(String ticker, String tipo) {
+    }
+
+    /**
+     * @param origem     URL ou serviço que respondeu "não encontrado"
+     * @param definitivo Se a origem confirmou o "não encontrado" ou se ele foi deduzido da página
+     */
+    public record Entrada(String ticker, String tipo, String origem, boolean definitivo, String motivo) {
+    }
+}
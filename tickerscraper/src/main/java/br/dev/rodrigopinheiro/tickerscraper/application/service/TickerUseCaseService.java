@@ -31,6 +31,7 @@ public class TickerUseCaseService implements TickerUseCasePort {
     private final TickerDatabaseStrategy databaseStrategy;
     private final BrapiResponseClassifier brapiClassifier;
     private final TickerClassificationCacheService classificationCache;
+    private final TickerNegativeCacheService negativeCache;
     private final BrapiHttpClient brapiClient;
 
     // UseCases existentes
@@ -62,6 +63,13 @@ public class TickerUseCaseService implements TickerUseCasePort {
 
         String tickerNormalizado = ticker.trim().toUpperCase();
 
+        // 0. Ticker já respondido como não encontrado pela Brapi
+        var naoEncontrado = negativeCache.get(tickerNormalizado, TickerNegativeCacheService.QUALQUER);
+        if (naoEncontrado.isPresent()) {
+            log.debug("Ticker {} no cache negativo, classificação ignorada", tickerNormalizado);
+            return Mono.error(naoEncontrado.get());
+        }
+
         // 1. Verificar cache primeiro
         var tipoCache = classificationCache.get(tickerNormalizado);
         if (tipoCache.isPresent()) {
@@ -84,6 +92,9 @@ public class TickerUseCaseService implements TickerUseCasePort {
                     return consultarApiEClassificar(tickerNormalizado);
                 })
                 .onErrorResume(error -> {
+                    if (error instanceof TickerNotFoundException) {
+                        return Mono.error(error);
+                    }
                     log.error("Erro na classificação de {}: {}", tickerNormalizado, error.getMessage());
                     return Mono.error(new TickerClassificationException(tickerNormalizado, error));
                 });
@@ -96,6 +107,8 @@ public class TickerUseCaseService implements TickerUseCasePort {
         log.debug("Consultando API Brapi para classificar ticker: {}", ticker);
 
         return brapiClient.getQuote(ticker)
+                .doOnError(TickerNotFoundException.class,
+                        ex -> negativeCache.put(ticker, TickerNegativeCacheService.QUALQUER, naoEncontradoNaBrapi(ticker)))
                 .map(brapiClassifier::classificarPorResposta)
                 .doOnNext(tipo -> {
                     classificationCache.put(ticker, tipo);
@@ -108,11 +121,15 @@ public class TickerUseCaseService implements TickerUseCasePort {
                 })
                 .onErrorMap(TickerNotFoundException.class, ex -> {
                     log.warn("Ticker {} não encontrado na API Brapi: {}", ticker, ex.getMessage());
-                    return new TickerNotFoundException(ticker, "API_BRAPI", ticker,
-                            List.of("Verifique se o ticker está correto"));
+                    return naoEncontradoNaBrapi(ticker);
                 });
     }
 
+    private static TickerNotFoundException naoEncontradoNaBrapi(String ticker) {
+        return new TickerNotFoundException(ticker, "API_BRAPI", ticker,
+                List.of("Verifique se o ticker está correto"));
+    }
+
     /**
      * Faz scraping dos dados e salva no banco, retornando o tipo
      */
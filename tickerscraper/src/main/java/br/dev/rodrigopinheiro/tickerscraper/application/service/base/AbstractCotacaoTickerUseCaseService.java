@@ -0,0 +1,81 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+import br.dev.rodrigopinheiro.tickerscraper.application.service.TickerNegativeCacheService;
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Cotacao;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.BrapiHttpClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Serviço de ticker cuja cotação vencida é atualizada pela Brapi, sem scraping completo.
+ * As subclasses informam a cotação atual do domínio e como gravá-la; a releitura usa {@link #findByTicker}.
+ */
+@Slf4j
+public abstract class AbstractCotacaoTickerUseCaseService<RAW, DOMAIN, RAW_RESPONSE>
+        extends AbstractTickerUseCaseService<RAW, DOMAIN, RAW_RESPONSE> {
+
+    // Grupos que a cotação da Brapi consegue atualizar sem scraping
+    private static final Set<GrupoDados> GRUPOS_COTACAO = EnumSet.of(GrupoDados.COTACAO);
+
+    private final BrapiHttpClient brapiClient;
+
+    protected AbstractCotacaoTickerUseCaseService(ObjectMapper json, DomainCachePolicy cachePolicy, Class<RAW> rawClass,
+                                                  TickerNegativeCacheService negativeCache, MeterRegistry meterRegistry,
+                                                  String ativo, BrapiHttpClient brapiClient) {
+        super(json, cachePolicy, rawClass, negativeCache, meterRegistry, ativo);
+        this.brapiClient = brapiClient;
+    }
+
+    @Override
+    protected boolean isCacheValid(DOMAIN d, GrupoDados grupo, Duration maxAge) {
+        // A cotação também é atualizada sozinha; vale a mais recente das duas datas
+        LocalDateTime cotacaoEm = cotacaoAtual(d).dataAtualizacao();
+        if (grupo == GrupoDados.COTACAO && cotacaoEm != null
+                && Duration.between(cotacaoEm, LocalDateTime.now()).compareTo(maxAge) < 0) {
+            return true;
+        }
+        return isCacheValid(d, maxAge);
+    }
+
+    /**
+     * Só a cotação vencida: preço da Brapi, com variação 12M e DY reprecificados, gravado num update pontual.
+     * Com outros grupos vencidos, sem preço ou com falha na Brapi, retorna vazio e a revalidação faz o scraping.
+     */
+    @Override
+    protected Mono<DOMAIN> atualizarGrupos(String t, DOMAIN atual, Set<GrupoDados> vencidos) {
+        if (!GRUPOS_COTACAO.containsAll(vencidos)) {
+            return Mono.empty();
+        }
+        Cotacao anterior = cotacaoAtual(atual);
+        return brapiClient.getPrice(t)
+                .map(preco -> Cotacao.reprecificar(anterior.preco(), anterior.variacao12M(),
+                        anterior.dividendYield(), preco, LocalDateTime.now()))
+                .flatMap(cotacao -> Mono.fromCallable(() -> updateCotacao(t, cotacao))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .filter(Boolean::booleanValue)
+                .flatMap(atualizado -> findByTicker(t))
+                .flatMap(Mono::justOrEmpty)
+                .onErrorResume(e -> {
+                    log.warn("Falha ao atualizar cotação de {} pela Brapi, seguindo com scraping: {}", t, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Preço, variação 12M, DY e data da última cotação avulsa do domínio.
+     */
+    protected abstract Cotacao cotacaoAtual(DOMAIN domain);
+
+    /**
+     * Grava só os campos da cotação; false se o ticker não existe mais no repositório.
+     */
+    protected abstract boolean updateCotacao(String ticker, Cotacao cotacao);
+}
@@ -1,47 +1,190 @@
 package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
 
-
+import br.dev.rodrigopinheiro.tickerscraper.application.service.TickerNegativeCacheService;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.Set;
 
+@Slf4j
 public abstract class AbstractTickerUseCaseService<RAW, DOMAIN, RAW_RESPONSE> {
 
     private final ObjectMapper json;
-    private final Duration maxCacheAge;
+    private final DomainCachePolicy cachePolicy;
     private final Class<RAW> rawClass;
+    private final TickerNegativeCacheService negativeCache;
+    private final String ativo;
+    // Chave das atualizações parciais no single-flight, separada da completa do mesmo ticker
+    private static final String SUFIXO_PARCIAL = "#parcial";
+
+    private final SingleFlight<String, Atualizacao<RAW, DOMAIN>> atualizacoes;
+    // Cache L1 de domínio por ticker normalizado, com cópias próprias (ver copiar); null quando desabilitado
+    private final Cache<String, DOMAIN> cache;
+    // Tickers com revalidação disparada há menos de revalidacaoBackoff
+    private final Cache<String, Boolean> revalidacoes;
+    // Revalidações em segundo plano ainda em curso, canceladas no shutdown
+    private final Disposable.Composite revalidacoesEmCurso = Disposables.composite();
 
-    protected AbstractTickerUseCaseService(ObjectMapper json, Duration maxCacheAge, Class<RAW> rawClass) {
+    /**
+     * @param cachePolicy   Frescor dos dados (soft/hard TTL) e cache L1 de domínio
+     * @param negativeCache Tickers não encontrados, consultado antes de cada scraping
+     * @param ativo         Nome do tipo de ativo usado como tag nas métricas e no cache negativo (ex.: "fii")
+     */
+    protected AbstractTickerUseCaseService(ObjectMapper json, DomainCachePolicy cachePolicy, Class<RAW> rawClass,
+                                           TickerNegativeCacheService negativeCache, MeterRegistry meterRegistry,
+                                           String ativo) {
         this.json = json;
-        this.maxCacheAge = maxCacheAge;
+        this.cachePolicy = cachePolicy;
         this.rawClass = rawClass;
+        this.negativeCache = negativeCache;
+        this.ativo = ativo;
+        this.atualizacoes = new SingleFlight<>(ativo, meterRegistry);
+        this.revalidacoes = Caffeine.newBuilder()
+                .maximumSize(cachePolicy.maxSize())
+                .expireAfterWrite(cachePolicy.revalidacaoBackoff())
+                .build();
+        if (cachePolicy.enabled()) {
+            // Entradas não passam do hard TTL em memória; o frescor em si é medido pela dataAtualizacao
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(cachePolicy.maxSize())
+                    .expireAfterWrite(cachePolicy.hardTtl())
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "ticker.domain", "ativo", ativo);
+        } else {
+            this.cache = null;
+        }
     }
 
     public Mono<DOMAIN> getTickerData(String ticker) {
         final String t = normalize(ticker);
-        return findByTicker(t)
+        return consultar(t)
                 .flatMap(opt -> {
-                    if (opt.isPresent() && isCacheValid(opt.get(), maxCacheAge)) {
+                    if (opt.isPresent()) {
                         return Mono.just(opt.get());
                     }
-                    return scrape(t).flatMap(raw -> persistFromRaw(raw));
+                    return atualizar(t).flatMap(a -> Mono.justOrEmpty(a.domain()));
                 });
     }
 
     protected Mono<RAW> getRawInfrastructureData(String ticker) {
         final String t = normalize(ticker);
-        return findByTicker(t)
+        return consultar(t)
                 .flatMap(opt -> {
-                    if (opt.isPresent() && isCacheValid(opt.get(), maxCacheAge)) {
+                    if (opt.isPresent()) {
                         return readRawFromStore(t).switchIfEmpty(scrape(t));
                     }
-                    return scrape(t)
-                            .flatMap(raw -> persistFromRaw(raw).thenReturn(raw));
+                    return atualizar(t).map(Atualizacao::raw);
                 });
     }
+
+    /**
+     * Domínio utilizável do ticker: do cache L1 ou, na falta, do repositório (que realimenta o L1).
+     * Vencido dentro do hard TTL, é retornado e dispara a revalidação em segundo plano;
+     * vazio quando não existe ou passou do hard TTL.
+     */
+    private Mono<Optional<DOMAIN>> consultar(String t) {
+        return Mono.defer(() -> {
+                    DOMAIN emMemoria = cache != null ? cache.getIfPresent(t) : null;
+                    if (emMemoria != null) {
+                        return Mono.just(Optional.of(copiar(emMemoria)));
+                    }
+                    return findByTicker(t).doOnNext(opt -> opt.ifPresent(d -> armazenar(t, d)));
+                })
+                .map(opt -> opt.filter(d -> utilizavel(t, d)));
+    }
+
+    private boolean utilizavel(String t, DOMAIN domain) {
+        Instant agora = Instant.now();
+        Set<GrupoDados> vencidos = cachePolicy.vencidos(ativo, agora,
+                (grupo, idadeMaxima) -> isCacheValid(domain, grupo, idadeMaxima));
+        if (vencidos.isEmpty()) {
+            return true;
+        }
+        if (cachePolicy.staleWhileRevalidate() && isCacheValid(domain, cachePolicy.idadeMaximaServida(ativo, agora))) {
+            revalidar(t, domain, vencidos);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Atualização em segundo plano só dos grupos vencidos ({@link #atualizarGrupos}), ou completa quando
+     * o tipo de ativo não tem fonte parcial para eles; falhas mantêm o valor vencido até o hard TTL.
+     * Uma tentativa por ticker a cada {@link DomainCachePolicy#revalidacaoBackoff()}, com sucesso ou não.
+     */
+    private void revalidar(String t, DOMAIN atual, Set<GrupoDados> vencidos) {
+        if (revalidacoes.asMap().putIfAbsent(t, Boolean.TRUE) != null) {
+            log.debug("Revalidação de {} em backoff, servindo valor vencido", t);
+            return;
+        }
+        log.debug("Servindo {} vencido ({}) e revalidando em segundo plano", t, vencidos);
+        Disposable.Swap revalidacao = Disposables.swap();
+        if (!revalidacoesEmCurso.add(revalidacao)) {
+            return;
+        }
+        revalidacao.update(atualizacoes.executar(t + SUFIXO_PARCIAL, () -> atualizarGrupos(t, atual, vencidos)
+                        .map(domain -> new Atualizacao<RAW, DOMAIN>(null, domain))
+                        .doOnNext(a -> armazenar(t, a.domain())))
+                .switchIfEmpty(Mono.defer(() -> atualizar(t)))
+                .doFinally(sinal -> revalidacoesEmCurso.remove(revalidacao))
+                .subscribe(
+                        a -> { },
+                        e -> log.warn("Falha ao revalidar {} em segundo plano: {}", t, e.getMessage())));
+    }
+
+    /**
+     * Cancela as revalidações em segundo plano ainda em curso no shutdown do bean.
+     */
+    @PreDestroy
+    public void encerrarRevalidacoes() {
+        revalidacoesEmCurso.dispose();
+    }
+
+    /**
+     * Scrape + persistência do ticker, compartilhado entre chamadas concorrentes ({@link SingleFlight}):
+     * com o cache vencido, N requisições simultâneas do mesmo ticker abrem uma única página
+     * e fazem um único upsert, e todas recebem o mesmo resultado ou erro.
+     * O domínio persistido substitui a entrada do cache L1.
+     * Ticker no cache negativo falha sem scraping; {@link TickerNotFoundException} do scraper o registra lá.
+     */
+    private Mono<Atualizacao<RAW, DOMAIN>> atualizar(String t) {
+        return Mono.defer(() -> negativeCache.get(t, ativo)
+                .<Mono<Atualizacao<RAW, DOMAIN>>>map(Mono::error)
+                .orElseGet(() -> atualizacoes.executar(t, () -> scrape(t)
+                        .flatMap(raw -> persistFromRaw(raw)
+                                .map(domain -> new Atualizacao<>(raw, domain))
+                                .defaultIfEmpty(new Atualizacao<>(raw, null)))
+                        .doOnNext(a -> armazenar(t, a.domain()))
+                        .doOnError(TickerNotFoundException.class, e -> negativeCache.put(t, ativo, e)))));
+    }
+
+    private void armazenar(String t, DOMAIN domain) {
+        if (cache == null) {
+            return;
+        }
+        if (domain != null) {
+            cache.put(t, copiar(domain));
+        } else {
+            cache.invalidate(t);
+        }
+    }
+
+    private record Atualizacao<RAW, DOMAIN>(RAW raw, DOMAIN domain) {
+    }
     
     /**
      * Template method para obter dados brutos como DTO da application.
@@ -75,6 +218,11 @@ public abstract class AbstractTickerUseCaseService<RAW, DOMAIN, RAW_RESPONSE> {
     protected abstract boolean isCacheValid(DOMAIN domain, Duration maxAge);
     protected abstract DOMAIN toDomain(RAW raw);
     protected abstract DOMAIN saveDomain(DOMAIN domain, RAW raw);
+    /**
+     * Cópia independente do domínio: o cache L1 guarda uma e entrega outra a cada leitura,
+     * de modo que alterações de quem recebeu o objeto não vazam para as próximas requisições.
+     */
+    protected abstract DOMAIN copiar(DOMAIN domain);
     
     // ---------- hooks para template method de raw response ----------
     /**
@@ -92,6 +240,22 @@ public abstract class AbstractTickerUseCaseService<RAW, DOMAIN, RAW_RESPONSE> {
     // opcional: leitura do RAW persistido (JSONB → RAW)
     protected Mono<RAW> readRawFromStore(String ticker) { return Mono.empty(); }
 
+    /**
+     * Atualiza só os {@code vencidos} do domínio em cache, sem scraping completo, e persiste o resultado.
+     * Vazio quando não há fonte parcial para esses grupos: a revalidação segue com o scraping completo.
+     */
+    protected Mono<DOMAIN> atualizarGrupos(String ticker, DOMAIN atual, Set<GrupoDados> vencidos) {
+        return Mono.empty();
+    }
+
+    /**
+     * Se o grupo de campos do domínio é mais novo que {@code maxAge}.
+     * Por padrão todos os grupos têm a data da última atualização completa.
+     */
+    protected boolean isCacheValid(DOMAIN domain, GrupoDados grupo, Duration maxAge) {
+        return isCacheValid(domain, maxAge);
+    }
+
     // helper para subclasses
     protected RAW deserialize(String json) throws Exception {
         return this.json.readValue(json, rawClass);
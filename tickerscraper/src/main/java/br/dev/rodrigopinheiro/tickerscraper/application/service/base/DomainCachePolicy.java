@@ -0,0 +1,111 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+/**
+ * Política do cache L1 (em memória) de objetos de domínio dos serviços de ticker.
+ *
+ * <p>A idade é a da última atualização de cada grupo de campos ({@link GrupoDados}), não a da entrada no cache:</p>
+ * <ul>
+ *   <li>nenhum grupo vencido ({@link FreshnessPolicy}, {@code softTtl} na falta dela): o valor é retornado direto;</li>
+ *   <li>algum grupo vencido, até {@code hardTtl}: o valor é retornado na hora e só os grupos vencidos
+ *       são atualizados em segundo plano (stale-while-revalidate);</li>
+ *   <li>após {@code hardTtl}: o chamador aguarda a atualização completa.</li>
+ * </ul>
+ *
+ * <p>Com o pregão fechado, grupos marcados em {@link FreshnessPolicy#pregao()} (e o {@code hardTtl} do tipo de
+ * ativo que tiver algum) não vencem se foram atualizados depois do último fechamento.</p>
+ *
+ * @param enabled  Desabilitado, toda leitura vai ao repositório (o frescor continua valendo)
+ * @param maxSize  Máximo de entradas por tipo de ativo
+ * @param softTtl  Idade máxima de um grupo sem política própria
+ * @param hardTtl  Idade máxima de um valor servido enquanto revalida; igual ao softTtl desliga o stale-while-revalidate
+ * @param frescor  Política por tipo de ativo ("acao", "fii", "etf", "bdr")
+ * @param pregao   Calendário do pregão
+ * @param revalidacaoBackoff Intervalo mínimo entre revalidações em segundo plano do mesmo ticker;
+ *                           falhando a revalidação, o valor vencido segue servido até o hard TTL
+ */
+public record DomainCachePolicy(boolean enabled, long maxSize, Duration softTtl, Duration hardTtl,
+                                Map<String, FreshnessPolicy> frescor, PregaoB3 pregao, Duration revalidacaoBackoff) {
+
+    private static final FreshnessPolicy SEM_POLITICA = new FreshnessPolicy(Map.of(), Set.of());
+    private static final Duration REVALIDACAO_BACKOFF_PADRAO = Duration.ofMinutes(5);
+
+    public DomainCachePolicy {
+        if (softTtl == null || hardTtl == null || hardTtl.compareTo(softTtl) < 0) {
+            throw new IllegalArgumentException("hardTtl deve ser maior ou igual ao softTtl: soft=" + softTtl + ", hard=" + hardTtl);
+        }
+        frescor = frescor == null ? Map.of() : Map.copyOf(frescor);
+        pregao = pregao == null ? PregaoB3.padrao() : pregao;
+        revalidacaoBackoff = revalidacaoBackoff == null ? REVALIDACAO_BACKOFF_PADRAO : revalidacaoBackoff;
+    }
+
+    public DomainCachePolicy(boolean enabled, long maxSize, Duration softTtl, Duration hardTtl,
+                             Map<String, FreshnessPolicy> frescor, PregaoB3 pregao) {
+        this(enabled, maxSize, softTtl, hardTtl, frescor, pregao, REVALIDACAO_BACKOFF_PADRAO);
+    }
+
+    /**
+     * Mesmo frescor ({@code softTtl}) para todos os grupos, sem considerar o pregão.
+     */
+    public DomainCachePolicy(boolean enabled, long maxSize, Duration softTtl, Duration hardTtl) {
+        this(enabled, maxSize, softTtl, hardTtl, Map.of(), PregaoB3.padrao());
+    }
+
+    /**
+     * Valores padrão: 1 dia fresco, até 36h servindo valor vencido enquanto revalida.
+     */
+    public static DomainCachePolicy padrao() {
+        return new DomainCachePolicy(true, 1000, Duration.ofDays(1), Duration.ofHours(36));
+    }
+
+    boolean staleWhileRevalidate() {
+        return hardTtl.compareTo(softTtl) > 0;
+    }
+
+    /**
+     * Grupos do tipo de ativo que passaram da idade máxima em {@code agora}.
+     *
+     * @param valido Se o grupo do valor em cache é mais novo que a idade máxima informada
+     */
+    Set<GrupoDados> vencidos(String ativo, Instant agora, BiPredicate<GrupoDados, Duration> valido) {
+        FreshnessPolicy politica = politica(ativo);
+        Set<GrupoDados> vencidos = EnumSet.noneOf(GrupoDados.class);
+        for (GrupoDados grupo : GrupoDados.values()) {
+            Duration idadeMaxima = politica.idadeMaxima().getOrDefault(grupo, softTtl);
+            if (politica.pregao().contains(grupo)) {
+                idadeMaxima = comPregaoFechado(idadeMaxima, agora);
+            }
+            if (!valido.test(grupo, idadeMaxima)) {
+                vencidos.add(grupo);
+            }
+        }
+        return vencidos;
+    }
+
+    /**
+     * Idade máxima de um valor servido enquanto revalida ({@code hardTtl}), estendida com o pregão fechado
+     * quando o tipo de ativo segue o pregão em algum grupo.
+     */
+    Duration idadeMaximaServida(String ativo, Instant agora) {
+        return politica(ativo).pregao().isEmpty() ? hardTtl : comPregaoFechado(hardTtl, agora);
+    }
+
+    private FreshnessPolicy politica(String ativo) {
+        return frescor.getOrDefault(ativo, SEM_POLITICA);
+    }
+
+    // Fresco se idade <= idadeMaxima ou se obtido depois do último fechamento (sem pregão desde então)
+    private Duration comPregaoFechado(Duration idadeMaxima, Instant agora) {
+        if (pregao.aberto(agora)) {
+            return idadeMaxima;
+        }
+        Duration desdeFechamento = Duration.between(pregao.ultimoFechamento(agora), agora);
+        return desdeFechamento.compareTo(idadeMaxima) > 0 ? desdeFechamento : idadeMaxima;
+    }
+}
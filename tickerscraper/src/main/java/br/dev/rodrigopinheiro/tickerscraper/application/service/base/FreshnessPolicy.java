@@ -0,0 +1,20 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Frescor dos grupos de campos de um tipo de ativo.
+ *
+ * @param idadeMaxima Idade máxima por grupo; grupos ausentes usam o {@code softTtl} do {@link DomainCachePolicy}
+ * @param pregao      Grupos que só envelhecem com o pregão aberto: um valor obtido depois do último
+ *                    fechamento continua fresco à noite, no fim de semana e em feriados
+ */
+public record FreshnessPolicy(Map<GrupoDados, Duration> idadeMaxima, Set<GrupoDados> pregao) {
+
+    public FreshnessPolicy {
+        idadeMaxima = idadeMaxima == null ? Map.of() : Map.copyOf(idadeMaxima);
+        pregao = pregao == null ? Set.of() : Set.copyOf(pregao);
+    }
+}
@@ -0,0 +1,22 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+/**
+ * Grupos de campos de um ativo, cada um com sua própria política de frescor ({@link FreshnessPolicy}).
+ */
+public enum GrupoDados {
+
+    /** Preço atual, variação 12M e dividend yield: mudam a cada negócio durante o pregão. */
+    COTACAO,
+
+    /** Demais indicadores dos cards derivados do preço (P/L, P/VP, valor de mercado). */
+    CARDS,
+
+    /** Demonstrativos e indicadores de balanço, mudam a cada divulgação de resultados. */
+    FUNDAMENTOS,
+
+    /** Histórico e anúncios de proventos. */
+    DIVIDENDOS,
+
+    /** Nome, CNPJ, setor, segmento, mandato: praticamente não mudam. */
+    CADASTRAL
+}
@@ -0,0 +1,64 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+/**
+ * Calendário do pregão da B3: dias úteis fora dos feriados informados, entre abertura e fechamento
+ * no fuso de São Paulo. Usado para não considerar vencidas cotações obtidas depois do último fechamento.
+ *
+ * @param zona       Fuso do pregão
+ * @param abertura   Início do pregão regular
+ * @param fechamento Fim do pregão (incluindo o call de fechamento)
+ * @param feriados   Dias úteis sem pregão
+ */
+public record PregaoB3(ZoneId zona, LocalTime abertura, LocalTime fechamento, Set<LocalDate> feriados) {
+
+    // Maior sequência de dias sem pregão considerada (ex.: carnaval emendado com fim de semana)
+    private static final int MAX_DIAS_SEM_PREGAO = 15;
+
+    public PregaoB3 {
+        if (!abertura.isBefore(fechamento)) {
+            throw new IllegalArgumentException("abertura deve ser antes do fechamento: " + abertura + " - " + fechamento);
+        }
+        feriados = feriados == null ? Set.of() : Set.copyOf(feriados);
+    }
+
+    /**
+     * Pregão regular das 10h às 18h (horário de Brasília), sem feriados cadastrados.
+     */
+    public static PregaoB3 padrao() {
+        return new PregaoB3(ZoneId.of("America/Sao_Paulo"), LocalTime.of(10, 0), LocalTime.of(18, 0), Set.of());
+    }
+
+    public boolean aberto(Instant instante) {
+        ZonedDateTime local = instante.atZone(zona);
+        LocalTime hora = local.toLocalTime();
+        return diaDePregao(local.toLocalDate()) && !hora.isBefore(abertura) && hora.isBefore(fechamento);
+    }
+
+    /**
+     * Fechamento do último pregão encerrado até {@code instante}.
+     */
+    public Instant ultimoFechamento(Instant instante) {
+        ZonedDateTime local = instante.atZone(zona);
+        LocalDate dia = local.toLocalDate();
+        if (local.toLocalTime().isBefore(fechamento)) {
+            dia = dia.minusDays(1);
+        }
+        for (int i = 0; i < MAX_DIAS_SEM_PREGAO && !diaDePregao(dia); i++) {
+            dia = dia.minusDays(1);
+        }
+        return dia.atTime(fechamento).atZone(zona).toInstant();
+    }
+
+    public boolean diaDePregao(LocalDate dia) {
+        DayOfWeek diaSemana = dia.getDayOfWeek();
+        return diaSemana != DayOfWeek.SATURDAY && diaSemana != DayOfWeek.SUNDAY && !feriados.contains(dia);
+    }
+}
@@ -0,0 +1,164 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.ContextView;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicação de operações em andamento por chave ("single-flight").
+ *
+ * <p>Enquanto a operação de uma chave não termina, novos assinantes da mesma chave recebem o mesmo
+ * resultado em vez de disparar outra execução:</p>
+ * <ul>
+ *   <li>valor, vazio ou erro são entregues igualmente a todos os assinantes;</li>
+ *   <li>a chave é liberada antes da entrega, então a próxima chamada após o término executa de novo;</li>
+ *   <li>o cancelamento de um assinante não afeta os demais; só quando todos cancelam
+ *       a execução é cancelada e a chave liberada.</li>
+ * </ul>
+ *
+ * <p>A execução roda com o {@code Context} do primeiro assinante (MDC, tracing).</p>
+ *
+ * @param <K> Tipo da chave (ex.: ticker normalizado)
+ * @param <V> Tipo do resultado
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Voo> emAndamento = new ConcurrentHashMap<>();
+    private final Counter executadas;
+    private final Counter coalescidas;
+
+    /**
+     * @param ativo Valor da tag {@code ativo} das métricas (ex.: "fii")
+     */
+    public SingleFlight(String ativo, MeterRegistry meterRegistry) {
+        Gauge.builder("ticker.usecase.inflight", emAndamento, Map::size).tag("ativo", ativo).register(meterRegistry);
+        this.executadas = Counter.builder("ticker.usecase.inflight.executed").tag("ativo", ativo).register(meterRegistry);
+        this.coalescidas = Counter.builder("ticker.usecase.inflight.coalesced").tag("ativo", ativo).register(meterRegistry);
+    }
+
+    /**
+     * Executa {@code operacao} para a chave, ou junta-se à execução já em andamento dela.
+     * A operação só é obtida e assinada quando o Mono retornado é assinado.
+     */
+    public Mono<V> executar(K chave, Supplier<? extends Mono<? extends V>> operacao) {
+        return Mono.deferContextual(ctx -> {
+            while (true) {
+                Voo voo = emAndamento.get(chave);
+                boolean novo = voo == null;
+                if (novo) {
+                    Voo criado = new Voo(chave);
+                    voo = emAndamento.putIfAbsent(chave, criado);
+                    novo = voo == null;
+                    if (novo) {
+                        voo = criado;
+                    }
+                }
+                if (voo.entrar()) {
+                    if (novo) {
+                        executadas.increment();
+                        voo.iniciar(operacao, ctx);
+                    } else {
+                        coalescidas.increment();
+                    }
+                    Voo atual = voo;
+                    return voo.resultado.asMono().doOnCancel(atual::sair);
+                }
+                // Execução cancelada por todos os assinantes entre a busca e a entrada: descarta e tenta de novo
+                emAndamento.remove(chave, voo);
+            }
+        });
+    }
+
+    /**
+     * Quantidade de chaves com execução em andamento.
+     */
+    public int emAndamento() {
+        return emAndamento.size();
+    }
+
+    private enum Estado { EM_ANDAMENTO, CONCLUIDO, CANCELADO }
+
+    /**
+     * Uma execução compartilhada. {@code assinantes} só é decrementado por cancelamento:
+     * depois de concluída, a execução entrega o resultado guardado no sink a quem chegar.
+     */
+    private final class Voo {
+        private final K chave;
+        private final Sinks.One<V> resultado = Sinks.one();
+        private Estado estado = Estado.EM_ANDAMENTO;
+        private Disposable execucao;
+        private int assinantes;
+
+        private Voo(K chave) {
+            this.chave = chave;
+        }
+
+        private synchronized boolean entrar() {
+            if (estado == Estado.CANCELADO) {
+                return false;
+            }
+            assinantes++;
+            return true;
+        }
+
+        private void iniciar(Supplier<? extends Mono<? extends V>> operacao, ContextView ctx) {
+            Disposable disposable = Mono.defer(operacao)
+                    .contextWrite(ctx)
+                    .subscribe(
+                            valor -> {
+                                concluir();
+                                resultado.tryEmitValue(valor);
+                            },
+                            erro -> {
+                                concluir();
+                                resultado.tryEmitError(erro);
+                            },
+                            () -> {
+                                concluir();
+                                resultado.tryEmitEmpty();
+                            });
+            boolean cancelado;
+            synchronized (this) {
+                execucao = disposable;
+                cancelado = estado == Estado.CANCELADO;
+            }
+            if (cancelado) {
+                // Todos os assinantes saíram antes de a execução ser registrada
+                disposable.dispose();
+            }
+        }
+
+        private void sair() {
+            Disposable cancelar;
+            synchronized (this) {
+                if (--assinantes > 0 || estado != Estado.EM_ANDAMENTO) {
+                    return;
+                }
+                estado = Estado.CANCELADO;
+                cancelar = execucao;
+            }
+            emAndamento.remove(chave, this);
+            if (cancelar != null) {
+                cancelar.dispose();
+            }
+        }
+
+        private void concluir() {
+            synchronized (this) {
+                if (estado == Estado.EM_ANDAMENTO) {
+                    estado = Estado.CONCLUIDO;
+                }
+            }
+            emAndamento.remove(chave, this);
+        }
+    }
+}
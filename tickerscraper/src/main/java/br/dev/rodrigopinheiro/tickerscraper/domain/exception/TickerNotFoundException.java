@@ -5,11 +5,16 @@ import java.util.List;
 /**
  * Exceção lançada quando o ticker solicitado não é encontrado no site.
  * Pode incluir sugestões de tickers similares se disponíveis.
+ *
+ * Definitiva quando a origem respondeu explicitamente (HTTP 404/410, Brapi);
+ * presumida quando deduzida da ausência dos elementos esperados na página,
+ * que também acontece com layout alterado ou página de bloqueio.
  */
 public class TickerNotFoundException extends ScrapingException {
     
     private final List<String> similarTickers;
     private final String searchAttempted;
+    private final boolean definitivo;
     
     /**
      * Construtor para ticker não encontrado.
@@ -20,10 +25,21 @@ public class TickerNotFoundException extends ScrapingException {
      * @param similarTickers Lista de tickers similares encontrados (opcional)
      */
     public TickerNotFoundException(String ticker, String url, String searchAttempted, List<String> similarTickers) {
+        this(ticker, url, searchAttempted, similarTickers, true);
+    }
+    
+    /**
+     * Construtor completo.
+     * 
+     * @param definitivo false quando o "não encontrado" foi deduzido da página, sem resposta explícita da origem
+     */
+    public TickerNotFoundException(String ticker, String url, String searchAttempted, List<String> similarTickers,
+                                   boolean definitivo) {
         super(buildMessage(ticker, searchAttempted, similarTickers), 
               ticker, url, "TICKER_SEARCH");
         this.searchAttempted = searchAttempted;
         this.similarTickers = similarTickers != null ? List.copyOf(similarTickers) : List.of();
+        this.definitivo = definitivo;
     }
     
     /**
@@ -33,6 +49,13 @@ public class TickerNotFoundException extends ScrapingException {
         this(ticker, url, ticker, null);
     }
     
+    /**
+     * Ticker presumido inexistente: a página carregou sem os elementos essenciais.
+     */
+    public static TickerNotFoundException presumido(String ticker, String url) {
+        return new TickerNotFoundException(ticker, url, ticker, null, false);
+    }
+    
     private static String buildMessage(String ticker, String searchAttempted, List<String> similarTickers) {
         StringBuilder message = new StringBuilder(String.format("Ticker '%s' não encontrado", ticker));
         
@@ -55,6 +78,13 @@ public class TickerNotFoundException extends ScrapingException {
         return searchAttempted;
     }
     
+    /**
+     * Indica se a origem confirmou que o ticker não existe (HTTP 404/410, Brapi).
+     */
+    public boolean isDefinitivo() {
+        return definitivo;
+    }
+    
     /**
      * Indica se existem sugestões de tickers similares.
      */
@@ -55,11 +55,70 @@ public class Acao {
     private BigDecimal cagrReceitasCincoAnos;
     private BigDecimal cagrLucrosCincoAnos;
     private LocalDateTime dataAtualizacao;
+    private LocalDateTime dataAtualizacaoCotacao;
     private TipoAtivo tipoAtivo = TipoAtivo.DESCONHECIDO;
 
     public Acao() {
     }
 
+    /**
+     * Cópia independente, para guardar fora do fluxo da requisição.
+     */
+    public Acao(Acao outra) {
+        this.ticker = outra.ticker;
+        this.nomeEmpresa = outra.nomeEmpresa;
+        this.setor = outra.setor;
+        this.segmento = outra.segmento;
+        this.segmentoListagem = outra.segmentoListagem;
+        this.precoAtual = outra.precoAtual;
+        this.variacao12M = outra.variacao12M;
+        this.valorMercado = outra.valorMercado;
+        this.valorFirma = outra.valorFirma;
+        this.patrimonioLiquido = outra.patrimonioLiquido;
+        this.numeroTotalPapeis = outra.numeroTotalPapeis;
+        this.ativos = outra.ativos;
+        this.ativoCirculantes = outra.ativoCirculantes;
+        this.dividaBruta = outra.dividaBruta;
+        this.dividaLiquida = outra.dividaLiquida;
+        this.disponibilidade = outra.disponibilidade;
+        this.freeFloat = outra.freeFloat;
+        this.tagAlong = outra.tagAlong;
+        this.liquidezMediaDiaria = outra.liquidezMediaDiaria;
+        this.pl = outra.pl;
+        this.psr = outra.psr;
+        this.pvp = outra.pvp;
+        this.dividendYield = outra.dividendYield;
+        this.payout = outra.payout;
+        this.margemLiquida = outra.margemLiquida;
+        this.margemBruta = outra.margemBruta;
+        this.margemEbit = outra.margemEbit;
+        this.margemEbitda = outra.margemEbitda;
+        this.evEbitda = outra.evEbitda;
+        this.evEbit = outra.evEbit;
+        this.pebitda = outra.pebitda;
+        this.pativo = outra.pativo;
+        this.pcapitaldeGiro = outra.pcapitaldeGiro;
+        this.pativoCirculanteLiquido = outra.pativoCirculanteLiquido;
+        this.vpa = outra.vpa;
+        this.lpa = outra.lpa;
+        this.giroAtivos = outra.giroAtivos;
+        this.roe = outra.roe;
+        this.roic = outra.roic;
+        this.roa = outra.roa;
+        this.dividaLiquidaPatrimonio = outra.dividaLiquidaPatrimonio;
+        this.dividaLiquidaEbitda = outra.dividaLiquidaEbitda;
+        this.dividaLiquidaEbit = outra.dividaLiquidaEbit;
+        this.dividaBrutaPatrimonio = outra.dividaBrutaPatrimonio;
+        this.patrimonioAtivos = outra.patrimonioAtivos;
+        this.passivosAtivos = outra.passivosAtivos;
+        this.liquidezCorrente = outra.liquidezCorrente;
+        this.cagrReceitasCincoAnos = outra.cagrReceitasCincoAnos;
+        this.cagrLucrosCincoAnos = outra.cagrLucrosCincoAnos;
+        this.dataAtualizacao = outra.dataAtualizacao;
+        this.dataAtualizacaoCotacao = outra.dataAtualizacaoCotacao;
+        this.tipoAtivo = outra.tipoAtivo;
+    }
+
     public Acao(String ticker,
                 String nomeEmpresa,
                 String setor,
@@ -516,6 +575,14 @@ public class Acao {
         this.dataAtualizacao = dataAtualizacao;
     }
 
+    public LocalDateTime getDataAtualizacaoCotacao() {
+        return dataAtualizacaoCotacao;
+    }
+
+    public void setDataAtualizacaoCotacao(LocalDateTime dataAtualizacaoCotacao) {
+        this.dataAtualizacaoCotacao = dataAtualizacaoCotacao;
+    }
+
     public TipoAtivo getTipoAtivo() {
         return tipoAtivo;
     }
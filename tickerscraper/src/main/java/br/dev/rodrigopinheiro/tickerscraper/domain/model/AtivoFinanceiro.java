@@ -21,6 +21,24 @@ public abstract class AtivoFinanceiro {
     public AtivoFinanceiro() {
     }
 
+    /**
+     * Cópia independente dos campos comuns, com os dividendos também copiados.
+     */
+    protected AtivoFinanceiro(AtivoFinanceiro outro) {
+        this.investidorId = outro.investidorId;
+        this.ticker = outro.ticker;
+        this.nome = outro.nome;
+        this.precoAtual = outro.precoAtual;
+        this.variacao12M = outro.variacao12M;
+        this.dividendYield = outro.dividendYield;
+        this.dataAtualizacao = outro.dataAtualizacao;
+        this.tipoAtivo = outro.tipoAtivo;
+        this.dividendos = new ArrayList<>();
+        if (outro.dividendos != null) {
+            outro.dividendos.forEach(d -> this.dividendos.add(new Dividendo(d)));
+        }
+    }
+
     public AtivoFinanceiro(Integer investidorId, String ticker, String nome, BigDecimal precoAtual, BigDecimal variacao12M, BigDecimal dividendYield, Instant dataAtualizacao, TipoAtivo tipoAtivo, List<Dividendo> dividendos) {
         this.investidorId = investidorId;
         this.ticker = ticker;
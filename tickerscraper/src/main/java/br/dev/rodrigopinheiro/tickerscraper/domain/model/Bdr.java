@@ -66,6 +66,50 @@ public class Bdr extends AtivoFinanceiro {
         super();
     }
 
+    /**
+     * Cópia independente, com os dividendos também copiados, para guardar fora do fluxo da requisição.
+     */
+    public Bdr(Bdr outro) {
+        super(outro);
+        this.setor = outro.setor;
+        this.industria = outro.industria;
+        this.priceCurrency = outro.priceCurrency;
+        this.financialsCurrency = outro.financialsCurrency;
+        this.marketCapValue = outro.marketCapValue;
+        this.marketCapCurrency = outro.marketCapCurrency;
+        this.paridadeRatio = outro.paridadeRatio;
+        this.paridadeLastVerifiedAt = outro.paridadeLastVerifiedAt;
+        this.pl = outro.pl;
+        this.pvp = outro.pvp;
+        this.psr = outro.psr;
+        this.pEbit = outro.pEbit;
+        this.pEbitda = outro.pEbitda;
+        this.pAtivo = outro.pAtivo;
+        this.roe = outro.roe;
+        this.roic = outro.roic;
+        this.roa = outro.roa;
+        this.margemBruta = outro.margemBruta;
+        this.margemOperacional = outro.margemOperacional;
+        this.margemLiquida = outro.margemLiquida;
+        this.vpa = outro.vpa;
+        this.lpa = outro.lpa;
+        this.dreYear = outro.dreYear;
+        this.receitaTotalUsd = outro.receitaTotalUsd;
+        this.lucroBrutoUsd = outro.lucroBrutoUsd;
+        this.ebitdaUsd = outro.ebitdaUsd;
+        this.ebitUsd = outro.ebitUsd;
+        this.lucroLiquidoUsd = outro.lucroLiquidoUsd;
+        this.bpYear = outro.bpYear;
+        this.ativosTotaisUsd = outro.ativosTotaisUsd;
+        this.passivosTotaisUsd = outro.passivosTotaisUsd;
+        this.dividaLpUsd = outro.dividaLpUsd;
+        this.plUsd = outro.plUsd;
+        this.fcYear = outro.fcYear;
+        this.fcoUsd = outro.fcoUsd;
+        this.fciUsd = outro.fciUsd;
+        this.fcfUsd = outro.fcfUsd;
+    }
+
     public Bdr(Integer investidorId, String ticker, String nome, BigDecimal precoAtual, BigDecimal variacao12M, BigDecimal dividendYield, Instant dataAtualizacao, TipoAtivo tipoAtivo, List<Dividendo> dividendos, String setor, String industria, String priceCurrency, String financialsCurrency, BigDecimal marketCapValue, String marketCapCurrency, BigDecimal paridadeRatio, Instant paridadeLastVerifiedAt, BigDecimal pl, BigDecimal pvp, BigDecimal psr, BigDecimal pEbit, BigDecimal pEbitda, BigDecimal pAtivo, BigDecimal roe, BigDecimal roic, BigDecimal roa, BigDecimal margemBruta, BigDecimal margemOperacional, BigDecimal margemLiquida, BigDecimal vpa, BigDecimal lpa, Integer dreYear, BigDecimal receitaTotalUsd, BigDecimal lucroBrutoUsd, BigDecimal ebitdaUsd, BigDecimal ebitUsd, BigDecimal lucroLiquidoUsd, Integer bpYear, BigDecimal ativosTotaisUsd, BigDecimal passivosTotaisUsd, BigDecimal dividaLpUsd, BigDecimal plUsd, Integer fcYear, BigDecimal fcoUsd, BigDecimal fciUsd, BigDecimal fcfUsd) {
         super(investidorId, ticker, nome, precoAtual, variacao12M, dividendYield, dataAtualizacao, tipoAtivo, dividendos);
         this.setor = setor;
@@ -0,0 +1,49 @@
+package br.dev.rodrigopinheiro.tickerscraper.domain.model;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Campos de um ativo que acompanham o preço, atualizados sem scraping completo.
+ *
+ * @param preco           Preço atual (cotação)
+ * @param variacao12M     Variação em 12 meses, em pontos percentuais
+ * @param dividendYield   Dividend yield em 12 meses, em pontos percentuais
+ * @param dataAtualizacao Momento da cotação
+ */
+public record Cotacao(BigDecimal preco, BigDecimal variacao12M, BigDecimal dividendYield, LocalDateTime dataAtualizacao) {
+
+    /**
+     * Reprecifica os valores do último scraping completo para o novo preço.
+     * <ul>
+     *   <li>dividend yield: os proventos de 12 meses não mudam entre scrapings, só o preço do denominador;</li>
+     *   <li>variação 12M: mantém o preço de 12 meses atrás implícito no valor anterior.</li>
+     * </ul>
+     * Sem preço anterior válido, variação e DY anteriores são mantidos.
+     */
+    public static Cotacao reprecificar(BigDecimal precoAnterior, BigDecimal variacao12MAnterior,
+                                       BigDecimal dividendYieldAnterior, BigDecimal preco, LocalDateTime dataAtualizacao) {
+        if (precoAnterior == null || precoAnterior.signum() <= 0 || preco.signum() <= 0) {
+            return new Cotacao(preco, variacao12MAnterior, dividendYieldAnterior, dataAtualizacao);
+        }
+        BigDecimal fator = preco.divide(precoAnterior, MathContext.DECIMAL64);
+
+        BigDecimal dividendYield = dividendYieldAnterior == null ? null
+                : arredondar(dividendYieldAnterior.divide(fator, MathContext.DECIMAL64), dividendYieldAnterior);
+
+        BigDecimal variacao12M = null;
+        if (variacao12MAnterior != null) {
+            BigDecimal cem = BigDecimal.valueOf(100);
+            BigDecimal base = variacao12MAnterior.add(cem).multiply(fator, MathContext.DECIMAL64);
+            variacao12M = arredondar(base.subtract(cem), variacao12MAnterior);
+        }
+        return new Cotacao(preco, variacao12M, dividendYield, dataAtualizacao);
+    }
+
+    // Mesma escala do valor anterior (a das colunas), no mínimo 2 casas
+    private static BigDecimal arredondar(BigDecimal valor, BigDecimal anterior) {
+        return valor.setScale(Math.max(anterior.scale(), 2), RoundingMode.HALF_UP);
+    }
+}
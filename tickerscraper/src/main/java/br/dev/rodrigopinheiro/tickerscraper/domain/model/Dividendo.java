@@ -14,6 +14,16 @@ public class Dividendo {
     public Dividendo() {
     }
 
+    /**
+     * Cópia independente.
+     */
+    public Dividendo(Dividendo outro) {
+        this.mes = outro.mes;
+        this.valor = outro.valor;
+        this.tipoDividendo = outro.tipoDividendo;
+        this.moeda = outro.moeda;
+    }
+
     public Dividendo(YearMonth mes, BigDecimal valor, TipoDividendo tipoDividendo, String moeda) {
         this.mes = mes;
         this.valor = valor;
@@ -25,6 +25,21 @@ public class Etf {
     public Etf() {
     }
 
+    /**
+     * Cópia independente, para guardar fora do fluxo da requisição.
+     */
+    public Etf(Etf outro) {
+        this.ticker = outro.ticker;
+        this.nomeEtf = outro.nomeEtf;
+        this.valorAtual = outro.valorAtual;
+        this.capitalizacao = outro.capitalizacao;
+        this.variacao12M = outro.variacao12M;
+        this.variacao60M = outro.variacao60M;
+        this.dy = outro.dy;
+        this.dataAtualizacao = outro.dataAtualizacao;
+        this.tipoAtivo = outro.tipoAtivo;
+    }
+
     public Etf(String ticker, String nomeEtf, BigDecimal valorAtual, BigDecimal capitalizacao, 
                BigDecimal variacao12M, BigDecimal variacao60M, BigDecimal dy, 
                LocalDateTime dataAtualizacao) {
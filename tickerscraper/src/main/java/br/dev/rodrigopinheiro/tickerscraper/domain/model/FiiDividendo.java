@@ -16,6 +16,14 @@ public class FiiDividendo {
     public FiiDividendo() {
     }
 
+    /**
+     * Cópia independente.
+     */
+    public FiiDividendo(FiiDividendo outro) {
+        this.mes = outro.mes;
+        this.valor = outro.valor;
+    }
+
     public YearMonth getMes() {
         return mes;
     }
@@ -34,6 +34,7 @@ public class FundoImobiliario {
     private Long cotasEmitidas;
     private List<FiiDividendo> fiiDividendos = new ArrayList<>();
     private LocalDateTime dataAtualizacao;
+    private LocalDateTime dataAtualizacaoCotacao;
     private TipoAtivo tipoAtivo = TipoAtivo.FII;
 
 
@@ -48,6 +49,42 @@ public class FundoImobiliario {
     public FundoImobiliario() {
     }
 
+    /**
+     * Cópia independente, com os dividendos também copiados, para guardar fora do fluxo da requisição.
+     */
+    public FundoImobiliario(FundoImobiliario outro) {
+        this.ticker = outro.ticker;
+        this.nomeEmpresa = outro.nomeEmpresa;
+        this.razaoSocial = outro.razaoSocial;
+        this.cnpj = outro.cnpj;
+        this.publicoAlvo = outro.publicoAlvo;
+        this.mandato = outro.mandato;
+        this.segmento = outro.segmento;
+        this.tipoDeFundo = outro.tipoDeFundo;
+        this.prazoDeDuracao = outro.prazoDeDuracao;
+        this.tipoDeGestao = outro.tipoDeGestao;
+        this.taxaDeAdministracao = outro.taxaDeAdministracao;
+        this.ultimoRendimento = outro.ultimoRendimento;
+        this.cotacao = outro.cotacao;
+        this.variacao12M = outro.variacao12M;
+        this.valorDeMercado = outro.valorDeMercado;
+        this.pvp = outro.pvp;
+        this.dividendYield = outro.dividendYield;
+        this.liquidezDiaria = outro.liquidezDiaria;
+        this.valorPatrimonial = outro.valorPatrimonial;
+        this.valorPatrimonialPorCota = outro.valorPatrimonialPorCota;
+        this.vacancia = outro.vacancia;
+        this.numeroDeCotistas = outro.numeroDeCotistas;
+        this.cotasEmitidas = outro.cotasEmitidas;
+        this.fiiDividendos = new ArrayList<>();
+        if (outro.fiiDividendos != null) {
+            outro.fiiDividendos.forEach(d -> this.fiiDividendos.add(new FiiDividendo(d)));
+        }
+        this.dataAtualizacao = outro.dataAtualizacao;
+        this.dataAtualizacaoCotacao = outro.dataAtualizacaoCotacao;
+        this.tipoAtivo = outro.tipoAtivo;
+    }
+
     public FundoImobiliario(String ticker, String nomeEmpresa, String razaoSocial, String cnpj, String publicoAlvo, String mandato, String segmento, String tipoDeFundo, String prazoDeDuracao, String tipoDeGestao, BigDecimal taxaDeAdministracao, BigDecimal ultimoRendimento, BigDecimal cotacao, BigDecimal variacao12M, BigDecimal valorDeMercado, BigDecimal pvp, BigDecimal dividendYield, BigDecimal liquidezDiaria, BigDecimal valorPatrimonial, BigDecimal valorPatrimonialPorCota, BigDecimal vacancia, Long numeroDeCotistas, Long cotasEmitidas, List<FiiDividendo> fiiDividendos, LocalDateTime dataAtualizacao) {
         this.ticker = ticker;
         this.nomeEmpresa = nomeEmpresa;
@@ -268,6 +305,14 @@ public class FundoImobiliario {
         this.dataAtualizacao = dataAtualizacao;
     }
 
+    public LocalDateTime getDataAtualizacaoCotacao() {
+        return dataAtualizacaoCotacao;
+    }
+
+    public void setDataAtualizacaoCotacao(LocalDateTime dataAtualizacaoCotacao) {
+        this.dataAtualizacaoCotacao = dataAtualizacaoCotacao;
+    }
+
     public TipoAtivo getTipoAtivo() {
         return tipoAtivo;
     }
@@ -2,13 +2,22 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
+import br.dev.rodrigopinheiro.tickerscraper.application.service.TickerNegativeCacheService;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.DomainCachePolicy;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.FreshnessPolicy;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.PregaoB3;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.enums.TipoAtivo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -17,6 +26,8 @@ import java.util.concurrent.TimeUnit;
 public class CacheConfig {
     
     private final TickerClassificationProperties properties;
+    private final DomainCacheProperties domainCacheProperties;
+    private final NegativeCacheProperties negativeCacheProperties;
     
     @Bean
     public Cache<String, TipoAtivo> tickerClassificationCache() {
@@ -38,4 +49,42 @@ public class CacheConfig {
             cacheConfig.isEnabled(), cacheConfig.getMaxSize(), cacheConfig.getTtlHours());
         return cache;
     }
+
+    @Bean
+    public Cache<TickerNegativeCacheService.Chave, TickerNotFoundException> tickerNegativeCache() {
+        if (!negativeCacheProperties.isEnabled()) {
+            log.warn("Cache negativo de tickers está DESABILITADO via configuração");
+            return Caffeine.newBuilder().maximumSize(0).build();
+        }
+
+        Duration ttl = negativeCacheProperties.getTtl();
+        Duration ttlPresumido = negativeCacheProperties.getTtlPresumido();
+        Cache<TickerNegativeCacheService.Chave, TickerNotFoundException> cache = Caffeine.newBuilder()
+            .maximumSize(negativeCacheProperties.getMaxSize())
+            .expireAfter(Expiry.<TickerNegativeCacheService.Chave, TickerNotFoundException>writing(
+                (chave, motivo) -> motivo.isDefinitivo() ? ttl : ttlPresumido))
+            .recordStats()
+            .build();
+
+        log.info("Cache negativo de tickers inicializado: max={}, TTL={}, TTL presumido={}",
+            negativeCacheProperties.getMaxSize(), ttl, ttlPresumido);
+        return cache;
+    }
+
+    @Bean
+    public DomainCachePolicy domainCachePolicy() {
+        Map<String, FreshnessPolicy> frescor = new HashMap<>();
+        domainCacheProperties.getFrescor().forEach((ativo, f) ->
+            frescor.put(ativo, new FreshnessPolicy(f.getIdadeMaxima(), f.getPregao())));
+        var pregao = domainCacheProperties.getPregao();
+
+        DomainCachePolicy policy = new DomainCachePolicy(domainCacheProperties.isEnabled(), domainCacheProperties.getMaxSize(),
+            domainCacheProperties.getSoftTtl(), domainCacheProperties.getHardTtl(), frescor,
+            new PregaoB3(pregao.getZona(), pregao.getAbertura(), pregao.getFechamento(), pregao.getFeriados()),
+            domainCacheProperties.getRevalidacaoBackoff());
+
+        log.info("Cache L1 de domínio: enabled={}, max={}, soft TTL={}, hard TTL={}, backoff={}, frescor={}",
+            policy.enabled(), policy.maxSize(), policy.softTtl(), policy.hardTtl(), policy.revalidacaoBackoff(), policy.frescor());
+        return policy;
+    }
 }
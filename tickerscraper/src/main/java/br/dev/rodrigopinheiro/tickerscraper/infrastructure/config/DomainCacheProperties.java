@@ -0,0 +1,57 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
+
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.GrupoDados;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache L1 de domínio (FII, ação, ETF, BDR) na frente dos repositórios, com stale-while-revalidate.
+ * {@code softTtl} é a idade máxima de um dado fresco; entre {@code softTtl} e {@code hardTtl}
+ * o dado vencido é servido enquanto a atualização roda em segundo plano.
+ * {@code frescor} refina a idade máxima por tipo de ativo e grupo de campos.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "ticker.domain-cache")
+public class DomainCacheProperties {
+
+    private boolean enabled = true;
+    private int maxSize = 1000;
+    private Duration softTtl = Duration.ofDays(1);
+    private Duration hardTtl = Duration.ofHours(36);
+    // Intervalo mínimo entre revalidações em segundo plano do mesmo ticker
+    private Duration revalidacaoBackoff = Duration.ofMinutes(5);
+    private Map<String, Frescor> frescor = new HashMap<>();
+    private Pregao pregao = new Pregao();
+
+    /**
+     * Frescor de um tipo de ativo ("acao", "fii", "etf", "bdr").
+     */
+    @Data
+    public static class Frescor {
+        // Grupos ausentes usam o softTtl
+        private Map<GrupoDados, Duration> idadeMaxima = new EnumMap<>(GrupoDados.class);
+        // Grupos que não vencem com o pregão fechado
+        private Set<GrupoDados> pregao = EnumSet.noneOf(GrupoDados.class);
+    }
+
+    @Data
+    public static class Pregao {
+        private ZoneId zona = ZoneId.of("America/Sao_Paulo");
+        private LocalTime abertura = LocalTime.of(10, 0);
+        private LocalTime fechamento = LocalTime.of(18, 0);
+        private Set<LocalDate> feriados = new HashSet<>();
+    }
+}
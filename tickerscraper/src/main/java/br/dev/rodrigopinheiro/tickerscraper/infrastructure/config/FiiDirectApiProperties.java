@@ -0,0 +1,22 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Refresh de FII direto nas APIs a partir do internal_id persistido, sem browser.
+ * {@code templates} pré-carrega URLs por chave de API (com {@code {id}}); se vazio,
+ * os templates são aprendidos no primeiro scrape completo.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scraper.fii.direct-api")
+public class FiiDirectApiProperties {
+
+    private boolean enabled = true;
+    private Map<String, String> templates = new LinkedHashMap<>();
+}
@@ -0,0 +1,30 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Estratégia HTTP-first: busca o HTML server-rendered via WebClient e só abre o Playwright
+ * quando a página não tem os elementos essenciais ou é uma página de anti-bot.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scraper.http-first")
+public class HttpFirstProperties {
+
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(5);
+    /** Classes de ativo atendidas via HTTP-first (acao, fii, bdr). */
+    private List<String> assets = new ArrayList<>(List.of("acao", "fii", "bdr"));
+    /** Parse em streaming só das regiões lidas pelos scrapers; false monta o Document inteiro. */
+    private boolean streamingParse = true;
+
+    public boolean isEnabledFor(String asset) {
+        return enabled && assets.contains(asset);
+    }
+}
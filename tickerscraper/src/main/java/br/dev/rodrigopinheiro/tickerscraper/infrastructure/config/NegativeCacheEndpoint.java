@@ -0,0 +1,44 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
+
+import br.dev.rodrigopinheiro.tickerscraper.application.service.TickerNegativeCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint do actuator para inspecionar e limpar o cache negativo de tickers.
+ * <ul>
+ *   <li>{@code GET /actuator/negativecache}: estatísticas e entradas;</li>
+ *   <li>{@code DELETE /actuator/negativecache/{ticker}}: remove o ticker (todos os tipos de ativo);</li>
+ *   <li>{@code DELETE /actuator/negativecache}: limpa o cache.</li>
+ * </ul>
+ */
+@Component
+@Endpoint(id = "negativecache")
+@RequiredArgsConstructor
+public class NegativeCacheEndpoint {
+
+    private final TickerNegativeCacheService negativeCache;
+
+    @ReadOperation
+    public Map<String, Object> listar() {
+        return Map.of(
+                "stats", negativeCache.getStats(),
+                "entradas", negativeCache.listar());
+    }
+
+    @DeleteOperation
+    public void remover(@Selector String ticker) {
+        negativeCache.evict(ticker);
+    }
+
+    @DeleteOperation
+    public void limpar() {
+        negativeCache.clear();
+    }
+}
@@ -0,0 +1,24 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cache negativo de tickers inexistentes ou deslistados (Brapi ou scraper responderam "não encontrado").
+ * Consultado antes da classificação e do scraping; o TTL define quando o ticker volta a ser tentado.
+ * {@code ttl} vale para respostas definitivas (HTTP 404/410, Brapi); {@code ttlPresumido}, bem mais curto,
+ * para páginas sem os elementos esperados, que podem ser só layout alterado ou bloqueio.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "ticker.negative-cache")
+public class NegativeCacheProperties {
+
+    private boolean enabled = true;
+    private int maxSize = 10000;
+    private Duration ttl = Duration.ofHours(6);
+    private Duration ttlPresumido = Duration.ofMinutes(10);
+}
@@ -0,0 +1,65 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "scraper.playwright")
+public class PlaywrightProperties {
+
+    /** Quantidade de processos Chromium na frota. */
+    private int browsers = 1;
+    /** Extração dos campos declarados num único page.evaluate; false volta ao page.content() + Jsoup. */
+    private boolean inPageExtraction = true;
+    private Pool pool = new Pool();
+    private Blocking blocking = new Blocking();
+    private Recycle recycle = new Recycle();
+
+    /**
+     * Pool de BrowserContext/Page pré-aquecidos reutilizados entre scrapes (um por browser).
+     * {@code maxSize} é o limite de páginas concorrentes de cada browser.
+     */
+    @Data
+    public static class Pool {
+        private boolean enabled = true;
+        private int maxSize = 4;
+        private int minIdle = 1;
+        private int maxUsesPerContext = 50;
+        private Duration acquireTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Reciclagem preventiva dos processos Chromium: ao cruzar um limite, o browser deixa de
+     * receber páginas, um substituto é lançado e o antigo é fechado quando os scrapes em curso terminam.
+     * Limites com valor zero ficam desligados; RSS só é medido em Linux (/proc).
+     */
+    @Data
+    public static class Recycle {
+        private boolean enabled = true;
+        private long maxPagesServed = 1000;
+        private long maxRssMb = 1536;
+        private Duration maxAge = Duration.ofHours(6);
+        private Duration checkInterval = Duration.ofSeconds(30);
+        private Duration drainTimeout = Duration.ofMinutes(2);
+    }
+
+    /**
+     * Filtro de requests aplicado no Chromium das páginas Playwright, sem route (o cache HTTP continua ativo).
+     * Tipos de recurso viram padrões por extensão (image, font, media, stylesheet); padrões de URL
+     * casam em qualquer parte da URL.
+     */
+    @Data
+    public static class Blocking {
+        private boolean enabled = true;
+        private List<String> blockedResourceTypes = new ArrayList<>(List.of("image", "media", "font"));
+        private List<String> blockedUrlPatterns = new ArrayList<>(List.of(
+                "google-analytics.com", "googletagmanager.com", "doubleclick.net", "googlesyndication.com",
+                "adservice.google", "facebook.net", "hotjar.com", "clarity.ms"));
+    }
+}
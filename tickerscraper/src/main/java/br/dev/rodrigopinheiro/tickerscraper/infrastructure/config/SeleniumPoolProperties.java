@@ -0,0 +1,23 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Pool de sessões ChromeDriver+DevTools aquecidas usadas pelos scrapers Selenium de fallback.
+ * {@code maxSize} é o limite de Chromes simultâneos abertos pelo Selenium.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "scraper.selenium.pool")
+public class SeleniumPoolProperties {
+
+    private boolean enabled = true;
+    private int maxSize = 2;
+    private int minIdle = 1;
+    private int maxUsesPerDriver = 25;
+    private Duration acquireTimeout = Duration.ofSeconds(20);
+}
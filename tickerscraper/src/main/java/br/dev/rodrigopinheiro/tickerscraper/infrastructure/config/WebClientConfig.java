@@ -8,8 +8,9 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class WebClientConfig {
 
-    //Aumenta limite para 16MB
-    private static final int MAX_BUFFER_SIZE = 16 * 1024 * 1024;
+    // Limite para corpos agregados (páginas HTML, JSONs pequenos). Dividendos e histórico de FII
+    // e demonstrativos de BDR são decodificados em streaming e não dependem dele.
+    private static final int MAX_BUFFER_SIZE = 4 * 1024 * 1024;
 
     @Bean
     public WebClient webClient() {
@@ -1,8 +1,10 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi;
 
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.NetworkCaptureException;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.dto.BrapiQuoteResponse;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.dto.BrapiErrorResponse;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.dto.BrapiQuoteResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +13,7 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -95,6 +98,19 @@ public class BrapiHttpClient {
                     normalizedTicker, error));
     }
     
+    /**
+     * Preço atual ({@code regularMarketPrice}) de um ticker na API Brapi.
+     * 
+     * @param ticker Código do ativo (ex: PETR4, HGLG11)
+     * @return Mono com o preço, vazio quando a resposta não traz cotação
+     */
+    public Mono<BigDecimal> getPrice(String ticker) {
+        return getQuote(ticker)
+            .mapNotNull(BrapiQuoteResponse::getFirstResult)
+            .mapNotNull(BrapiQuoteResult::regularMarketPrice)
+            .map(BigDecimal::valueOf);
+    }
+    
     private BrapiQuoteResponse executeRequest(String ticker) throws Exception {
         String url = buildUrl(ticker);
         
@@ -111,24 +127,24 @@ public class BrapiHttpClient {
         HttpResponse<String> response = httpClient.send(request, 
             HttpResponse.BodyHandlers.ofString());
         
-        if (response.statusCode() != 200) {
-            throw new NetworkCaptureException(ticker,
-                String.format("API Brapi retornou status %d", response.statusCode()));
-        }
-        
         String responseBody = response.body();
         
-        // Verificar se é uma resposta de erro da API
-        if (responseBody.contains("\"error\":true")) {
+        // Verificar se é uma resposta de erro da API ("não encontramos" vem com 404 ou 200)
+        if (responseBody != null && responseBody.contains("\"error\":true")) {
+            BrapiErrorResponse errorResponse = null;
             try {
-                BrapiErrorResponse errorResponse = objectMapper.readValue(responseBody, BrapiErrorResponse.class);
-                if (errorResponse.isTickerNotFound()) {
-                    throw new NetworkCaptureException(ticker, 
-                        String.format("API Brapi retornou erro: %s", errorResponse.message()));
-                }
+                errorResponse = objectMapper.readValue(responseBody, BrapiErrorResponse.class);
             } catch (Exception e) {
                 log.warn("Erro ao parsear resposta de erro da API Brapi: {}", e.getMessage());
             }
+            if (errorResponse != null && errorResponse.isTickerNotFound()) {
+                throw new TickerNotFoundException(ticker, "API_BRAPI");
+            }
+        }
+        
+        if (response.statusCode() != 200) {
+            throw new NetworkCaptureException(ticker,
+                String.format("API Brapi retornou status %d", response.statusCode()));
         }
         
         return objectMapper.readValue(responseBody, BrapiQuoteResponse.class);
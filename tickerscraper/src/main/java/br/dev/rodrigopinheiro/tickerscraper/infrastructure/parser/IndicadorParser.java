@@ -119,6 +119,16 @@ public class IndicadorParser {
      */
     @Named("paraBigDecimal")
     public static BigDecimal parseBigdecimal(String raw) {
+        // Caminho rápido sem Strings intermediárias; o original fica para formatos fora do comum
+        BigDecimal valor = ScannerNumerico.scan(raw);
+        return valor != null ? valor : parseBigdecimalLegado(raw);
+    }
+
+    /**
+     * Implementação original por substituições e regex, usada quando o {@link ScannerNumerico}
+     * não reconhece o formato do texto. Também serve de referência nos testes de paridade.
+     */
+    static BigDecimal parseBigdecimalLegado(String raw) {
         return Optional.ofNullable(raw)
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
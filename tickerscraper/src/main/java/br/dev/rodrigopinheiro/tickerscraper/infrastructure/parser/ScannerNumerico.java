@@ -0,0 +1,186 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser;
+
+import java.math.BigDecimal;
+
+/**
+ * Scanner de passada única para os valores numéricos extraídos das páginas
+ * (ex: "R$ 4,78", "79,97%", "1.234.567", "9,78 B", "165,22 Bilhões", "0,80 % a.a").
+ *
+ * Percorre o texto caractere a caractere acumulando os dígitos num long sem escala e a posição dos
+ * separadores, decidindo no fim qual é o decimal com as mesmas regras do
+ * {@link IndicadorParser#limparTextoNumerico(String)}. Nenhuma String intermediária é criada:
+ * o BigDecimal só é montado no retorno.
+ *
+ * Aceita apenas o formato que aparece nas páginas:
+ * {@code [R$] [-]número [% [ a.a| ao ano ...] | M | B | T | Milhões | Bilhões | Trilhões]}.
+ * Qualquer outra coisa (e números com mais de 18 dígitos) devolve {@code null} para que o chamador
+ * use o caminho original, preservando o resultado em todos os casos.
+ */
+final class ScannerNumerico {
+
+    private static final int MAX_DIGITOS = 18;
+
+    private static final long MILHAO = 1_000_000L;
+    private static final long BILHAO = 1_000_000_000L;
+    private static final long TRILHAO = 1_000_000_000_000L;
+
+    private static final String[] SUFIXOS = {"milhão", "milhões", "bilhão", "bilhões", "trilhão", "trilhões"};
+    private static final long[] MULTIPLICADORES = {MILHAO, MILHAO, BILHAO, BILHAO, TRILHAO, TRILHAO};
+
+    private ScannerNumerico() {
+    }
+
+    /**
+     * @param raw texto bruto
+     * @return o valor (ZERO para vazio ou número inválido) ou {@code null} se o texto estiver fora do formato aceito
+     */
+    static BigDecimal scan(String raw) {
+        if (raw == null) {
+            return BigDecimal.ZERO;
+        }
+        int i = 0;
+        int fim = raw.length();
+        while (i < fim && raw.charAt(i) <= ' ') i++;
+        while (fim > i && raw.charAt(fim - 1) <= ' ') fim--;
+        if (i == fim) {
+            return BigDecimal.ZERO;
+        }
+
+        if (raw.startsWith("R$", i)) {
+            i = pularEspacos(raw, i + 2, fim);
+        }
+        boolean negativo = i < fim && raw.charAt(i) == '-';
+        if (negativo) i++;
+        if (i == fim || !isDigito(raw.charAt(i))) {
+            return null;
+        }
+
+        // Número: dígitos e separadores, sem olhar ainda qual separador é o decimal
+        long semEscala = 0;
+        int digitos = 0;
+        int virgulas = 0;
+        int pontos = 0;
+        int ultimaVirgula = -1;
+        int ultimoPonto = -1;
+        for (; i < fim; i++) {
+            char c = raw.charAt(i);
+            if (isDigito(c)) {
+                if (++digitos > MAX_DIGITOS) {
+                    return null;
+                }
+                semEscala = semEscala * 10 + (c - '0');
+            } else if (c == ',') {
+                virgulas++;
+                ultimaVirgula = i;
+            } else if (c == '.') {
+                pontos++;
+                ultimoPonto = i;
+            } else {
+                break;
+            }
+        }
+        int fimNumero = i;
+
+        // Decorações depois do número: percentual (com taxa anual opcional) ou sufixo de escala
+        long multiplicador = 1;
+        i = pularEspacos(raw, i, fim);
+        if (i < fim) {
+            if (raw.charAt(i) == '%') {
+                if (i + 1 < fim && !isTaxaAnual(raw, i + 1)) {
+                    return null;
+                }
+            } else {
+                multiplicador = sufixoEscala(raw, i, fim);
+                if (multiplicador == 0) {
+                    return null;
+                }
+            }
+        }
+
+        // Mesmas regras de separador do limparTextoNumerico
+        int separadorDecimal;
+        if (virgulas > 0 && pontos > 0) {
+            boolean americano = ultimoPonto > ultimaVirgula;
+            if ((americano ? pontos : virgulas) != 1) {
+                return BigDecimal.ZERO;
+            }
+            separadorDecimal = americano ? ultimoPonto : ultimaVirgula;
+        } else if (virgulas > 0) {
+            boolean decimal = fimNumero - ultimaVirgula - 1 <= 2;
+            if (decimal && virgulas != 1) {
+                return BigDecimal.ZERO;
+            }
+            separadorDecimal = decimal ? ultimaVirgula : -1;
+        } else if (pontos > 0) {
+            if (pontos != 1) {
+                return BigDecimal.ZERO;
+            }
+            separadorDecimal = ultimoPonto;
+        } else {
+            separadorDecimal = -1;
+        }
+
+        int escala = separadorDecimal < 0 ? 0 : fimNumero - separadorDecimal - 1;
+        if (separadorDecimal >= 0 && escala == 0) {
+            return BigDecimal.ZERO; // "12," ou "12."
+        }
+        if (semEscala > Long.MAX_VALUE / multiplicador) {
+            return null;
+        }
+        semEscala *= multiplicador;
+        return BigDecimal.valueOf(negativo ? -semEscala : semEscala, escala);
+    }
+
+    /**
+     * O caminho original só reconhece a taxa anual com exatamente um espaço após o "%" e descarta o resto do texto.
+     */
+    private static boolean isTaxaAnual(String raw, int i) {
+        return (raw.startsWith(" a.a", i) || raw.startsWith(" ao ano", i)) && raw.indexOf('%', i) < 0;
+    }
+
+    /**
+     * Multiplicador do sufixo que ocupa exatamente {@code [i, fim)}, ou 0 se não for um sufixo conhecido.
+     */
+    private static long sufixoEscala(String raw, int i, int fim) {
+        if (fim - i == 1) {
+            return switch (raw.charAt(i)) {
+                case 'M', 'm' -> MILHAO;
+                case 'B', 'b' -> BILHAO;
+                case 'T', 't' -> TRILHAO;
+                default -> 0;
+            };
+        }
+        for (int s = 0; s < SUFIXOS.length; s++) {
+            if (isPalavra(raw, i, fim, SUFIXOS[s])) {
+                return MULTIPLICADORES[s];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compara ignorando maiúsculas apenas nas letras ASCII, como a remoção por regex (?i) do caminho original.
+     */
+    private static boolean isPalavra(String raw, int i, int fim, String palavra) {
+        if (fim - i != palavra.length()) {
+            return false;
+        }
+        for (int k = 0; k < palavra.length(); k++) {
+            char esperado = palavra.charAt(k);
+            char c = raw.charAt(i + k);
+            if (c != esperado && !(esperado < 128 && (c | 0x20) == esperado)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int pularEspacos(String raw, int i, int fim) {
+        while (i < fim && raw.charAt(i) <= ' ') i++;
+        return i;
+    }
+
+    private static boolean isDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,6 +1,17 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper;
 
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.WebDriverInitializationException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.PlaywrightProperties;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.ResourceBlockingPolicy;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool.BrowserShard;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool.PlaywrightContextPool;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool.PooledPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool.ProcessMemoryProbe;
 import com.microsoft.playwright.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
@@ -8,22 +19,68 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToDoubleFunction;
 
+/**
+ * Frota de processos Chromium compartilhada pelos scrapers Playwright.
+ *
+ * Sobe {@code scraper.playwright.browsers} browsers, cada um com seu pool de contextos limitado
+ * a {@code pool.max-size} páginas concorrentes. Os empréstimos vão para o shard menos carregado e
+ * um shard que cai (crash/disconnect) é substituído em background sem afetar os demais.
+ *
+ * Reciclagem ({@code scraper.playwright.recycle}): um monitor periódico mede idade, páginas servidas
+ * e RSS de cada browser. Ao cruzar um limite, um substituto é lançado e assume o slot; o antigo só
+ * drena (não recebe novas páginas) e é fechado quando os scrapes em curso terminam.
+ */
 @Component
 public class PlaywrightInitializer {
     private static final Logger log = LoggerFactory.getLogger(PlaywrightInitializer.class);
 
-    private Playwright playwright;
-    private Browser browser;
+    private static final long REPLACE_RETRY_DELAY_SECONDS = 5;
+    private static final long DRAIN_POLL_MILLIS = 1000;
+    private static final Comparator<BrowserShard> LEAST_LOADED =
+            Comparator.comparingDouble(s -> (double) s.pool().load() / Math.max(1, s.pool().capacity()));
+
+    private final PlaywrightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ResourceBlockingPolicy blockingPolicy;
+    private final ScheduledExecutorService replacer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "pw-shard-replacer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private boolean headless;
+    private String userDataDir;
+    private List<String> args;
+    private AtomicReferenceArray<BrowserShard> shards;
+    private Counter shardsReplaced;
+    private final Set<BrowserShard> draining = ConcurrentHashMap.newKeySet();
+    private volatile boolean shuttingDown;
+
+    public PlaywrightInitializer(PlaywrightProperties properties, MeterRegistry meterRegistry,
+                                 ResourceBlockingPolicy blockingPolicy) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.blockingPolicy = blockingPolicy;
+    }
 
     @PostConstruct
     public void init() {
-        boolean headless = !"false".equalsIgnoreCase(System.getenv("PW_HEADLESS")); // default true
-        String userDataDir = System.getenv("PW_USER_DATA_DIR"); // opcional
+        headless = !"false".equalsIgnoreCase(System.getenv("PW_HEADLESS")); // default true
+        userDataDir = System.getenv("PW_USER_DATA_DIR"); // opcional
 
-        List<String> args = new ArrayList<>(List.of(
+        args = new ArrayList<>(List.of(
                 "--no-sandbox",
                 "--disable-blink-features=AutomationControlled",
                 // Flags de performance para otimização (redução de ~20% no tempo)
@@ -48,34 +105,263 @@ public class PlaywrightInitializer {
             for (String a : extraArgs.split(",")) args.add(a.trim());
         }
 
-        playwright = Playwright.create();
+        int browsers = Math.max(1, properties.getBrowsers());
+        if (isPersistent() && browsers > 1) {
+            // Um perfil em disco não pode ser aberto por dois processos Chromium ao mesmo tempo
+            log.warn("PW_USER_DATA_DIR definido: frota reduzida de {} para 1 browser", browsers);
+            browsers = 1;
+        }
 
-        BrowserType.LaunchOptions opts = new BrowserType.LaunchOptions()
-                .setHeadless(headless)
-                .setArgs(args);
+        shards = new AtomicReferenceArray<>(browsers);
+        for (int i = 0; i < browsers; i++) {
+            shards.set(i, launchShard(i));
+            shards.get(i).pool().registerMeters();
+        }
 
-        if (userDataDir != null && !userDataDir.isBlank()) {
-            // Contexto persistente → abre com perfil (cookies/cache). Útil se você quiser “amolecer” anti-bot
-            browser = playwright.chromium().launchPersistentContext(
-                    Path.of(userDataDir), new BrowserType.LaunchPersistentContextOptions()
-                            .setHeadless(headless)
-                            .setArgs(args)
-            ).browser();
-            log.info("Playwright inicializado (persistente) headless={} userDataDir={}", headless, userDataDir);
-        } else {
-            browser = playwright.chromium().launch(opts);
-            log.info("Playwright inicializado headless={} args={}", headless, args);
+        Gauge.builder("scraper.playwright.browsers.alive", this, PlaywrightInitializer::aliveShards)
+                .register(meterRegistry);
+        shardsReplaced = Counter.builder("scraper.playwright.browsers.replaced").register(meterRegistry);
+        for (int i = 0; i < browsers; i++) {
+            registerShardGauges(i);
         }
+        scheduleLifecycleMonitor();
+        log.info("Frota Playwright inicializada: browsers={} paginasPorBrowser={}", browsers, properties.getPool().getMaxSize());
     }
 
-    public Browser getBrowser() {
-        return browser;
+    /**
+     * @return true se os adapters devem extrair campos via {@code page.evaluate} em vez de {@code page.content()}
+     */
+    public boolean isInPageExtraction() {
+        return properties.isInPageExtraction();
+    }
+
+    /**
+     * Empresta um par contexto/página pré-aquecido do browser menos carregado da frota.
+     * O chamador deve devolvê-lo com {@link PooledPage#release()}.
+     */
+    public PooledPage leasePage(String ticker, String url) {
+        BrowserShard target = null;
+        for (int i = 0; i < shards.length(); i++) {
+            BrowserShard shard = shards.get(i);
+            if (shard == null || !shard.isAccepting()) continue;
+            if (target == null || LEAST_LOADED.compare(shard, target) < 0) {
+                target = shard;
+            }
+        }
+        if (target == null) {
+            throw new WebDriverInitializationException("Nenhum browser Playwright disponível na frota", "Playwright", null);
+        }
+        return target.pool().lease(ticker, url);
     }
 
     @PreDestroy
     public void shutdown() {
-        try { if (browser != null) browser.close(); } catch (Exception ignored) {}
-        try { if (playwright != null) playwright.close(); } catch (Exception ignored) {}
+        shuttingDown = true;
+        replacer.shutdownNow();
+        if (shards != null) {
+            for (int i = 0; i < shards.length(); i++) {
+                BrowserShard shard = shards.get(i);
+                if (shard != null) shard.close();
+            }
+        }
+        draining.forEach(BrowserShard::close);
+        draining.clear();
         log.info("Playwright finalizado.");
     }
+
+    private synchronized BrowserShard launchShard(int index) {
+        // O driver do Playwright é filho da JVM e pai do Chromium: raiz para medir o RSS do shard
+        Set<Long> childrenBefore = ProcessMemoryProbe.currentChildren();
+        Playwright playwright = Playwright.create();
+        ProcessHandle driverProcess = ProcessMemoryProbe.newChild(childrenBefore).orElse(null);
+        Browser browser;
+        try {
+            if (isPersistent()) {
+                // Contexto persistente → abre com perfil (cookies/cache). Útil se você quiser “amolecer” anti-bot
+                browser = playwright.chromium().launchPersistentContext(
+                        Path.of(userDataDir), new BrowserType.LaunchPersistentContextOptions()
+                                .setHeadless(headless)
+                                .setArgs(args)
+                ).browser();
+                log.info("Playwright inicializado (persistente) headless={} userDataDir={}", headless, userDataDir);
+            } else {
+                browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
+                        .setHeadless(headless)
+                        .setArgs(args));
+                log.info("Playwright browser-{} inicializado headless={} args={}", index, headless, args);
+            }
+        } catch (RuntimeException e) {
+            try { playwright.close(); } catch (Exception ignored) {}
+            throw e;
+        }
+
+        PlaywrightContextPool pool = new PlaywrightContextPool("browser-" + index,
+                () -> AbstractScraperAdapter.newDefaultContext(browser),
+                ctx -> AbstractScraperAdapter.newDefaultPage(ctx, blockingPolicy),
+                properties.getPool(), meterRegistry);
+        BrowserShard shard = new BrowserShard(index, playwright, browser, pool, driverProcess);
+        if (browser != null) {
+            browser.onDisconnected(b -> onShardDisconnected(shard));
+        }
+        pool.preWarm();
+        return shard;
+    }
+
+    private void onShardDisconnected(BrowserShard shard) {
+        shard.markDead();
+        // Browser em drenagem já foi substituído; o disconnect vem do próprio close()
+        if (shuttingDown || shard.isDraining()) return;
+        log.error("Browser-{} desconectado (crash?). Agendando substituição.", shard.index());
+        replacer.execute(() -> replaceShard(shard));
+    }
+
+    private void replaceShard(BrowserShard dead) {
+        if (shuttingDown || shards.get(dead.index()) != dead) return;
+        try {
+            BrowserShard fresh = launchShard(dead.index());
+            if (shards.compareAndSet(dead.index(), dead, fresh)) {
+                swapPoolMeters(dead, fresh);
+                shardsReplaced.increment();
+                log.info("Browser-{} substituído com sucesso", dead.index());
+            } else {
+                fresh.close();
+            }
+        } catch (Exception e) {
+            log.error("Falha ao substituir browser-{}: {}. Nova tentativa em {}s",
+                    dead.index(), e.getMessage(), REPLACE_RETRY_DELAY_SECONDS);
+            replacer.schedule(() -> replaceShard(dead), REPLACE_RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+            return;
+        }
+        dead.close();
+    }
+
+    /**
+     * Mede o RSS de cada browser e, com a reciclagem habilitada, recicla no máximo um shard por ciclo
+     * (o substituto sobe antes do antigo sair, então reciclar todos de uma vez dobraria a memória).
+     */
+    void checkLifecycle() {
+        if (shuttingDown) return;
+        PlaywrightProperties.Recycle recycle = properties.getRecycle();
+        boolean recycled = false;
+        for (int i = 0; i < shards.length(); i++) {
+            BrowserShard shard = shards.get(i);
+            if (shard == null || !shard.isAccepting()) continue;
+            shard.refreshRss();
+            if (recycled || !recycle.isEnabled() || isPersistent()) continue;
+            String reason = recycleReason(shard, recycle);
+            if (reason != null) {
+                recycleShard(shard, reason);
+                recycled = true;
+            }
+        }
+    }
+
+    /**
+     * @return motivo da reciclagem ({@code pages}, {@code rss}, {@code age}) ou {@code null} se dentro dos limites
+     */
+    static String recycleReason(BrowserShard shard, PlaywrightProperties.Recycle recycle) {
+        if (recycle.getMaxPagesServed() > 0 && shard.pagesServed() >= recycle.getMaxPagesServed()) {
+            return "pages";
+        }
+        if (recycle.getMaxRssMb() > 0 && shard.rssBytes() >= recycle.getMaxRssMb() * 1024 * 1024) {
+            return "rss";
+        }
+        Duration maxAge = recycle.getMaxAge();
+        if (maxAge != null && !maxAge.isZero() && shard.age().compareTo(maxAge) >= 0) {
+            return "age";
+        }
+        return null;
+    }
+
+    private void recycleShard(BrowserShard old, String reason) {
+        log.info("Reciclando browser-{} (motivo={} paginas={} rssMb={} idade={}min)", old.index(), reason,
+                old.pagesServed(), old.rssBytes() < 0 ? -1 : old.rssBytes() / (1024 * 1024), old.age().toMinutes());
+        BrowserShard fresh;
+        try {
+            fresh = launchShard(old.index());
+        } catch (Exception e) {
+            // O antigo segue atendendo; nova tentativa no próximo ciclo do monitor
+            log.error("Falha ao lançar substituto do browser-{}: {}", old.index(), e.getMessage());
+            return;
+        }
+        if (!shards.compareAndSet(old.index(), old, fresh)) {
+            fresh.close();
+            return;
+        }
+        swapPoolMeters(old, fresh);
+        old.markDraining();
+        draining.add(old);
+        Counter.builder("scraper.playwright.browsers.recycled").tag("reason", reason)
+                .register(meterRegistry).increment();
+        long deadline = System.nanoTime() + properties.getRecycle().getDrainTimeout().toNanos();
+        replacer.schedule(() -> finishDrain(old, deadline), DRAIN_POLL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // Só depois do compareAndSet: se o lançamento ou a troca falhar, os gauges do pool antigo continuam valendo
+    private static void swapPoolMeters(BrowserShard old, BrowserShard fresh) {
+        old.pool().removeMeters();
+        fresh.pool().registerMeters();
+    }
+
+    private void finishDrain(BrowserShard old, long deadline) {
+        if (shuttingDown) return;
+        boolean drained = old.isDrained();
+        if (!drained && System.nanoTime() < deadline) {
+            replacer.schedule(() -> finishDrain(old, deadline), DRAIN_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            return;
+        }
+        if (!drained) {
+            log.warn("Browser-{} antigo fechado com {} página(s) ainda emprestada(s) após o timeout de drenagem",
+                    old.index(), old.pool().leasedCount());
+        }
+        draining.remove(old);
+        old.close();
+        log.info("Browser-{} antigo drenado e fechado após {} páginas", old.index(), old.pagesServed());
+    }
+
+    private void scheduleLifecycleMonitor() {
+        PlaywrightProperties.Recycle recycle = properties.getRecycle();
+        if (recycle.isEnabled() && isPersistent()) {
+            // Perfil em disco não pode ser aberto por dois processos: não há como subir o substituto antes
+            log.warn("PW_USER_DATA_DIR definido: reciclagem de browsers desabilitada");
+        }
+        long interval = Math.max(1, recycle.getCheckInterval().toMillis());
+        replacer.scheduleWithFixedDelay(() -> {
+            try {
+                checkLifecycle();
+            } catch (Exception e) {
+                log.warn("Falha no monitor de ciclo de vida dos browsers: {}", e.getMessage());
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void registerShardGauges(int index) {
+        String tag = "browser-" + index;
+        shardGauge("scraper.playwright.browser.age.seconds", tag, index, s -> s.age().toSeconds());
+        shardGauge("scraper.playwright.browser.rss.bytes", tag, index, BrowserShard::rssBytes);
+        shardGauge("scraper.playwright.browser.pages.served", tag, index, BrowserShard::pagesServed);
+    }
+
+    private void shardGauge(String name, String tag, int index, ToDoubleFunction<BrowserShard> value) {
+        // Lê o shard atual do slot, então sobrevive a substituições e reciclagens
+        Gauge.builder(name, shards, arr -> {
+                    BrowserShard shard = arr.get(index);
+                    return shard == null ? Double.NaN : value.applyAsDouble(shard);
+                })
+                .tag("browser", tag)
+                .register(meterRegistry);
+    }
+
+    private int aliveShards() {
+        int alive = 0;
+        for (int i = 0; i < shards.length(); i++) {
+            BrowserShard shard = shards.get(i);
+            if (shard != null && shard.isAlive()) alive++;
+        }
+        return alive;
+    }
+
+    private boolean isPersistent() {
+        return userDataDir != null && !userDataDir.isBlank();
+    }
 }
@@ -8,7 +8,11 @@ import org.springframework.stereotype.Component;
 
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ElementNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoCardsDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.ScraperValidator;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
 
 /**
  * Scraper responsável por extrair informações dos cards de uma ação.
@@ -22,6 +26,16 @@ public class AcaoCardsScraper {
     private static final String[] CONTAINER_SELECTORS = {"section#cards-ticker", ".cards-section", ".ticker-cards"};
     private static final String[] COTACAO_SELECTORS = {"div._card.cotacao div._card-body span.value", ".cotacao .value", ".price-value"};
     private static final String[] VARIACAO_SELECTORS = {"div._card.pl div._card-body span", ".pl .value", ".variation-value"};
+    private static final SelectorChain CONTAINER = SelectorChain.of(CONTAINER_SELECTORS);
+    private static final SelectorChain COTACAO = SelectorChain.of(COTACAO_SELECTORS);
+    private static final SelectorChain VARIACAO = SelectorChain.of(VARIACAO_SELECTORS);
+
+    /** Campos dos cards de ação para extração in-page. */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.exists("cards.container", CONTAINER_SELECTORS),
+            FieldSpec.text("cards.cotacao", CONTAINER_SELECTORS, COTACAO_SELECTORS),
+            FieldSpec.text("cards.variacao12m", CONTAINER_SELECTORS, VARIACAO_SELECTORS));
+
     /**
      * Extrai informações dos cards de uma página de ação.
      * Utiliza seletores com fallbacks para maior robustez.
@@ -38,23 +52,39 @@ public class AcaoCardsScraper {
         logger.debug("Iniciando extração de informações dos cards da ação");
         
         // Busca o container com fallbacks
-        Element container = ScraperValidator.findElementWithFallbacks(doc, CONTAINER_SELECTORS)
+        Element container = ScraperValidator.findElementWithFallbacks(doc, CONTAINER)
                 .orElseThrow(() -> {
                     logger.error("Container dos cards não encontrado");
                     return ElementNotFoundException.forSelectors(CONTAINER_SELECTORS);
                 });
         
         // Extrai a cotação com fallbacks
-        String cotacao = ScraperValidator.findElementWithFallbacks(container, COTACAO_SELECTORS)
+        String cotacao = ScraperValidator.findElementWithFallbacks(container, COTACAO)
                 .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                 .orElse("N/A");
         
         // Extrai a variação 12M com fallbacks
-        String variacao12M = ScraperValidator.findElementWithFallbacks(container, VARIACAO_SELECTORS)
+        String variacao12M = ScraperValidator.findElementWithFallbacks(container, VARIACAO)
                 .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                 .orElse("N/A");
         
         logger.debug("Informações extraídas: cotacao={}, variacao12M={}", cotacao, variacao12M);
         return new AcaoInfoCardsDTO(cotacao, variacao12M);
     }
+
+    /**
+     * Cards a partir dos campos extraídos com {@link #PLAN}.
+     *
+     * @throws ElementNotFoundException se o container dos cards não foi encontrado
+     */
+    public AcaoInfoCardsDTO scrapeCardsInfo(ExtractedPage page) {
+        if (!page.exists("cards.container")) {
+            logger.error("Container dos cards não encontrado");
+            throw ElementNotFoundException.forSelectors(CONTAINER_SELECTORS);
+        }
+        String cotacao = page.text("cards.cotacao").orElse("N/A");
+        String variacao12M = page.text("cards.variacao12m").orElse("N/A");
+        logger.debug("Informações extraídas: cotacao={}, variacao12M={}", cotacao, variacao12M);
+        return new AcaoInfoCardsDTO(cotacao, variacao12M);
+    }
 }
@@ -2,7 +2,11 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao;
 
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ElementNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoDetailedDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.ScraperValidator;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -12,6 +16,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.AbstractMap.SimpleEntry;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.util.stream.Collectors.toMap;
@@ -25,10 +30,18 @@ public class AcaoDetailedInfoScraper {
     private static final Logger logger = LoggerFactory.getLogger(AcaoDetailedInfoScraper.class);
     
     // Constantes para seletores CSS com fallbacks
-    private static final String[] CONTAINER_SELECTORS = {"div#info_about div.content", "div.info-about div.content", ".company-details"};
+    static final String[] CONTAINER_SELECTORS = {"div#info_about div.content", "div.info-about div.content", ".company-details"};
     private static final String[] CELL_SELECTORS = {"div.cell", ".info-cell", ".detail-item"};
     private static final String[] TITLE_SELECTORS = {"span.title", ".info-title", ".label"};
     private static final String[] VALUE_SELECTORS = {"div.detail-value", "span.value", ".info-value", ".value"};
+    private static final SelectorChain CONTAINER = SelectorChain.of(CONTAINER_SELECTORS);
+    private static final SelectorChain CELL = SelectorChain.of(CELL_SELECTORS[0]);
+    private static final SelectorChain TITLE = SelectorChain.of(TITLE_SELECTORS);
+    private static final SelectorChain VALUE = SelectorChain.of(VALUE_SELECTORS);
+
+    /** Células de informações detalhadas de ação para extração in-page. */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.pairs("detalhes", CONTAINER_SELECTORS, CELL_SELECTORS[0], TITLE_SELECTORS, VALUE_SELECTORS));
 
     /**
      * Extrai informações detalhadas de uma página de ação.
@@ -46,22 +59,22 @@ public class AcaoDetailedInfoScraper {
         logger.debug("Iniciando extração de informações detalhadas da ação");
         
         // Busca o container com fallbacks
-        Element container = ScraperValidator.findElementWithFallbacks(doc, CONTAINER_SELECTORS)
+        Element container = ScraperValidator.findElementWithFallbacks(doc, CONTAINER)
                 .orElseThrow(() -> {
                     logger.error("Container de informações detalhadas não encontrado");
                     return ElementNotFoundException.forSelectors(CONTAINER_SELECTORS);
                 });
         
         // Processa todas as células de informação
-        Map<String, String> detailsMap = container.select(CELL_SELECTORS[0]).stream()
+        Map<String, String> detailsMap = CELL.selectAll(container).stream()
                 .map(cell -> {
                     // Extrai o título com fallbacks
-                    String title = ScraperValidator.findElementWithFallbacks(cell, TITLE_SELECTORS)
+                    String title = ScraperValidator.findElementWithFallbacks(cell, TITLE)
                             .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                             .orElse("");
                     
                     // Extrai o valor com fallbacks
-                    String value = ScraperValidator.findElementWithFallbacks(cell, VALUE_SELECTORS)
+                    String value = ScraperValidator.findElementWithFallbacks(cell, VALUE)
                             .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                             .orElse("");
                     
@@ -84,4 +97,28 @@ public class AcaoDetailedInfoScraper {
         final ObjectMapper mapper = new ObjectMapper();
         return mapper.convertValue(detailsMap, AcaoInfoDetailedDTO.class);
     }
-}
\ No newline at end of file
+
+    /**
+     * Informações detalhadas a partir dos campos extraídos com {@link #PLAN}.
+     *
+     * @throws ElementNotFoundException se o container não foi encontrado
+     */
+    public AcaoInfoDetailedDTO scrapeAndParseDetailedInfo(ExtractedPage page) {
+        List<Map.Entry<String, String>> cells = page.pairs("detalhes").orElseThrow(() -> {
+            logger.error("Container de informações detalhadas não encontrado");
+            return ElementNotFoundException.forSelectors(CONTAINER_SELECTORS);
+        });
+
+        Map<String, String> detailsMap = new LinkedHashMap<>();
+        for (Map.Entry<String, String> cell : cells) {
+            if (!cell.getKey().isEmpty() && !cell.getValue().isEmpty()) {
+                detailsMap.put(cell.getKey(), cell.getValue());
+            }
+        }
+
+        if (detailsMap.isEmpty()) {
+            logger.warn("Nenhuma informação detalhada encontrada");
+        }
+        return new ObjectMapper().convertValue(detailsMap, AcaoInfoDetailedDTO.class);
+    }
+}
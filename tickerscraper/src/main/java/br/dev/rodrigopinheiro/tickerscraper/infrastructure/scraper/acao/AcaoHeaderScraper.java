@@ -2,6 +2,8 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoHeaderDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.GenericHeaderScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
 import org.jsoup.nodes.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +19,9 @@ import org.springframework.stereotype.Component;
 public class AcaoHeaderScraper {
     private static final Logger logger = LoggerFactory.getLogger(AcaoHeaderScraper.class);
     
+    /** Campos do cabeçalho de ação para extração in-page. */
+    public static final ExtractionPlan PLAN = GenericHeaderScraper.plan(GenericHeaderScraper.ACAO_CONFIG);
+
     private final GenericHeaderScraper genericHeaderScraper;
     
     public AcaoHeaderScraper(GenericHeaderScraper genericHeaderScraper) {
@@ -40,4 +45,11 @@ public class AcaoHeaderScraper {
         
         return genericHeaderScraper.scrapeAcaoHeader(doc, AcaoInfoHeaderDTO::new);
     }
+
+    /**
+     * Cabeçalho a partir dos campos extraídos com {@link #PLAN}.
+     */
+    public AcaoInfoHeaderDTO scrapeInfoHeader(ExtractedPage page) {
+        return genericHeaderScraper.scrapeHeaderInfo(page, GenericHeaderScraper.ACAO_CONFIG, AcaoInfoHeaderDTO::new);
+    }
 }
@@ -2,8 +2,14 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadorFundamentalistaDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadoresFundamentalistasDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.ScraperValidator;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorPlan;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -11,9 +17,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
-import java.util.AbstractMap.SimpleEntry;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Scraper responsável por extrair indicadores fundamentalistas de ações.
@@ -22,7 +30,10 @@ import java.util.stream.Collectors;
 @Component
 public class AcaoIndicatorsScraper {
     private static final Logger logger = LoggerFactory.getLogger(AcaoIndicatorsScraper.class);
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Definições e fórmulas dos tooltips são as mesmas em todas as páginas de ação:
+    // parseadas uma vez por conteúdo e compartilhadas (dezenas de indicadores; o limite só protege de HTML inesperado)
+    private static final Cache<String, List<String>> TOOLTIPS = Caffeine.newBuilder().maximumSize(512).build();
     
     // Constantes para seletores CSS com fallbacks
     private static final String[] INDICATORS_TABLE_SELECTORS = {"#table-indicators", ".indicators-table", "table.indicators"};
@@ -30,6 +41,26 @@ public class AcaoIndicatorsScraper {
     private static final String[] TITLE_SELECTORS = {"span", ".title", ".indicator-title"};
     private static final String[] VALUE_SELECTORS = {"div.value > span", ".indicator-value", ".value span"};
 
+    // Compilados uma vez: cada célula é resolvida numa única travessia, sem re-parsear seletores
+    private static final SelectorChain INDICATORS_TABLE = SelectorChain.of(INDICATORS_TABLE_SELECTORS);
+    private static final SelectorChain CELLS = SelectorChain.of(CELL_SELECTORS);
+    private static final SelectorPlan CELL_FIELDS = SelectorPlan.builder()
+            .add("titulo", SelectorChain.of(TITLE_SELECTORS))
+            .add("valor", SelectorChain.of(VALUE_SELECTORS))
+            .add("tooltip", SelectorChain.of("[data-content]", "[data-tooltip]", "[title]"))
+            .add("Setor", SelectorChain.of(".sector .destaque"))
+            .add("Subsetor", SelectorChain.of(".subsector .destaque"))
+            .add("Segmento", SelectorChain.of(".segment .destaque"))
+            .build();
+    private static final List<String> CLASSIFICACOES = List.of("Setor", "Subsetor", "Segmento");
+
+    /**
+     * A grade de indicadores (com tooltips em HTML) vem como região: só o outerHTML dela é
+     * transferido e parseado, não a página inteira.
+     */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.html("indicadores", INDICATORS_TABLE_SELECTORS));
+
     /**
      * Extrai os indicadores fundamentalistas da página de uma ação.
      * Utiliza seletores com fallbacks para maior robustez.
@@ -39,6 +70,18 @@ public class AcaoIndicatorsScraper {
      * @return DTO com os indicadores fundamentalistas
      */
     public AcaoIndicadoresFundamentalistasDTO scrape(Document doc, String ticker) {
+        return scrape(doc, ticker, true);
+    }
+
+    /**
+     * Extrai os indicadores fundamentalistas, opcionalmente sem as definições/fórmulas dos tooltips.
+     *
+     * @param doc O documento HTML da página
+     * @param ticker O ticker da ação
+     * @param comDefinicoes false para não ler os tooltips (definicao e calculo ficam nulos)
+     * @return DTO com os indicadores fundamentalistas
+     */
+    public AcaoIndicadoresFundamentalistasDTO scrape(Document doc, String ticker, boolean comDefinicoes) {
         if (doc == null) {
             throw new IllegalArgumentException("Documento HTML não pode ser nulo");
         }
@@ -46,115 +89,108 @@ public class AcaoIndicatorsScraper {
         logger.debug("Iniciando extração de indicadores para ticker: {}", ticker);
         
         // Busca a tabela de indicadores com fallbacks
-        return ScraperValidator.findElementWithFallbacks(doc, INDICATORS_TABLE_SELECTORS)
-                .map(grid -> {
-                    // Seleciona todas as células de indicadores com fallbacks
-                    List<Element> cells = new ArrayList<>();
-                    for (String selector : CELL_SELECTORS) {
-                        cells = grid.select(selector);
-                        if (!cells.isEmpty()) {
-                            logger.debug("Encontradas {} células de indicadores usando seletor: {}", cells.size(), selector);
-                            break;
-                        }
-                    }
-                    
-                    return cells.stream()
-                            .map(cell -> {
-                                // Extrai o título do indicador com fallbacks
-                                String titulo = ScraperValidator.findElementWithFallbacks(cell, TITLE_SELECTORS)
-                                        .flatMap(element -> ScraperValidator.extractTextWithValidation(element, "ownText"))
-                                        .map(String::trim)
-                                        .map(t -> t.replace(" - " + ticker.toUpperCase(), "").trim())
-                                        .orElse("");
-                                
-                                Map<String, String> dataMap = new LinkedHashMap<>();
-                                
-                                // Extrai o valor do indicador com fallbacks
-                                ScraperValidator.findElementWithFallbacks(cell, VALUE_SELECTORS)
-                                        .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
-                                        .ifPresent(v -> dataMap.put("valor", v));
-                                
-                                // Extrai descrições e definições
-                                List<String> definicoes = scrapeIndicatorDescription(cell);
-                                if (!definicoes.isEmpty()) {
-                                    dataMap.put("definicao", definicoes.get(0));
-                                    if (definicoes.size() > 1) {
-                                        dataMap.put("calculo", definicoes.get(1));
-                                    }
-                                }
-                                
-                                // Extrai informações de setor, subsetor e segmento com fallbacks
-                                 ScraperValidator.extractTextWithDefault(cell, ".sector .destaque", "")
-                                         .filter(v -> !v.isEmpty())
-                                         .ifPresent(v -> dataMap.put("Setor", v));
-                                         
-                                 ScraperValidator.extractTextWithDefault(cell, ".subsector .destaque", "")
-                                         .filter(v -> !v.isEmpty())
-                                         .ifPresent(v -> dataMap.put("Subsetor", v));
-                                         
-                                 ScraperValidator.extractTextWithDefault(cell, ".segment .destaque", "")
-                                         .filter(v -> !v.isEmpty())
-                                         .ifPresent(v -> dataMap.put("Segmento", v));
-                                
-                                return new AbstractMap.SimpleEntry<>(titulo, dataMap);
-                            })
-                            .filter(entry -> !entry.getKey().isEmpty())
-                            .collect(Collectors.toMap(
-                                    SimpleEntry::getKey,
-                                    entry -> MAPPER.convertValue(entry.getValue(), AcaoIndicadorFundamentalistaDTO.class),
-                                    (oldValue, newValue) -> newValue,
-                                    LinkedHashMap::new
-                            ));
-                })
-                .map(indicadoresMap -> {
-                    logger.debug("Extraídos {} indicadores fundamentalistas", indicadoresMap.size());
-                    return new AcaoIndicadoresFundamentalistasDTO(indicadoresMap);
-                })
-                .orElseGet(() -> {
-                    logger.warn("Tabela de indicadores não encontrada para ticker: {}", ticker);
-                    return new AcaoIndicadoresFundamentalistasDTO(new LinkedHashMap<>());
-                });
+        return fromGrid(ScraperValidator.findElementWithFallbacks(doc, INDICATORS_TABLE), ticker, comDefinicoes);
+    }
+
+    /**
+     * Indicadores a partir da região extraída com {@link #PLAN}.
+     */
+    public AcaoIndicadoresFundamentalistasDTO scrape(ExtractedPage page, String ticker) {
+        return fromGrid(page.fragment("indicadores"), ticker, true);
+    }
+
+    private AcaoIndicadoresFundamentalistasDTO fromGrid(Optional<Element> table, String ticker, boolean comDefinicoes) {
+        if (table.isEmpty()) {
+            logger.warn("Tabela de indicadores não encontrada para ticker: {}", ticker);
+            return new AcaoIndicadoresFundamentalistasDTO(new LinkedHashMap<>());
+        }
+
+        // Seleciona todas as células de indicadores com fallbacks
+        List<Element> cells = CELLS.selectAll(table.get());
+        logger.debug("Encontradas {} células de indicadores", cells.size());
+
+        String sufixoTicker = " - " + ticker.toUpperCase();
+        Map<String, AcaoIndicadorFundamentalistaDTO> indicadores = new LinkedHashMap<>();
+        for (Element cell : cells) {
+            SelectorPlan.Resolved campos = CELL_FIELDS.resolve(cell);
+
+            // Extrai o título do indicador com fallbacks
+            String titulo = campos.get("titulo")
+                    .flatMap(element -> ScraperValidator.extractTextWithValidation(element, "ownText"))
+                    .map(t -> t.trim().replace(sufixoTicker, "").trim())
+                    .orElse("");
+            if (titulo.isEmpty()) {
+                continue;
+            }
+
+            // Extrai o valor do indicador com fallbacks
+            String valor = campos.get("valor")
+                    .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
+                    .orElse(null);
+
+            // Descrição e fórmula: iguais para todas as ações, vêm do dicionário compartilhado
+            List<String> definicoes = comDefinicoes ? scrapeIndicatorDescription(campos.get("tooltip")) : List.of();
+
+            // Títulos repetidos: vale o último, como antes
+            indicadores.put(titulo, new AcaoIndicadorFundamentalistaDTO(
+                    valor,
+                    !definicoes.isEmpty() ? definicoes.get(0) : null,
+                    definicoes.size() > 1 ? definicoes.get(1) : null,
+                    classificacao(campos, "Setor"),
+                    classificacao(campos, "Subsetor"),
+                    classificacao(campos, "Segmento")));
+        }
+
+        logger.debug("Extraídos {} indicadores fundamentalistas", indicadores.size());
+        return new AcaoIndicadoresFundamentalistasDTO(indicadores);
+    }
+
+    private static String classificacao(SelectorPlan.Resolved campos, String nome) {
+        return campos.get(nome)
+                .map(element -> element.text().trim())
+                .filter(v -> !v.isEmpty())
+                .orElse(null);
     }
 
     /**
-     * Extrai a descrição e a fórmula de dentro do atributo 'data-content'.
-     * Utiliza ScraperValidator para extração mais robusta.
+     * Descrição e fórmula do atributo 'data-content' (ou data-tooltip/title), parseadas uma única vez
+     * por conteúdo distinto e reaproveitadas do dicionário {@link #TOOLTIPS}.
      *
-     * @param cell O elemento da célula do indicador
-     * @return Lista de strings com descrição e fórmula
+     * @param tooltip O elemento da célula com atributo data-content, data-tooltip ou title
+     * @return Lista imutável com descrição e fórmula
      */
-    private List<String> scrapeIndicatorDescription(Element cell) {
+    private List<String> scrapeIndicatorDescription(Optional<Element> tooltip) {
+        if (tooltip.isEmpty()) {
+            return List.of();
+        }
+        Element element = tooltip.get();
+        String dataContentHtml = element.hasAttr("data-content") ? element.attr("data-content") :
+                element.hasAttr("data-tooltip") ? element.attr("data-tooltip") :
+                element.attr("title");
+        if (dataContentHtml == null || dataContentHtml.isEmpty()) {
+            return List.of();
+        }
+        return TOOLTIPS.get(dataContentHtml, AcaoIndicatorsScraper::parseTooltip);
+    }
+
+    private static List<String> parseTooltip(String dataContentHtml) {
         List<String> descriptionParts = new ArrayList<>();
-        
-        // Busca elemento com atributo data-content
-        ScraperValidator.findElementWithFallbacks(cell, "[data-content]", "[data-tooltip]", "[title]")
-                .map(element -> {
-                    // Tenta extrair o conteúdo do atributo data-content
-                    String dataContentHtml = element.hasAttr("data-content") ? element.attr("data-content") :
-                                 element.hasAttr("data-tooltip") ? element.attr("data-tooltip") :
-                                 element.attr("title");
-                    
-                    if (dataContentHtml != null && !dataContentHtml.isEmpty()) {
-                        try {
-                            Document fragment = Jsoup.parseBodyFragment(dataContentHtml);
-                            fragment.select("p").forEach(p -> descriptionParts.add(p.text()));
-                            
-                            // Se não encontrou parágrafos, tenta extrair o texto diretamente
-                            if (descriptionParts.isEmpty()) {
-                                String text = fragment.text().trim();
-                                if (!text.isEmpty()) {
-                                    descriptionParts.add(text);
-                                }
-                            }
-                        } catch (Exception e) {
-                            logger.warn("Erro ao processar conteúdo HTML do tooltip: {}", e.getMessage());
-                            // Adiciona o texto bruto como fallback
-                            descriptionParts.add(dataContentHtml.replaceAll("<[^>]*>", "").trim());
-                        }
-                    }
-                    return element;
-                });
-        
-        return descriptionParts;
+        try {
+            Document fragment = Jsoup.parseBodyFragment(dataContentHtml);
+            fragment.select("p").forEach(p -> descriptionParts.add(p.text()));
+
+            // Se não encontrou parágrafos, tenta extrair o texto diretamente
+            if (descriptionParts.isEmpty()) {
+                String text = fragment.text().trim();
+                if (!text.isEmpty()) {
+                    descriptionParts.add(text);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Erro ao processar conteúdo HTML do tooltip: {}", e.getMessage());
+            // Adiciona o texto bruto como fallback
+            descriptionParts.add(dataContentHtml.replaceAll("<[^>]*>", "").trim());
+        }
+        return List.copyOf(descriptionParts);
     }
 }
@@ -4,21 +4,21 @@ import br.dev.rodrigopinheiro.tickerscraper.application.port.output.AcaoDataScra
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.*;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.HttpPageFetcher;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.*;
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserContext;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
 import com.microsoft.playwright.Page;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.util.concurrent.atomic.AtomicReference;
 
 @Component("acaoPlaywrightScraper")
 public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDadosFinanceirosDTO> implements AcaoDataScrapperPort {
@@ -30,12 +30,25 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
     private static final String[] CARDS_SELECTORS = {"section#cards-ticker", ".cards-section", ".ticker-cards"};
     private static final String[] INDICATORS_SELECTORS = {"#table-indicators", ".indicators-table", "table.indicators"};
 
+    // Campos da página lidos num único page.evaluate; a grade de indicadores vem como região HTML
+    private static final ExtractionPlan PAGE_PLAN = ExtractionPlan.merge(
+            AcaoHeaderScraper.PLAN, AcaoCardsScraper.PLAN, AcaoDetailedInfoScraper.PLAN, AcaoIndicatorsScraper.PLAN);
+
+    // Seções lidas pelos scrapers de ação no HTML completo (HTTP-first e Selenium)
+    static final PageRegions PAGE_REGIONS = PageRegions.builder()
+            .region(ESSENTIAL_SELECTORS)
+            .region(CARDS_SELECTORS)
+            .region(INDICATORS_SELECTORS)
+            .region(AcaoDetailedInfoScraper.CONTAINER_SELECTORS)
+            .build();
+
     private final PlaywrightInitializer pwInit;                 // Browser singleton
     private final AcaoSeleniumScraperAdapter seleniumFallback; // fallback
     private final AcaoHeaderScraper headerScraper;
     private final AcaoCardsScraper cardsScraper;
     private final AcaoDetailedInfoScraper detailedInfoScraper;
     private final AcaoIndicatorsScraper indicatorsScraper;
+    private final HttpPageFetcher httpFetcher;                 // HTTP-first (sem browser)
 
     public AcaoPlaywrightScraperAdapter(
             PlaywrightInitializer pwInit,
@@ -43,7 +56,8 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
             AcaoHeaderScraper headerScraper,
             AcaoCardsScraper cardsScraper,
             AcaoDetailedInfoScraper detailedInfoScraper,
-            AcaoIndicatorsScraper indicatorsScraper
+            AcaoIndicatorsScraper indicatorsScraper,
+            HttpPageFetcher httpFetcher
     ) {
         this.pwInit = pwInit;
         this.seleniumFallback = seleniumFallback;
@@ -51,6 +65,7 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
         this.cardsScraper = cardsScraper;
         this.detailedInfoScraper = detailedInfoScraper;
         this.indicatorsScraper = indicatorsScraper;
+        this.httpFetcher = httpFetcher;
     }
 
     @Override
@@ -58,7 +73,12 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
     @Retry(name = "scraper")
     public Mono<AcaoDadosFinanceirosDTO> scrape(String ticker) {
         final String url = buildUrl(ticker);
-        return executarComPlaywright(ticker, url);
+        // Header, cards e indicadores vêm no HTML server-rendered; browser só na escalada
+        return scrapeHttpFirst(httpFetcher, "acao", ticker,
+                page -> validateElementsExist(page.document(), INDICATORS_SELECTORS)
+                        ? Mono.fromCallable(() -> executeSpecificScraping(page.document(), ticker))
+                        : escalateToBrowser("tabela de indicadores ausente no HTML"),
+                () -> executarComPlaywright(ticker, url));
     }
     
     /**
@@ -72,19 +92,10 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
     }
 
     private Mono<AcaoDadosFinanceirosDTO> executarComPlaywright(String ticker, String url) {
-        AtomicReference<BrowserContext> ctxRef = new AtomicReference<>();
-        AtomicReference<Page> pageRef = new AtomicReference<>();
-
-        return createReactiveStructure(() -> {
+        // Contexto pré-aquecido do pool do browser compartilhado, devolvido na thread do scrape
+        return withPooledPage(pwInit, ticker, url, pooled -> {
             logger.info("Iniciando scraping Playwright (Ação): {}", url);
-            Browser browser = pwInit.getBrowser();
-
-            // Usar métodos da classe base para configuração
-            BrowserContext ctx = createPlaywrightContext(browser);
-            Page page = createPlaywrightPage(ctx);
-
-            ctxRef.set(ctx);
-            pageRef.set(page);
+            Page page = pooled.page();
 
             // Navegar e validar usando métod da classe base
             navigateAndValidate(page, url, ticker);
@@ -105,7 +116,7 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
                     throw new TickerNotFoundException(ticker, url);
                 }
                 
-                throw new TickerNotFoundException(ticker, url);
+                throw TickerNotFoundException.presumido(ticker, url);
             }
             
             if (!hasEssentialElements) {
@@ -123,12 +134,16 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
                            ticker, java.util.Arrays.toString(INDICATORS_SELECTORS));
             }
 
-            // HTML final e execução do scraping específico
-            String html = page.content();
-            Document doc = Jsoup.parse(html);
-            
-            return executeSpecificScraping(doc, ticker);
-        }, ticker, () -> closePlaywrightResources(pageRef.get(), ctxRef.get()));
+            // Campos declarados extraídos no browser (sem page.content() + Jsoup.parse)
+            ExtractedPage fields = extractFields(pwInit, page, PAGE_PLAN, ticker);
+            AcaoDadosFinanceirosDTO dto = new AcaoDadosFinanceirosDTO(
+                    headerScraper.scrapeInfoHeader(fields),
+                    detailedInfoScraper.scrapeAndParseDetailedInfo(fields),
+                    cardsScraper.scrapeCardsInfo(fields),
+                    indicatorsScraper.scrape(fields, ticker));
+            logger.info("Acao DTO montado para {}.", ticker);
+            return dto;
+        });
     }
 
     // Template methods implementation
@@ -142,6 +157,11 @@ public class AcaoPlaywrightScraperAdapter extends AbstractScraperAdapter<AcaoDad
     protected String[] getCardsSelectors() {
         return CARDS_SELECTORS;
     }
+
+    @Override
+    protected PageRegions getPageRegions() {
+        return PAGE_REGIONS;
+    }
     
     @Override
     protected String buildUrl(String ticker) {
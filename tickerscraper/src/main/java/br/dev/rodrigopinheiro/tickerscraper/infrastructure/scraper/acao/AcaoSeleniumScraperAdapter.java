@@ -1,10 +1,7 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.devtools.DevTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -12,12 +9,14 @@ import org.springframework.stereotype.Component;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.AcaoDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadoresFundamentalistasDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoCardsDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoDetailedDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoHeaderDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.pool.PooledDriver;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.pool.SeleniumDriverPool;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.retry.SeleniumRetryManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import reactor.core.publisher.Mono;
 
 @Component("acaoSeleniumScraper")
@@ -33,17 +32,20 @@ public class AcaoSeleniumScraperAdapter extends AbstractScraperAdapter<AcaoDados
     private final AcaoDetailedInfoScraper detailedInfoScraper;
     private final AcaoIndicatorsScraper indicatorsScraper;
     private final SeleniumRetryManager retryManager;
+    private final SeleniumDriverPool driverPool;
 
     public AcaoSeleniumScraperAdapter(AcaoHeaderScraper acaoHeaderScraper,
                                       AcaoCardsScraper cardsScraper,
                                       AcaoDetailedInfoScraper detailedInfoScraper,
                                       AcaoIndicatorsScraper indicatorsScraper,
-                                      SeleniumRetryManager retryManager) {
+                                      SeleniumRetryManager retryManager,
+                                      SeleniumDriverPool driverPool) {
         this.acaoHeaderScraper = acaoHeaderScraper;
         this.cardsScraper = cardsScraper;
         this.detailedInfoScraper = detailedInfoScraper;
         this.indicatorsScraper = indicatorsScraper;
         this.retryManager = retryManager;
+        this.driverPool = driverPool;
         
         logger.info("AcaoSeleniumScraperAdapter inicializado com retry manager: {}", 
                    retryManager.getRetryConfiguration());
@@ -54,33 +56,24 @@ public class AcaoSeleniumScraperAdapter extends AbstractScraperAdapter<AcaoDados
         final String url = buildUrl(ticker);
         
         return createReactiveStructure(() -> {
-            ChromeDriver driver = null;
-            DevTools devTools = null;
+            PooledDriver pooled = null;
             
             try {
                 logger.info("Iniciando scraping Selenium para ação: {} - URL: {}", ticker, url);
                 
-                // Configurar WebDriverManager
-                WebDriverManager.chromedriver().setup();
-                
-                // Configurar opções do Chrome
-                ChromeOptions options = createChromeOptions();
-                
-                //  Inicializar driver com retry
-                driver = retryManager.createWebDriverWithRetry(options);
-                logger.debug("ChromeDriver inicializado com sucesso para ticker: {}", ticker);
-                
-                //  Configurar DevTools com retry
-                devTools = retryManager.setupDevToolsWithRetry(driver);
-                logger.debug("DevTools configurado com sucesso para ticker: {}", ticker);
+                //  Sessão aquecida do pool (driver + DevTools já configurados)
+                pooled = driverPool.lease(ticker, url);
+                ChromeDriver driver = pooled.driver();
+                logger.debug("Sessão Selenium emprestada do pool para ticker: {}", ticker);
                 
                 //  Navegar para a página com retry
                 retryManager.loadPageWithRetry(driver, url);
                 logger.debug("Página carregada com sucesso para ticker: {}", ticker);
                 
-                // Obter HTML da página
+                // Obter HTML da página e devolver a sessão antes do parsing
                 String pageSource = driver.getPageSource();
-                Document doc = Jsoup.parse(pageSource);
+                pooled.release();
+                Document doc = parsePage(pageSource, url);
                 
                 // Validar elementos essenciais usando AbstractScraperAdapter
                 validateEssentialElements(doc, ESSENTIAL_SELECTORS, CARDS_SELECTORS, ticker, url);
@@ -93,12 +86,17 @@ public class AcaoSeleniumScraperAdapter extends AbstractScraperAdapter<AcaoDados
                 return result;
                 
             } catch (Exception e) {
+                if (pooled != null && e instanceof org.openqa.selenium.WebDriverException) {
+                    pooled.markBroken();
+                }
                 logger.error("Erro durante scraping Selenium para ação {}: {}", ticker, e.getMessage(), e);
                 throw e;
             } finally {
-                // Limpeza de recursos usando AbstractScraperAdapter
-                closeSeleniumResources(driver, devTools);
-                logger.debug("Recursos Selenium limpos para ticker: {}", ticker);
+                // Devolução ao pool (idempotente se já devolvida)
+                if (pooled != null) {
+                    pooled.release();
+                }
+                logger.debug("Sessão Selenium devolvida ao pool para ticker: {}", ticker);
             }
         }, ticker, () -> {});
     }
@@ -114,6 +112,11 @@ public class AcaoSeleniumScraperAdapter extends AbstractScraperAdapter<AcaoDados
     protected String[] getCardsSelectors() {
         return CARDS_SELECTORS;
     }
+
+    @Override
+    protected PageRegions getPageRegions() {
+        return AcaoPlaywrightScraperAdapter.PAGE_REGIONS;
+    }
     
     @Override
     protected String buildUrl(String ticker) {
@@ -0,0 +1,59 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParser;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadorFundamentalistaDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Índice dos indicadores fundamentalistas de uma ação, com cada valor convertido para BigDecimal
+ * numa única passada antes do mapeamento.
+ *
+ * Indicadores ausentes ou sem valor resultam em {@code BigDecimal.ZERO} com o mesmo aviso de log
+ * do helper anterior do {@link AcaoScraperMapper}.
+ */
+public final class AcaoIndicadoresIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AcaoIndicadoresIndex.class);
+
+    private static final AcaoIndicadoresIndex VAZIO = new AcaoIndicadoresIndex(null);
+
+    // null quando não há indicadores raspados; valor null quando o indicador veio sem valor
+    private final Map<String, BigDecimal> valores;
+
+    private AcaoIndicadoresIndex(Map<String, BigDecimal> valores) {
+        this.valores = valores;
+    }
+
+    public static AcaoIndicadoresIndex of(AcaoDadosFinanceirosDTO dados) {
+        if (dados == null || dados.fundamentalIndicators() == null || dados.fundamentalIndicators().indicadores() == null) {
+            return VAZIO;
+        }
+        Map<String, AcaoIndicadorFundamentalistaDTO> indicadores = dados.fundamentalIndicators().indicadores();
+        Map<String, BigDecimal> valores = new HashMap<>(indicadores.size() * 2);
+        indicadores.forEach((nome, indicador) -> valores.put(nome,
+                indicador != null && indicador.valor() != null ? IndicadorParser.parseBigdecimal(indicador.valor()) : null));
+        return new AcaoIndicadoresIndex(valores);
+    }
+
+    public BigDecimal valor(String nomeIndicador) {
+        if (valores == null) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal valor = valores.get(nomeIndicador);
+        if (valor != null) {
+            return valor;
+        }
+        if (!valores.containsKey(nomeIndicador)) {
+            logger.warn("Indicador com a chave '{}' não foi encontrado nos dados raspados.", nomeIndicador);
+        } else {
+            logger.warn("Indicador '{}' foi encontrado, mas seu valor é nulo.", nomeIndicador);
+        }
+        return BigDecimal.ZERO;
+    }
+}
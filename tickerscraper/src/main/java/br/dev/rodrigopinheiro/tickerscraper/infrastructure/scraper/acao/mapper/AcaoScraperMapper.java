@@ -4,20 +4,14 @@ import br.dev.rodrigopinheiro.tickerscraper.domain.model.Acao;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.enums.TipoAtivo;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParser;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
-import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadorFundamentalistaDTO;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 import org.mapstruct.Named;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.math.BigDecimal;
 
 @Mapper(componentModel = "spring", uses={IndicadorParser.class})
 public interface AcaoScraperMapper {
-    Logger logger = LoggerFactory.getLogger(AcaoScraperMapper.class);
-
 
     @Mappings({
             //Mapeando InfoHeader
@@ -49,63 +43,50 @@ public interface AcaoScraperMapper {
 
             //Mapeando IndicadoresFuncamentalistas
             // Indicadores principais
-            @Mapping(target = "pl", expression = "java(getIndicatorValueAsBigDecimal(dados, \"P/L\"))"),
-            @Mapping(target = "psr", expression = "java(getIndicatorValueAsBigDecimal(dados, \"P/RECEITA (PSR)\"))"),
-            @Mapping(target = "pvp", expression = "java(getIndicatorValueAsBigDecimal(dados, \"P/VP\"))"),
-            @Mapping(target = "dividendYield", expression = "java(getIndicatorValueAsBigDecimal(dados, \"DIVIDEND YIELD\"))"),
-            @Mapping(target = "payout", expression = "java(getIndicatorValueAsBigDecimal(dados, \"PAYOUT\"))"),
-            @Mapping(target = "margemLiquida", expression = "java(getIndicatorValueAsBigDecimal(dados, \"MARGEM LÍQUIDA\"))"),
-            @Mapping(target = "margemBruta", expression = "java(getIndicatorValueAsBigDecimal(dados, \"MARGEM BRUTA\"))"),
-            @Mapping(target = "margemEbit", expression = "java(getIndicatorValueAsBigDecimal(dados, \"MARGEM EBIT\"))"),
-            @Mapping(target = "margemEbitda", expression = "java(getIndicatorValueAsBigDecimal(dados, \"MARGEM EBITDA\"))"),
-            @Mapping(target = "evEbitda", expression = "java(getIndicatorValueAsBigDecimal(dados, \"EV/EBITDA\"))"),
-            @Mapping(target = "evEbit", expression = "java(getIndicatorValueAsBigDecimal(dados, \"EV/EBIT\"))"),
-            @Mapping(target = "pebitda", expression = "java(getIndicatorValueAsBigDecimal(dados, \"P/EBITDA\"))"),
-            @Mapping(target = "pativo", expression = "java(getIndicatorValueAsBigDecimal(dados, \"P/ATIVO\"))"),
-            @Mapping(target = "pcapitaldeGiro", expression = "java(getIndicatorValueAsBigDecimal(dados, \"P/CAP.GIRO\"))"),
-            @Mapping(target = "pativoCirculanteLiquido", expression = "java(getIndicatorValueAsBigDecimal(dados, \"P/ATIVO CIRC LIQ\"))"),
-            @Mapping(target = "vpa", expression = "java(getIndicatorValueAsBigDecimal(dados, \"VPA\"))"),
-            @Mapping(target = "lpa", expression = "java(getIndicatorValueAsBigDecimal(dados, \"LPA\"))"),
-            @Mapping(target = "giroAtivos", expression = "java(getIndicatorValueAsBigDecimal(dados, \"GIRO ATIVOS\"))"),
-            @Mapping(target = "roe", expression = "java(getIndicatorValueAsBigDecimal(dados, \"ROE\"))"),
-            @Mapping(target = "roic", expression = "java(getIndicatorValueAsBigDecimal(dados, \"ROIC\"))"),
-            @Mapping(target = "roa", expression = "java(getIndicatorValueAsBigDecimal(dados, \"ROA\"))"),
-            @Mapping(target = "dividaLiquidaPatrimonio", expression = "java(getIndicatorValueAsBigDecimal(dados, \"DÍVIDA LÍQUIDA / PATRIMÔNIO\"))"),
-            @Mapping(target = "dividaLiquidaEbitda", expression = "java(getIndicatorValueAsBigDecimal(dados, \"DÍVIDA LÍQUIDA / EBITDA\"))"),
-            @Mapping(target = "dividaLiquidaEbit", expression = "java(getIndicatorValueAsBigDecimal(dados, \"DÍVIDA LÍQUIDA / EBIT\"))"),
-            @Mapping(target = "dividaBrutaPatrimonio", expression = "java(getIndicatorValueAsBigDecimal(dados, \"DÍVIDA BRUTA / PATRIMÔNIO\"))"),
-            @Mapping(target = "patrimonioAtivos", expression = "java(getIndicatorValueAsBigDecimal(dados, \"PATRIMÔNIO / ATIVOS\"))"),
-            @Mapping(target = "passivosAtivos", expression = "java(getIndicatorValueAsBigDecimal(dados, \"PASSIVOS / ATIVOS\"))"),
-            @Mapping(target = "liquidezCorrente", expression = "java(getIndicatorValueAsBigDecimal(dados, \"LIQUIDEZ CORRENTE\"))"),
-            @Mapping(target = "cagrReceitasCincoAnos", expression = "java(getIndicatorValueAsBigDecimal(dados, \"CAGR RECEITAS 5 ANOS\"))"),
-            @Mapping(target = "cagrLucrosCincoAnos", expression = "java(getIndicatorValueAsBigDecimal(dados, \"CAGR LUCROS 5 ANOS\"))"),
+            @Mapping(target = "pl", expression = "java(indicadores.valor(\"P/L\"))"),
+            @Mapping(target = "psr", expression = "java(indicadores.valor(\"P/RECEITA (PSR)\"))"),
+            @Mapping(target = "pvp", expression = "java(indicadores.valor(\"P/VP\"))"),
+            @Mapping(target = "dividendYield", expression = "java(indicadores.valor(\"DIVIDEND YIELD\"))"),
+            @Mapping(target = "payout", expression = "java(indicadores.valor(\"PAYOUT\"))"),
+            @Mapping(target = "margemLiquida", expression = "java(indicadores.valor(\"MARGEM LÍQUIDA\"))"),
+            @Mapping(target = "margemBruta", expression = "java(indicadores.valor(\"MARGEM BRUTA\"))"),
+            @Mapping(target = "margemEbit", expression = "java(indicadores.valor(\"MARGEM EBIT\"))"),
+            @Mapping(target = "margemEbitda", expression = "java(indicadores.valor(\"MARGEM EBITDA\"))"),
+            @Mapping(target = "evEbitda", expression = "java(indicadores.valor(\"EV/EBITDA\"))"),
+            @Mapping(target = "evEbit", expression = "java(indicadores.valor(\"EV/EBIT\"))"),
+            @Mapping(target = "pebitda", expression = "java(indicadores.valor(\"P/EBITDA\"))"),
+            @Mapping(target = "pativo", expression = "java(indicadores.valor(\"P/ATIVO\"))"),
+            @Mapping(target = "pcapitaldeGiro", expression = "java(indicadores.valor(\"P/CAP.GIRO\"))"),
+            @Mapping(target = "pativoCirculanteLiquido", expression = "java(indicadores.valor(\"P/ATIVO CIRC LIQ\"))"),
+            @Mapping(target = "vpa", expression = "java(indicadores.valor(\"VPA\"))"),
+            @Mapping(target = "lpa", expression = "java(indicadores.valor(\"LPA\"))"),
+            @Mapping(target = "giroAtivos", expression = "java(indicadores.valor(\"GIRO ATIVOS\"))"),
+            @Mapping(target = "roe", expression = "java(indicadores.valor(\"ROE\"))"),
+            @Mapping(target = "roic", expression = "java(indicadores.valor(\"ROIC\"))"),
+            @Mapping(target = "roa", expression = "java(indicadores.valor(\"ROA\"))"),
+            @Mapping(target = "dividaLiquidaPatrimonio", expression = "java(indicadores.valor(\"DÍVIDA LÍQUIDA / PATRIMÔNIO\"))"),
+            @Mapping(target = "dividaLiquidaEbitda", expression = "java(indicadores.valor(\"DÍVIDA LÍQUIDA / EBITDA\"))"),
+            @Mapping(target = "dividaLiquidaEbit", expression = "java(indicadores.valor(\"DÍVIDA LÍQUIDA / EBIT\"))"),
+            @Mapping(target = "dividaBrutaPatrimonio", expression = "java(indicadores.valor(\"DÍVIDA BRUTA / PATRIMÔNIO\"))"),
+            @Mapping(target = "patrimonioAtivos", expression = "java(indicadores.valor(\"PATRIMÔNIO / ATIVOS\"))"),
+            @Mapping(target = "passivosAtivos", expression = "java(indicadores.valor(\"PASSIVOS / ATIVOS\"))"),
+            @Mapping(target = "liquidezCorrente", expression = "java(indicadores.valor(\"LIQUIDEZ CORRENTE\"))"),
+            @Mapping(target = "cagrReceitasCincoAnos", expression = "java(indicadores.valor(\"CAGR RECEITAS 5 ANOS\"))"),
+            @Mapping(target = "cagrLucrosCincoAnos", expression = "java(indicadores.valor(\"CAGR LUCROS 5 ANOS\"))"),
             
             // Data de atualização
-            @Mapping(target = "dataAtualizacao", expression = "java(java.time.LocalDateTime.now())")
+            @Mapping(target = "dataAtualizacao", expression = "java(java.time.LocalDateTime.now())"),
+            @Mapping(target = "dataAtualizacaoCotacao", ignore = true)
 
     })
-    Acao toDomain(AcaoDadosFinanceirosDTO dados);
-
-
-    default BigDecimal getIndicatorValueAsBigDecimal(AcaoDadosFinanceirosDTO dados, String nomeIndicador) {
-        if (dados == null || dados.fundamentalIndicators() == null || dados.fundamentalIndicators().indicadores() == null) {
-            return BigDecimal.ZERO;
-        }
-        AcaoIndicadorFundamentalistaDTO indicador = dados.fundamentalIndicators().indicadores().get(nomeIndicador);
+    Acao toDomain(AcaoDadosFinanceirosDTO dados, @Context AcaoIndicadoresIndex indicadores);
 
-        // VERIFICAÇÃO E LOG
-        if (indicador == null) {
-            logger.warn("Indicador com a chave '{}' não foi encontrado nos dados raspados.", nomeIndicador);
-            return BigDecimal.ZERO;
-        }
-        if (indicador.valor() == null) {
-            logger.warn("Indicador '{}' foi encontrado, mas seu valor é nulo.", nomeIndicador);
-            return BigDecimal.ZERO;
-        }
-
-        return IndicadorParser.parseBigdecimal(indicador.valor());
+    // Converte os indicadores uma única vez por DTO antes de mapear
+    default Acao toDomain(AcaoDadosFinanceirosDTO dados) {
+        return toDomain(dados, AcaoIndicadoresIndex.of(dados));
     }
 
+
     @Named("classificarTipoAtivo")
     default TipoAtivo classificarTipoAtivo(String ticker) {
         if (ticker == null || ticker.trim().isEmpty()) {
@@ -2,17 +2,20 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.devtools.DevTools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.Response;
 import com.microsoft.playwright.TimeoutError;
 import com.microsoft.playwright.options.WaitUntilState;
@@ -21,6 +24,13 @@ import br.dev.rodrigopinheiro.tickerscraper.domain.exception.AntiBotDetectedExce
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingException;
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingTimeoutException;
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.InPageExtractor;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool.PooledPage;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -40,6 +50,9 @@ import reactor.core.scheduler.Schedulers;
 public abstract class AbstractScraperAdapter<T> {
     
     private static final Logger logger = LoggerFactory.getLogger(AbstractScraperAdapter.class);
+
+    private static final String ESSENTIAL_FIELD = "page.essential";
+    private static final String CARDS_FIELD = "page.cards";
     
     // Configurações padrão para browsers
     protected static final String DEFAULT_USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/125.0.0.0 Safari/537.36";
@@ -56,12 +69,13 @@ public abstract class AbstractScraperAdapter<T> {
     protected static final int ELEMENT_WAIT_TIMEOUT_MS = 8_000;      // Reduzido de 10s para 8s (20% redução)
     
     /**
-     * Cria e configura um contexto Playwright com configurações anti-bot básicas.
+     * Cria um contexto com as configurações anti-bot padrão. Exposto para o pool de
+     * contextos do {@link br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer}.
      * 
      * @param browser Instância do browser Playwright
      * @return Contexto configurado
      */
-    protected BrowserContext createPlaywrightContext(Browser browser) {
+    public static BrowserContext newDefaultContext(Browser browser) {
         Browser.NewContextOptions ctxOpts = new Browser.NewContextOptions()
                 .setUserAgent(DEFAULT_USER_AGENT)
                 .setViewportSize(DEFAULT_VIEWPORT_WIDTH, DEFAULT_VIEWPORT_HEIGHT)
@@ -76,16 +90,48 @@ public abstract class AbstractScraperAdapter<T> {
     }
     
     /**
-     * Cria e configura uma página Playwright com timeout padrão.
+     * Cria uma página com o timeout padrão dos scrapers.
      * 
      * @param context Contexto do browser
      * @return Página configurada
      */
-    protected Page createPlaywrightPage(BrowserContext context) {
+    public static Page newDefaultPage(BrowserContext context) {
         Page page = context.newPage();
         page.setDefaultTimeout(DEFAULT_TIMEOUT_MS);
         return page;
     }
+
+    /**
+     * Cria uma página padrão com o filtro de recursos instalado, de modo que imagens,
+     * fontes, mídia e scripts de terceiros sejam bloqueados antes de trafegar.
+     * 
+     * @param context Contexto do browser
+     * @param blockingPolicy Política de bloqueio de requests
+     * @return Página configurada e filtrada
+     */
+    public static Page newDefaultPage(BrowserContext context, ResourceBlockingPolicy blockingPolicy) {
+        Page page = newDefaultPage(context);
+        try {
+            blockingPolicy.install(page);
+        } catch (RuntimeException e) {
+            try { page.close(); } catch (Exception ignored) {}
+            throw e;
+        }
+        return page;
+    }
+    
+    /**
+     * Empresta uma página pré-aquecida do pool de contextos do browser compartilhado.
+     * Deve ser devolvida com {@link #releasePlaywrightPage(PooledPage)}.
+     * 
+     * @param pwInit Inicializador do Playwright
+     * @param ticker Ticker sendo processado
+     * @param url URL de destino
+     * @return Par contexto/página emprestado
+     */
+    protected PooledPage leasePlaywrightPage(PlaywrightInitializer pwInit, String ticker, String url) {
+        return pwInit.leasePage(ticker, url);
+    }
     
     /**
      * Cria e configura ChromeOptions com configurações padrão para scraping.
@@ -93,6 +139,15 @@ public abstract class AbstractScraperAdapter<T> {
      * @return ChromeOptions configurado
      */
     protected ChromeOptions createChromeOptions() {
+        return newDefaultChromeOptions();
+    }
+
+    /**
+     * ChromeOptions padrão, também usado pelo pool de sessões Selenium.
+     *
+     * @return ChromeOptions configurado
+     */
+    public static ChromeOptions newDefaultChromeOptions() {
         ChromeOptions options = new ChromeOptions();
         options.addArguments("--headless=new");
         options.addArguments("--window-size=" + DEFAULT_VIEWPORT_WIDTH + "," + DEFAULT_VIEWPORT_HEIGHT);
@@ -162,8 +217,8 @@ public abstract class AbstractScraperAdapter<T> {
                 throw new TickerNotFoundException(ticker, url);
             }
             
-            // Se não há elementos essenciais, assumir ticker inexistente
-            throw new TickerNotFoundException(ticker, url);
+            // Se não há elementos essenciais, presumir ticker inexistente
+            throw TickerNotFoundException.presumido(ticker, url);
         }
         
         if (!hasEssentialElements) {
@@ -177,6 +232,53 @@ public abstract class AbstractScraperAdapter<T> {
         }
     }
     
+    /**
+     * Campos usados por {@link #validateEssentialElements(ExtractedPage, String, String)}.
+     */
+    protected static ExtractionPlan validationPlan(String[] essentialSelectors, String[] cardsSelectors) {
+        return ExtractionPlan.of(
+                FieldSpec.exists(ESSENTIAL_FIELD, essentialSelectors),
+                FieldSpec.exists(CARDS_FIELD, cardsSelectors));
+    }
+
+    /**
+     * Mesma validação de {@link #validateEssentialElements(Document, String[], String[], String, String)}
+     * sobre campos extraídos com um plano que inclui {@link #validationPlan(String[], String[])}.
+     *
+     * @throws TickerNotFoundException se nenhum elemento essencial for encontrado
+     */
+    protected void validateEssentialElements(ExtractedPage page, String ticker, String url) {
+        boolean hasEssentialElements = page.exists(ESSENTIAL_FIELD);
+        boolean hasCardsElements = page.exists(CARDS_FIELD);
+
+        if (!hasEssentialElements && !hasCardsElements) {
+            logger.error("Nenhum elemento essencial encontrado para ticker {} - possível ticker inexistente", ticker);
+            throw TickerNotFoundException.presumido(ticker, url);
+        }
+        if (!hasEssentialElements) {
+            logger.warn("Nenhum elemento essencial encontrado para ticker {}", ticker);
+        }
+        if (!hasCardsElements) {
+            logger.warn("Nenhum elemento de cards encontrado para ticker {}", ticker);
+        }
+    }
+
+    /**
+     * Extrai os campos do plano com um único {@code page.evaluate}, sem transferir o HTML.
+     * Com a extração in-page desabilitada, ou se o script falhar, avalia o mesmo plano sobre
+     * {@code page.content()} parseado pelo Jsoup.
+     */
+    protected ExtractedPage extractFields(PlaywrightInitializer pwInit, Page page, ExtractionPlan plan, String ticker) {
+        if (pwInit.isInPageExtraction()) {
+            try {
+                return InPageExtractor.extract(page, plan);
+            } catch (PlaywrightException e) {
+                logger.warn("Extração in-page falhou para {}, usando page.content(): {}", ticker, e.getMessage());
+            }
+        }
+        return ExtractedPage.fromDocument(Jsoup.parse(page.content()), plan);
+    }
+
     /**
      * Verifica se pelo menos um dos seletores encontra elementos no documento.
      * 
@@ -230,47 +332,23 @@ public abstract class AbstractScraperAdapter<T> {
     }
     
     /**
-     * Fecha recursos Playwright de forma segura sem propagar exceções.
+     * Devolve uma página emprestada ao pool de forma segura sem propagar exceções.
      * 
-     * @param page Página a ser fechada
-     * @param context Contexto a ser fechado
+     * @param pooled Página emprestada (pode ser null)
      */
-    protected void closePlaywrightResources(Page page, BrowserContext context) {
-        try { 
-            if (page != null) page.close(); 
-        } catch (Exception ignored) {}
-        
-        try { 
-            if (context != null) context.close(); 
-        } catch (Exception ignored) {}
-    }
-    
-    /**
-     * Fecha recursos Selenium de forma segura sem propagar exceções.
-     * 
-     * @param driver WebDriver a ser fechado
-     * @param devTools DevTools a ser fechado (pode ser null)
-     */
-    protected void closeSeleniumResources(WebDriver driver, DevTools devTools) {
-        if (devTools != null) {
-            try {
-                devTools.close();
-            } catch (Exception e) {
-                logger.warn("Erro ao fechar DevTools: {}", e.getMessage());
-            }
-        }
-        
-        if (driver != null) {
-            try {
-                driver.quit();
-            } catch (Exception e) {
-                logger.warn("Erro ao fechar WebDriver: {}", e.getMessage());
-            }
+    protected void releasePlaywrightPage(PooledPage pooled) {
+        try {
+            if (pooled != null) pooled.release();
+        } catch (Exception e) {
+            logger.warn("Erro ao devolver página ao pool: {}", e.getMessage());
         }
     }
     
     /**
      * Cria a estrutura reativa padrão para execução de scraping.
+     * A limpeza roda no doFinally (inclusive no cancelamento, fora da thread do scrape), então
+     * não deve devolver recursos que a lógica ainda possa estar usando; para páginas do pool use
+     * {@link #withPooledPage(PlaywrightInitializer, String, String, PooledPageScraping)}.
      * 
      * @param scrapingLogic Lógica de scraping a ser executada
      * @param ticker Ticker sendo processado
@@ -281,29 +359,113 @@ public abstract class AbstractScraperAdapter<T> {
                                              String ticker, Runnable cleanupAction) {
         return Mono.fromCallable(scrapingLogic)
                 .doOnError(e -> logger.error("Falha no scraping para {}: {}", ticker, e.toString()))
-                .doOnCancel(cleanupAction)
                 .doFinally(sig -> cleanupAction.run())
                 .subscribeOn(Schedulers.boundedElastic());
     }
-    
+
     /**
-     * Cria a estrutura reativa para execução de scraping que retorna Mono.
-     * 
-     * @param scrapingLogic Lógica de scraping que retorna Mono
+     * Lógica de scraping executada sobre uma página emprestada do pool.
+     */
+    @FunctionalInterface
+    protected interface PooledPageScraping<R> {
+        R scrape(PooledPage pooled) throws Exception;
+    }
+
+    /**
+     * Empresta uma página do pool e executa o scraping no boundedElastic, devolvendo-a no finally
+     * da própria thread do scrape. O cancelamento não devolve a página, que ainda pode estar em uso:
+     * só marca o empréstimo, e o finally descarta o par em vez de devolvê-lo ao pool.
+     *
+     * @param pwInit Inicializador do Playwright
      * @param ticker Ticker sendo processado
-     * @param cleanupAction Ação de limpeza a ser executada
+     * @param url URL de destino
+     * @param scraping Lógica que usa a página; o resultado não deve depender dela após o retorno
+     * @return Mono com o resultado do scraping
+     */
+    protected <R> Mono<R> withPooledPage(PlaywrightInitializer pwInit, String ticker, String url,
+                                         PooledPageScraping<R> scraping) {
+        return Mono.defer(() -> {
+            AtomicBoolean cancelado = new AtomicBoolean();
+            return Mono.fromCallable(() -> {
+                        PooledPage pooled = leasePlaywrightPage(pwInit, ticker, url);
+                        try {
+                            return scraping.scrape(pooled);
+                        } finally {
+                            if (cancelado.get()) {
+                                pooled.markBroken();
+                            }
+                            releasePlaywrightPage(pooled);
+                        }
+                    })
+                    .doOnError(e -> logger.error("Falha no scraping para {}: {}", ticker, e.toString()))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    // Depois do subscribeOn: marca antes de a tarefa ser interrompida
+                    .doOnCancel(() -> cancelado.set(true));
+        });
+    }
+
+    /**
+     * Estratégia HTTP-first: tenta montar o DTO a partir do HTML server-rendered e só abre o
+     * browser quando a página não tem os elementos essenciais/cards, é uma página de anti-bot
+     * ou a extração HTTP falha. Ticker inexistente (404/410) é propagado sem escalar.
+     *
+     * @param fetcher Cliente HTTP de páginas
+     * @param asset Classe de ativo (acao, fii, bdr) para configuração e métricas
+     * @param ticker Ticker sendo processado
+     * @param httpScrape Extração a partir da página HTTP
+     * @param browserScrape Caminho Playwright usado na escalada
      * @return Mono com resultado do scraping
      */
-    protected Mono<T> createReactiveStructureForMono(java.util.concurrent.Callable<Mono<T>> scrapingLogic, 
-                                                    String ticker, Runnable cleanupAction) {
-        return Mono.fromCallable(scrapingLogic)
-                .flatMap(mono -> mono)
-                .doOnError(e -> logger.error("Falha no scraping para {}: {}", ticker, e.toString()))
-                .doOnCancel(cleanupAction)
-                .doFinally(sig -> cleanupAction.run())
-                .subscribeOn(Schedulers.boundedElastic());
+    protected Mono<T> scrapeHttpFirst(HttpPageFetcher fetcher, String asset, String ticker,
+                                      Function<HttpPageFetcher.FetchedPage, Mono<T>> httpScrape,
+                                      Supplier<Mono<T>> browserScrape) {
+        if (fetcher == null || !fetcher.isEnabledFor(asset)) {
+            return Mono.defer(browserScrape);
+        }
+        final String url = buildUrl(ticker);
+        return fetcher.fetch(url, ticker, getPageRegions())
+                .flatMap(page -> {
+                    if (!validateElementsExist(page.document(), getEssentialSelectors())
+                            || !validateElementsExist(page.document(), getCardsSelectors())) {
+                        return escalateToBrowser("elementos essenciais ausentes no HTML server-rendered");
+                    }
+                    return httpScrape.apply(page);
+                })
+                .doOnSuccess(result -> {
+                    fetcher.record(asset, "served");
+                    logger.info("Ticker {} atendido via HTTP-first, sem browser", ticker);
+                })
+                .onErrorResume(e -> {
+                    if (e instanceof TickerNotFoundException) {
+                        fetcher.record(asset, "not_found");
+                        return Mono.error(e);
+                    }
+                    fetcher.record(asset, "escalated");
+                    logger.info("HTTP-first indisponível para {} ({}). Escalando para Playwright.", ticker, e.getMessage());
+                    return Mono.defer(browserScrape);
+                });
     }
-    
+
+    /**
+     * Sinaliza, dentro de {@code httpScrape}, que a página HTTP não basta e o browser é necessário.
+     */
+    protected static <R> Mono<R> escalateToBrowser(String reason) {
+        return Mono.error(new HttpFirstEscalation(reason));
+    }
+
+    /**
+     * Se o erro é a sinalização de {@link #escalateToBrowser(String)}.
+     */
+    protected static boolean isBrowserEscalation(Throwable e) {
+        return e instanceof HttpFirstEscalation;
+    }
+
+    private static final class HttpFirstEscalation extends RuntimeException {
+        HttpFirstEscalation(String reason) {
+            super(reason, null, false, false);
+        }
+    }
+
     /**
      * Cria uma exceção HTTP específica.
      * 
@@ -332,6 +494,24 @@ public abstract class AbstractScraperAdapter<T> {
      * @return Array de seletores CSS
      */
     protected abstract String[] getCardsSelectors();
+
+    /**
+     * Regiões da página lidas pelos scrapers deste tipo, para o parse em streaming do HTML
+     * (HTTP-first e page source do Selenium). Devem incluir os seletores essenciais e de cards.
+     *
+     * @return regiões ou {@code null} para montar o Document inteiro
+     */
+    protected PageRegions getPageRegions() {
+        return null;
+    }
+
+    /**
+     * Parseia o HTML de uma página completa, restrito às {@link #getPageRegions() regiões} quando declaradas.
+     */
+    protected Document parsePage(String html, String url) {
+        PageRegions regions = getPageRegions();
+        return regions == null ? Jsoup.parse(html, url) : regions.parse(html, url);
+    }
     
     /**
      * Constrói a URL base para o tipo de ticker (ação ou FII).
@@ -0,0 +1,225 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.AntiBotDetectedException;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.RateLimitExceededException;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingTimeoutException;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.HttpFirstProperties;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Busca páginas server-rendered do investidor10 via WebClient, sem browser.
+ *
+ * Traduz status HTTP e páginas de desafio (Cloudflare) para as exceções de domínio usadas
+ * pelos adapters Playwright, para que a estratégia HTTP-first possa decidir quando escalar.
+ */
+@Component
+public class HttpPageFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpPageFetcher.class);
+
+    static final String SITE_ORIGIN = "https://investidor10.com.br";
+
+    // Marcadores de páginas de desafio/anti-bot servidas com status 200/403/503
+    private static final String[] CHALLENGE_MARKERS = {
+            "cf-chl", "challenge-platform", "<title>Just a moment", "cf-browser-verification", "Attention Required!"
+    };
+
+    // Delimitadores de uma URL embutida em HTML/JS
+    private static final String URL_DELIMITERS = "\"'`<>()\\ \t\r\n";
+
+    private final WebClient webClient;
+    private final HttpFirstProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public HttpPageFetcher(WebClient webClient, HttpFirstProperties properties, MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Página obtida via HTTP.
+     *
+     * @param url URL requisitada
+     * @param html HTML bruto
+     * @param document HTML já parseado pelo Jsoup (parcial, só com as regiões pedidas, no parse em streaming)
+     * @param cookies Cookies de sessão devolvidos pelo servidor (formato de header Cookie)
+     */
+    public record FetchedPage(String url, String html, Document document, String cookies) {
+
+        /**
+         * Headers para chamar as APIs XHR do site como o browser faria a partir desta página.
+         */
+        public Map<String, String> apiHeaders() {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put(HttpHeaders.USER_AGENT, AbstractScraperAdapter.DEFAULT_USER_AGENT);
+            headers.put(HttpHeaders.ACCEPT, "application/json, text/plain, */*");
+            headers.put(HttpHeaders.REFERER, url);
+            headers.put("X-Requested-With", "XMLHttpRequest");
+            if (cookies != null && !cookies.isEmpty()) {
+                headers.put("cookie", cookies);
+            }
+            return headers;
+        }
+    }
+
+    public boolean isEnabledFor(String asset) {
+        return properties.isEnabledFor(asset);
+    }
+
+    /**
+     * Busca e parseia a página.
+     *
+     * @param url URL da página
+     * @param ticker Ticker sendo processado
+     * @return Mono com a página; erro de domínio em 404/410, 429, anti-bot ou demais status ≥ 400
+     */
+    public Mono<FetchedPage> fetch(String url, String ticker) {
+        return fetch(url, ticker, null);
+    }
+
+    /**
+     * Busca a página parseando apenas as regiões informadas (ver {@link PageRegions}).
+     *
+     * @param regions Regiões lidas pelos scrapers; {@code null} monta o Document inteiro
+     */
+    public Mono<FetchedPage> fetch(String url, String ticker, PageRegions regions) {
+        return webClient.get()
+                .uri(url)
+                .header(HttpHeaders.USER_AGENT, AbstractScraperAdapter.DEFAULT_USER_AGENT)
+                .header(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "pt-BR,pt;q=0.9,en;q=0.8")
+                .exchangeToMono(response -> {
+                    int status = response.statusCode().value();
+                    String cookies = cookieHeader(response.cookies());
+                    return response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .map(body -> new RawPage(status, body, cookies));
+                })
+                .timeout(properties.getTimeout())
+                .onErrorMap(TimeoutException.class,
+                        e -> new ScrapingTimeoutException(ticker, url, properties.getTimeout(), "HTTP_FIRST_FETCH"))
+                // Parse fora das threads do Netty
+                .publishOn(Schedulers.boundedElastic())
+                .map(raw -> toPage(raw, url, ticker, regions));
+    }
+
+    /**
+     * Registra o desfecho de uma tentativa HTTP-first (served, escalated, not_found).
+     */
+    public void record(String asset, String outcome) {
+        counters.computeIfAbsent(asset + ':' + outcome, k -> Counter.builder("scraper.http_first")
+                .tag("asset", asset)
+                .tag("outcome", outcome)
+                .register(meterRegistry)).increment();
+    }
+
+    /**
+     * Procura no HTML as URLs completas das APIs XHR que o browser chamaria.
+     *
+     * Só aceita URLs que continuam após a chave (ex.: com o id interno já interpolado);
+     * templates montados em JavaScript não são resolvidos e ficam fora do resultado.
+     *
+     * @param page Página obtida via HTTP
+     * @param keys Chaves (substrings) das APIs
+     * @return Mapa chave → CapturedRequest com headers de {@link FetchedPage#apiHeaders()}
+     */
+    public static Map<String, CapturedRequest> discoverApiRequests(FetchedPage page, Collection<String> keys) {
+        String html = page.html().contains("\\/") ? page.html().replace("\\/", "/") : page.html();
+        Map<String, String> headers = page.apiHeaders();
+        Map<String, CapturedRequest> found = new LinkedHashMap<>();
+        for (String key : keys) {
+            findApiUrl(html, key).ifPresent(u -> found.put(key, new CapturedRequest(u, headers)));
+        }
+        return found;
+    }
+
+    static Optional<String> findApiUrl(String html, String key) {
+        int from = 0;
+        int idx;
+        while ((idx = html.indexOf(key, from)) >= 0) {
+            int start = idx;
+            while (start > 0 && URL_DELIMITERS.indexOf(html.charAt(start - 1)) < 0) start--;
+            int end = idx + key.length();
+            while (end < html.length() && URL_DELIMITERS.indexOf(html.charAt(end)) < 0) end++;
+            from = idx + key.length();
+
+            String candidate = html.substring(start, end);
+            String suffix = html.substring(idx + key.length(), end);
+            if (suffix.chars().noneMatch(Character::isDigit)) {
+                continue;
+            }
+            if (candidate.startsWith("http://") || candidate.startsWith("https://")) {
+                return Optional.of(candidate);
+            }
+            if (candidate.startsWith("//")) {
+                return Optional.of("https:" + candidate);
+            }
+            if (candidate.startsWith("/")) {
+                return Optional.of(SITE_ORIGIN + candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private FetchedPage toPage(RawPage raw, String url, String ticker, PageRegions regions) {
+        int status = raw.status();
+        if (status == 404 || status == 410) {
+            logger.warn("Ticker {} não encontrado via HTTP - status {}", ticker, status);
+            throw new TickerNotFoundException(ticker, url);
+        }
+        if (status == 429) {
+            throw new RateLimitExceededException(ticker, url);
+        }
+        if (isChallengePage(raw.body()) || status == 403) {
+            throw new AntiBotDetectedException(ticker, url, "Página de desafio no HTTP " + status, "HTTP");
+        }
+        if (status >= 400) {
+            throw new HttpScrapingException(status, "HTTP " + status, ticker, url);
+        }
+        Document document = regions != null && properties.isStreamingParse()
+                ? regions.parse(raw.body(), url)
+                : Jsoup.parse(raw.body(), url);
+        return new FetchedPage(url, raw.body(), document, raw.cookies());
+    }
+
+    static boolean isChallengePage(String body) {
+        for (String marker : CHALLENGE_MARKERS) {
+            if (body.contains(marker)) return true;
+        }
+        return false;
+    }
+
+    private static String cookieHeader(MultiValueMap<String, ResponseCookie> cookies) {
+        return cookies.values().stream()
+                .flatMap(Collection::stream)
+                .map(c -> c.getName() + '=' + c.getValue())
+                .collect(Collectors.joining("; "));
+    }
+
+    private record RawPage(int status, String body, String cookies) {}
+}
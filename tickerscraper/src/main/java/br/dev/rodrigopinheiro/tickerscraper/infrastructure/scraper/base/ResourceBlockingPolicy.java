@@ -0,0 +1,145 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.PlaywrightProperties;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.BdrApiConstants;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.FiiApiConstants;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Filtro de requests das páginas Playwright.
+ *
+ * Bloqueia no próprio Chromium (CDP {@code Network.setBlockedURLs}) imagens, fontes e mídia, por
+ * extensão, e os hosts de analytics/anúncios: as requests falham antes de trafegar, sem route.
+ * Qualquer {@code page.route}/{@code context.route} liga a interceptação de todas as requests e
+ * desabilita o cache HTTP, então documento, scripts e CSS deixariam de vir do cache.
+ * Os padrões não alcançam o HTML do investidor10 nem os endpoints de {@link FiiApiConstants}
+ * e {@link BdrApiConstants}.
+ */
+@Component
+public class ResourceBlockingPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceBlockingPolicy.class);
+
+    private static final String BLOCKED_BY_CLIENT = "net::ERR_BLOCKED_BY_CLIENT";
+
+    // Extensões de cada tipo de recurso bloqueável
+    private static final Map<String, List<String>> EXTENSIONS = Map.of(
+            "image", List.of("png", "jpg", "jpeg", "gif", "webp", "avif", "svg", "ico"),
+            "font", List.of("woff", "woff2", "ttf", "otf", "eot"),
+            "media", List.of("mp4", "webm", "mp3", "ogg", "wav", "m4a"),
+            "stylesheet", List.of("css"));
+
+    private final boolean enabled;
+    private final List<String> blockedUrls;
+    private final List<Pattern> matchers;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ResourceBlockingPolicy(PlaywrightProperties properties, MeterRegistry meterRegistry) {
+        PlaywrightProperties.Blocking config = properties.getBlocking();
+        this.enabled = config.isEnabled();
+
+        List<String> urls = new ArrayList<>();
+        for (String type : config.getBlockedResourceTypes()) {
+            List<String> extensions = EXTENSIONS.get(type.toLowerCase(Locale.ROOT));
+            if (extensions == null) {
+                logger.warn("Tipo de recurso sem extensões conhecidas, ignorado no filtro: {}", type);
+                continue;
+            }
+            for (String ext : extensions) {
+                urls.add("*." + ext);
+                urls.add("*." + ext + "?*");
+            }
+        }
+        for (String host : config.getBlockedUrlPatterns()) {
+            urls.add("*" + host + "*");
+        }
+        this.blockedUrls = List.copyOf(urls);
+        this.matchers = blockedUrls.stream().map(ResourceBlockingPolicy::toPattern).toList();
+        this.meterRegistry = meterRegistry;
+
+        logger.info("Filtro de recursos Playwright: enabled={} tipos={} padroes={}",
+                enabled, config.getBlockedResourceTypes(), blockedUrls.size());
+    }
+
+    /**
+     * Instala o filtro na página e os contadores de requests bloqueadas/permitidas. Sem efeito se desabilitado.
+     *
+     * @param page Página recém-criada do contexto
+     */
+    public void install(Page page) {
+        if (!enabled) {
+            return;
+        }
+        CDPSession cdp = page.context().newCDPSession(page);
+        cdp.send("Network.enable");
+        JsonArray urls = new JsonArray();
+        blockedUrls.forEach(urls::add);
+        JsonObject params = new JsonObject();
+        params.add("urls", urls);
+        cdp.send("Network.setBlockedURLs", params);
+
+        page.onRequestFinished(request -> count("allowed", request));
+        page.onRequestFailed(request -> {
+            if (BLOCKED_BY_CLIENT.equals(request.failure())) {
+                count("blocked", request);
+            }
+        });
+    }
+
+    /**
+     * Padrões enviados ao Chromium ({@code *} casa qualquer sequência, comparados com a URL inteira).
+     */
+    public List<String> blockedUrls() {
+        return blockedUrls;
+    }
+
+    /**
+     * Decide se uma URL é bloqueada pelos padrões, com a mesma semântica do Chromium.
+     *
+     * @param url URL da request
+     * @return true se a request será bloqueada
+     */
+    public boolean shouldBlock(String url) {
+        if (!enabled || url == null) {
+            return false;
+        }
+        for (Pattern matcher : matchers) {
+            if (matcher.matcher(url).matches()) return true;
+        }
+        return false;
+    }
+
+    private static Pattern toPattern(String wildcard) {
+        String[] parts = wildcard.split("\\*", -1);
+        StringBuilder regex = new StringBuilder(Pattern.quote(parts[0]));
+        for (int i = 1; i < parts.length; i++) {
+            regex.append(".*").append(Pattern.quote(parts[i]));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private void count(String outcome, Request request) {
+        String type = request.resourceType() != null ? request.resourceType() : "other";
+        counters.computeIfAbsent(outcome + ':' + type, k -> Counter.builder("scraper.playwright.requests")
+                .tag("outcome", outcome)
+                .tag("resourceType", type)
+                .register(meterRegistry)).increment();
+    }
+}
@@ -20,4 +20,10 @@ public final class BdrApiConstants {
             FLUXO_CAIXA,
             DIVIDENDOS
     );
+
+    // APIs que a página dispara no carregamento; os demonstrativos internacionais são opcionais
+    public static final List<String> CHAVES_OBRIGATORIAS = List.of(
+            HIST_INDICADORES,
+            DIVIDENDOS
+    );
 }
\ No newline at end of file
@@ -1,19 +1,22 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr;
 
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 @Component
 public class BdrApiScraper {
@@ -25,6 +28,32 @@ public class BdrApiScraper {
         this.webClient = webClient;
     }
 
+    /**
+     * Overloads that reuse the JSON the browser already downloaded ({@link CapturedRequest#body()}).
+     * WebClient is only called when the body was not captured or cannot be parsed.
+     */
+    public Mono<Map<String, Object>> fetchIndicadores(CapturedRequest request) {
+        return fromBody(request, () -> objectMapper.readValue(request.body(), new TypeReference<Map<String, Object>>() {}))
+                .switchIfEmpty(Mono.defer(() -> fetchIndicadores(request.url(), request.headers())));
+    }
+
+    public Mono<Map<String, Object>> fetchDividendos(CapturedRequest request) {
+        return fromBody(request, () -> wrapContent(objectMapper.readValue(request.body(), new TypeReference<List<Map<String, Object>>>() {})))
+                .switchIfEmpty(Mono.defer(() -> fetchDividendos(request.url(), request.headers())));
+    }
+
+    public Mono<Map<String, Object>> fetchDre(CapturedRequest request) {
+        return fromStatementBody(request).switchIfEmpty(Mono.defer(() -> fetchDre(request.url(), request.headers())));
+    }
+
+    public Mono<Map<String, Object>> fetchBalancoPatrimonial(CapturedRequest request) {
+        return fromStatementBody(request).switchIfEmpty(Mono.defer(() -> fetchBalancoPatrimonial(request.url(), request.headers())));
+    }
+
+    public Mono<Map<String, Object>> fetchFluxoCaixa(CapturedRequest request) {
+        return fromStatementBody(request).switchIfEmpty(Mono.defer(() -> fetchFluxoCaixa(request.url(), request.headers())));
+    }
+
     public Mono<Map<String, Object>> fetchIndicadores(String url, Map<String, String> headers) {
         logger.info("Calling BDR Indicators API: {}", url);
         return webClient.get().uri(url)
@@ -40,11 +69,7 @@ public class BdrApiScraper {
                 .headers(h -> h.setAll(headers))
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
-                .map(list -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("content", list);
-                    return map;
-                })
+                .map(this::wrapContent)
                 .onErrorReturn(Collections.emptyMap());
     }
 
@@ -60,53 +85,48 @@ public class BdrApiScraper {
         return fetchAndParseFinancialStatement(url, headers, "Cash Flow");
     }
 
+    private Map<String, Object> wrapContent(List<Map<String, Object>> list) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("content", list);
+        return map;
+    }
+
+    private Mono<Map<String, Object>> fromBody(CapturedRequest request, Callable<Map<String, Object>> parser) {
+        if (!request.hasBody()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(parser)
+                .doOnNext(v -> logger.debug("Reusing browser-captured JSON: {}", request.url()))
+                .onErrorResume(e -> {
+                    logger.warn("Unreadable captured JSON for {}: {}. Falling back to WebClient.", request.url(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Map<String, Object>> fromStatementBody(CapturedRequest request) {
+        if (!request.hasBody()) {
+            return Mono.empty();
+        }
+        // Invalid JSON or a statement without rows is treated as not captured
+        return Mono.fromCallable(() -> FinancialStatementParser.parse(request.body()))
+                .onErrorResume(e -> {
+                    logger.error("Error parsing financial statement JSON: {}", e.getMessage());
+                    return Mono.just(Collections.emptyMap());
+                })
+                .filter(map -> !map.isEmpty());
+    }
+
     private Mono<Map<String, Object>> fetchAndParseFinancialStatement(String url, Map<String, String> headers, String type) {
         logger.info("Calling Financial Statement API ({}): {}", type, url);
         return webClient.get().uri(url)
                 .headers(h -> h.setAll(headers))
                 .retrieve()
-                .bodyToMono(String.class)
-                .map(this::parseFinancialStatementJson)
+                // Streams the response buffers through the parser instead of holding the body as a String
+                .bodyToFlux(DataBuffer.class)
+                .reduceWith(FinancialStatementParser::new, FinancialStatementParser::feed)
+                .map(FinancialStatementParser::finish)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
                 .doOnError(e -> logger.error("Failed to process statement '{}' from API {}: {}", type, url, e.getMessage()))
                 .onErrorReturn(Collections.emptyMap());
     }
-
-    /**
-     * Correctly parses the tabular JSON (Array of Arrays) into a structured Map.
-     * Example: [["Revenue", "100", "110"]] -> {"Revenue": {"ÚLT. 12M": "100", "2024": "110"}}
-     */
-    private Map<String, Object> parseFinancialStatementJson(String jsonString) {
-        try {
-            List<List<Object>> data = objectMapper.readValue(jsonString, new TypeReference<>() {});
-            if (data == null || data.size() < 2) {
-                return Collections.emptyMap();
-            }
-
-            List<Object> header = data.get(0); // ["#", "ÚLT. 12M", "2024", ...]
-            Map<String, Object> result = new LinkedHashMap<>();
-
-            for (int i = 1; i < data.size(); i++) {
-                List<Object> row = data.get(i);
-                String rowLabel = (String) row.get(0);
-                Map<String, Object> values = new LinkedHashMap<>();
-
-                for (int j = 1; j < row.size() && j < header.size(); j++) {
-                    String period = String.valueOf(header.get(j));
-                    Object rawValue = row.get(j);
-
-                    // The value can be a List ["128,83 Bilhões", "128825000000,00"] or a String "23,68%"
-                    if (rawValue instanceof List && !((List<?>) rawValue).isEmpty()) {
-                        values.put(period, ((List<?>) rawValue).get(0));
-                    } else {
-                        values.put(period, rawValue);
-                    }
-                }
-                result.put(rowLabel, values);
-            }
-            return result;
-        } catch (Exception e) {
-            logger.error("Error parsing financial statement JSON: {}", e.getMessage());
-            return Collections.emptyMap();
-        }
-    }
-}
\ No newline at end of file
+}
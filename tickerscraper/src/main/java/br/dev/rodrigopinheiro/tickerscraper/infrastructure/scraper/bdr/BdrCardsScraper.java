@@ -1,12 +1,16 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoCards;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jsoup.nodes.Document; // Removido o import do 'Page' e usado apenas Jsoup
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,14 +20,26 @@ public class BdrCardsScraper {
     private static final Pattern RX_MONEY   = Pattern.compile("(?i)R\\$\\s*([0-9.,]+)");
     private static final Pattern RX_PERCENT = Pattern.compile("([-+]?\\d+[.,]?\\d*)\\s*%");
 
+    /** JSON-LD (FAQ com cotação/variação) e, como fallback, o texto visível da página. */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.texts("ldjson", BdrHeaderScraper.LD_JSON_SELECTOR),
+            FieldSpec.text("bodyText", "body"));
+
     public InfoCards extract(Document doc) {
+        return extract(BdrHeaderScraper.ldJsonScripts(doc), doc.body() == null ? null : doc.body().text());
+    }
+
+    public InfoCards extract(ExtractedPage page) {
+        return extract(page.texts("ldjson"), page.text("bodyText").orElse(null));
+    }
+
+    private InfoCards extract(List<String> scripts, String bodyText) {
         BigDecimal cotacao = null;
         Double variacao12m = null;
 
-        var scripts = doc.select("script[type='application/ld+json']");
-        for (var script : scripts) {
+        for (String script : scripts) {
             try {
-                JsonNode node = json.readTree(script.html());
+                JsonNode node = json.readTree(script);
                 if (node.isObject() && "FAQPage".equalsIgnoreCase(node.path("@type").asText())) {
                     for (JsonNode q : node.withArray("mainEntity")) {
                         String a = q.path("acceptedAnswer").path("text").asText("");
@@ -36,19 +52,16 @@ public class BdrCardsScraper {
             } catch (Exception ignored) {}
         }
 
-        if (cotacao == null)     cotacao     = fromVisiblePrice(doc);
-        if (variacao12m == null) variacao12m = fromVisiblePercent(doc);
+        if (cotacao == null)     cotacao     = fromVisiblePrice(bodyText);
+        if (variacao12m == null) variacao12m = fromVisiblePercent(bodyText);
 
         return new InfoCards(cotacao, variacao12m);
     }
 
 
-    private BigDecimal fromVisiblePrice(Document doc) {
-        if (doc == null) return null;
+    private BigDecimal fromVisiblePrice(String text) {
+        if (text == null) return null;
         try {
-            // Usa o texto do corpo do documento
-            String text = doc.body().text();
-            if (text == null) return null;
 
             BigDecimal best = null;
             Matcher m = RX_MONEY.matcher(text.replace(".", ""));
@@ -66,11 +79,9 @@ public class BdrCardsScraper {
         }
     }
 
-    private Double fromVisiblePercent(Document doc) {
-        if (doc == null) return null;
+    private Double fromVisiblePercent(String text) {
+        if (text == null) return null;
         try {
-            String text = doc.body().text();
-            if (text == null) return null;
 
             Matcher m = RX_PERCENT.matcher(text);
             if (m.find()) {
@@ -1,22 +1,45 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoHeader;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jsoup.nodes.Document; 
+import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class BdrHeaderScraper {
+    static final String LD_JSON_SELECTOR = "script[type='application/ld+json']";
+    static final String TITLE_SELECTOR = "h1, h2";
+    private static final SelectorChain LD_JSON = SelectorChain.of(LD_JSON_SELECTOR);
+    private static final SelectorChain TITLE = SelectorChain.of(TITLE_SELECTOR);
+
+    /** JSON-LD da página e título visível, para extração in-page. */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.texts("ldjson", LD_JSON_SELECTOR),
+            FieldSpec.text("header.titulo", TITLE_SELECTOR));
+
     private final ObjectMapper json = new ObjectMapper();
 
     public InfoHeader extract(Document doc, String ticker) {
-        String nome = fromJsonLdArticle(doc);
+        String titulo = TITLE.first(doc).map(Element::text).orElse(null);
+        return extract(ldJsonScripts(doc), titulo, ticker);
+    }
+
+    public InfoHeader extract(ExtractedPage page, String ticker) {
+        return extract(page.texts("ldjson"), page.text("header.titulo").orElse(null), ticker);
+    }
+
+    private InfoHeader extract(List<String> ldJson, String titulo, String ticker) {
+        String nome = fromJsonLdArticle(ldJson);
         if (nome == null) {
-            try {
-                nome = doc.selectFirst("h1, h2").text();
-            } catch (Exception ignored) {
-            }
+            nome = titulo;
         }
         if (nome != null) {
             nome = nome.replace('\u00A0', ' ').trim();
@@ -25,11 +48,14 @@ public class BdrHeaderScraper {
         return new InfoHeader(ticker, nome);
     }
 
-    private String fromJsonLdArticle(Document doc) {
-        var scripts = doc.select("script[type='application/ld+json']");
-        for (var script : scripts) {
+    static List<String> ldJsonScripts(Document doc) {
+        return LD_JSON.selectAll(doc).stream().map(Element::html).toList();
+    }
+
+    private String fromJsonLdArticle(List<String> scripts) {
+        for (String script : scripts) {
             try {
-                JsonNode node = json.readTree(script.html());
+                JsonNode node = json.readTree(script);
                 if (node.isObject() && "Article".equalsIgnoreCase(node.path("@type").asText())) {
                     String h = text(node, "headline");
                     if (h != null && !h.isBlank()) return h.trim();
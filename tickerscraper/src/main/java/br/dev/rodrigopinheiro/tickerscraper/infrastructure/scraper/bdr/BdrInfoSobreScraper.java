@@ -1,54 +1,53 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoSobre;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+
 @Component
 public class BdrInfoSobreScraper {
 
-    public InfoSobre extract(Document doc) {
-        // CORREÇÃO: Usar os rótulos exatos do HTML da página
-        String marketCap = findValue(doc, "Valor de mercado");
-        String setor = findValue(doc, "Setor");
-        String industria = findValue(doc, "Indústria");
-        String paridade = findValue(doc, "Paridade da BDR");
+    /** Células título/valor da tabela de indicadores da empresa, para extração in-page. */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.pairs("sobre", new String[]{"#table-indicators-company"}, ".cell",
+                    new String[]{".title"}, new String[]{".value, .simple-value"}));
 
+    public InfoSobre extract(ExtractedPage page) {
+        List<Map.Entry<String, String>> cells = page.pairs("sobre").orElse(List.of());
         return new InfoSobre(
-                clean(marketCap), clean(setor), clean(industria), clean(paridade)
+                clean(findValue(cells, "Valor de mercado")),
+                clean(findValue(cells, "Setor")),
+                clean(findValue(cells, "Indústria")),
+                clean(findValue(cells, "Paridade da BDR"))
         );
     }
 
     /**
-     * Lógica de busca robusta com Jsoup.
-     * Itera sobre cada 'cell', verifica o texto do 'title' e, se corresponder,
-     * extrai o texto do 'value' ou 'simple-value'.
+     * Mesmo plano avaliado sobre o Document (seletores pré-compilados): as células são lidas numa
+     * única passada em vez de uma busca por rótulo.
+     */
+    public InfoSobre extract(Document doc) {
+        return extract(ExtractedPage.fromDocument(doc, PLAN));
+    }
+
+    /**
+     * Itera sobre cada 'cell' e, se o texto do 'title' corresponder ao rótulo exato do HTML,
+     * devolve o texto do 'value' ou 'simple-value'.
      */
-    private String findValue(Document doc, String label) {
-        if (doc == null || label == null) return null;
-
-        try {
-            // O contêiner principal das informações
-            Element container = doc.selectFirst("#table-indicators-company");
-            if (container == null) return null;
-
-            for (Element cell : container.select(".cell")) {
-                Element titleEl = cell.selectFirst(".title");
-
-                if (titleEl != null && titleEl.text().trim().equalsIgnoreCase(label)) {
-                    // Tenta encontrar o valor em '.value' ou '.simple-value' dentro da célula
-                    Element valueEl = cell.selectFirst(".value, .simple-value");
-                    if (valueEl != null) {
-                        return valueEl.text().trim();
-                    }
-                }
+    private static String findValue(List<Map.Entry<String, String>> cells, String label) {
+        for (Map.Entry<String, String> cell : cells) {
+            // Célula sem '.value' chega com valor vazio: segue procurando
+            if (cell.getKey().equalsIgnoreCase(label) && !cell.getValue().isEmpty()) {
+                return cell.getValue();
             }
-        } catch (Exception e) {
-            // Logar o erro pode ser útil para depuração futura
-            return null;
         }
-        return null; // Retorna nulo se não encontrar
+        return null;
     }
 
     private String clean(String s) {
@@ -7,12 +7,16 @@ import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingTimeoutExce
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.HttpPageFetcher;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.*;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.XhrCaptureRegistry;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
 import com.microsoft.playwright.*;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,8 +29,7 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import static br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.BdrApiConstants.*;
 
@@ -36,93 +39,106 @@ public class BdrPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Bd
 
     private static final Logger log = LoggerFactory.getLogger(BdrPlaywrightDirectScraperAdapter.class);
 
+    private static final String[] ESSENTIAL_SELECTORS = {"#table-indicators-company"};
+    private static final String[] CARDS_SELECTORS = {"div._card"};
+
+    // Campos da página lidos num único page.evaluate (validação + header + cards + sobre)
+    private static final ExtractionPlan PAGE_PLAN = ExtractionPlan.merge(
+            validationPlan(ESSENTIAL_SELECTORS, CARDS_SELECTORS),
+            BdrHeaderScraper.PLAN, BdrCardsScraper.PLAN, BdrInfoSobreScraper.PLAN);
+
+    // Seções lidas no HTML HTTP-first; todos os JSON-LD são mantidos, então o parse vai até o fim da página
+    private static final PageRegions PAGE_REGIONS = PageRegions.builder()
+            .region(ESSENTIAL_SELECTORS)
+            .region(CARDS_SELECTORS)
+            .region(BdrHeaderScraper.TITLE_SELECTOR)
+            .everyMatch(BdrHeaderScraper.LD_JSON_SELECTOR)
+            .build();
+
     private final PlaywrightInitializer playwrightInitializer;
     private final BdrApiScraper apiScraper;
     private final BdrCardsScraper cardsScraper;
     private final BdrHeaderScraper headerScraper;
     private final BdrInfoSobreScraper sobreScraper;
+    private final HttpPageFetcher httpFetcher;
 
     public BdrPlaywrightDirectScraperAdapter(
             PlaywrightInitializer playwrightInitializer,
             BdrHeaderScraper headerScraper,
             BdrCardsScraper cardsScraper,
             BdrInfoSobreScraper sobreScraper,
-            BdrApiScraper apiScraper) {
+            BdrApiScraper apiScraper,
+            HttpPageFetcher httpFetcher) {
         this.playwrightInitializer = playwrightInitializer;
         this.headerScraper = headerScraper;
         this.cardsScraper = cardsScraper;
         this.sobreScraper = sobreScraper;
         this.apiScraper = apiScraper;
+        this.httpFetcher = httpFetcher;
     }
 
     @Override
     @Retry(name = "bdrScraper")
     @CircuitBreaker(name = "bdrScraper")
     public Mono<BdrDadosFinanceirosDTO> scrape(String ticker) {
-        final String url = buildUrl(ticker);
-        AtomicReference<BrowserContext> ctxRef = new AtomicReference<>();
-        AtomicReference<Page> pageRef = new AtomicReference<>();
+        // HTML server-rendered + URLs das APIs embutidas na página; browser só na escalada
+        return scrapeHttpFirst(httpFetcher, "bdr", ticker,
+                page -> scrapeViaHttp(ticker, page),
+                () -> scrapeWithBrowser(ticker));
+    }
+
+    /**
+     * Caminho HTTP-first: extratores de HTML sobre a página obtida via WebClient e APIs chamadas
+     * com as URLs encontradas no próprio HTML. Escala para o browser se alguma URL faltar.
+     */
+    private Mono<BdrDadosFinanceirosDTO> scrapeViaHttp(String ticker, HttpPageFetcher.FetchedPage page) {
+        Map<String, CapturedRequest> apis = HttpPageFetcher.discoverApiRequests(page, TODAS_AS_CHAVES);
+        if (apis.size() < TODAS_AS_CHAVES.size()) {
+            return escalateToBrowser("URLs das APIs do BDR não presentes no HTML");
+        }
+
+        Document doc = page.document();
+        InfoHeader header = headerScraper.extract(doc, ticker);
+        InfoCards cards = cardsScraper.extract(doc);
+        InfoSobre sobre = sobreScraper.extract(doc);
+        return composeWithApis(header, cards, sobre, key -> Optional.ofNullable(apis.get(key)));
+    }
 
-        return createReactiveStructureForMono(() -> {
+    private Mono<BdrDadosFinanceirosDTO> scrapeWithBrowser(String ticker) {
+        final String url = buildUrl(ticker);
+        // A página volta ao pool ao fim da lambda, antes das chamadas de API
+        return withPooledPage(playwrightInitializer, ticker, url, pooled -> {
             log.info("Iniciando scraping de BDR para: {}", ticker);
-            BrowserContext ctx = createPlaywrightContext(playwrightInitializer.getBrowser());
-            Page page = createPlaywrightPage(ctx);
-            ctxRef.set(ctx);
-            pageRef.set(page);
+            Page page = pooled.page();
 
             try {
-                final Map<String, CapturedRequest> requests = new ConcurrentHashMap<>();
-                page.onRequest(req -> {
-                    String u = req.url();
-                    for (String key : TODAS_AS_CHAVES) {
-                        if (!requests.containsKey(key) && u.contains(key)) {
-                            requests.put(key, new CapturedRequest(u, req.headers()));
-                            log.info("API de BDR capturada ({}): {}", key, u);
-                        }
-                    }
-                });
+                // Guarda também o JSON recebido pelo browser para não baixar as APIs de novo
+                final XhrCaptureRegistry requests = XhrCaptureRegistry.withResponseBodies(TODAS_AS_CHAVES);
+                pooled.onRequest(requests::onRequest);
+                pooled.onResponse(requests::onResponse);
+                pooled.onRequestFailed(requests::onRequestFailed);
 
                 navigateAndValidate(page, url, ticker);
 
-                String html = page.content();
-                Document doc = Jsoup.parse(html);
-                validateEssentialElements(doc, getEssentialSelectors(), getCardsSelectors(), ticker, url);
-
-                InfoHeader header = headerScraper.extract(doc, ticker);
-                InfoCards cards = cardsScraper.extract(doc);
-                InfoSobre sobre = sobreScraper.extract(doc);
-
-                Mono<Map<String, Object>> indicadoresMono = Optional.ofNullable(requests.get(HIST_INDICADORES))
-                        .map(req -> apiScraper.fetchIndicadores(req.url(), req.headers()))
-                        .orElse(Mono.just(Collections.emptyMap()));
-                Mono<Map<String, Object>> dreMono = Optional.ofNullable(requests.get(DRE))
-                        .map(req -> apiScraper.fetchDre(req.url(), req.headers()))
-                        .orElse(Mono.just(Collections.emptyMap()));
-                Mono<Map<String, Object>> bpMono = Optional.ofNullable(requests.get(BALANCO_PATRIMONIAL))
-                        .map(req -> apiScraper.fetchBalancoPatrimonial(req.url(), req.headers()))
-                        .orElse(Mono.just(Collections.emptyMap()));
-                Mono<Map<String, Object>> fcMono = Optional.ofNullable(requests.get(FLUXO_CAIXA))
-                        .map(req -> apiScraper.fetchFluxoCaixa(req.url(), req.headers()))
-                        .orElse(Mono.just(Collections.emptyMap()));
-                Mono<Map<String, Object>> dividendosMono = Optional.ofNullable(requests.get(DIVIDENDOS))
-                        .map(req -> apiScraper.fetchDividendos(req.url(), req.headers()))
-                        .orElse(Mono.just(Collections.emptyMap()));
-
-                return Mono.zip(indicadoresMono, dreMono, bpMono, fcMono, dividendosMono)
-                        .map(tuple -> new BdrDadosFinanceirosDTO(
-                                header, cards, sobre,
-                                tuple.getT1(), // indicadores
-                                new Demonstrativos(tuple.getT2(), tuple.getT3(), tuple.getT4()),
-                                tuple.getT5(), // dividendos
-                                Instant.now()
-                        ));
+                // Segue quando as APIs obrigatórias responderem e a rede ficar ociosa, ou no prazo
+                requests.awaitRequired(page, CHAVES_OBRIGATORIAS, Duration.ofMillis(NETWORK_CAPTURE_TIMEOUT_MS));
+
+                // Campos declarados extraídos no browser (sem page.content() + Jsoup.parse)
+                ExtractedPage fields = extractFields(playwrightInitializer, page, PAGE_PLAN, ticker);
+                validateEssentialElements(fields, ticker, url);
+
+                InfoHeader header = headerScraper.extract(fields, ticker);
+                InfoCards cards = cardsScraper.extract(fields);
+                InfoSobre sobre = sobreScraper.extract(fields);
+
+                return composeWithApis(header, cards, sobre, requests::get);
 
                 // --- TRADUÇÃO DE ERROS TÉCNICOS PARA EXCEÇÕES DE DOMÍNIO ---
             } catch (TimeoutError e) {
                 throw new ScrapingTimeoutException(ticker, url, Duration.ofMillis(DEFAULT_TIMEOUT_MS), "PLAYWRIGHT_OPERATION");
             } catch (PlaywrightException e) {
                 if (e.getMessage().contains("net::ERR_NAME_NOT_RESOLVED") || e.getMessage().contains("404")) {
-                    throw new TickerNotFoundException(ticker, url);
+                    throw TickerNotFoundException.presumido(ticker, url);
                 }
                 throw new AntiBotDetectedException(ticker, url, "Erro inesperado do Playwright: " + e.getMessage(), "Playwright");
             } catch (Exception e) {
@@ -136,17 +152,55 @@ public class BdrPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Bd
             }
             // --- FIM DO BLOCO TRY-CATCH ---
 
-        }, ticker, () -> closePlaywrightResources(pageRef.get(), ctxRef.get()));
+        }).flatMap(apis -> apis);
+    }
+
+    /**
+     * Chama as APIs de indicadores, demonstrativos e dividendos em paralelo e monta o DTO final.
+     *
+     * @param lookup Resolve a request (URL + headers) de cada chave de {@link BdrApiConstants}
+     */
+    private Mono<BdrDadosFinanceirosDTO> composeWithApis(InfoHeader header, InfoCards cards, InfoSobre sobre,
+                                                        Function<String, Optional<CapturedRequest>> lookup) {
+        Mono<Map<String, Object>> indicadoresMono = lookup.apply(HIST_INDICADORES)
+                .map(req -> apiScraper.fetchIndicadores(req))
+                .orElse(Mono.just(Collections.emptyMap()));
+        Mono<Map<String, Object>> dreMono = lookup.apply(DRE)
+                .map(req -> apiScraper.fetchDre(req))
+                .orElse(Mono.just(Collections.emptyMap()));
+        Mono<Map<String, Object>> bpMono = lookup.apply(BALANCO_PATRIMONIAL)
+                .map(req -> apiScraper.fetchBalancoPatrimonial(req))
+                .orElse(Mono.just(Collections.emptyMap()));
+        Mono<Map<String, Object>> fcMono = lookup.apply(FLUXO_CAIXA)
+                .map(req -> apiScraper.fetchFluxoCaixa(req))
+                .orElse(Mono.just(Collections.emptyMap()));
+        Mono<Map<String, Object>> dividendosMono = lookup.apply(DIVIDENDOS)
+                .map(req -> apiScraper.fetchDividendos(req))
+                .orElse(Mono.just(Collections.emptyMap()));
+
+        return Mono.zip(indicadoresMono, dreMono, bpMono, fcMono, dividendosMono)
+                .map(tuple -> new BdrDadosFinanceirosDTO(
+                        header, cards, sobre,
+                        tuple.getT1(), // indicadores
+                        new Demonstrativos(tuple.getT2(), tuple.getT3(), tuple.getT4()),
+                        tuple.getT5(), // dividendos
+                        Instant.now()
+                ));
     }
 
     @Override
     protected String[] getEssentialSelectors() {
-        return new String[]{"#table-indicators-company"};
+        return ESSENTIAL_SELECTORS;
     }
 
     @Override
     protected String[] getCardsSelectors() {
-        return new String[]{"div._card"};
+        return CARDS_SELECTORS;
+    }
+
+    @Override
+    protected PageRegions getPageRegions() {
+        return PAGE_REGIONS;
     }
 
     @Override
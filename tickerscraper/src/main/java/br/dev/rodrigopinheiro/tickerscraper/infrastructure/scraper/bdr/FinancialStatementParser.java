@@ -0,0 +1,239 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token-streaming parser for the tabular statement JSON (array of arrays) into a {@link FinancialStatementTable}.
+ * Example: [["#", "ÚLT. 12M", "2024"], ["Revenue", ["100 Bilhões", "100000000000,00"], "110"]]
+ * -> {"Revenue": {"ÚLT. 12M": "100 Bilhões", "2024": "110"}}
+ *
+ * WebClient buffers are fed to Jackson's non-blocking parser as they arrive and released right away, so the
+ * response is never held as a String nor materialized as List&lt;List&lt;Object&gt;&gt;. Output is the same as the
+ * previous ObjectMapper-based parsing: list values keep their first element, cells beyond the header are dropped,
+ * and malformed input (empty body, a row that is not an array, a non-text row label) is an error.
+ *
+ * One instance per response; not thread-safe.
+ */
+final class FinancialStatementParser {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    // 0 = before the outer array, 1 = between rows, 2 = between cells of a row, > 2 = inside a nested cell value
+    private int depth;
+    private boolean finished;
+    private int rowCount;
+    private int column;
+
+    private final List<String> header = new ArrayList<>();
+    private FinancialStatementTable table;
+    private String label;
+    private final List<Object> rowValues = new ArrayList<>();
+
+    // Nested cell values (lists/objects), built like untyped Jackson deserialization
+    private final ArrayDeque<Object> containers = new ArrayDeque<>();
+    private final ArrayDeque<String> fieldNames = new ArrayDeque<>();
+
+    FinancialStatementParser() {
+        try {
+            this.parser = JSON.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Parses a complete JSON document (e.g. the body captured by the browser).
+     */
+    static Map<String, Object> parse(String json) throws IOException {
+        FinancialStatementParser statement = new FinancialStatementParser();
+        try (JsonParser p = JSON.createParser(json)) {
+            JsonToken token;
+            while (!statement.finished && (token = p.nextToken()) != null) {
+                statement.accept(token, p);
+            }
+        }
+        return statement.result();
+    }
+
+    /**
+     * Consumes one chunk of the response and releases it. Use with {@code Flux.reduceWith}.
+     */
+    FinancialStatementParser feed(DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+            while (chunks.hasNext() && !finished) {
+                feeder.feedInput(chunks.next());
+                drain();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return this;
+    }
+
+    /**
+     * Signals the end of the response and returns the parsed statement.
+     */
+    Map<String, Object> finish() {
+        try (parser) {
+            if (!finished) {
+                feeder.endOfInput();
+                drain();
+            }
+            return result();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!finished && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            accept(token, parser);
+        }
+    }
+
+    private Map<String, Object> result() throws IOException {
+        if (!finished) {
+            throw new IOException("Incomplete financial statement JSON");
+        }
+        return rowCount < 2 ? Collections.emptyMap() : table;
+    }
+
+    private void accept(JsonToken token, JsonParser p) throws IOException {
+        switch (depth) {
+            case 0 -> {
+                expect(token == JsonToken.START_ARRAY, "the statement must be an array of rows");
+                depth = 1;
+            }
+            case 1 -> {
+                if (token == JsonToken.END_ARRAY) {
+                    finished = true;
+                    depth = 0;
+                    return;
+                }
+                expect(token == JsonToken.START_ARRAY, "each statement row must be an array");
+                depth = 2;
+                column = 0;
+            }
+            case 2 -> {
+                if (token == JsonToken.END_ARRAY) {
+                    endRow();
+                    depth = 1;
+                } else if (token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) {
+                    openContainer(token);
+                } else {
+                    onCell(scalar(token, p));
+                }
+            }
+            default -> nested(token, p);
+        }
+    }
+
+    private void nested(JsonToken token, JsonParser p) throws IOException {
+        switch (token) {
+            case START_ARRAY, START_OBJECT -> openContainer(token);
+            case END_ARRAY, END_OBJECT -> {
+                Object value = containers.pop();
+                if (value instanceof Map) {
+                    fieldNames.pop();
+                }
+                depth--;
+                if (containers.isEmpty()) {
+                    onCell(value);
+                } else {
+                    add(value);
+                }
+            }
+            case FIELD_NAME -> {
+                fieldNames.pop();
+                fieldNames.push(p.currentName());
+            }
+            default -> add(scalar(token, p));
+        }
+    }
+
+    private void openContainer(JsonToken token) {
+        if (token == JsonToken.START_OBJECT) {
+            containers.push(new LinkedHashMap<String, Object>());
+            fieldNames.push("");
+        } else {
+            containers.push(new ArrayList<>());
+        }
+        depth++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Object value) {
+        Object container = containers.peek();
+        if (container instanceof List) {
+            ((List<Object>) container).add(value);
+        } else {
+            ((Map<String, Object>) container).put(fieldNames.peek(), value);
+        }
+    }
+
+    private void onCell(Object value) throws IOException {
+        if (rowCount == 0) {
+            header.add(String.valueOf(value)); // ["#", "ÚLT. 12M", "2024", ...]
+        } else if (column == 0) {
+            expect(value == null || value instanceof String, "the row label must be text");
+            label = (String) value;
+        } else if (column < header.size()) {
+            // The value can be a List ["128,83 Bilhões", "128825000000,00"] or a String "23,68%"
+            rowValues.add(value instanceof List<?> list && !list.isEmpty() ? list.get(0) : value);
+        }
+        column++;
+    }
+
+    private void endRow() throws IOException {
+        if (rowCount == 0) {
+            String[] periods = header.size() > 1
+                    ? header.subList(1, header.size()).toArray(String[]::new)
+                    : new String[0];
+            table = new FinancialStatementTable(periods);
+        } else {
+            expect(column > 0, "empty statement row");
+            table.addRow(label, rowValues.toArray());
+            rowValues.clear();
+        }
+        rowCount++;
+    }
+
+    private static Object scalar(JsonToken token, JsonParser p) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> p.getText();
+            case VALUE_NUMBER_INT -> p.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> p.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> throw new IOException("Unexpected token in financial statement: " + token);
+        };
+    }
+
+    private static void expect(boolean condition, String message) throws IOException {
+        if (!condition) {
+            throw new IOException("Invalid financial statement JSON: " + message);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact row × period table for a financial statement (DRE, balance sheet, cash flow).
+ *
+ * The period header is stored once and each row keeps only an array of values by column. The table is
+ * still exposed as the {@code Map<row, Map<period, value>>} shape consumers and the raw JSON already use,
+ * e.g. {"Revenue": {"ÚLT. 12M": "100", "2024": "110"}}. Read-only.
+ */
+final class FinancialStatementTable extends AbstractMap<String, Object> {
+
+    private final String[] periods;
+    // true when the column's period does not appear in an earlier column (the first occurrence keeps the position)
+    private final boolean[] firstOccurrence;
+    private final Map<String, Row> rows = new LinkedHashMap<>();
+
+    FinancialStatementTable(String[] periods) {
+        this.periods = periods;
+        this.firstOccurrence = new boolean[periods.length];
+        for (int j = 0; j < periods.length; j++) {
+            firstOccurrence[j] = true;
+            for (int i = 0; i < j; i++) {
+                if (periods[i].equals(periods[j])) {
+                    firstOccurrence[j] = false;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds (or replaces, keeping its position) a row.
+     *
+     * @param values value of each period column, in header order; may be shorter than the header
+     */
+    void addRow(String label, Object[] values) {
+        rows.put(label, new Row(values));
+    }
+
+    @Override
+    public Object get(Object key) {
+        return rows.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return rows.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Set<Entry<String, Object>> entrySet() {
+        return Collections.unmodifiableSet((Set) rows.entrySet());
+    }
+
+    /**
+     * A row as a {@code Map<period, value>} view over its values array.
+     */
+    private final class Row extends AbstractMap<String, Object> {
+
+        private final Object[] values;
+
+        private Row(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object get(Object period) {
+            int column = lastColumnOf(period);
+            return column < 0 ? null : values[column];
+        }
+
+        @Override
+        public boolean containsKey(Object period) {
+            return lastColumnOf(period) >= 0;
+        }
+
+        // A repeated period keeps the value of its last column, like successive Map.put calls
+        private int lastColumnOf(Object period) {
+            for (int j = values.length - 1; j >= 0; j--) {
+                if (periods[j].equals(period)) {
+                    return j;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < values.length && !firstOccurrence[from]) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            String period = periods[next];
+                            next = advance(next + 1);
+                            return new SimpleImmutableEntry<>(period, Row.this.get(period));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (int j = 0; j < values.length; j++) {
+                        if (firstOccurrence[j]) size++;
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParser;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.Demonstrativos;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice dos valores numéricos de um {@link BdrDadosFinanceirosDTO}, montado numa única passada
+ * antes do mapeamento: cada indicador aponta para o seu valor "Atual" e cada linha dos
+ * demonstrativos (DRE, BP, FC) para o valor "ÚLT. 12M", já convertidos para BigDecimal.
+ *
+ * Substitui a busca por stream nas listas da API a cada campo mapeado; ausências continuam
+ * resultando em {@code null}, como nos helpers anteriores.
+ */
+public final class BdrIndicadoresIndex {
+
+    private static final String ANO_ATUAL = "Atual";
+    private static final String PERIODO_12M = "ÚLT. 12M";
+
+    private final Map<String, BigDecimal> indicadores;
+    private final Map<String, BigDecimal> dre;
+    private final Map<String, BigDecimal> bp;
+    private final Map<String, BigDecimal> fc;
+
+    private BdrIndicadoresIndex(Map<String, BigDecimal> indicadores, Map<String, BigDecimal> dre,
+                                Map<String, BigDecimal> bp, Map<String, BigDecimal> fc) {
+        this.indicadores = indicadores;
+        this.dre = dre;
+        this.bp = bp;
+        this.fc = fc;
+    }
+
+    public static BdrIndicadoresIndex of(BdrDadosFinanceirosDTO dto) {
+        if (dto == null) {
+            return new BdrIndicadoresIndex(Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        Demonstrativos demonstrativos = dto.demonstrativos();
+        return new BdrIndicadoresIndex(
+                indexarIndicadores(dto.indicadores()),
+                indexarDemonstrativo(demonstrativos != null ? demonstrativos.dre() : null),
+                indexarDemonstrativo(demonstrativos != null ? demonstrativos.bp() : null),
+                indexarDemonstrativo(demonstrativos != null ? demonstrativos.fc() : null));
+    }
+
+    /**
+     * Valor "Atual" do indicador (P/L, ROE, DY...), ou null se ausente.
+     */
+    public BigDecimal indicador(String chave) {
+        return indicadores.get(chave);
+    }
+
+    public BigDecimal dre(String linha) {
+        return dre.get(linha);
+    }
+
+    public BigDecimal bp(String linha) {
+        return bp.get(linha);
+    }
+
+    public BigDecimal fc(String linha) {
+        return fc.get(linha);
+    }
+
+    private static Map<String, BigDecimal> indexarIndicadores(Map<String, Object> indicators) {
+        if (indicators == null || indicators.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, BigDecimal> index = new HashMap<>(indicators.size() * 2);
+        for (Map.Entry<String, Object> entry : indicators.entrySet()) {
+            if (!(entry.getValue() instanceof List<?> values)) {
+                continue;
+            }
+            for (Object item : values) {
+                if (item instanceof Map<?, ?> map && ANO_ATUAL.equalsIgnoreCase(String.valueOf(map.get("year")))) {
+                    index.put(entry.getKey(), IndicadorParser.parseBigdecimal(String.valueOf(map.get("value"))));
+                    break;
+                }
+            }
+        }
+        return index;
+    }
+
+    private static Map<String, BigDecimal> indexarDemonstrativo(Map<String, Object> statementData) {
+        if (statementData == null || statementData.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, BigDecimal> index = new HashMap<>(statementData.size() * 2);
+        for (Map.Entry<String, Object> entry : statementData.entrySet()) {
+            if (entry.getValue() instanceof Map<?, ?> valuesByPeriod && valuesByPeriod.containsKey(PERIODO_12M)) {
+                index.put(entry.getKey(), IndicadorParser.parseBigdecimal(String.valueOf(valuesByPeriod.get(PERIODO_12M))));
+            }
+        }
+        return index;
+    }
+}
@@ -6,6 +6,7 @@ import br.dev.rodrigopinheiro.tickerscraper.domain.model.enums.TipoDividendo;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParser;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDadosFinanceirosDTO;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -35,40 +36,40 @@ public interface BdrScraperMapper {
             @Mapping(target = "paridadeRatio", expression = "java(extractParityRatio(dto.infoSobre().paridadeText()))"),
 
             // === Mapeamentos de API (Indicadores, Demonstrativos, Dividendos) ===
-            // Indicadores (extraindo o valor 'Atual')
-            @Mapping(target = "pl", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"P/L\"))"),
-            @Mapping(target = "pvp", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"P/VP\"))"),
-            @Mapping(target = "psr", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"P/RECEITA (PSR)\"))"),
-            @Mapping(target = "PEbit", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"P/EBIT\"))"),
-            @Mapping(target = "PEbitda", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"P/EBITDA\"))"),
-            @Mapping(target = "PAtivo", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"P/ATIVO\"))"),
-            @Mapping(target = "roe", expression = "java(getIndicatorValueAsPercent(dto.indicadores(), \"ROE\"))"),
-            @Mapping(target = "roic", expression = "java(getIndicatorValueAsPercent(dto.indicadores(), \"ROIC\"))"),
-            @Mapping(target = "roa", expression = "java(getIndicatorValueAsPercent(dto.indicadores(), \"ROA\"))"),
-            @Mapping(target = "margemBruta", expression = "java(getIndicatorValueAsPercent(dto.indicadores(), \"MARGEM BRUTA\"))"),
-            @Mapping(target = "margemOperacional", expression = "java(getIndicatorValueAsPercent(dto.indicadores(), \"MARGEM OPERACIONAL\"))"),
-            @Mapping(target = "margemLiquida", expression = "java(getIndicatorValueAsPercent(dto.indicadores(), \"MARGEM LÍQUIDA\"))"),
-            @Mapping(target = "vpa", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"VPA\"))"),
-            @Mapping(target = "lpa", expression = "java(getIndicatorValueAsDecimal(dto.indicadores(), \"LPA\"))"),
-            @Mapping(target = "dividendYield", expression = "java(getIndicatorValueAsPercent(dto.indicadores(), \"DIVIDEND YIELD (DY)\"))"),
+            // Indicadores (valor 'Atual', pré-indexado em BdrIndicadoresIndex)
+            @Mapping(target = "pl", expression = "java(indice.indicador(\"P/L\"))"),
+            @Mapping(target = "pvp", expression = "java(indice.indicador(\"P/VP\"))"),
+            @Mapping(target = "psr", expression = "java(indice.indicador(\"P/RECEITA (PSR)\"))"),
+            @Mapping(target = "PEbit", expression = "java(indice.indicador(\"P/EBIT\"))"),
+            @Mapping(target = "PEbitda", expression = "java(indice.indicador(\"P/EBITDA\"))"),
+            @Mapping(target = "PAtivo", expression = "java(indice.indicador(\"P/ATIVO\"))"),
+            @Mapping(target = "roe", expression = "java(indice.indicador(\"ROE\"))"),
+            @Mapping(target = "roic", expression = "java(indice.indicador(\"ROIC\"))"),
+            @Mapping(target = "roa", expression = "java(indice.indicador(\"ROA\"))"),
+            @Mapping(target = "margemBruta", expression = "java(indice.indicador(\"MARGEM BRUTA\"))"),
+            @Mapping(target = "margemOperacional", expression = "java(indice.indicador(\"MARGEM OPERACIONAL\"))"),
+            @Mapping(target = "margemLiquida", expression = "java(indice.indicador(\"MARGEM LÍQUIDA\"))"),
+            @Mapping(target = "vpa", expression = "java(indice.indicador(\"VPA\"))"),
+            @Mapping(target = "lpa", expression = "java(indice.indicador(\"LPA\"))"),
+            @Mapping(target = "dividendYield", expression = "java(indice.indicador(\"DIVIDEND YIELD (DY)\"))"),
 
             // DRE (extraindo o valor de 'ÚLT. 12M')
-            @Mapping(target = "receitaTotalUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().dre(), \"Receita Total - (US$)\"))"),
-            @Mapping(target = "lucroBrutoUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().dre(), \"Lucro Bruto - (US$)\"))"),
-            @Mapping(target = "ebitdaUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().dre(), \"EBITDA\"))"),
-            @Mapping(target = "ebitUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().dre(), \"EBIT\"))"),
-            @Mapping(target = "lucroLiquidoUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().dre(), \"Lucro Líquido - (US$)\"))"),
+            @Mapping(target = "receitaTotalUsd", expression = "java(indice.dre(\"Receita Total - (US$)\"))"),
+            @Mapping(target = "lucroBrutoUsd", expression = "java(indice.dre(\"Lucro Bruto - (US$)\"))"),
+            @Mapping(target = "ebitdaUsd", expression = "java(indice.dre(\"EBITDA\"))"),
+            @Mapping(target = "ebitUsd", expression = "java(indice.dre(\"EBIT\"))"),
+            @Mapping(target = "lucroLiquidoUsd", expression = "java(indice.dre(\"Lucro Líquido - (US$)\"))"),
 
             // Balanço Patrimonial
-            @Mapping(target = "ativosTotaisUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().bp(), \"Ativos Total - ($)\"))"),
-            @Mapping(target = "passivosTotaisUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().bp(), \"Passivos Total - (US$)\"))"),
-            @Mapping(target = "dividaLpUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().bp(), \"Dívida a Longo Prazo - ($)\"))"),
-            @Mapping(target = "plUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().bp(), \"Patrimônio Líquido - ($)\"))"),
+            @Mapping(target = "ativosTotaisUsd", expression = "java(indice.bp(\"Ativos Total - ($)\"))"),
+            @Mapping(target = "passivosTotaisUsd", expression = "java(indice.bp(\"Passivos Total - (US$)\"))"),
+            @Mapping(target = "dividaLpUsd", expression = "java(indice.bp(\"Dívida a Longo Prazo - ($)\"))"),
+            @Mapping(target = "plUsd", expression = "java(indice.bp(\"Patrimônio Líquido - ($)\"))"),
 
             // Fluxo de Caixa
-            @Mapping(target = "fcoUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().fc(), \"Fluxo de Caixa Operacional - ($)\"))"),
-            @Mapping(target = "fciUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().fc(), \"Caixa Líquido usado para atividades de investimento - ($)\"))"),
-            @Mapping(target = "fcfUsd", expression = "java(getFinancialStatementValue(dto.demonstrativos().fc(), \"Fluxo de Caixa Livre - ($)\"))"),
+            @Mapping(target = "fcoUsd", expression = "java(indice.fc(\"Fluxo de Caixa Operacional - ($)\"))"),
+            @Mapping(target = "fciUsd", expression = "java(indice.fc(\"Caixa Líquido usado para atividades de investimento - ($)\"))"),
+            @Mapping(target = "fcfUsd", expression = "java(indice.fc(\"Fluxo de Caixa Livre - ($)\"))"),
 
             // Campos constantes e ignorados
             @Mapping(target = "tipoAtivo", constant = "BDR"),
@@ -82,7 +83,12 @@ public interface BdrScraperMapper {
             @Mapping(target = "fcYear", ignore = true),
             @Mapping(target = "dividendos", ignore = true)  // Ignorar dividendos no mapeamento principal
     })
-    Bdr toDomain(BdrDadosFinanceirosDTO dto);
+    Bdr toDomain(BdrDadosFinanceirosDTO dto, @Context BdrIndicadoresIndex indice);
+
+    // Indexa indicadores e demonstrativos uma única vez por DTO antes de mapear
+    default Bdr toDomain(BdrDadosFinanceirosDTO dto) {
+        return toDomain(dto, BdrIndicadoresIndex.of(dto));
+    }
 
     @AfterMapping
     default void configureDividendos(@MappingTarget Bdr bdr, BdrDadosFinanceirosDTO dto) {
@@ -126,45 +132,6 @@ public interface BdrScraperMapper {
     // MÉTODOS HELPER
     // =========================================================
 
-    // Método para valores decimais (P/L, P/VP, VPA, LPA, etc.)
-    default BigDecimal getIndicatorValueAsDecimal(Map<String, Object> indicators, String key) {
-        if (indicators == null || !indicators.containsKey(key) || !(indicators.get(key) instanceof List)) {
-            return null;
-        }
-        
-        List<?> values = (List<?>) indicators.get(key);
-        return values.stream()
-                .filter(item -> item instanceof Map)
-                .map(item -> (Map<?, ?>) item)
-                .filter(map -> "Atual".equalsIgnoreCase(String.valueOf(map.get("year"))))
-                .findFirst()
-                .map(map -> {
-                    String value = String.valueOf(map.get("value"));
-                    return IndicadorParser.parseBigdecimal(value);
-                })
-                .orElse(null);
-    }
-
-    // Método para valores percentuais (ROE, ROA, ROIC, margens, DY)
-    default BigDecimal getIndicatorValueAsPercent(Map<String, Object> indicators, String key) {
-        if (indicators == null || !indicators.containsKey(key) || !(indicators.get(key) instanceof List)) {
-            return null;
-        }
-        List<?> values = (List<?>) indicators.get(key);
-        return values.stream()
-                .filter(item -> item instanceof Map)
-                .map(item -> (Map<?, ?>) item)
-                .filter(map -> "Atual".equalsIgnoreCase(String.valueOf(map.get("year"))))
-                .findFirst()
-                .map(map -> {
-                    String value = String.valueOf(map.get("value"));
-                    // Para percentuais, o valor já vem como decimal (ex: "91.87" para 91.87%)
-                    // Não precisamos multiplicar por 100
-                    return IndicadorParser.parseBigdecimal(value);
-                })
-                .orElse(null);
-    }
-
     // Método para obter preço atual (cotação)
     default BigDecimal getPrecoAtual(BdrDadosFinanceirosDTO dto) {
         if (dto == null || dto.infoCards() == null) {
@@ -190,19 +157,6 @@ public interface BdrScraperMapper {
         return dto.infoSobre().industria();
     }
 
-    default BigDecimal getFinancialStatementValue(Map<String, Object> statementData, String rowLabel) {
-        final String period = "ÚLT. 12M";
-        if (statementData == null || !statementData.containsKey(rowLabel) || !(statementData.get(rowLabel) instanceof Map)) {
-            return null;
-        }
-        Map<?, ?> valuesByPeriod = (Map<?, ?>) statementData.get(rowLabel);
-        if (valuesByPeriod == null || !valuesByPeriod.containsKey(period)) {
-            return null;
-        }
-        String rawValue = String.valueOf(valuesByPeriod.get(period));
-        return IndicadorParser.parseBigdecimal(rawValue);
-    }
-
     @SuppressWarnings("unchecked")
     default List<Dividendo> mapDividendos(Map<String, Object> dividendosData) {
         if (dividendosData == null || !dividendosData.containsKey("content")) {
@@ -2,7 +2,12 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common;
 
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ElementNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.dto.HeaderInfoDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.ScraperValidator;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorPlan;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.slf4j.Logger;
@@ -43,14 +48,21 @@ import java.util.function.BiFunction;
 public class GenericHeaderScraper {
     private static final Logger logger = LoggerFactory.getLogger(GenericHeaderScraper.class);
     
+    private static final String TICKER_SELECTOR = "ticker";
+    private static final String NOME_SELECTOR = "nome";
+
     /**
      * Configuração de seletores para diferentes tipos de ativos.
+     * Os seletores são compilados na construção: o container e, dentro dele, ticker + nome numa
+     * única travessia ({@link SelectorPlan}).
      */
     public static class SelectorConfig {
         private final String[] containerSelectors;
         private final String[] tickerSelectors;
         private final String[] nameSelectors;
         private final String assetType;
+        private final SelectorChain container;
+        private final SelectorPlan headerFields;
         
         public SelectorConfig(String assetType, String[] containerSelectors, 
                             String[] tickerSelectors, String[] nameSelectors) {
@@ -58,12 +70,19 @@ public class GenericHeaderScraper {
             this.containerSelectors = containerSelectors;
             this.tickerSelectors = tickerSelectors;
             this.nameSelectors = nameSelectors;
+            this.container = SelectorChain.of(containerSelectors);
+            this.headerFields = SelectorPlan.builder()
+                    .add(TICKER_SELECTOR, SelectorChain.of(tickerSelectors))
+                    .add(NOME_SELECTOR, SelectorChain.of(nameSelectors))
+                    .build();
         }
         
         public String[] getContainerSelectors() { return containerSelectors; }
         public String[] getTickerSelectors() { return tickerSelectors; }
         public String[] getNameSelectors() { return nameSelectors; }
         public String getAssetType() { return assetType; }
+        public SelectorChain getContainer() { return container; }
+        public SelectorPlan getHeaderFields() { return headerFields; }
     }
     
     // Configurações pré-definidas para diferentes tipos de ativos
@@ -81,6 +100,39 @@ public class GenericHeaderScraper {
         new String[]{"h2.name-company", "span.fii-name", ".fii-title"}
     );
     
+    private static final String CONTAINER_FIELD = "header.container";
+    private static final String TICKER_FIELD = "header.ticker";
+    private static final String NOME_FIELD = "header.nome";
+
+    /**
+     * Campos do cabeçalho para extração in-page, com os mesmos seletores e fallbacks da configuração.
+     */
+    public static ExtractionPlan plan(SelectorConfig config) {
+        return ExtractionPlan.of(
+                FieldSpec.exists(CONTAINER_FIELD, config.getContainerSelectors()),
+                FieldSpec.text(TICKER_FIELD, config.getContainerSelectors(), config.getTickerSelectors()),
+                FieldSpec.text(NOME_FIELD, config.getContainerSelectors(), config.getNameSelectors()));
+    }
+
+    /**
+     * Versão de {@link #scrapeHeaderInfo(Document, SelectorConfig, BiFunction)} sobre campos
+     * extraídos com {@link #plan(SelectorConfig)}.
+     *
+     * @throws ElementNotFoundException se o container do cabeçalho não foi encontrado
+     */
+    public <T extends HeaderInfoDTO> T scrapeHeaderInfo(ExtractedPage page,
+                                                        SelectorConfig config,
+                                                        BiFunction<String, String, T> dtoFactory) {
+        if (!page.exists(CONTAINER_FIELD)) {
+            logger.error("Container do cabeçalho não encontrado para tipo: {}", config.getAssetType());
+            throw ElementNotFoundException.forSelectors(config.getContainerSelectors());
+        }
+        String ticker = page.text(TICKER_FIELD).orElse("N/A");
+        String nome = page.text(NOME_FIELD).orElse("N/A");
+        logger.debug("Informações extraídas para {}: ticker={}, nome={}", config.getAssetType(), ticker, nome);
+        return dtoFactory.apply(ticker, nome);
+    }
+
     /**
      * method genérico para extração de informações de cabeçalho.
      * 
@@ -102,19 +154,19 @@ public class GenericHeaderScraper {
         logger.debug("Iniciando extração de informações do cabeçalho para tipo: {}", config.getAssetType());
         
         // Busca o container com fallbacks
-        Element container = ScraperValidator.findElementWithFallbacks(doc, config.getContainerSelectors())
+        Element container = ScraperValidator.findElementWithFallbacks(doc, config.getContainer())
                 .orElseThrow(() -> {
                     logger.error("Container do cabeçalho não encontrado para tipo: {}", config.getAssetType());
                     return ElementNotFoundException.forSelectors(config.getContainerSelectors());
                 });
         
-        // Extrai o ticker com fallbacks
-        String ticker = ScraperValidator.findElementWithFallbacks(container, config.getTickerSelectors())
+        // Ticker e nome com fallbacks, resolvidos numa única travessia do container
+        SelectorPlan.Resolved fields = config.getHeaderFields().resolve(container);
+        String ticker = fields.get(TICKER_SELECTOR)
                 .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                 .orElse("N/A");
         
-        // Extrai o nome da empresa/fundo com fallbacks
-        String nome = ScraperValidator.findElementWithFallbacks(container, config.getNameSelectors())
+        String nome = fields.get(NOME_SELECTOR)
                 .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                 .orElse("N/A");
         
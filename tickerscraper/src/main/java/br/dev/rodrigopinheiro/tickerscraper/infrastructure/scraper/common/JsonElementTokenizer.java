@@ -0,0 +1,231 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Decodifica respostas JSON grandes elemento a elemento, direto dos DataBuffers do WebClient.
+ *
+ * Os buffers alimentam o parser não bloqueante do Jackson assim que chegam e são liberados em seguida;
+ * só os tokens do elemento corrente ficam em memória (num {@link TokenBuffer}), então o pico de memória
+ * por resposta acompanha o tamanho de um elemento e não o do payload inteiro — dispensando o
+ * {@code maxInMemorySize} alto que a agregação do corpo exigia.
+ *
+ * Formatos suportados:
+ * <ul>
+ *   <li>{@link #elementos}: array na raiz, ex. {@code [{...}, {...}]}</li>
+ *   <li>{@link #elementosAgrupados}: objeto de arrays, ex. {@code {"P/VP": [{...}], "DY": [{...}]}},
+ *       emitindo cada item junto com o nome do seu grupo, precedido de um marcador de início do grupo
+ *       (assim grupos vazios ou {@code null} também aparecem)</li>
+ * </ul>
+ *
+ * Corpo vazio não emite nada; JSON malformado ou fora do formato termina o Flux com
+ * {@link DecodingException}, como o decoder padrão do WebClient.
+ */
+public final class JsonElementTokenizer {
+
+    private final ObjectMapper mapper;
+    private final Class<?> tipo;
+    private final boolean agrupado;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    // 0 = antes da raiz, 1 = dentro da raiz, 2 = dentro do array de um grupo
+    private int nivel;
+    private boolean concluido;
+    private String grupo;
+
+    // Elemento sendo copiado e sua profundidade de aninhamento
+    private TokenBuffer elemento;
+    private int profundidadeElemento;
+
+    private final List<Object> prontos = new ArrayList<>();
+
+    private JsonElementTokenizer(ObjectMapper mapper, Class<?> tipo, boolean agrupado) {
+        this.mapper = mapper;
+        this.tipo = tipo;
+        this.agrupado = agrupado;
+        try {
+            this.parser = mapper.getFactory().createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new DecodingException("Falha ao criar parser JSON não bloqueante", e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Emite cada elemento de um array JSON na raiz, desserializado como {@code tipo}.
+     * Elementos {@code null} são ignorados.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Flux<T> elementos(Flux<DataBuffer> corpo, ObjectMapper mapper, Class<T> tipo) {
+        return (Flux<T>) tokenize(corpo, () -> new JsonElementTokenizer(mapper, tipo, false));
+    }
+
+    /**
+     * Emite, para cada grupo de um objeto JSON na raiz, um marcador de início ({@link ItemAgrupado#inicio()})
+     * seguido dos itens do seu array. Itens {@code null} são ignorados.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Flux<ItemAgrupado<T>> elementosAgrupados(Flux<DataBuffer> corpo, ObjectMapper mapper, Class<T> tipo) {
+        return (Flux<ItemAgrupado<T>>) tokenize(corpo, () -> new JsonElementTokenizer(mapper, tipo, true));
+    }
+
+    private static Flux<?> tokenize(Flux<DataBuffer> corpo, Supplier<JsonElementTokenizer> factory) {
+        return Flux.defer(() -> {
+                    JsonElementTokenizer tokenizer = factory.get();
+                    return corpo.concatMapIterable(tokenizer::feed)
+                            .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())))
+                            // Erro ou cancelamento antes do fim do corpo não passam pelo endOfInput
+                            .doFinally(sinal -> tokenizer.fechar());
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Elemento de {@link #elementosAgrupados}: um item do grupo ou, com {@code item == null}, o início do grupo.
+     *
+     * @param nulo No marcador de início, se o grupo é {@code null} em vez de um array
+     */
+    public record ItemAgrupado<T>(String grupo, T item, boolean nulo) {
+
+        public boolean inicio() {
+            return item == null;
+        }
+    }
+
+    private List<Object> feed(DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+            while (chunks.hasNext() && !concluido) {
+                feeder.feedInput(chunks.next());
+                drain();
+            }
+        } catch (IOException e) {
+            throw new DecodingException("JSON inválido: " + e.getMessage(), e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        return emitir();
+    }
+
+    private List<Object> endOfInput() {
+        try (parser) {
+            if (!concluido) {
+                feeder.endOfInput();
+                drain();
+            }
+        } catch (IOException e) {
+            throw new DecodingException("JSON inválido: " + e.getMessage(), e);
+        }
+        return emitir();
+    }
+
+    private void fechar() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // Nada a liberar além do próprio parser
+        }
+    }
+
+    private List<Object> emitir() {
+        if (prontos.isEmpty()) {
+            return List.of();
+        }
+        List<Object> lote = new ArrayList<>(prontos);
+        prontos.clear();
+        return lote;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!concluido && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            onToken(token);
+        }
+    }
+
+    private void onToken(JsonToken token) throws IOException {
+        if (elemento != null) {
+            copiar(token);
+            return;
+        }
+        switch (nivel) {
+            case 0 -> {
+                JsonToken raiz = agrupado ? JsonToken.START_OBJECT : JsonToken.START_ARRAY;
+                if (token != raiz) {
+                    throw new DecodingException("JSON fora do formato: esperado " + raiz + " na raiz, recebido " + token);
+                }
+                nivel = 1;
+            }
+            case 1 -> {
+                if (token.isStructEnd()) {
+                    concluido = true;
+                } else if (!agrupado) {
+                    iniciarElemento(token);
+                } else if (token == JsonToken.FIELD_NAME) {
+                    grupo = parser.currentName();
+                } else if (token == JsonToken.START_ARRAY) {
+                    nivel = 2;
+                    prontos.add(new ItemAgrupado<>(grupo, null, false));
+                } else if (token == JsonToken.VALUE_NULL) {
+                    prontos.add(new ItemAgrupado<>(grupo, null, true));
+                } else {
+                    throw new DecodingException("JSON fora do formato: grupo '" + grupo + "' não é um array");
+                }
+            }
+            default -> {
+                if (token == JsonToken.END_ARRAY) {
+                    nivel = 1;
+                } else {
+                    iniciarElemento(token);
+                }
+            }
+        }
+    }
+
+    private void iniciarElemento(JsonToken token) throws IOException {
+        elemento = new TokenBuffer(parser, null);
+        elemento.forceUseOfBigDecimal(mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        profundidadeElemento = 0;
+        copiar(token);
+    }
+
+    private void copiar(JsonToken token) throws IOException {
+        elemento.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            profundidadeElemento++;
+        } else if (token.isStructEnd()) {
+            profundidadeElemento--;
+        }
+        if (profundidadeElemento == 0) {
+            concluirElemento();
+        }
+    }
+
+    private void concluirElemento() throws IOException {
+        Object valor;
+        try (JsonParser tokens = elemento.asParser(mapper)) {
+            valor = mapper.readValue(tokens, tipo);
+        } catch (IOException e) {
+            throw new DecodingException("Elemento JSON inválido para " + tipo.getSimpleName() + ": " + e.getMessage(), e);
+        } finally {
+            elemento = null;
+        }
+        if (valor != null) {
+            prontos.add(agrupado ? new ItemAgrupado<>(grupo, valor, false) : valor);
+        }
+    }
+}
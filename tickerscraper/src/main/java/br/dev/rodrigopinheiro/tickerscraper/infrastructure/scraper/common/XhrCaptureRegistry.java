@@ -0,0 +1,244 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro de captura de XHR orientado a eventos.
+ *
+ * Cada chave (substring de URL) tem um {@link CompletableFuture} completado pelo listener
+ * {@code onRequest} no instante em que a primeira request correspondente aparece.
+ * A espera usa {@link Page#waitForCondition}, que processa os eventos do Playwright na própria
+ * thread do scrape e retorna assim que todas as chaves chegam ou o prazo expira — sem polling
+ * com sleep e sem ocupar threads do ForkJoin common pool.
+ *
+ * Criado via {@link #withResponseBodies(Collection)}, também guarda o corpo das responses
+ * baixadas pelo browser e só considera a captura concluída quando cada chave respondeu,
+ * para que os scrapers de API desserializem o JSON já recebido em vez de refazer a chamada.
+ * Requests que falham no browser (abortadas, erro de rede) são registradas via {@link #onRequestFailed(Request)}
+ * sem corpo, para que a espera não vá até o prazo e o scraper caia direto no WebClient.
+ * Páginas que nem sempre disparam todas as APIs usam {@link #awaitRequired(Page, Collection, Duration)}:
+ * só as chaves obrigatórias seguram a espera, e as opcionais valem até a rede ficar ociosa.
+ */
+public final class XhrCaptureRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(XhrCaptureRegistry.class);
+
+    private final Map<String, CompletableFuture<CapturedRequest>> captures = new LinkedHashMap<>();
+    // Corpo da response por chave; completado com null se a response não for utilizável
+    private final Map<String, CompletableFuture<String>> bodies = new LinkedHashMap<>();
+
+    public XhrCaptureRegistry(Collection<String> keys) {
+        this(keys, false);
+    }
+
+    private XhrCaptureRegistry(Collection<String> keys, boolean captureBodies) {
+        for (String key : keys) {
+            captures.put(key, new CompletableFuture<>());
+            if (captureBodies) {
+                bodies.put(key, new CompletableFuture<>());
+            }
+        }
+    }
+
+    /**
+     * Registro que também captura o corpo das responses (usar com {@code page.onResponse}).
+     */
+    public static XhrCaptureRegistry withResponseBodies(Collection<String> keys) {
+        return new XhrCaptureRegistry(keys, true);
+    }
+
+    /**
+     * Listener para {@code page.onRequest}: completa o future da chave correspondente.
+     *
+     * @param request Request observada pelo browser
+     */
+    public void onRequest(Request request) {
+        String url = request.url();
+        for (Map.Entry<String, CompletableFuture<CapturedRequest>> entry : captures.entrySet()) {
+            CompletableFuture<CapturedRequest> future = entry.getValue();
+            if (!future.isDone() && url.contains(entry.getKey())
+                    && future.complete(new CapturedRequest(url, request.headers()))) {
+                logger.info("API capturada ({}): {}", entry.getKey(), url);
+            }
+        }
+    }
+
+    /**
+     * Listener para {@code page.onResponse}: guarda o corpo da primeira response 2xx de cada chave.
+     *
+     * @param response Response recebida pelo browser
+     */
+    public void onResponse(Response response) {
+        if (bodies.isEmpty()) {
+            return;
+        }
+        String url = response.url();
+        for (Map.Entry<String, CompletableFuture<String>> entry : bodies.entrySet()) {
+            CompletableFuture<String> future = entry.getValue();
+            if (future.isDone() || !url.contains(entry.getKey())) {
+                continue;
+            }
+            onRequest(response.request());
+            String body = null;
+            if (response.ok()) {
+                try {
+                    body = response.text();
+                } catch (RuntimeException e) {
+                    // Corpo descartado pelo browser (navegação/redirect): cai no WebClient
+                    logger.debug("Corpo indisponível para {}: {}", url, e.getMessage());
+                }
+            }
+            if (future.complete(body) && body != null) {
+                logger.info("Response reaproveitada ({}): {} bytes", entry.getKey(), body.length());
+            }
+        }
+    }
+
+    /**
+     * Listener para {@code page.onRequestFailed}: a chave conta como capturada, sem corpo.
+     *
+     * @param request Request que falhou no browser
+     */
+    public void onRequestFailed(Request request) {
+        String url = request.url();
+        onRequest(request);
+        for (Map.Entry<String, CompletableFuture<String>> entry : bodies.entrySet()) {
+            if (url.contains(entry.getKey()) && entry.getValue().complete(null)) {
+                logger.debug("Request falhou no browser ({}): {} - {}", entry.getKey(), url, request.failure());
+            }
+        }
+    }
+
+    /**
+     * Aguarda todas as chaves ou o prazo, processando eventos da página enquanto espera.
+     *
+     * @param page Página que emite as requests
+     * @param timeout Prazo máximo de espera
+     * @return true se todas as chaves foram capturadas
+     */
+    public boolean awaitAll(Page page, Duration timeout) {
+        if (isSettled()) {
+            return allCaptured();
+        }
+        try {
+            page.waitForCondition(this::isSettled,
+                    new Page.WaitForConditionOptions().setTimeout(timeout.toMillis()));
+        } catch (TimeoutError e) {
+            logger.warn("Timeout na captura de APIs após {}ms. Faltando: {}", timeout.toMillis(), pendingKeys());
+        }
+        return allCaptured();
+    }
+
+    /**
+     * Aguarda as chaves obrigatórias; com elas resolvidas, espera as opcionais só até a rede ficar
+     * ociosa, sem ir até o prazo quando a página não dispara todas as APIs.
+     *
+     * @param page Página que emite as requests
+     * @param required Chaves obrigatórias, subconjunto das chaves do registro
+     * @param timeout Prazo máximo de espera, para obrigatórias e opcionais juntas
+     * @return true se todas as chaves foram capturadas
+     */
+    public boolean awaitRequired(Page page, Collection<String> required, Duration timeout) {
+        if (!captures.keySet().containsAll(required)) {
+            throw new IllegalArgumentException("Chaves obrigatórias fora do registro: " + required);
+        }
+        if (isSettled()) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            page.waitForCondition(() -> required.stream().allMatch(this::isSettled),
+                    new Page.WaitForConditionOptions().setTimeout(timeout.toMillis()));
+        } catch (TimeoutError e) {
+            logger.warn("Timeout na captura de APIs após {}ms. Faltando: {}", timeout.toMillis(), pendingKeys());
+            return allCaptured();
+        }
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (!isSettled() && remaining > 0) {
+            try {
+                page.waitForLoadState(LoadState.NETWORKIDLE, new Page.WaitForLoadStateOptions().setTimeout(remaining));
+            } catch (TimeoutError e) {
+                // Prazo esgotado com a rede ainda ativa: segue com o que já chegou
+            }
+        }
+        if (!isSettled()) {
+            logger.info("APIs opcionais não disparadas pela página: {}", pendingKeys());
+        }
+        return allCaptured();
+    }
+
+    public boolean allCaptured() {
+        return captures.values().stream().allMatch(CompletableFuture::isDone);
+    }
+
+    /**
+     * @return true quando todas as chaves foram vistas e, se capturando corpos, todas responderam
+     */
+    public boolean isSettled() {
+        return allCaptured() && bodies.values().stream().allMatch(CompletableFuture::isDone);
+    }
+
+    /**
+     * Request capturada da chave, com o corpo da response quando o browser já o recebeu.
+     */
+    public Optional<CapturedRequest> get(String key) {
+        CompletableFuture<CapturedRequest> future = captures.get(key);
+        CapturedRequest request = future == null ? null : future.getNow(null);
+        if (request == null) {
+            return Optional.empty();
+        }
+        CompletableFuture<String> body = bodies.get(key);
+        String json = body == null ? null : body.getNow(null);
+        return Optional.of(json == null ? request : request.withBody(json));
+    }
+
+    /**
+     * Future da chave, para quem quiser compor a captura de forma assíncrona.
+     */
+    public CompletableFuture<CapturedRequest> future(String key) {
+        return captures.get(key);
+    }
+
+    public List<String> capturedUrls() {
+        return captures.values().stream()
+                .map(f -> f.getNow(null))
+                .filter(Objects::nonNull)
+                .map(CapturedRequest::url)
+                .toList();
+    }
+
+    public List<String> missingKeys() {
+        return captures.entrySet().stream()
+                .filter(e -> !e.getValue().isDone())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // Chaves sem request ou, capturando corpos, ainda sem response
+    private List<String> pendingKeys() {
+        return captures.keySet().stream()
+                .filter(key -> !isSettled(key))
+                .toList();
+    }
+
+    private boolean isSettled(String key) {
+        return captures.get(key).isDone() && (!bodies.containsKey(key) || bodies.get(key).isDone());
+    }
+}
@@ -0,0 +1,132 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Valores de um {@link ExtractionPlan}, vindos do {@code page.evaluate} ({@link InPageExtractor})
+ * ou avaliados sobre um Document Jsoup ({@link #fromDocument}) com a mesma semântica.
+ *
+ * Campos {@code TEXT}/{@code ATTR} vazios são omitidos; {@code PAIRS} fica ausente se o contêiner
+ * não existe (permite ao scraper distinguir "sem contêiner" de "contêiner sem células").
+ */
+public final class ExtractedPage {
+
+    private final Map<String, Object> values;
+
+    ExtractedPage(Map<String, Object> values) {
+        this.values = values == null ? Map.of() : values;
+    }
+
+    public Optional<String> text(String name) {
+        Object v = values.get(name);
+        return v instanceof String s && !s.isBlank() ? Optional.of(s) : Optional.empty();
+    }
+
+    public List<String> texts(String name) {
+        Object v = values.get(name);
+        if (!(v instanceof List<?> list)) {
+            return List.of();
+        }
+        List<String> out = new ArrayList<>(list.size());
+        for (Object o : list) {
+            if (o != null) out.add(o.toString());
+        }
+        return out;
+    }
+
+    public boolean exists(String name) {
+        return Boolean.TRUE.equals(values.get(name));
+    }
+
+    /**
+     * Pares título/valor de cada célula, na ordem da página (títulos podem se repetir).
+     *
+     * @return vazio se o contêiner do campo não foi encontrado
+     */
+    public Optional<List<Map.Entry<String, String>>> pairs(String name) {
+        Object v = values.get(name);
+        if (!(v instanceof List<?> rows)) {
+            return Optional.empty();
+        }
+        List<Map.Entry<String, String>> out = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            if (row instanceof List<?> kv && kv.size() == 2) {
+                out.add(Map.entry(String.valueOf(kv.get(0)), String.valueOf(kv.get(1))));
+            }
+        }
+        return Optional.of(out);
+    }
+
+    /**
+     * Região HTML extraída com {@code HTML}, parseada como fragmento (apenas alguns KB).
+     */
+    public Optional<Element> fragment(String name) {
+        return text(name).map(html -> {
+            Element body = Jsoup.parseBodyFragment(html).body();
+            return body.childrenSize() == 1 ? body.child(0) : body;
+        });
+    }
+
+    /**
+     * Avalia o plano sobre um Document já parseado (caminho HTTP-first ou modo HTML).
+     */
+    public static ExtractedPage fromDocument(Document doc, ExtractionPlan plan) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (ExtractionPlan.CompiledField field : plan.compiled()) {
+            FieldSpec spec = field.spec();
+            Element root = field.scope() == null ? doc : first(doc, field.scope());
+            switch (spec.kind()) {
+                case TEXT -> {
+                    Element el = first(root, field.selectors());
+                    if (el != null && !el.text().isBlank()) out.put(spec.name(), el.text().trim());
+                }
+                case ATTR -> {
+                    Element el = first(root, field.selectors());
+                    if (el != null && !el.attr(spec.attribute()).isBlank()) {
+                        out.put(spec.name(), el.attr(spec.attribute()).trim());
+                    }
+                }
+                case TEXTS -> {
+                    List<String> texts = new ArrayList<>();
+                    if (root != null) {
+                        // <script> guarda o conteúdo como data, não como texto
+                        for (Element el : field.selectors().selectAll(root)) {
+                            texts.add(el.data().isEmpty() ? el.wholeText() : el.data());
+                        }
+                    }
+                    out.put(spec.name(), texts);
+                }
+                case HTML -> {
+                    Element el = first(root, field.selectors());
+                    if (el != null) out.put(spec.name(), el.outerHtml());
+                }
+                case EXISTS -> out.put(spec.name(), field.selectors().existsIn(root));
+                case PAIRS -> {
+                    if (root == null) break;
+                    List<List<String>> rows = new ArrayList<>();
+                    for (Element cell : field.selectors().selectAll(root)) {
+                        Element k = first(cell, field.keySelectors());
+                        Element v = first(cell, field.valueSelectors());
+                        rows.add(List.of(k == null ? "" : k.text().trim(), v == null ? "" : v.text().trim()));
+                    }
+                    out.put(spec.name(), rows);
+                }
+            }
+        }
+        return new ExtractedPage(Collections.unmodifiableMap(out));
+    }
+
+    private static Element first(Element root, SelectorChain chain) {
+        return chain == null ? null : chain.first(root).orElse(null);
+    }
+}
@@ -0,0 +1,71 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conjunto de campos declarados por um tipo de ativo, extraídos numa única passada sobre o DOM.
+ *
+ * Cada scraper declara o seu plano (header, cards, sobre...) e o adapter combina os planos com
+ * {@link #merge(ExtractionPlan...)}; o argumento do {@code page.evaluate} é montado uma única vez e os
+ * seletores são compilados em {@link SelectorChain}s para a avaliação sobre Document Jsoup.
+ */
+public final class ExtractionPlan {
+
+    private final List<FieldSpec> fields;
+    private final List<Map<String, Object>> argument;
+    private final List<CompiledField> compiled;
+
+    private ExtractionPlan(Collection<FieldSpec> fields) {
+        this.fields = List.copyOf(fields);
+        this.argument = this.fields.stream().map(FieldSpec::toArgument).toList();
+        this.compiled = this.fields.stream().map(CompiledField::of).toList();
+    }
+
+    public static ExtractionPlan of(FieldSpec... fields) {
+        return merge(new ExtractionPlan(List.of(fields)));
+    }
+
+    /**
+     * Combina planos; campos com o mesmo nome são declarados uma única vez (o último vence).
+     */
+    public static ExtractionPlan merge(ExtractionPlan... plans) {
+        Map<String, FieldSpec> byName = new LinkedHashMap<>();
+        for (ExtractionPlan plan : plans) {
+            plan.fields.forEach(f -> byName.put(f.name(), f));
+        }
+        return new ExtractionPlan(byName.values());
+    }
+
+    public List<FieldSpec> fields() {
+        return fields;
+    }
+
+    List<Map<String, Object>> argument() {
+        return argument;
+    }
+
+    List<CompiledField> compiled() {
+        return compiled;
+    }
+
+    /**
+     * Seletores de um campo já compilados; {@code null} onde o campo não declara o grupo.
+     */
+    record CompiledField(FieldSpec spec, SelectorChain scope, SelectorChain selectors,
+                         SelectorChain keySelectors, SelectorChain valueSelectors) {
+
+        static CompiledField of(FieldSpec spec) {
+            return new CompiledField(spec, compile(spec.scope()), compile(spec.selectors()),
+                    compile(spec.keySelectors()), compile(spec.valueSelectors()));
+        }
+
+        private static SelectorChain compile(List<String> selectors) {
+            return selectors.isEmpty() ? null : SelectorChain.of(selectors.toArray(String[]::new));
+        }
+    }
+}
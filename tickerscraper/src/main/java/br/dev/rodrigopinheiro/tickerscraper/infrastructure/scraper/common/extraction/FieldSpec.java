@@ -0,0 +1,72 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declaração de um campo a extrair da página: seletores com fallbacks (o primeiro que casar vence),
+ * escopo opcional e o que devolver do elemento encontrado.
+ *
+ * - {@link Kind#TEXT}: texto com espaços normalizados (equivalente ao {@code Element.text()} do Jsoup)
+ * - {@link Kind#ATTR}: valor de um atributo
+ * - {@link Kind#TEXTS}: texto bruto de todos os elementos do primeiro seletor
+ * - {@link Kind#HTML}: outerHTML da região, para seções com parsing complexo
+ * - {@link Kind#EXISTS}: se algum seletor encontra elemento
+ * - {@link Kind#PAIRS}: pares título/valor de cada célula de um contêiner
+ *
+ * @param scope seletores do contêiner onde os demais são buscados; vazio = documento inteiro
+ */
+public record FieldSpec(String name, Kind kind, List<String> scope, List<String> selectors,
+                        String attribute, List<String> keySelectors, List<String> valueSelectors) {
+
+    public enum Kind { TEXT, ATTR, TEXTS, HTML, EXISTS, PAIRS }
+
+    public static FieldSpec text(String name, String... selectors) {
+        return new FieldSpec(name, Kind.TEXT, List.of(), List.of(selectors), null, List.of(), List.of());
+    }
+
+    public static FieldSpec text(String name, String[] scope, String[] selectors) {
+        return new FieldSpec(name, Kind.TEXT, List.of(scope), List.of(selectors), null, List.of(), List.of());
+    }
+
+    public static FieldSpec attr(String name, String attribute, String... selectors) {
+        return new FieldSpec(name, Kind.ATTR, List.of(), List.of(selectors), attribute, List.of(), List.of());
+    }
+
+    public static FieldSpec texts(String name, String selector) {
+        return new FieldSpec(name, Kind.TEXTS, List.of(), List.of(selector), null, List.of(), List.of());
+    }
+
+    public static FieldSpec html(String name, String... selectors) {
+        return new FieldSpec(name, Kind.HTML, List.of(), List.of(selectors), null, List.of(), List.of());
+    }
+
+    public static FieldSpec exists(String name, String... selectors) {
+        return new FieldSpec(name, Kind.EXISTS, List.of(), List.of(selectors), null, List.of(), List.of());
+    }
+
+    /**
+     * @param cellSelector seletor das células dentro do contêiner
+     */
+    public static FieldSpec pairs(String name, String[] scope, String cellSelector,
+                                  String[] keySelectors, String[] valueSelectors) {
+        return new FieldSpec(name, Kind.PAIRS, List.of(scope), List.of(cellSelector), null,
+                List.of(keySelectors), List.of(valueSelectors));
+    }
+
+    /**
+     * Forma serializável passada como argumento do {@code page.evaluate}.
+     */
+    Map<String, Object> toArgument() {
+        Map<String, Object> arg = new LinkedHashMap<>();
+        arg.put("name", name);
+        arg.put("kind", kind.name());
+        arg.put("scope", scope);
+        arg.put("selectors", selectors);
+        arg.put("attribute", attribute);
+        arg.put("keySelectors", keySelectors);
+        arg.put("valueSelectors", valueSelectors);
+        return arg;
+    }
+}
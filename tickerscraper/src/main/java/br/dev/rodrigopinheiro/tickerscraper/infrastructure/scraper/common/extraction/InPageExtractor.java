@@ -0,0 +1,76 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction;
+
+import com.microsoft.playwright.Page;
+
+import java.util.Map;
+
+/**
+ * Extrai os campos de um {@link ExtractionPlan} com um único {@code page.evaluate}.
+ *
+ * Substitui {@code page.content()} + {@code Jsoup.parse()}: em vez de serializar o DOM inteiro
+ * (centenas de KB via CDP) e construí-lo de novo na JVM, o browser devolve só um JSON com os valores
+ * declarados. A semântica dos seletores segue o {@code ScraperValidator}: o primeiro seletor que
+ * casar vence e o texto é normalizado como no {@code Element.text()} do Jsoup.
+ */
+public final class InPageExtractor {
+
+    static final String SCRIPT = """
+            (specs) => {
+              // Como o Element.text() do Jsoup: ignora <script>/<style> e só separa textos de blocos distintos
+              const BLOCK = /^(DIV|P|LI|UL|OL|TR|TD|TH|TABLE|TBODY|H[1-6]|SECTION|ARTICLE|HEADER|FOOTER|DT|DD|BR)$/;
+              const textOf = el => {
+                const walker = document.createTreeWalker(el, NodeFilter.SHOW_TEXT, {
+                  acceptNode: n => /^(SCRIPT|STYLE)$/.test(n.parentNode.nodeName) ? NodeFilter.FILTER_REJECT : NodeFilter.FILTER_ACCEPT
+                });
+                let out = '', prev = null;
+                while (walker.nextNode()) {
+                  const parent = walker.currentNode.parentNode;
+                  if (prev && parent !== prev && (BLOCK.test(parent.nodeName) || BLOCK.test(prev.nodeName))) out += ' ';
+                  out += walker.currentNode.nodeValue;
+                  prev = parent;
+                }
+                return out;
+              };
+              const norm = s => (s || '').replace(/\\s+/g, ' ').trim();
+              const first = (root, sels) => {
+                if (!root) return null;
+                for (const sel of sels || []) {
+                  try { const el = root.querySelector(sel); if (el) return el; } catch (e) { /* seletor inválido no browser */ }
+                }
+                return null;
+              };
+              const out = {};
+              for (const spec of specs) {
+                const root = spec.scope && spec.scope.length ? first(document, spec.scope) : document;
+                switch (spec.kind) {
+                  case 'TEXT': { const el = first(root, spec.selectors); const v = el ? norm(textOf(el)) : ''; if (v) out[spec.name] = v; break; }
+                  case 'ATTR': { const el = first(root, spec.selectors); const v = el ? el.getAttribute(spec.attribute) : null; if (v && v.trim()) out[spec.name] = v.trim(); break; }
+                  case 'TEXTS': { out[spec.name] = root ? Array.from(root.querySelectorAll(spec.selectors[0]), e => e.textContent) : []; break; }
+                  case 'HTML': { const el = first(root, spec.selectors); if (el) out[spec.name] = el.outerHTML; break; }
+                  case 'EXISTS': { out[spec.name] = !!first(root, spec.selectors); break; }
+                  case 'PAIRS': {
+                    if (!root) break;
+                    out[spec.name] = Array.from(root.querySelectorAll(spec.selectors[0]), cell => {
+                      const k = first(cell, spec.keySelectors), v = first(cell, spec.valueSelectors);
+                      return [k ? norm(textOf(k)) : '', v ? norm(textOf(v)) : ''];
+                    });
+                    break;
+                  }
+                }
+              }
+              return out;
+            }
+            """;
+
+    private InPageExtractor() {
+    }
+
+    /**
+     * Executa o plano na página (uma ida e volta ao browser).
+     */
+    @SuppressWarnings("unchecked")
+    public static ExtractedPage extract(Page page, ExtractionPlan plan) {
+        Object result = page.evaluate(SCRIPT, plan.argument());
+        return new ExtractedPage(result instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of());
+    }
+}
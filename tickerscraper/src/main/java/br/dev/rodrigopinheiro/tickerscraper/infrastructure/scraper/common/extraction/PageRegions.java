@@ -0,0 +1,154 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Regiões da página que os scrapers de um tipo de ativo leem (header, cards, indicadores, sobre...),
+ * usadas para um parse em streaming com o {@link StreamParser} do Jsoup.
+ *
+ * Em vez de montar o Document inteiro (rodapé, anúncios, scripts), cada elemento é avaliado quando
+ * termina de ser parseado: blocos de primeiro nível do body/head e scripts, estilos e SVGs em qualquer
+ * nível que não sejam nem contenham uma região saem da árvore, e o parse para assim
+ * que todas as regiões de primeira ocorrência foram vistas com o seletor de maior prioridade.
+ * O resultado é um Document parcial com as regiões completas, consumido pelos scrapers sem mudança.
+ *
+ * Seletores das regiões podem depender de ancestrais (já abertos quando o elemento fecha) e usar
+ * {@code :has} no próprio elemento da região, mas não de irmãos seguintes nem de {@code :has} em ancestrais.
+ */
+public final class PageRegions {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageRegions.class);
+
+    // Conteúdo nunca lido pelos scrapers de Document (text() ignora script/style)
+    private static final Set<String> NON_CONTENT = Set.of("script", "style", "noscript", "svg", "iframe", "template");
+
+    private final List<SelectorChain> first;
+    private final List<SelectorChain> all;
+
+    private PageRegions(List<SelectorChain> first, List<SelectorChain> all) {
+        this.first = List.copyOf(first);
+        this.all = List.copyOf(all);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parseia apenas as regiões declaradas.
+     *
+     * @param html HTML bruto da página
+     * @param baseUri URL da página
+     * @return Document parcial contendo as regiões encontradas (e seus ancestrais)
+     */
+    public Document parse(String html, String baseUri) {
+        clearMemo();
+        try (StreamParser parser = new StreamParser(Parser.htmlParser()).parse(html, baseUri)) {
+            Document doc = parser.document();
+            Set<Element> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+            int[] best = new int[first.size()];
+            for (int i = 0; i < best.length; i++) {
+                best[i] = first.get(i).size();
+            }
+            int pending = best.length;
+            int pruned = 0;
+
+            Iterator<Element> completed = parser.iterator();
+            while (completed.hasNext()) {
+                Element el = completed.next();
+                boolean region = false;
+                for (int i = 0; i < best.length; i++) {
+                    if (best[i] == 0) continue;
+                    int index = first.get(i).indexOf(doc, el, best[i]);
+                    if (index < best[i]) {
+                        region = true;
+                        best[i] = index;
+                        if (index == 0) pending--;
+                    }
+                }
+                for (SelectorChain chain : all) {
+                    region |= chain.indexOf(doc, el, 1) == 0;
+                }
+
+                if (region) {
+                    retain(el, retained);
+                } else if (!retained.contains(el) && isDisposable(el)) {
+                    el.remove();
+                    pruned++;
+                }
+
+                if (pending == 0 && all.isEmpty()) {
+                    parser.stop();
+                    break;
+                }
+            }
+            logger.debug("Parse por regiões de {}: {} subárvores descartadas, parada antecipada={}",
+                    baseUri, pruned, pending == 0 && all.isEmpty());
+            return doc;
+        } finally {
+            // O cache estrutural por thread guardaria referências a este Document
+            clearMemo();
+        }
+    }
+
+    private void clearMemo() {
+        first.forEach(SelectorChain::clearMemo);
+        all.forEach(SelectorChain::clearMemo);
+    }
+
+    private static void retain(Element el, Set<Element> retained) {
+        for (Element e = el; e != null && retained.add(e); e = e.parent()) {
+            // marca a região e seus ancestrais para não serem descartados quando fecharem
+        }
+    }
+
+    private static boolean isDisposable(Element el) {
+        Element parent = el.parent();
+        if (parent == null) {
+            return false;
+        }
+        return NON_CONTENT.contains(el.normalName())
+                || "body".equals(parent.normalName()) || "head".equals(parent.normalName());
+    }
+
+    public static final class Builder {
+        private final List<SelectorChain> first = new ArrayList<>();
+        private final List<SelectorChain> all = new ArrayList<>();
+
+        /**
+         * Região de primeira ocorrência, com fallbacks (o primeiro seletor que casar vence).
+         */
+        public Builder region(String... selectors) {
+            first.add(SelectorChain.of(selectors));
+            return this;
+        }
+
+        /**
+         * Região com todas as ocorrências (ex.: blocos JSON-LD); o parse segue até o fim da página.
+         */
+        public Builder everyMatch(String selector) {
+            all.add(SelectorChain.of(selector));
+            return this;
+        }
+
+        public PageRegions build() {
+            if (first.isEmpty() && all.isEmpty()) {
+                throw new IllegalArgumentException("Ao menos uma região deve ser declarada");
+            }
+            return new PageRegions(first, all);
+        }
+    }
+}
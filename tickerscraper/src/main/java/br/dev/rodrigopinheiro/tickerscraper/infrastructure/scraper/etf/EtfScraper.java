@@ -1,13 +1,16 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf;
 
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.EtfScraperPort;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.DataParsingException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfDadosFinanceirosDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfInfoCardsDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfInfoHeaderDTO;
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
-import com.microsoft.playwright.Playwright;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -20,11 +23,12 @@ import java.util.regex.Pattern;
 
 /**
  * Scraper para dados de ETFs do site Investidor10.
- * Implementa parsing específico baseado no HTML fornecido.
+ * Usa o browser compartilhado do {@link PlaywrightInitializer} e faz o parsing com Jsoup
+ * de um único snapshot de page.content(), restrito às regiões de header e cards.
  */
 @Component
 @Qualifier("etfPlaywrightScraper")
-public class EtfScraper implements EtfScraperPort {
+public class EtfScraper extends AbstractScraperAdapter<EtfDadosFinanceirosDTO> implements EtfScraperPort {
 
     private static final Logger logger = LoggerFactory.getLogger(EtfScraper.class);
     
@@ -35,91 +39,123 @@ public class EtfScraper implements EtfScraperPort {
     private static final Pattern TRILHAO_PATTERN = Pattern.compile("([\\d.,]+)\\s*T");
     private static final Pattern MILHAO_PATTERN = Pattern.compile("([\\d.,]+)\\s*M");
 
+    // Constantes para seletores CSS com fallbacks para validação de elementos essenciais
+    private static final String[] ESSENTIAL_SELECTORS = {"#header_action .name-ticker", "div.name-ticker", "div.container-header"};
+    private static final String[] CARDS_SELECTORS = {"section#cards-ticker", "#cards-ticker", ".cards-section"};
+
+    // Header e cards são as únicas seções lidas; o parse para assim que ambas fecham
+    static final PageRegions PAGE_REGIONS = PageRegions.builder()
+            .region(ESSENTIAL_SELECTORS)
+            .region(CARDS_SELECTORS)
+            .build();
+
+    private final PlaywrightInitializer pwInit;
+
+    public EtfScraper(PlaywrightInitializer pwInit) {
+        this.pwInit = pwInit;
+    }
+
     @Override
     public Mono<EtfDadosFinanceirosDTO> scrapeEtfData(String ticker) {
-        return Mono.fromCallable(() -> {
+        final String url = buildUrl(ticker);
+        return withPooledPage(pwInit, ticker, url, pooled -> {
             logger.info("Iniciando scraping para ETF: {}", ticker);
-            
-            try (Playwright playwright = Playwright.create()) {
-                Browser browser = playwright.chromium().launch(new BrowserType.LaunchOptions().setHeadless(true));
-                Page page = browser.newPage();
-                
-                String url = BASE_URL + ticker.toLowerCase();
-                logger.debug("Acessando URL: {}", url);
-                
-                page.navigate(url);
-                page.waitForLoadState();
-                
-                // Extrai dados do header
-                EtfInfoHeaderDTO headerData = extractHeaderData(page, ticker);
-                
-                // Extrai dados dos cards
-                EtfInfoCardsDTO cardsData = extractCardsData(page);
-                
-                EtfDadosFinanceirosDTO result = new EtfDadosFinanceirosDTO(headerData, cardsData);
-                
-                logger.info("Scraping concluído com sucesso para ETF: {}", ticker);
-                return result;
-                
-            } catch (Exception e) {
-                logger.error("Erro durante scraping do ETF {}: {}", ticker, e.getMessage(), e);
-                throw new RuntimeException("Falha no scraping do ETF: " + ticker, e);
-            }
+            Page page = pooled.page();
+
+            logger.debug("Acessando URL: {}", url);
+            navigateAndValidate(page, url, ticker);
+
+            // Um único snapshot do DOM em vez de vários round trips de locator()
+            Document doc = parsePage(page.content(), url);
+            validateEssentialElements(doc, ESSENTIAL_SELECTORS, CARDS_SELECTORS, ticker, url);
+
+            EtfDadosFinanceirosDTO result = executeSpecificScraping(doc, ticker);
+            logger.info("Scraping concluído com sucesso para ETF: {}", ticker);
+            return result;
         });
     }
 
+    // Template methods implementation
+
+    @Override
+    protected String[] getEssentialSelectors() {
+        return ESSENTIAL_SELECTORS;
+    }
+
+    @Override
+    protected String[] getCardsSelectors() {
+        return CARDS_SELECTORS;
+    }
+
+    @Override
+    protected PageRegions getPageRegions() {
+        return PAGE_REGIONS;
+    }
+
+    @Override
+    protected String buildUrl(String ticker) {
+        return BASE_URL + ticker.toLowerCase();
+    }
+
+    @Override
+    protected EtfDadosFinanceirosDTO executeSpecificScraping(Document doc, String ticker) {
+        EtfInfoHeaderDTO headerData = extractHeaderData(doc, ticker);
+        EtfInfoCardsDTO cardsData = extractCardsData(doc, ticker);
+        return new EtfDadosFinanceirosDTO(headerData, cardsData);
+    }
+
     /**
      * Extrai dados do header (ticker e nome do ETF).
      */
-    private EtfInfoHeaderDTO extractHeaderData(Page page, String ticker) {
-        try {
-            // Extrai ticker do h1
-            String tickerFromPage = page.locator("#header_action .name-ticker h1").textContent().trim();
-            
-            // Extrai nome do ETF do h2
-            String nomeEtf = page.locator("#header_action .name-ticker h2.name-company").textContent().trim();
-            
-            logger.debug("Header extraído - Ticker: {}, Nome: {}", tickerFromPage, nomeEtf);
-            
-            return new EtfInfoHeaderDTO(tickerFromPage, nomeEtf);
-            
-        } catch (Exception e) {
-            logger.warn("Erro ao extrair dados do header para {}: {}", ticker, e.getMessage());
+    private EtfInfoHeaderDTO extractHeaderData(Document doc, String ticker) {
+        // Extrai ticker do h1 e nome do ETF do h2
+        String tickerFromPage = text(doc, "#header_action .name-ticker h1");
+        String nomeEtf = text(doc, "#header_action .name-ticker h2.name-company");
+
+        if (tickerFromPage == null || nomeEtf == null) {
+            logger.warn("Header incompleto para {}: ticker={}, nome={}", ticker, tickerFromPage, nomeEtf);
             return new EtfInfoHeaderDTO(ticker, "Nome não disponível");
         }
+
+        logger.debug("Header extraído - Ticker: {}, Nome: {}", tickerFromPage, nomeEtf);
+        return new EtfInfoHeaderDTO(tickerFromPage, nomeEtf);
     }
 
     /**
      * Extrai dados dos cards de informações financeiras.
      */
-    private EtfInfoCardsDTO extractCardsData(Page page) {
-        try {
-            logger.debug("Extraindo dados dos cards...");
-            
-            // Valor atual - primeiro card com classe "cotacao"
-            String valorAtual = page.locator("#cards-ticker ._card.cotacao ._card-body span.value").textContent().trim();
-            
-            // Capitalização - segundo card
-            String capitalizacao = page.locator("#cards-ticker ._card:nth-child(2) ._card-body span").textContent().trim();
-            
-            // Variação 12M - terceiro card
-            String variacao12M = page.locator("#cards-ticker ._card:nth-child(3) ._card-body span").textContent().trim();
-            
-            // Variação 60M - quarto card
-            String variacao60M = page.locator("#cards-ticker ._card:nth-child(4) ._card-body span").textContent().trim();
-            
-            // DY - quinto card com classe "dy"
-            String dy = page.locator("#cards-ticker ._card.dy ._card-body span").textContent().trim();
-            
-            logger.debug("Cards extraídos - Valor: {}, Cap: {}, Var12M: {}, Var60M: {}, DY: {}", 
-                        valorAtual, capitalizacao, variacao12M, variacao60M, dy);
-            
-            return new EtfInfoCardsDTO(valorAtual, capitalizacao, variacao12M, variacao60M, dy);
-            
-        } catch (Exception e) {
-            logger.error("Erro ao extrair dados dos cards: {}", e.getMessage(), e);
-            throw new RuntimeException("Falha na extração dos dados dos cards", e);
+    private EtfInfoCardsDTO extractCardsData(Document doc, String ticker) {
+        logger.debug("Extraindo dados dos cards...");
+
+        // Valor atual - primeiro card com classe "cotacao"
+        String valorAtual = requiredText(doc, "#cards-ticker ._card.cotacao ._card-body span.value", ticker, "valor atual do ETF");
+
+        // Capitalização, variações 12M/60M e DY
+        String capitalizacao = requiredText(doc, "#cards-ticker ._card:nth-child(2) ._card-body span", ticker, "capitalização do ETF");
+        String variacao12M = requiredText(doc, "#cards-ticker ._card:nth-child(3) ._card-body span", ticker, "variação 12M do ETF");
+        String variacao60M = requiredText(doc, "#cards-ticker ._card:nth-child(4) ._card-body span", ticker, "variação 60M do ETF");
+        String dy = requiredText(doc, "#cards-ticker ._card.dy ._card-body span", ticker, "DY do ETF");
+
+        logger.debug("Cards extraídos - Valor: {}, Cap: {}, Var12M: {}, Var60M: {}, DY: {}",
+                valorAtual, capitalizacao, variacao12M, variacao60M, dy);
+
+        return new EtfInfoCardsDTO(valorAtual, capitalizacao, variacao12M, variacao60M, dy);
+    }
+
+    /**
+     * Texto de um card obrigatório; todos os cards fazem parte do DTO, então a ausência falha o scraping.
+     */
+    private String requiredText(Document doc, String selector, String ticker, String campo) {
+        String value = text(doc, selector);
+        if (value == null) {
+            throw new DataParsingException(ticker, buildUrl(ticker), selector, campo);
         }
+        return value;
+    }
+
+    private static String text(Document doc, String selector) {
+        Element el = doc.selectFirst(selector);
+        return el != null ? el.text().trim() : null;
     }
 
     /**
@@ -1,13 +1,19 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii;
 
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.JsonElementTokenizer;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiCotacaoDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDividendoDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoItemDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
@@ -26,25 +32,43 @@ public class FiiApiScraper {
     private static final Logger logger = LoggerFactory.getLogger(FiiApiScraper.class);
 
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
 
-    public FiiApiScraper(WebClient webClient) {
+    public FiiApiScraper(WebClient webClient, ObjectMapper objectMapper) {
         this.webClient = webClient;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Variantes que reaproveitam o JSON já baixado pelo browser ({@link CapturedRequest#body()}).
+     * A chamada via WebClient só acontece se o corpo não foi capturado ou não pôde ser lido.
+     */
+    public Mono<FiiIndicadorHistoricoDTO> fetchHistorico(CapturedRequest request) {
+        return fromBody(request, new TypeReference<FiiIndicadorHistoricoDTO>() {})
+                .switchIfEmpty(Mono.defer(() -> fetchHistorico(request.url(), request.headers())));
+    }
+
+    public Mono<FiiCotacaoDTO> fetchCotacao(CapturedRequest request) {
+        return fromBody(request, new TypeReference<FiiCotacaoDTO>() {})
+                .switchIfEmpty(Mono.defer(() -> fetchCotacao(request.url(), request.headers())));
+    }
+
+    public Mono<List<FiiDividendoDTO>> fetchDividendos(CapturedRequest request) {
+        return fromBody(request, new TypeReference<List<FiiDividendoDTO>>() {})
+                .switchIfEmpty(Mono.defer(() -> fetchDividendos(request.url(), request.headers())));
     }
 
     /**
      * Busca de forma assíncrona os dados da API de histórico de indicadores.
-     * O WebClient/Jackson lê a resposta JSON e a converte diretamente para o record FiiIndicadorHistoricoDTO.
-     * A estrutura do DTO, com um Map aninhado, é projetada para espelhar a resposta da API.
+     * A resposta JSON é lida em streaming ({@link #streamHistorico}) e os itens são gravados por indicador
+     * direto nas colunas do FiiIndicadorHistoricoDTO, cuja visão {@code indicadores()} espelha a resposta da API.
      *
      * @param url A URL completa da API de histórico capturada pelo Selenium.
      * @return Um Mono (uma "promessa") contendo o DTO de histórico preenchido. Em caso de erro na chamada da API,
      * retorna um Mono com um DTO contendo um mapa vazio, garantindo que o fluxo reativo não seja quebrado.
      */
     public Mono<FiiIndicadorHistoricoDTO> fetchHistorico(String url, Map<String, String> headers) {
-        logger.info("Chamando API de Histórico: {}", url);
-        return prepareRequest(url, headers)
-                .retrieve()
-                .bodyToMono(FiiIndicadorHistoricoDTO.class)
+        return requestHistorico(url, headers)
                 .doOnError(e -> logger.error("Falha ao buscar histórico da API: {}", url, e))
                 .onErrorReturn(new FiiIndicadorHistoricoDTO(Collections.emptyMap()));
     }
@@ -58,28 +82,22 @@ public class FiiApiScraper {
      * DTO contendo valores nulos para não interromper o fluxo de dados.
      */
     public Mono<FiiCotacaoDTO> fetchCotacao(String url, Map<String, String> headers) {
-        logger.info("Chamando API de Cotação: {}", url);
-        return prepareRequest(url, headers)
-                .retrieve()
-                .bodyToMono(FiiCotacaoDTO.class)
+        return requestCotacao(url, headers)
                 .doOnError(e -> logger.error("Falha ao buscar cotação da API: {}", url, e))
                 .onErrorReturn(new FiiCotacaoDTO(null, null));
     }
 
     /**
      * Busca de forma assíncrona a lista de dividendos pagos pelo FII a partir da API.
-     * A resposta da API é um Array JSON, que precisa ser mapeado para uma Lista de DTOs.
-     * Para isso, utilizamos o ParameterizedTypeReference para informar ao WebClient sobre o tipo genérico List<FiiDividendoDTO>.
+     * A resposta da API é um Array JSON, lido elemento a elemento ({@link #streamDividendos}) e coletado
+     * numa Lista de DTOs.
      *
      * @param url A URL completa da API de dividendos capturada pelo Selenium.
      * @return Um Mono contendo a LISTA de DTOs de dividendo. Em caso de erro na chamada da API,
      * retorna um Mono com uma lista vazia, mantendo a integridade do fluxo reativo.
      */
     public Mono<List<FiiDividendoDTO>> fetchDividendos(String url, Map<String, String> headers) {
-        logger.info("Chamando API de Dividendos: {}", url);
-        return prepareRequest(url, headers)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<FiiDividendoDTO>>() {})
+        return requestDividendos(url, headers)
                 .doOnNext(dividendos -> {
                     if (!dividendos.isEmpty()) {
                         logger.debug("Processados {} dividendos da API", dividendos.size());
@@ -89,6 +107,64 @@ public class FiiApiScraper {
                 .onErrorReturn(Collections.emptyList());
     }
 
+    /**
+     * Variantes sem fallback: propagam erro HTTP (4xx/5xx) ou de desserialização,
+     * para quem precisa distinguir "API mudou" de "API sem dados" (refresh direto por template).
+     */
+    public Mono<FiiIndicadorHistoricoDTO> requestHistorico(String url, Map<String, String> headers) {
+        return streamHistorico(url, headers)
+                .collect(FiiIndicadorHistoricoDTO::builder, (builder, item) -> {
+                    if (item.inicio()) {
+                        builder.grupo(item.grupo(), item.nulo());
+                    } else {
+                        builder.item(item.grupo(), item.item());
+                    }
+                })
+                .map(FiiIndicadorHistoricoDTO.Builder::build);
+    }
+
+    public Mono<FiiCotacaoDTO> requestCotacao(String url, Map<String, String> headers) {
+        logger.info("Chamando API de Cotação: {}", url);
+        return prepareRequest(url, headers)
+                .retrieve()
+                .bodyToMono(FiiCotacaoDTO.class);
+    }
+
+    public Mono<List<FiiDividendoDTO>> requestDividendos(String url, Map<String, String> headers) {
+        return streamDividendos(url, headers).collectList();
+    }
+
+    /**
+     * Decodificação em streaming: cada elemento é emitido assim que seus tokens chegam,
+     * sem agregar o corpo inteiro em memória (ver {@link JsonElementTokenizer}).
+     * Erros HTTP e de desserialização são propagados como nas variantes acima.
+     *
+     * @return Início de cada indicador e seus itens, na ordem da resposta
+     */
+    public Flux<JsonElementTokenizer.ItemAgrupado<FiiIndicadorHistoricoItemDTO>> streamHistorico(String url, Map<String, String> headers) {
+        logger.info("Chamando API de Histórico: {}", url);
+        Flux<DataBuffer> corpo = prepareRequest(url, headers).retrieve().bodyToFlux(DataBuffer.class);
+        return JsonElementTokenizer.elementosAgrupados(corpo, objectMapper, FiiIndicadorHistoricoItemDTO.class);
+    }
+
+    public Flux<FiiDividendoDTO> streamDividendos(String url, Map<String, String> headers) {
+        logger.info("Chamando API de Dividendos: {}", url);
+        Flux<DataBuffer> corpo = prepareRequest(url, headers).retrieve().bodyToFlux(DataBuffer.class);
+        return JsonElementTokenizer.elementos(corpo, objectMapper, FiiDividendoDTO.class);
+    }
+
+    private <R> Mono<R> fromBody(CapturedRequest request, TypeReference<R> type) {
+        if (!request.hasBody()) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> objectMapper.readValue(request.body(), type))
+                .doOnNext(v -> logger.debug("JSON capturado pelo browser reaproveitado: {}", request.url()))
+                .onErrorResume(e -> {
+                    logger.warn("JSON capturado ilegível para {}: {}. Buscando via WebClient.", request.url(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
     private WebClient.RequestHeadersSpec<?> prepareRequest(String url, Map<String, String> headers) {
         WebClient.RequestHeadersSpec<?> request = webClient.get().uri(url);
 
@@ -0,0 +1,103 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.FiiDirectApiProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Templates das URLs das APIs de FII ({@link FiiApiConstants}) com o ID interno como {@code {id}}.
+ *
+ * São aprendidos das URLs capturadas num scrape completo (o ID interno é o mesmo segmento
+ * numérico que o {@link FiiInternalIdScrapper} extrai) e permitem remontar as URLs de qualquer
+ * FII cujo internal_id já esteja persistido, sem renderizar a página.
+ */
+@Component
+public class FiiApiUrlTemplates {
+
+    private static final Logger logger = LoggerFactory.getLogger(FiiApiUrlTemplates.class);
+
+    public static final String ID_PLACEHOLDER = "{id}";
+
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public FiiApiUrlTemplates(FiiDirectApiProperties properties) {
+        this.enabled = properties.isEnabled();
+        properties.getTemplates().forEach((key, template) -> {
+            if (FiiApiConstants.TODAS_AS_CHAVES.contains(key) && template.contains(ID_PLACEHOLDER)) {
+                templates.put(key, template);
+            }
+        });
+    }
+
+    /**
+     * Aprende o template de uma URL substituindo o segmento do ID interno por {@code {id}}.
+     *
+     * @param key Chave da API em {@link FiiApiConstants}
+     * @param url URL capturada
+     * @param internalId ID interno do FII dono da URL
+     */
+    public void learn(String key, String url, Integer internalId) {
+        if (internalId == null || url == null) {
+            return;
+        }
+        toTemplate(url, internalId).ifPresent(template -> {
+            String previous = templates.put(key, template);
+            if (!template.equals(previous)) {
+                logger.info("Template de API FII aprendido ({}): {}", key, template);
+            }
+        });
+    }
+
+    /**
+     * Monta a URL da API para o ID interno informado.
+     */
+    public Optional<String> expand(String key, long internalId) {
+        String template = templates.get(key);
+        return template == null ? Optional.empty()
+                : Optional.of(template.replace(ID_PLACEHOLDER, Long.toString(internalId)));
+    }
+
+    /**
+     * @return true se há template para todas as chaves de {@link FiiApiConstants#TODAS_AS_CHAVES}
+     */
+    public boolean isComplete() {
+        return templates.keySet().containsAll(FiiApiConstants.TODAS_AS_CHAVES);
+    }
+
+    /**
+     * @return true se o refresh direto está habilitado e há templates para todas as chaves
+     */
+    public boolean canRefresh() {
+        return enabled && isComplete();
+    }
+
+    /**
+     * Descarta os templates (a API mudou); o próximo scrape completo os reaprende.
+     */
+    public void forget() {
+        if (!templates.isEmpty()) {
+            logger.warn("Templates de API FII descartados: {}", templates);
+            templates.clear();
+        }
+    }
+
+    static Optional<String> toTemplate(String url, long internalId) {
+        String segment = "/" + internalId;
+        int from = 0;
+        int idx;
+        while ((idx = url.indexOf(segment, from)) >= 0) {
+            int end = idx + segment.length();
+            if (end == url.length() || url.charAt(end) == '/' || url.charAt(end) == '?') {
+                return Optional.of(url.substring(0, idx + 1) + ID_PLACEHOLDER + url.substring(end));
+            }
+            from = end;
+        }
+        return Optional.empty();
+    }
+}
@@ -6,8 +6,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiInfoCardsDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.ScraperValidator;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorPlan;
 
 /**
  * Scraper responsável por extrair informações dos cards de uma página de FII.
@@ -22,6 +27,18 @@ public class FiiCardsScraper {
     private static final String[] VARIACAO_CONTAINER_SELECTORS = {"div._card:has(span[title='Variação (12M)'])", "div._card.variacao", ".variation-card"};
     private static final String[] VARIACAO_VALUE_SELECTORS = {"div._card-body span", ".card-body .value", ".variation-value"};
 
+    // Cotação e card de variação resolvidos numa única travessia; o valor da variação dentro do card
+    private static final SelectorPlan CARDS = SelectorPlan.builder()
+            .add("cotacao", SelectorChain.of(COTACAO_SELECTORS))
+            .add("variacao", SelectorChain.of(VARIACAO_CONTAINER_SELECTORS))
+            .build();
+    private static final SelectorChain VARIACAO_VALUE = SelectorChain.of(VARIACAO_VALUE_SELECTORS);
+
+    /** Campos dos cards de FII para extração in-page. */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.text("cards.cotacao", COTACAO_SELECTORS),
+            FieldSpec.text("cards.variacao12m", VARIACAO_CONTAINER_SELECTORS, VARIACAO_VALUE_SELECTORS));
+
     /**
      * Extrai informações dos cards de uma página de FII.
      * Utiliza seletores com fallbacks para maior robustez.
@@ -36,22 +53,23 @@ public class FiiCardsScraper {
         
         logger.debug("Iniciando extração de informações dos cards do FII");
         
+        SelectorPlan.Resolved cards = CARDS.resolve(doc);
+
         // --- COTAÇÃO ---
         // A cotação já tem uma classe única ('cotacao'), então o seletor é direto.
-        String cotacao = ScraperValidator.findElementWithFallbacks(doc, COTACAO_SELECTORS)
+        String cotacao = cards.get("cotacao")
                 .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                 .orElse(""); // Deixaremos em branco, pois a cotação virá da API
         
         // --- VARIAÇÃO (12M) - A SOLUÇÃO ROBUSTA ---
         
         // 1. Encontra o contêiner do card usando a "âncora" do atributo 'title' com fallbacks
-        Element cardVariacaoContainer = ScraperValidator.findElementWithFallbacks(doc, VARIACAO_CONTAINER_SELECTORS)
-                .orElse(null);
+        Element cardVariacaoContainer = cards.get("variacao").orElse(null);
         
         // 2. A partir do contêiner encontrado, busca o valor dentro do _card-body com fallbacks
         String variacao12M = "";
         if (cardVariacaoContainer != null) {
-            variacao12M = ScraperValidator.findElementWithFallbacks(cardVariacaoContainer, VARIACAO_VALUE_SELECTORS)
+            variacao12M = ScraperValidator.findElementWithFallbacks(cardVariacaoContainer, VARIACAO_VALUE)
                     .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                     .orElse("");
         }
@@ -61,4 +79,14 @@ public class FiiCardsScraper {
         // Como a cotação virá da API de XHR, retornamos ela por enquanto.
         return new FiiInfoCardsDTO(cotacao, variacao12M);
     }
-}
\ No newline at end of file
+
+    /**
+     * Cards a partir dos campos extraídos com {@link #PLAN}.
+     */
+    public FiiInfoCardsDTO scrape(ExtractedPage page) {
+        String cotacao = page.text("cards.cotacao").orElse("");
+        String variacao12M = page.text("cards.variacao12m").orElse("");
+        logger.debug("Informações extraídas: cotacao={}, variacao12M={}", cotacao, variacao12M);
+        return new FiiInfoCardsDTO(cotacao, variacao12M);
+    }
+}
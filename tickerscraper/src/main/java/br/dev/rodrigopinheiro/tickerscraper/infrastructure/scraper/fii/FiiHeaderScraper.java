@@ -2,6 +2,8 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiInfoHeaderDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.GenericHeaderScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
 import org.jsoup.nodes.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +19,9 @@ import org.springframework.stereotype.Component;
 public class FiiHeaderScraper {
     private static final Logger logger = LoggerFactory.getLogger(FiiHeaderScraper.class);
     
+    /** Campos do cabeçalho de FII para extração in-page. */
+    public static final ExtractionPlan PLAN = GenericHeaderScraper.plan(GenericHeaderScraper.FII_CONFIG);
+
     private final GenericHeaderScraper genericHeaderScraper;
     
     public FiiHeaderScraper(GenericHeaderScraper genericHeaderScraper) {
@@ -40,4 +45,11 @@ public class FiiHeaderScraper {
         
         return genericHeaderScraper.scrapeFiiHeader(doc, FiiInfoHeaderDTO::new);
     }
+
+    /**
+     * Cabeçalho a partir dos campos extraídos com {@link #PLAN}.
+     */
+    public FiiInfoHeaderDTO scrape(ExtractedPage page) {
+        return genericHeaderScraper.scrapeHeaderInfo(page, GenericHeaderScraper.FII_CONFIG, FiiInfoHeaderDTO::new);
+    }
 }
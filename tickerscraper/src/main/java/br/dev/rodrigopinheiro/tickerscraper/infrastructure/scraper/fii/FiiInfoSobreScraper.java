@@ -2,8 +2,12 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii;
 
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ElementNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParser;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.FieldSpec;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiInfoSobreDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.ScraperValidator;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorChain;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -13,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.AbstractMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import static java.util.stream.Collectors.toMap;
@@ -27,10 +32,18 @@ public class FiiInfoSobreScraper {
     private final ObjectMapper objectMapper = new ObjectMapper();
     
     // Constantes para seletores CSS com fallbacks
-    private static final String[] CONTAINER_SELECTORS = {"div#about-company div.content", "div.about-section div.content", ".fii-about-info"};
+    static final String[] CONTAINER_SELECTORS = {"div#about-company div.content", "div.about-section div.content", ".fii-about-info"};
     private static final String[] CELL_SELECTORS = {"div.cell", ".info-cell", ".data-item"};
     private static final String[] TITLE_SELECTORS = {"span.name", ".info-title", ".label"};
     private static final String[] VALUE_SELECTORS = {"div.value span", ".info-value", ".value"};
+    private static final SelectorChain CONTAINER = SelectorChain.of(CONTAINER_SELECTORS);
+    private static final SelectorChain CELL = SelectorChain.of(CELL_SELECTORS[0]);
+    private static final SelectorChain TITLE = SelectorChain.of(TITLE_SELECTORS);
+    private static final SelectorChain VALUE = SelectorChain.of(VALUE_SELECTORS);
+
+    /** Células da seção "Sobre" de FII para extração in-page. */
+    public static final ExtractionPlan PLAN = ExtractionPlan.of(
+            FieldSpec.pairs("sobre", CONTAINER_SELECTORS, CELL_SELECTORS[0], TITLE_SELECTORS, VALUE_SELECTORS));
     
 
 
@@ -51,23 +64,23 @@ public class FiiInfoSobreScraper {
         logger.debug("Iniciando extração de informações da seção 'Sobre' do FII");
         
         // 1. Encontra o contêiner principal da seção "Informações Sobre" com fallbacks
-        Element container = ScraperValidator.findElementWithFallbacks(doc, CONTAINER_SELECTORS)
+        Element container = ScraperValidator.findElementWithFallbacks(doc, CONTAINER)
                 .orElseThrow(() -> {
                     logger.error("Container da seção 'Sobre' não encontrado");
                     return ElementNotFoundException.forSelectors(CONTAINER_SELECTORS);
                 });
         
         // 2. Processa todas as células de informação
-        Map<String, String> infoMap = container.select(CELL_SELECTORS[0]).stream()
+        Map<String, String> infoMap = CELL.selectAll(container).stream()
                 .map(cell -> {
                     // 3. Extrai o título com fallbacks
-                    String tituloBruto = ScraperValidator.findElementWithFallbacks(cell, TITLE_SELECTORS)
+                    String tituloBruto = ScraperValidator.findElementWithFallbacks(cell, TITLE)
                             .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                             .map(String::trim)
                             .orElse("");
                     
                     // 4. Extrai o valor com fallbacks
-                    String valor = ScraperValidator.findElementWithFallbacks(cell, VALUE_SELECTORS)
+                    String valor = ScraperValidator.findElementWithFallbacks(cell, VALUE)
                             .flatMap(element -> ScraperValidator.extractTextWithValidation(element))
                             .map(String::trim)
                             .orElse("");
@@ -92,4 +105,29 @@ public class FiiInfoSobreScraper {
 
         return objectMapper.convertValue(infoMap, FiiInfoSobreDTO.class);
     }
+
+    /**
+     * Seção "Sobre" a partir dos campos extraídos com {@link #PLAN}.
+     *
+     * @throws ElementNotFoundException se o contêiner da seção não foi encontrado
+     */
+    public FiiInfoSobreDTO scrape(ExtractedPage page) {
+        List<Map.Entry<String, String>> cells = page.pairs("sobre").orElseThrow(() -> {
+            logger.error("Container da seção 'Sobre' não encontrado");
+            return ElementNotFoundException.forSelectors(CONTAINER_SELECTORS);
+        });
+
+        Map<String, String> infoMap = new LinkedHashMap<>();
+        for (Map.Entry<String, String> cell : cells) {
+            String titulo = IndicadorParser.normalizar(cell.getKey());
+            if (!titulo.isEmpty() && !cell.getValue().isEmpty()) {
+                infoMap.put(titulo, cell.getValue());
+            }
+        }
+
+        if (infoMap.isEmpty()) {
+            logger.warn("Nenhuma informação encontrada na seção 'Sobre'");
+        }
+        return objectMapper.convertValue(infoMap, FiiInfoSobreDTO.class);
+    }
 }
@@ -10,25 +10,28 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.codec.CodecException;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import com.microsoft.playwright.Browser;
-import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Page;
 
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.FiiDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.domain.exception.AsyncRequestTimeoutException;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.HttpPageFetcher;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.CorrelationIdProvider;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.XhrCaptureRegistry;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractedPage;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.ExtractionPlan;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiCotacaoDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
@@ -51,7 +54,21 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
     private static final String[] CARDS_SELECTORS = {"section#cards-ticker", ".cards-section", ".fii-cards"};
     private static final String[] ABOUT_SELECTORS = {"div#about-company", "div.about-section", ".fii-about"};
 
-    private final PlaywrightInitializer pwInit;                 // Browser singleton (abre/fecha no @PostConstruct/@PreDestroy)
+    // Campos da página lidos num único page.evaluate (validação + header + cards + sobre)
+    private static final ExtractionPlan PAGE_PLAN = ExtractionPlan.merge(
+            validationPlan(ESSENTIAL_SELECTORS, CARDS_SELECTORS),
+            FiiHeaderScraper.PLAN, FiiCardsScraper.PLAN, FiiInfoSobreScraper.PLAN);
+
+    // Seções lidas pelos scrapers de FII no HTML completo (HTTP-first e Selenium)
+    static final PageRegions PAGE_REGIONS = PageRegions.builder()
+            .region(ESSENTIAL_SELECTORS)
+            .region(CARDS_SELECTORS)
+            .region(ABOUT_SELECTORS)
+            .region(FiiInfoSobreScraper.CONTAINER_SELECTORS)
+            .region("title") // validação de estrutura do Selenium
+            .build();
+
+    private final PlaywrightInitializer pwInit;                 // Browser singleton + pool de contextos (@PostConstruct/@PreDestroy)
     private final FiiSeleniumScraperAdapter seleniumFallback;  // Fallback quando Playwright falhar
     private final FiiHeaderScraper headerScraper;
     private final FiiInfoSobreScraper infoSobreScraper;
@@ -59,6 +76,8 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
     private final FiiInternalIdScrapper internalIdScrapper;
     private final FiiApiScraper apiScraper;
     private final CorrelationIdProvider correlationIdProvider; // Injeção de dependência para correlationId
+    private final HttpPageFetcher httpFetcher;                 // HTTP-first (sem browser)
+    private final FiiApiUrlTemplates urlTemplates;             // URLs das APIs por internal_id
 
     public FiiPlaywrightDirectScraperAdapter(
             PlaywrightInitializer pwInit,
@@ -68,7 +87,9 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
             FiiCardsScraper cardsScraper,
             FiiInternalIdScrapper internalIdScrapper,
             FiiApiScraper apiScraper,
-            CorrelationIdProvider correlationIdProvider
+            CorrelationIdProvider correlationIdProvider,
+            HttpPageFetcher httpFetcher,
+            FiiApiUrlTemplates urlTemplates
     ) {
         this.pwInit = pwInit;
         this.seleniumFallback = seleniumFallback;
@@ -78,6 +99,8 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
         this.internalIdScrapper = internalIdScrapper;
         this.apiScraper = apiScraper;
         this.correlationIdProvider = correlationIdProvider;
+        this.httpFetcher = httpFetcher;
+        this.urlTemplates = urlTemplates;
         
         logger.info("FiiPlaywrightDirectScraperAdapter inicializado com injeção de dependências SOLID-compliant");
     }
@@ -87,7 +110,110 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
     @Retry(name = "scraper")
     public Mono<FiiDadosFinanceirosDTO> scrape(String ticker) {
         logger.info("Iniciando scraping FII com APIs assíncronas para: {}", ticker);
-        
+        return scrapeFull(ticker);
+    }
+
+    /**
+     * Refresh de FII já persistido: URLs das APIs remontadas a partir do internal_id e dos
+     * templates aprendidos, chamadas direto via WebClient junto com o HTML server-rendered.
+     * Se a API responder erro (template mudou), a mesma página segue pelo caminho HTTP-first com as URLs
+     * embutidas no HTML; renderização completa só se a página HTTP não servir.
+     */
+    @Override
+    @CircuitBreaker(name = "scraper", fallbackMethod = "fallbackRefreshToSelenium")
+    @Retry(name = "scraper")
+    public Mono<FiiDadosFinanceirosDTO> refresh(String ticker, Long internalId) {
+        if (internalId == null || !urlTemplates.canRefresh()) {
+            return scrapeFull(ticker);
+        }
+        logger.info("Refresh direto nas APIs para {} (internalId={})", ticker, internalId);
+        return httpFetcher.fetch(buildUrl(ticker), ticker)
+                .flatMap(page -> refreshViaApis(ticker, internalId, page)
+                        // Reaproveita a página já baixada em vez de buscá-la de novo
+                        .onErrorResume(e -> !(e instanceof TickerNotFoundException) && !isBrowserEscalation(e), e -> {
+                            logger.warn("APIs do refresh falharam para {}: {}. Usando URLs do HTML.", ticker, e.getMessage());
+                            return scrapeViaHttp(ticker, page);
+                        }))
+                .onErrorResume(e -> !(e instanceof TickerNotFoundException), e -> {
+                    logger.warn("Refresh direto falhou para {}: {}. Usando o browser.", ticker, e.getMessage());
+                    return scrapeWithBrowser(ticker);
+                });
+    }
+
+    public Mono<FiiDadosFinanceirosDTO> fallbackRefreshToSelenium(String ticker, Long internalId, Exception ex) {
+        return fallbackToSelenium(ticker, ex);
+    }
+
+    private Mono<FiiDadosFinanceirosDTO> refreshViaApis(String ticker, long internalId, HttpPageFetcher.FetchedPage page) {
+        Document doc = page.document();
+        if (!validateElementsExist(doc, ESSENTIAL_SELECTORS) || !validateElementsExist(doc, CARDS_SELECTORS)) {
+            return escalateToBrowser("elementos essenciais ausentes no HTML server-rendered");
+        }
+        FiiInfoHeaderDTO infoHeader = headerScraper.scrape(doc);
+        FiiInfoSobreDTO infoSobre  = infoSobreScraper.scrape(doc);
+        FiiInfoCardsDTO infoCards  = cardsScraper.scrape(doc);
+
+        Map<String, String> headers = page.apiHeaders();
+        String cotacaoUrl = urlTemplates.expand(COTACAO, internalId).orElseThrow();
+        String dividendosUrl = urlTemplates.expand(DIVIDENDOS, internalId).orElseThrow();
+        String historicoUrl = urlTemplates.expand(HISTORICO_INDICADORES, internalId).orElseThrow();
+        final Duration apiTimeout = Duration.ofMillis(API_CALL_TIMEOUT_MS);
+
+        // Sem onErrorReturn: erro aqui significa template desatualizado, não "API sem dados"
+        return Mono.zip(
+                        apiScraper.requestCotacao(cotacaoUrl, headers).timeout(apiTimeout),
+                        apiScraper.requestDividendos(dividendosUrl, headers).timeout(apiTimeout),
+                        apiScraper.requestHistorico(historicoUrl, headers).timeout(apiTimeout))
+                .doOnError(e -> {
+                    if (e instanceof CodecException
+                            || (e instanceof WebClientResponseException w && w.getStatusCode().is4xxClientError())) {
+                        urlTemplates.forget();
+                    }
+                })
+                .map(t -> new FiiDadosFinanceirosDTO(
+                        Math.toIntExact(internalId),
+                        infoHeader,
+                        t.getT3(), // historico
+                        infoSobre,
+                        infoCards,
+                        t.getT2(), // dividendos
+                        t.getT1()  // cotacao
+                ));
+    }
+
+    private Mono<FiiDadosFinanceirosDTO> scrapeFull(String ticker) {
+        // HTML server-rendered + URLs das APIs embutidas na página; browser só na escalada
+        return scrapeHttpFirst(httpFetcher, "fii", ticker,
+                page -> scrapeViaHttp(ticker, page),
+                () -> scrapeWithBrowser(ticker));
+    }
+
+    /**
+     * Caminho HTTP-first: parsers de HTML sobre a página obtida via WebClient e APIs chamadas
+     * com as URLs encontradas no próprio HTML. Escala para o browser se alguma URL faltar.
+     */
+    private Mono<FiiDadosFinanceirosDTO> scrapeViaHttp(String ticker, HttpPageFetcher.FetchedPage page) {
+        Map<String, CapturedRequest> apis = HttpPageFetcher.discoverApiRequests(page, TODAS_AS_CHAVES);
+        if (apis.size() < TODAS_AS_CHAVES.size()) {
+            return escalateToBrowser("URLs das APIs do FII não presentes no HTML");
+        }
+
+        Document doc = page.document();
+        FiiInfoHeaderDTO infoHeader = headerScraper.scrape(doc);
+        FiiInfoSobreDTO infoSobre  = infoSobreScraper.scrape(doc);
+        FiiInfoCardsDTO infoCards  = cardsScraper.scrape(doc);
+        Integer internalId = internalIdScrapper.scrape(apis.values().stream().map(CapturedRequest::url).toList());
+        learnTemplates(key -> Optional.ofNullable(apis.get(key)), internalId);
+
+        return composeWithApis(ticker, internalId, infoHeader, infoSobre, infoCards,
+                key -> Optional.ofNullable(apis.get(key)),
+                correlationIdProvider.getCurrentCorrelationIdOrDefault("unknown"));
+    }
+
+    /**
+     * Caminho Playwright: captura das APIs via XHR e, se falhar, scraping básico somente HTML.
+     */
+    private Mono<FiiDadosFinanceirosDTO> scrapeWithBrowser(String ticker) {
         // Tenta scraping completo com APIs primeiro
         return scrapeWithAsyncApis(ticker)
                 .onErrorResume(ex -> {
@@ -96,23 +222,16 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
                     
                     // Fallback para scraping básico usando a classe base
                     final String url = buildUrl(ticker);
-                    return createReactiveStructure(() -> {
+                    return withPooledPage(pwInit, ticker, url, pooled -> {
                         // Usa implementação da classe base para scraping simples
-                        Browser browser = pwInit.getBrowser();
-                        BrowserContext ctx = createPlaywrightContext(browser);
-                        Page page = createPlaywrightPage(ctx);
-                        
-                        try {
-                            navigateAndValidate(page, url, ticker);
-                            String html = page.content();
-                            Document doc = Jsoup.parse(html);
-                            validateEssentialElements(doc, ESSENTIAL_SELECTORS, CARDS_SELECTORS, ticker, url);
-                            
-                            return executeSpecificScraping(doc, ticker);
-                        } finally {
-                            closePlaywrightResources(page, ctx);
-                        }
-                    }, ticker, () -> {});
+                        Page page = pooled.page();
+                        navigateAndValidate(page, url, ticker);
+                        ExtractedPage fields = extractFields(pwInit, page, PAGE_PLAN, ticker);
+                        validateEssentialElements(fields, ticker, url);
+
+                        return basicDto(headerScraper.scrape(fields), infoSobreScraper.scrape(fields),
+                                cardsScraper.scrape(fields));
+                    });
                 });
     }
     
@@ -136,183 +255,125 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
     }
 
     private Mono<FiiDadosFinanceirosDTO> executarComPlaywright(String ticker, String url) {
-        // refs para fechar com segurança em cancel/erro/sucesso
-        AtomicReference<BrowserContext> ctxRef = new AtomicReference<>();
-        AtomicReference<Page> pageRef = new AtomicReference<>();
-        
         // Usa constantes padronizadas da classe base (DIP)
-        final Duration asyncTimeout = Duration.ofMillis(ASYNC_OPERATION_TIMEOUT_MS);
-        final Duration apiTimeout = Duration.ofMillis(API_CALL_TIMEOUT_MS);
         final Duration networkTimeout = Duration.ofMillis(NETWORK_CAPTURE_TIMEOUT_MS);
         
         // Usa injeção de dependência para correlationId (DIP)
         final String correlationId = correlationIdProvider.getCurrentCorrelationIdOrDefault("unknown");
 
-        return createReactiveStructureForMono(() -> {
+        // Contexto pré-aquecido do pool do browser singleton; a página volta ao pool ao fim
+        // da lambda, com HTML e XHR já extraídos, antes das chamadas de API
+        return withPooledPage(pwInit, ticker, url, pooled -> {
             logger.info("Iniciando scraping Playwright: {} ", url);
 
             try {
-                Browser browser = pwInit.getBrowser(); // singleton já inicializado
-
-                // Usar métodos da classe base para configuração
-                BrowserContext ctx = createPlaywrightContext(browser);
-                Page page = createPlaywrightPage(ctx);
-
-                ctxRef.set(ctx);
-                pageRef.set(page);
-
-                // Captura de XHR por substring (sem regex)
-                final Map<String, CapturedRequest> requestsMapeadas = new ConcurrentHashMap<>();
-                page.onRequest(req -> {
-                    String u = req.url();
-                    Map<String, String> headers = req.headers();
-                    for (String chave : TODAS_AS_CHAVES) {
-                        if (!requestsMapeadas.containsKey(chave) && u.contains(chave)) {
-                            requestsMapeadas.put(chave, new CapturedRequest(u, headers));
-                            logger.info("API capturada ({}): {} ", chave, u);
-                        }
-                    }
-                });
+                Page page = pooled.page();
+
+                // Captura de XHR por substring (sem regex), completada por evento; guarda também
+                // o JSON recebido pelo browser para não baixar as APIs de novo
+                final XhrCaptureRegistry capturas = XhrCaptureRegistry.withResponseBodies(TODAS_AS_CHAVES);
+                pooled.onRequest(capturas::onRequest);
+                pooled.onResponse(capturas::onResponse);
+                pooled.onRequestFailed(capturas::onRequestFailed);
 
                 // Navegar e validar usando método da classe base
                 navigateAndValidate(page, url, ticker);
 
-                // Captura paralela de APIs para reduzir tempo de 30s para ~10s (60% de redução)
-                logger.info("Iniciando captura paralela de APIs para {} ", ticker);
-                
-                    CompletableFuture<Void> historicoFuture = CompletableFuture.runAsync(() ->
-                    waitForKeyWithTimeout(requestsMapeadas, HISTORICO_INDICADORES, NETWORK_CAPTURE_TIMEOUT_MS, ticker, correlationId));
-
-                CompletableFuture<Void> dividendosFuture = CompletableFuture.runAsync(() ->
-                    waitForKeyWithTimeout(requestsMapeadas, DIVIDENDOS, NETWORK_CAPTURE_TIMEOUT_MS, ticker, correlationId));
-
-                CompletableFuture<Void> cotacaoFuture = CompletableFuture.runAsync(() ->
-                    waitForKeyWithTimeout(requestsMapeadas, COTACAO, NETWORK_CAPTURE_TIMEOUT_MS, ticker, correlationId));
-                
-                try {
-                    // Espera todas as APIs simultaneamente com timeout máximo
-                    CompletableFuture.allOf(historicoFuture, dividendosFuture, cotacaoFuture)
-                        .get(NETWORK_CAPTURE_TIMEOUT_MS + 2000, java.util.concurrent.TimeUnit.MILLISECONDS);
-                    
-                    logger.info("Captura paralela concluída para {} ", ticker);
-                } catch (java.util.concurrent.TimeoutException e) {
-                    logger.warn("Timeout na captura paralela para {} após {}ms ", 
-                               ticker, NETWORK_CAPTURE_TIMEOUT_MS + 2000);
-                } catch (Exception e) {
-                    logger.warn("Erro na captura paralela para {}: {} ", 
-                               ticker, e.getMessage());
+                // Segue assim que as três APIs responderem ou o prazo expirar
+                logger.info("Aguardando captura das APIs para {} ", ticker);
+                if (capturas.awaitAll(page, networkTimeout)) {
+                    logger.info("Captura de APIs concluída para {} ", ticker);
                 }
 
-                // HTML para parsers existentes
-                String html = page.content();
-                Document doc = Jsoup.parse(html);
+                // Campos declarados extraídos no browser (sem page.content() + Jsoup.parse)
+                ExtractedPage fields = extractFields(pwInit, page, PAGE_PLAN, ticker);
                 
                 // Validar elementos essenciais usando method da classe base
-                validateEssentialElements(doc, ESSENTIAL_SELECTORS, CARDS_SELECTORS, ticker, url);
+                validateEssentialElements(fields, ticker, url);
 
-                // Parsers (compatíveis com Selenium/Playwright)
-                FiiInfoHeaderDTO infoHeader = headerScraper.scrape(doc);
-                FiiInfoSobreDTO infoSobre  = infoSobreScraper.scrape(doc);
-                FiiInfoCardsDTO infoCards  = cardsScraper.scrape(doc);
+                // Parsers (mesmos seletores do caminho Jsoup)
+                FiiInfoHeaderDTO infoHeader = headerScraper.scrape(fields);
+                FiiInfoSobreDTO infoSobre  = infoSobreScraper.scrape(fields);
+                FiiInfoCardsDTO infoCards  = cardsScraper.scrape(fields);
 
                 // ID interno via URLs capturadas
-                Integer internalId = internalIdScrapper.scrape(
-                        requestsMapeadas.values().stream().map(CapturedRequest::url).toList());
-
-                // Monos das APIs com fallback seguro e timeout padronizado
-                Mono<FiiCotacaoDTO> cotacaoMono = Optional.ofNullable(requestsMapeadas.get(COTACAO))
-                        .map(req -> apiScraper.fetchCotacao(req.url(), req.headers())
-                                .timeout(apiTimeout)
-                                .doOnError(ex -> logger.warn("Timeout na API de cotação para {}: {}", ticker, ex.getMessage()))
-                                .onErrorReturn(new FiiCotacaoDTO(null, null)))
-                        .orElse(Mono.just(new FiiCotacaoDTO(null, null)));
-
-                Mono<List<FiiDividendoDTO>> dividendosMono = Optional.ofNullable(requestsMapeadas.get(DIVIDENDOS))
-                        .map(req -> apiScraper.fetchDividendos(req.url(), req.headers())
-                                .timeout(apiTimeout)
-                                .doOnError(ex -> logger.warn("Timeout na API de dividendos para {}: {}", ticker, ex.getMessage()))
-                                .onErrorReturn(Collections.emptyList()))
-                        .orElse(Mono.just(Collections.emptyList()));
-
-                Mono<FiiIndicadorHistoricoDTO> historicoMono = Optional.ofNullable(requestsMapeadas.get(HISTORICO_INDICADORES))
-                        .map(req -> apiScraper.fetchHistorico(req.url(), req.headers())
-                                .timeout(apiTimeout)
-                                .doOnError(ex -> logger.warn("Timeout na API de histórico para {}: {}", ticker, ex.getMessage()))
-                                .onErrorReturn(new FiiIndicadorHistoricoDTO(Collections.emptyMap())))
-                        .orElse(Mono.just(new FiiIndicadorHistoricoDTO(Collections.emptyMap())));
-
-                // Composição final com timeout global padronizado
-                return Mono.zip(cotacaoMono, dividendosMono, historicoMono)
-                        .timeout(asyncTimeout)
-                        .map(t -> new FiiDadosFinanceirosDTO(
-                                internalId,
-                                infoHeader,
-                                t.getT3(), // historico
-                                infoSobre,
-                                infoCards,
-                                t.getT2(), // dividendos
-                                t.getT1()  // cotacao
-                        ))
-                        .doOnError(java.util.concurrent.TimeoutException.class, 
-                                ex -> logger.error("Timeout geral no scraping Playwright para {}: {}s ", 
-                                          ticker, asyncTimeout.getSeconds()))
-                        .onErrorMap(java.util.concurrent.TimeoutException.class, 
-                                ex -> AsyncRequestTimeoutException.forPlaywrightScraping(ticker, asyncTimeout, correlationId));
+                Integer internalId = internalIdScrapper.scrape(capturas.capturedUrls());
+                learnTemplates(capturas::get, internalId);
+
+                return composeWithApis(ticker, internalId, infoHeader, infoSobre, infoCards,
+                        capturas::get, correlationId);
                         
             } catch (Exception ex) {
                 logger.error("Erro durante inicialização do Playwright para {}: {} ", 
                            ticker, ex.getMessage());
                 throw ex;
             }
-        }, ticker, () -> closePlaywrightResources(pageRef.get(), ctxRef.get()));
+        }).flatMap(apis -> apis);
     }
 
-    /** Espera passiva (polling leve) até uma chave aparecer no mapa, com timeout em ms. */
-    private static void waitForKey(Map<String, ?> map, String key, int timeoutMs) {
-        long deadline = System.nanoTime() + timeoutMs * 1_000_000L;
-        while (System.nanoTime() < deadline) {
-            if (map.containsKey(key)) return;
-            try { Thread.sleep(40); } catch (InterruptedException ignored) {}
+    /**
+     * Registra os templates das URLs de API vistas neste scrape para o refresh direto.
+     */
+    private void learnTemplates(Function<String, Optional<CapturedRequest>> lookup, Integer internalId) {
+        for (String key : TODAS_AS_CHAVES) {
+            lookup.apply(key).ifPresent(req -> urlTemplates.learn(key, req.url(), internalId));
         }
-        // Timeout é aceitável — os Monos já têm fallback default
     }
-    
+
     /**
-     * Versão melhorada do waitForKey com logging detalhado e tratamento de timeout.
+     * Chama as APIs de cotação, dividendos e histórico em paralelo e monta o DTO final.
+     * Cada API tem fallback seguro; a composição tem timeout global padronizado.
+     *
+     * @param lookup Resolve a request (URL + headers) de cada chave de {@link FiiApiConstants}
      */
-    private static void waitForKeyWithTimeout(Map<String, ?> map, String key, int timeoutMs,
-                                            String ticker, String correlationId) {
-        int waited = 0;
-        final int checkInterval = 200;
-        
-        logger.debug("Aguardando captura da API '{}' para ticker {} (timeout: {}ms) ", 
-                    key, ticker, timeoutMs);
-        
-        while (!map.containsKey(key) && waited < timeoutMs) {
-            try { 
-                Thread.sleep(checkInterval); 
-            } catch (InterruptedException e) { 
-                Thread.currentThread().interrupt(); 
-                logger.warn("Interrompido durante espera da API '{}' para ticker {} ", 
-                           key, ticker);
-                break; 
-            }
-            waited += checkInterval;
-            
-            // Log de progresso a cada 2 segundos
-            if (waited % 2000 == 0) {
-                logger.debug("Ainda aguardando API '{}' para ticker {}: {}ms/{}ms ", 
-                           key, ticker, waited, timeoutMs);
-            }
-        }
-        
-        if (map.containsKey(key)) {
-            logger.debug("API '{}' capturada para ticker {} em {}ms ", 
-                        key, ticker, waited);
-        } else {
-            logger.warn("Timeout na captura da API '{}' para ticker {} após {}ms ", 
-                       key, ticker, waited);
-        }
+    private Mono<FiiDadosFinanceirosDTO> composeWithApis(String ticker, Integer internalId,
+                                                        FiiInfoHeaderDTO infoHeader, FiiInfoSobreDTO infoSobre,
+                                                        FiiInfoCardsDTO infoCards,
+                                                        Function<String, Optional<CapturedRequest>> lookup,
+                                                        String correlationId) {
+        // Usa constantes padronizadas da classe base (DIP)
+        final Duration asyncTimeout = Duration.ofMillis(ASYNC_OPERATION_TIMEOUT_MS);
+        final Duration apiTimeout = Duration.ofMillis(API_CALL_TIMEOUT_MS);
+
+        // Monos das APIs com fallback seguro e timeout padronizado
+        Mono<FiiCotacaoDTO> cotacaoMono = lookup.apply(COTACAO)
+                .map(req -> apiScraper.fetchCotacao(req)
+                        .timeout(apiTimeout)
+                        .doOnError(ex -> logger.warn("Timeout na API de cotação para {}: {}", ticker, ex.getMessage()))
+                        .onErrorReturn(new FiiCotacaoDTO(null, null)))
+                .orElse(Mono.just(new FiiCotacaoDTO(null, null)));
+
+        Mono<List<FiiDividendoDTO>> dividendosMono = lookup.apply(DIVIDENDOS)
+                .map(req -> apiScraper.fetchDividendos(req)
+                        .timeout(apiTimeout)
+                        .doOnError(ex -> logger.warn("Timeout na API de dividendos para {}: {}", ticker, ex.getMessage()))
+                        .onErrorReturn(Collections.emptyList()))
+                .orElse(Mono.just(Collections.emptyList()));
+
+        Mono<FiiIndicadorHistoricoDTO> historicoMono = lookup.apply(HISTORICO_INDICADORES)
+                .map(req -> apiScraper.fetchHistorico(req)
+                        .timeout(apiTimeout)
+                        .doOnError(ex -> logger.warn("Timeout na API de histórico para {}: {}", ticker, ex.getMessage()))
+                        .onErrorReturn(new FiiIndicadorHistoricoDTO(Collections.emptyMap())))
+                .orElse(Mono.just(new FiiIndicadorHistoricoDTO(Collections.emptyMap())));
+
+        // Composição final com timeout global padronizado
+        return Mono.zip(cotacaoMono, dividendosMono, historicoMono)
+                .timeout(asyncTimeout)
+                .map(t -> new FiiDadosFinanceirosDTO(
+                        internalId,
+                        infoHeader,
+                        t.getT3(), // historico
+                        infoSobre,
+                        infoCards,
+                        t.getT2(), // dividendos
+                        t.getT1()  // cotacao
+                ))
+                .doOnError(java.util.concurrent.TimeoutException.class,
+                        ex -> logger.error("Timeout geral no scraping para {}: {}s ",
+                                  ticker, asyncTimeout.getSeconds()))
+                .onErrorMap(java.util.concurrent.TimeoutException.class,
+                        ex -> AsyncRequestTimeoutException.forPlaywrightScraping(ticker, asyncTimeout, correlationId));
     }
 
     // Template methods implementation
@@ -326,6 +387,11 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
     protected String[] getCardsSelectors() {
         return CARDS_SELECTORS;
     }
+
+    @Override
+    protected PageRegions getPageRegions() {
+        return PAGE_REGIONS;
+    }
     
     @Override
     protected String buildUrl(String ticker) {
@@ -342,6 +408,11 @@ public class FiiPlaywrightDirectScraperAdapter extends AbstractScraperAdapter<Fi
         FiiInfoSobreDTO infoSobre = infoSobreScraper.scrape(doc);
         FiiInfoCardsDTO infoCards = cardsScraper.scrape(doc);
         
+        return basicDto(infoHeader, infoSobre, infoCards);
+    }
+
+    private static FiiDadosFinanceirosDTO basicDto(FiiInfoHeaderDTO infoHeader, FiiInfoSobreDTO infoSobre,
+                                                   FiiInfoCardsDTO infoCards) {
         // Retorna DTO básico sem dados de APIs (fallback seguro)
         return new FiiDadosFinanceirosDTO(
             null, // internalId - não disponível sem URLs de API
@@ -8,12 +8,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.devtools.DevTools;
 import org.openqa.selenium.devtools.v138.network.Network;
 import org.slf4j.Logger;
@@ -22,6 +21,7 @@ import org.springframework.stereotype.Component;
 
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.FiiDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction.PageRegions;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiCotacaoDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
@@ -31,8 +31,9 @@ import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIn
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiInfoHeaderDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiInfoSobreDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.ScrapeResult;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.pool.PooledDriver;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.pool.SeleniumDriverPool;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.retry.SeleniumRetryManager;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -53,19 +54,22 @@ public class FiiSeleniumScraperAdapter extends AbstractScraperAdapter<FiiDadosFi
     private final FiiInfoSobreScraper fiiInfoSobreScraper;
     private final FiiCardsScraper fiiCardsScraper;
     private final SeleniumRetryManager retryManager;
+    private final SeleniumDriverPool driverPool;
 
     public FiiSeleniumScraperAdapter(FiiHeaderScraper fiiHeaderScraper, 
                                    FiiApiScraper fiiApiScraper, 
                                    FiiInternalIdScrapper fiiInternalIdScrapper, 
                                    FiiInfoSobreScraper fiiInfoSobreScraper, 
                                    FiiCardsScraper fiiCardsScraper,
-                                   SeleniumRetryManager retryManager) {
+                                   SeleniumRetryManager retryManager,
+                                   SeleniumDriverPool driverPool) {
         this.fiiHeaderScraper = fiiHeaderScraper;
         this.fiiApiScraper = fiiApiScraper;
         this.fiiInternalIdScrapper = fiiInternalIdScrapper;
         this.fiiInfoSobreScraper = fiiInfoSobreScraper;
         this.fiiCardsScraper = fiiCardsScraper;
         this.retryManager = retryManager;
+        this.driverPool = driverPool;
         
         logger.info("FiiSeleniumScraperAdapter inicializado com retry manager: {}", 
                    retryManager.getRetryConfiguration());
@@ -76,133 +80,33 @@ public class FiiSeleniumScraperAdapter extends AbstractScraperAdapter<FiiDadosFi
         String urlCompleta = buildUrl(ticker);
         logger.info("Iniciando scraping com Selenium para a url {}", urlCompleta);
 
-        // 1. Criação robusta do WebDriver com retry automático
-        Mono<ChromeDriver> driverMono = Mono.fromCallable(() -> {
-            WebDriverManager.chromedriver().setup();
-            ChromeOptions options = createChromeOptions();
-            return retryManager.createWebDriverWithRetry(options);
-        });
-
-        // 2. Configuração robusta do DevTools com degradação graceful
-        return driverMono.flatMap(driver -> {
-                    DevTools devTools = null;
-                    final Map<String, CapturedRequest> requestsMapeadas = new ConcurrentHashMap<>();
-                    
-                    try {
-                        devTools = retryManager.setupDevToolsWithRetry(driver);
-                        
-                        // Configurar listener de rede com tratamento de erros
-                        devTools.addListener(Network.requestWillBeSent(), requestSent -> {
-                            try {
-                                String url = requestSent.getRequest().getUrl();
-                                Map<String, String> headers = requestSent.getRequest().getHeaders().entrySet().stream()
-                                        .collect(Collectors.toMap(Map.Entry::getKey, e -> String.valueOf(e.getValue())));
-                                for (String chave : FiiApiConstants.TODAS_AS_CHAVES) {
-                                    if (url.contains(chave)) {
-                                        requestsMapeadas.putIfAbsent(chave, new CapturedRequest(url, headers));
-                                        logger.info(">> URL de API do tipo '{}' CAPTURADA: {}", chave, url);
-                                        break;
-                                    }
-                                }
-                            } catch (Exception e) {
-                                logger.warn("Erro ao processar requisição de rede para ticker {}: {}", ticker, e.getMessage());
+        // 1. Sessão aquecida do pool (driver + DevTools já configurados), emprestada e devolvida
+        // na mesma thread; o cancelamento só marca a sessão, descartada na devolução
+        Mono<ScrapeResult> capturaMono = Mono.defer(() -> {
+            AtomicBoolean cancelado = new AtomicBoolean();
+            return Mono.fromCallable(() -> {
+                        PooledDriver pooled = driverPool.lease(ticker, urlCompleta);
+                        try {
+                            return capturarPagina(pooled, ticker, urlCompleta);
+                        } catch (org.openqa.selenium.WebDriverException e) {
+                            pooled.markBroken();
+                            throw e;
+                        } finally {
+                            if (cancelado.get()) {
+                                pooled.markBroken();
                             }
-                        });
-                        
-                        logger.info("DevTools configurado com sucesso para ticker {}", ticker);
-                    } catch (Exception e) {
-                        logger.warn("Falha ao configurar DevTools para ticker {}, continuando sem captura de rede: {}", 
-                                   ticker, e.getMessage());
-                        // Continua sem DevTools - degradação graceful
-                    }
-                    
-                    final DevTools finalDevTools = devTools;
-
-                    // A lógica principal de scraping está encapsulada em um novo Mono.fromCallable
-                     return Mono.fromCallable(() -> {
-                                 // Navegação robusta com retry automático
-                                 retryManager.loadPageWithRetry(driver, urlCompleta);
-                                 
-                                 // Aguardar captura de APIs com timeout inteligente
-                                 try {
-                                     int maxWaitTime = 8000; // 8 segundos máximo
-                                     int checkInterval = 1000; // Verificar a cada 1 segundo
-                                     int waited = 0;
-                                     
-                                     while (waited < maxWaitTime && requestsMapeadas.size() < FiiApiConstants.TODAS_AS_CHAVES.size()) {
-                                         Thread.sleep(checkInterval);
-                                         waited += checkInterval;
-                                         
-                                         // Log progresso da captura
-                                         if (waited % 2000 == 0) {
-                                             logger.debug("Captura de APIs para ticker {}: {}/{} URLs após {}ms",
-                                                         ticker, requestsMapeadas.size(), FiiApiConstants.TODAS_AS_CHAVES.size(), waited);
-                                         }
-                                     }
-                                     
-                                     logger.info("Captura finalizada para ticker {}: {}/{} URLs em {}ms",
-                                                ticker, requestsMapeadas.size(), FiiApiConstants.TODAS_AS_CHAVES.size(), waited);
-                                                
-                                 } catch (InterruptedException e) {
-                                     Thread.currentThread().interrupt();
-                                     logger.warn("Captura de APIs interrompida para ticker {}", ticker);
-                                 }
-                                 
-                                 // Validação e parsing do HTML
-                                 String html;
-                                 try {
-                                     html = driver.getPageSource();
-                                     if (html == null || html.trim().isEmpty()) {
-                                         throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
-                                             ticker, urlCompleta, "HTML vazio retornado pelo WebDriver para FII");
-                                     }
-                                     logger.info("HTML obtido com sucesso para FII ticker {}: {} caracteres", ticker, html.length());
-                                 } catch (org.openqa.selenium.WebDriverException e) {
-                                     logger.error("Falha ao obter HTML da página {} (FII ticker {}): {}", urlCompleta, ticker, e.getMessage());
-                                     throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
-                                         ticker, urlCompleta, "Falha ao obter HTML FII: " + e.getMessage(), e);
-                                 }
-                                 
-                                 // Validação básica de estrutura HTML
-                                 try {
-                                     org.jsoup.nodes.Document tempDoc = Jsoup.parse(html);
-                                     
-                                     if (tempDoc.select("title").isEmpty()) {
-                                         throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
-                                             ticker, urlCompleta, "Estrutura HTML inválida para FII - sem título");
-                                     }
-                                     
-                                     // Validar elementos essenciais usando método da classe base
-                                 validateEssentialElements(tempDoc, ESSENTIAL_SELECTORS, CARDS_SELECTORS, ticker, urlCompleta);
-                                     
-                                 } catch (Exception e) {
-                                     logger.error("Falha na validação HTML para FII ticker {}: {}", ticker, e.getMessage());
-                                     throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
-                                         ticker, urlCompleta, "Falha na validação HTML FII: " + e.getMessage(), e);
-                                 }
-                                 
-                                 // Verificar se capturou pelo menos algumas URLs importantes
-                                 if (requestsMapeadas.isEmpty()) {
-                                     logger.warn("Nenhuma URL de API capturada para FII ticker {}", ticker);
-                                     throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.NetworkCaptureException(
-                                         ticker, "Falha na captura de APIs - nenhuma URL encontrada", 0, FiiApiConstants.TODAS_AS_CHAVES.size(), null);
-                                 }
-
-                                 // Empacotar os resultados para a próxima etapa
-                                 return new ScrapeResult(html, requestsMapeadas);
-                            })
-                            // 3. doFinally garante que o driver será fechado, independentemente do que acontecer
-                             .doFinally(signalType -> {
-                                 logger.info("Finalizando a sessão do Selenium para FII ticker {}. Sinal: {}", ticker, signalType);
-                                 
-                                 // Fechar recursos usando método da classe base
-                                 closeSeleniumResources(driver, finalDevTools);
-                             });
-                })
-                // 4. Este flatMap é a segunda etapa reativa do nosso pipeline
+                            logger.info("Devolvendo a sessão do Selenium ao pool para FII ticker {}", ticker);
+                            pooled.release();
+                        }
+                    })
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doOnCancel(() -> cancelado.set(true));
+        });
 
+        // 2. Este flatMap é a segunda etapa reativa do nosso pipeline, já sem a sessão emprestada
+        return capturaMono
                 .flatMap(result -> {
-                    Document doc = Jsoup.parse(result.html());
+                    Document doc = parsePage(result.html(), urlCompleta);
 
                     // Processar os dados síncronos do HTML
                     FiiInfoHeaderDTO infoHeader = fiiHeaderScraper.scrape(doc);
@@ -213,18 +117,18 @@ public class FiiSeleniumScraperAdapter extends AbstractScraperAdapter<FiiDadosFi
 
                     // Disparar as chamadas assíncronas da API
                     Mono<FiiCotacaoDTO> cotacaoMono = result.findRequest(COTACAO)
-                            .map(req -> fiiApiScraper.fetchCotacao(req.url(), req.headers()))
+                            .map(req -> fiiApiScraper.fetchCotacao(req))
                             .orElse(Mono.just(new FiiCotacaoDTO(null, null)));
 
                     Mono<List<FiiDividendoDTO>> dividendosMono = result.findRequest(DIVIDENDOS)
-                            .map(req -> fiiApiScraper.fetchDividendos(req.url(), req.headers()))
+                            .map(req -> fiiApiScraper.fetchDividendos(req))
                             .orElse(Mono.just(Collections.emptyList()));
 
                     Mono<FiiIndicadorHistoricoDTO> historicoMono = result.findRequest(HISTORICO_INDICADORES)
-                            .map(req -> fiiApiScraper.fetchHistorico(req.url(), req.headers()))
+                            .map(req -> fiiApiScraper.fetchHistorico(req))
                             .orElse(Mono.just(new FiiIndicadorHistoricoDTO(Collections.emptyMap())));
 
-                    // 5. Usar Mono.zip para aguardar a conclusão de todas as chamadas da API e então combinar os resultados
+                    // 3. Usar Mono.zip para aguardar a conclusão de todas as chamadas da API e então combinar os resultados
                     return Mono.zip(cotacaoMono, dividendosMono, historicoMono)
                             .map(tuple -> {
                                 FiiCotacaoDTO cotacao = tuple.getT1();
@@ -256,6 +160,118 @@ public class FiiSeleniumScraperAdapter extends AbstractScraperAdapter<FiiDadosFi
                 .subscribeOn(Schedulers.boundedElastic()); // Ensures the entire operation runs on a dedicated thread
     }
     
+    /**
+     * Navega com a sessão emprestada, captura as URLs de API via DevTools e devolve o HTML.
+     * Roda inteiro na thread do scrape, que é quem devolve a sessão ao pool.
+     */
+    private ScrapeResult capturarPagina(PooledDriver pooled, String ticker, String urlCompleta) throws Exception {
+        final ChromeDriver driver = pooled.driver();
+        final DevTools devTools = pooled.devTools();
+        final Map<String, CapturedRequest> requestsMapeadas = new ConcurrentHashMap<>();
+
+        try {
+            if (devTools == null) {
+                throw new IllegalStateException("DevTools indisponível na sessão do pool");
+            }
+
+            // Configurar listener de rede com tratamento de erros
+            devTools.addListener(Network.requestWillBeSent(), requestSent -> {
+                try {
+                    String url = requestSent.getRequest().getUrl();
+                    Map<String, String> headers = requestSent.getRequest().getHeaders().entrySet().stream()
+                            .collect(Collectors.toMap(Map.Entry::getKey, e -> String.valueOf(e.getValue())));
+                    for (String chave : FiiApiConstants.TODAS_AS_CHAVES) {
+                        if (url.contains(chave)) {
+                            requestsMapeadas.putIfAbsent(chave, new CapturedRequest(url, headers));
+                            logger.info(">> URL de API do tipo '{}' CAPTURADA: {}", chave, url);
+                            break;
+                        }
+                    }
+                } catch (Exception e) {
+                    logger.warn("Erro ao processar requisição de rede para ticker {}: {}", ticker, e.getMessage());
+                }
+            });
+
+            logger.info("DevTools configurado com sucesso para ticker {}", ticker);
+        } catch (Exception e) {
+            logger.warn("Falha ao configurar DevTools para ticker {}, continuando sem captura de rede: {}", 
+                       ticker, e.getMessage());
+            // Continua sem DevTools - degradação graceful
+        }
+
+        // Navegação robusta com retry automático
+        retryManager.loadPageWithRetry(driver, urlCompleta);
+
+        // Aguardar captura de APIs com timeout inteligente
+        try {
+            int maxWaitTime = 8000; // 8 segundos máximo
+            int checkInterval = 1000; // Verificar a cada 1 segundo
+            int waited = 0;
+
+            while (waited < maxWaitTime && requestsMapeadas.size() < FiiApiConstants.TODAS_AS_CHAVES.size()) {
+                Thread.sleep(checkInterval);
+                waited += checkInterval;
+
+                // Log progresso da captura
+                if (waited % 2000 == 0) {
+                    logger.debug("Captura de APIs para ticker {}: {}/{} URLs após {}ms",
+                                ticker, requestsMapeadas.size(), FiiApiConstants.TODAS_AS_CHAVES.size(), waited);
+                }
+            }
+
+            logger.info("Captura finalizada para ticker {}: {}/{} URLs em {}ms",
+                       ticker, requestsMapeadas.size(), FiiApiConstants.TODAS_AS_CHAVES.size(), waited);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Captura de APIs interrompida para ticker {}", ticker);
+        }
+
+        // Validação e parsing do HTML
+        String html;
+        try {
+            html = driver.getPageSource();
+            if (html == null || html.trim().isEmpty()) {
+                throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
+                    ticker, urlCompleta, "HTML vazio retornado pelo WebDriver para FII");
+            }
+            logger.info("HTML obtido com sucesso para FII ticker {}: {} caracteres", ticker, html.length());
+        } catch (org.openqa.selenium.WebDriverException e) {
+            pooled.markBroken();
+            logger.error("Falha ao obter HTML da página {} (FII ticker {}): {}", urlCompleta, ticker, e.getMessage());
+            throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
+                ticker, urlCompleta, "Falha ao obter HTML FII: " + e.getMessage(), e);
+        }
+
+        // Validação básica de estrutura HTML
+        try {
+            org.jsoup.nodes.Document tempDoc = parsePage(html, urlCompleta);
+
+            if (tempDoc.select("title").isEmpty()) {
+                throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
+                    ticker, urlCompleta, "Estrutura HTML inválida para FII - sem título");
+            }
+
+            // Validar elementos essenciais usando método da classe base
+            validateEssentialElements(tempDoc, ESSENTIAL_SELECTORS, CARDS_SELECTORS, ticker, urlCompleta);
+
+        } catch (Exception e) {
+            logger.error("Falha na validação HTML para FII ticker {}: {}", ticker, e.getMessage());
+            throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.HtmlStructureException(
+                ticker, urlCompleta, "Falha na validação HTML FII: " + e.getMessage(), e);
+        }
+
+        // Verificar se capturou pelo menos algumas URLs importantes
+        if (requestsMapeadas.isEmpty()) {
+            logger.warn("Nenhuma URL de API capturada para FII ticker {}", ticker);
+            throw new br.dev.rodrigopinheiro.tickerscraper.domain.exception.NetworkCaptureException(
+                ticker, "Falha na captura de APIs - nenhuma URL encontrada", 0, FiiApiConstants.TODAS_AS_CHAVES.size(), null);
+        }
+
+        // Empacotar os resultados para a próxima etapa
+        return new ScrapeResult(html, requestsMapeadas);
+    }
+
     // Template methods implementation
     
     @Override
@@ -267,6 +283,11 @@ public class FiiSeleniumScraperAdapter extends AbstractScraperAdapter<FiiDadosFi
     protected String[] getCardsSelectors() {
         return CARDS_SELECTORS;
     }
+
+    @Override
+    protected PageRegions getPageRegions() {
+        return FiiPlaywrightDirectScraperAdapter.PAGE_REGIONS;
+    }
     
     @Override
     protected String buildUrl(String ticker) {
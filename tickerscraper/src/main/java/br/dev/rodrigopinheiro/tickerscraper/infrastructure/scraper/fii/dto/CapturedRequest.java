@@ -7,7 +7,21 @@ import java.util.Map;
  * respectivos headers enviados pelo browser. Os headers incluem o
  * cabeçalho de cookies, permitindo que chamadas subsequentes para as
  * APIs reproduzam o mesmo contexto de requisição.
+ *
+ * Quando o browser já baixou a resposta, {@code body} traz o JSON recebido
+ * e dispensa uma segunda chamada via WebClient.
  */
-public record CapturedRequest(String url, Map<String, String> headers) {
-}
+public record CapturedRequest(String url, Map<String, String> headers, String body) {
+
+    public CapturedRequest(String url, Map<String, String> headers) {
+        this(url, headers, null);
+    }
 
+    public boolean hasBody() {
+        return body != null && !body.isEmpty();
+    }
+
+    public CapturedRequest withBody(String body) {
+        return new CapturedRequest(url, headers, body);
+    }
+}
@@ -1,12 +1,608 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto;
 
-import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
 
-public record FiiIndicadorHistoricoDTO(
-        @JsonValue
-        Map<String, List<FiiIndicadorHistoricoItemDTO>> indicadores
-) {
+/**
+ * Histórico de indicadores do FII (indicador → itens year/key/value/type), armazenado em colunas.
+ *
+ * <p>Cada indicador guarda arrays primitivos em vez de uma lista de {@link FiiIndicadorHistoricoItemDTO}:
+ * anos como {@code int} (textos como "Atual" vão para o dicionário), valores em ponto fixo
+ * ({@code long} + escala) e key/type codificados num dicionário de Strings compartilhado por todo o histórico.
+ * Os itens mantêm a ordem da API, da qual depende a leitura do primeiro valor "Atual".</p>
+ *
+ * <p>{@link #indicadores()} continua expondo o formato {@code Map<String, List<FiiIndicadorHistoricoItemDTO>>}
+ * como visão somente leitura (os itens são criados sob demanda), e o JSON lido e gravado
+ * (API e {@code dados_brutos_json}) é o mesmo de antes, escrito e lido direto das colunas.
+ * Itens nulos dentro das listas são descartados.</p>
+ */
+@JsonSerialize(using = FiiIndicadorHistoricoDTO.Serializer.class)
+@JsonDeserialize(using = FiiIndicadorHistoricoDTO.Deserializer.class)
+public final class FiiIndicadorHistoricoDTO {
+
+    // Códigos de ano: >= 0 é o próprio ano; negativo referencia o dicionário (-(índice + 1))
+    private static final int ANO_NULO = Integer.MIN_VALUE;
+    // Códigos de escala especiais
+    private static final byte VALOR_NULO = Byte.MIN_VALUE;
+    private static final byte VALOR_GRANDE = Byte.MAX_VALUE;
+    private static final int TEXTO_NULO = -1;
+
+    // null quando o histórico inteiro é nulo (JSON null)
+    private final String[] grupos;
+    private final Serie[] series;
+    private final String[] dicionario;
+
+    public FiiIndicadorHistoricoDTO(Map<String, List<FiiIndicadorHistoricoItemDTO>> indicadores) {
+        this(build(indicadores));
+    }
+
+    private FiiIndicadorHistoricoDTO(Builder builder) {
+        if (builder == null) {
+            this.grupos = null;
+            this.series = null;
+            this.dicionario = null;
+        } else {
+            this.grupos = builder.grupos.toArray(String[]::new);
+            this.series = builder.series.stream().map(s -> s == null ? null : s.compactar()).toArray(Serie[]::new);
+            this.dicionario = builder.textos.toArray(String[]::new);
+        }
+    }
+
+    private static Builder build(Map<String, List<FiiIndicadorHistoricoItemDTO>> indicadores) {
+        if (indicadores == null) {
+            return null;
+        }
+        Builder builder = new Builder();
+        indicadores.forEach((grupo, itens) -> {
+            builder.grupo(grupo, itens == null);
+            if (itens != null) {
+                for (FiiIndicadorHistoricoItemDTO item : itens) {
+                    builder.item(grupo, item);
+                }
+            }
+        });
+        return builder;
+    }
+
+    /**
+     * Builder para montar o histórico item a item (ex.: a partir do stream da API), sem listas intermediárias.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Visão somente leitura no formato da API; {@code null} se o histórico é nulo.
+     */
+    public Map<String, List<FiiIndicadorHistoricoItemDTO>> indicadores() {
+        return grupos == null ? null : new Indicadores();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof FiiIndicadorHistoricoDTO outro
+                && Objects.equals(indicadores(), outro.indicadores()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(indicadores());
+    }
+
+    @Override
+    public String toString() {
+        return "FiiIndicadorHistoricoDTO[indicadores=" + indicadores() + "]";
+    }
+
+    private String texto(int codigo) {
+        return codigo == TEXTO_NULO ? null : dicionario[codigo];
+    }
+
+    private String ano(Serie serie, int i) {
+        int codigo = serie.anos[i];
+        if (codigo == ANO_NULO) {
+            return null;
+        }
+        return codigo >= 0 ? Integer.toString(codigo) : dicionario[-codigo - 1];
+    }
+
+    private static BigDecimal valor(Serie serie, int i) {
+        byte escala = serie.escalas[i];
+        if (escala == VALOR_NULO) {
+            return null;
+        }
+        return escala == VALOR_GRANDE ? serie.grandes[i] : BigDecimal.valueOf(serie.valores[i], escala);
+    }
+
+    private FiiIndicadorHistoricoItemDTO item(Serie serie, int i) {
+        return new FiiIndicadorHistoricoItemDTO(ano(serie, i), texto(serie.chaves[i]), valor(serie, i), texto(serie.tipos[i]));
+    }
+
+    /**
+     * Colunas de um indicador; todas com o mesmo tamanho.
+     */
+    private static final class Serie {
+        private int tamanho;
+        private int[] anos;
+        private int[] chaves;
+        private int[] tipos;
+        private long[] valores;
+        private byte[] escalas;
+        // Valores que não cabem em long/escala de um byte; alocado só quando necessário
+        private BigDecimal[] grandes;
+
+        private Serie(int capacidade) {
+            anos = new int[capacidade];
+            chaves = new int[capacidade];
+            tipos = new int[capacidade];
+            valores = new long[capacidade];
+            escalas = new byte[capacidade];
+        }
+
+        private void crescer() {
+            int capacidade = Math.max(16, anos.length * 2);
+            anos = Arrays.copyOf(anos, capacidade);
+            chaves = Arrays.copyOf(chaves, capacidade);
+            tipos = Arrays.copyOf(tipos, capacidade);
+            valores = Arrays.copyOf(valores, capacidade);
+            escalas = Arrays.copyOf(escalas, capacidade);
+            if (grandes != null) {
+                grandes = Arrays.copyOf(grandes, capacidade);
+            }
+        }
+
+        private Serie compactar() {
+            if (anos.length != tamanho) {
+                anos = Arrays.copyOf(anos, tamanho);
+                chaves = Arrays.copyOf(chaves, tamanho);
+                tipos = Arrays.copyOf(tipos, tamanho);
+                valores = Arrays.copyOf(valores, tamanho);
+                escalas = Arrays.copyOf(escalas, tamanho);
+                if (grandes != null) {
+                    grandes = Arrays.copyOf(grandes, tamanho);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Acumula grupos e itens codificando-os direto nas colunas. Não é thread-safe.
+     */
+    public static final class Builder {
+        private final List<String> grupos = new ArrayList<>();
+        private final List<Serie> series = new ArrayList<>();
+        private final Map<String, Integer> posicoes = new HashMap<>();
+        private final List<String> textos = new ArrayList<>();
+        private final Map<String, Integer> codigos = new HashMap<>();
+        private final int[] recentes = {TEXTO_NULO, TEXTO_NULO, TEXTO_NULO, TEXTO_NULO};
+        private int proximoRecente;
+
+        private Builder() {
+        }
+
+        /**
+         * Adiciona um item ao indicador {@code grupo} (criado na primeira vez). Itens nulos são ignorados.
+         */
+        public Builder item(String grupo, FiiIndicadorHistoricoItemDTO item) {
+            Serie serie = serie(grupo, false);
+            if (item != null) {
+                adicionar(serie, item.year(), item.key(), item.value(), item.type());
+            }
+            return this;
+        }
+
+        /**
+         * Registra o indicador {@code grupo} mesmo sem itens: vazio, ou {@code null} com {@code nulo}.
+         * Itens adicionados depois a um grupo nulo o tornam uma lista.
+         */
+        public Builder grupo(String grupo, boolean nulo) {
+            serie(grupo, nulo);
+            return this;
+        }
+
+        public FiiIndicadorHistoricoDTO build() {
+            return new FiiIndicadorHistoricoDTO(this);
+        }
+
+        private Serie serie(String grupo, boolean nulo) {
+            Integer posicao = posicoes.get(grupo);
+            if (posicao != null) {
+                Serie serie = series.get(posicao);
+                if (serie == null && !nulo) {
+                    serie = new Serie(16);
+                    series.set(posicao, serie);
+                }
+                return serie;
+            }
+            Serie serie = nulo ? null : new Serie(16);
+            posicoes.put(grupo, grupos.size());
+            grupos.add(grupo);
+            series.add(serie);
+            return serie;
+        }
+
+        private void adicionar(Serie serie, String ano, String chave, BigDecimal valor, String tipo) {
+            int i = novoItem(serie);
+            serie.anos[i] = codificarAno(ano);
+            serie.chaves[i] = codificar(chave);
+            serie.tipos[i] = codificar(tipo);
+            definirValor(serie, i, valor);
+        }
+
+        private static int novoItem(Serie serie) {
+            if (serie.tamanho == serie.anos.length) {
+                serie.crescer();
+            }
+            return serie.tamanho++;
+        }
+
+        private static void definirValor(Serie serie, int i, BigDecimal valor) {
+            if (valor == null) {
+                serie.escalas[i] = VALOR_NULO;
+            } else if (valor.scale() > VALOR_NULO && valor.scale() < VALOR_GRANDE && valor.unscaledValue().bitLength() < 64) {
+                serie.valores[i] = valor.unscaledValue().longValue();
+                serie.escalas[i] = (byte) valor.scale();
+            } else {
+                if (serie.grandes == null) {
+                    serie.grandes = new BigDecimal[serie.anos.length];
+                }
+                serie.grandes[i] = valor;
+                serie.escalas[i] = VALOR_GRANDE;
+            }
+        }
+
+        /**
+         * Grava um número JSON simples (sinal, até 18 dígitos e ponto decimal, sem expoente) sem criar BigDecimal,
+         * com o mesmo valor e escala que {@code new BigDecimal(numero)}. Retorna false para os demais formatos.
+         */
+        private static boolean definirValor(Serie serie, int i, CharSequence numero) {
+            int tamanho = numero.length();
+            int inicio = tamanho > 0 && numero.charAt(0) == '-' ? 1 : 0;
+            long unscaled = 0;
+            int digitos = 0;
+            int ponto = -1;
+            for (int c = inicio; c < tamanho; c++) {
+                char ch = numero.charAt(c);
+                if (ch == '.' && ponto < 0) {
+                    ponto = c;
+                } else if (ch >= '0' && ch <= '9' && ++digitos <= 18) {
+                    unscaled = unscaled * 10 + (ch - '0');
+                } else {
+                    return false;
+                }
+            }
+            if (digitos == 0 || ponto == tamanho - 1) {
+                return false;
+            }
+            serie.valores[i] = inicio == 1 ? -unscaled : unscaled;
+            serie.escalas[i] = (byte) (ponto < 0 ? 0 : tamanho - ponto - 1);
+            return true;
+        }
+
+        private int codificar(CharSequence texto) {
+            if (texto == null) {
+                return TEXTO_NULO;
+            }
+            // key, type e "Atual" se repetem item a item: compara com os últimos códigos antes de criar a String
+            for (int recente : recentes) {
+                if (recente != TEXTO_NULO && textos.get(recente).contentEquals(texto)) {
+                    return recente;
+                }
+            }
+            String valor = texto.toString();
+            Integer codigo = codigos.get(valor);
+            if (codigo == null) {
+                codigo = textos.size();
+                textos.add(valor);
+                codigos.put(valor, codigo);
+            }
+            recentes[proximoRecente] = codigo;
+            proximoRecente = (proximoRecente + 1) % recentes.length;
+            return codigo;
+        }
+
+        private int codificarAno(CharSequence ano) {
+            if (ano == null) {
+                return ANO_NULO;
+            }
+            // Só a forma canônica vira int, para que a volta a String seja idêntica
+            int tamanho = ano.length();
+            if (tamanho == 0 || tamanho > 9 || (ano.charAt(0) == '0' && tamanho > 1)) {
+                return -codificar(ano) - 1;
+            }
+            int numero = 0;
+            for (int i = 0; i < tamanho; i++) {
+                char c = ano.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -codificar(ano) - 1;
+                }
+                numero = numero * 10 + (c - '0');
+            }
+            return numero;
+        }
+    }
+
+    private final class Indicadores extends AbstractMap<String, List<FiiIndicadorHistoricoItemDTO>> {
+
+        @Override
+        public List<FiiIndicadorHistoricoItemDTO> get(Object grupo) {
+            int posicao = Arrays.asList(grupos).indexOf(grupo);
+            return posicao < 0 ? null : itens(posicao);
+        }
+
+        @Override
+        public boolean containsKey(Object grupo) {
+            return Arrays.asList(grupos).contains(grupo);
+        }
+
+        @Override
+        public int size() {
+            return grupos.length;
+        }
+
+        @Override
+        public Set<Entry<String, List<FiiIndicadorHistoricoItemDTO>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, List<FiiIndicadorHistoricoItemDTO>>> iterator() {
+                    return new Iterator<>() {
+                        private int proximo;
+
+                        @Override
+                        public boolean hasNext() {
+                            return proximo < grupos.length;
+                        }
+
+                        @Override
+                        public Entry<String, List<FiiIndicadorHistoricoItemDTO>> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            int posicao = proximo++;
+                            return new SimpleImmutableEntry<>(grupos[posicao], itens(posicao));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return grupos.length;
+                }
+            };
+        }
+
+        private List<FiiIndicadorHistoricoItemDTO> itens(int posicao) {
+            Serie serie = series[posicao];
+            return serie == null ? null : new Itens(serie);
+        }
+    }
+
+    private final class Itens extends AbstractList<FiiIndicadorHistoricoItemDTO> implements RandomAccess {
+        private final Serie serie;
+
+        private Itens(Serie serie) {
+            this.serie = serie;
+        }
+
+        @Override
+        public FiiIndicadorHistoricoItemDTO get(int i) {
+            if (i < 0 || i >= serie.tamanho) {
+                throw new IndexOutOfBoundsException(i);
+            }
+            return item(serie, i);
+        }
+
+        @Override
+        public int size() {
+            return serie.tamanho;
+        }
+    }
+
+    /**
+     * Escreve o JSON da API ({@code {"indicador": [{"year", "key", "value", "type"}, ...]}}) direto das colunas.
+     * O valor passa pelo serializer de BigDecimal configurado no ObjectMapper.
+     */
+    static final class Serializer extends StdSerializer<FiiIndicadorHistoricoDTO> {
+
+        Serializer() {
+            super(FiiIndicadorHistoricoDTO.class);
+        }
+
+        @Override
+        public void serialize(FiiIndicadorHistoricoDTO dto, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (dto.grupos == null) {
+                gen.writeNull();
+                return;
+            }
+            JsonSerializer<Object> decimal = provider.findValueSerializer(BigDecimal.class);
+            char[] digitos = new char[10];
+            gen.writeStartObject();
+            for (int g = 0; g < dto.grupos.length; g++) {
+                gen.writeFieldName(dto.grupos[g]);
+                Serie serie = dto.series[g];
+                if (serie == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                gen.writeStartArray();
+                for (int i = 0; i < serie.tamanho; i++) {
+                    gen.writeStartObject();
+                    gen.writeFieldName("year");
+                    escreverAno(dto, serie.anos[i], digitos, gen);
+                    gen.writeStringField("key", dto.texto(serie.chaves[i]));
+                    gen.writeFieldName("value");
+                    BigDecimal valor = valor(serie, i);
+                    if (valor == null) {
+                        gen.writeNull();
+                    } else {
+                        decimal.serialize(valor, gen, provider);
+                    }
+                    gen.writeStringField("type", dto.texto(serie.tipos[i]));
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+            }
+            gen.writeEndObject();
+        }
+
+        private static void escreverAno(FiiIndicadorHistoricoDTO dto, int codigo, char[] digitos, JsonGenerator gen)
+                throws IOException {
+            if (codigo == ANO_NULO) {
+                gen.writeNull();
+            } else if (codigo < 0) {
+                gen.writeString(dto.dicionario[-codigo - 1]);
+            } else {
+                // Anos numéricos são escritos sem criar a String
+                int inicio = digitos.length;
+                do {
+                    digitos[--inicio] = (char) ('0' + codigo % 10);
+                    codigo /= 10;
+                } while (codigo > 0);
+                gen.writeString(digitos, inicio, digitos.length - inicio);
+            }
+        }
+    }
+
+    /**
+     * Lê o JSON da API direto para as colunas, sem criar os itens.
+     * Aceita as mesmas coerções do record de item (ex.: ano numérico, valor em String) e ignora campos desconhecidos.
+     */
+    static final class Deserializer extends StdDeserializer<FiiIndicadorHistoricoDTO> {
+
+        Deserializer() {
+            super(FiiIndicadorHistoricoDTO.class);
+        }
+
+        @Override
+        public FiiIndicadorHistoricoDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return (FiiIndicadorHistoricoDTO) ctxt.handleUnexpectedToken(FiiIndicadorHistoricoDTO.class, p);
+            }
+            Builder builder = new Builder();
+            Trecho trecho = new Trecho();
+            for (String grupo = p.nextFieldName(); grupo != null; grupo = p.nextFieldName()) {
+                JsonToken token = p.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    builder.grupo(grupo, true);
+                    continue;
+                }
+                if (token != JsonToken.START_ARRAY) {
+                    ctxt.handleUnexpectedToken(List.class, p);
+                }
+                Serie serie = builder.serie(grupo, false);
+                while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == JsonToken.VALUE_NULL) {
+                        continue;
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        ctxt.handleUnexpectedToken(FiiIndicadorHistoricoItemDTO.class, p);
+                    }
+                    lerItem(p, ctxt, builder, serie, trecho);
+                }
+            }
+            return builder.build();
+        }
+
+        @Override
+        public FiiIndicadorHistoricoDTO getNullValue(DeserializationContext ctxt) {
+            return null;
+        }
+
+        private static void lerItem(JsonParser p, DeserializationContext ctxt, Builder builder, Serie serie, Trecho trecho)
+                throws IOException {
+            int i = Builder.novoItem(serie);
+            serie.anos[i] = ANO_NULO;
+            serie.chaves[i] = TEXTO_NULO;
+            serie.tipos[i] = TEXTO_NULO;
+            serie.escalas[i] = VALOR_NULO;
+            for (String campo = p.nextFieldName(); campo != null; campo = p.nextFieldName()) {
+                JsonToken token = p.nextToken();
+                switch (campo) {
+                    case "year" -> serie.anos[i] = builder.codificarAno(texto(p, ctxt, token, trecho));
+                    case "key" -> serie.chaves[i] = builder.codificar(texto(p, ctxt, token, trecho));
+                    case "type" -> serie.tipos[i] = builder.codificar(texto(p, ctxt, token, trecho));
+                    case "value" -> {
+                        boolean numero = token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+                        if (!numero || !Builder.definirValor(serie, i, trecho.de(p))) {
+                            Builder.definirValor(serie, i, numero ? p.getDecimalValue()
+                                    : token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, BigDecimal.class));
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+        }
+
+        /**
+         * Texto do token atual; Strings são lidas do buffer do parser sem cópia ({@link Trecho}).
+         */
+        private static CharSequence texto(JsonParser p, DeserializationContext ctxt, JsonToken token, Trecho trecho)
+                throws IOException {
+            if (token == JsonToken.VALUE_STRING) {
+                return trecho.de(p);
+            }
+            return token == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, String.class);
+        }
+    }
+
+    /**
+     * Janela reutilizável sobre o buffer de caracteres do token atual do parser; válida até o próximo token.
+     */
+    private static final class Trecho implements CharSequence {
+        private char[] buffer;
+        private int inicio;
+        private int tamanho;
+
+        private Trecho de(JsonParser p) throws IOException {
+            buffer = p.getTextCharacters();
+            inicio = p.getTextOffset();
+            tamanho = p.getTextLength();
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return tamanho;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return buffer[inicio + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(buffer, inicio + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, inicio, tamanho);
+        }
+    }
 }
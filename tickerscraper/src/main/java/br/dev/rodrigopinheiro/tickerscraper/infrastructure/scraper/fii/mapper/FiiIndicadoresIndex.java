@@ -0,0 +1,51 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoItemDTO;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Índice dos valores "Atual" do histórico de indicadores de um FII (grupo → chave → valor),
+ * montado numa única passada antes do mapeamento em vez de um stream por campo.
+ *
+ * Mantém o primeiro item "Atual" com valor de cada chave; ausências resultam em {@code null}.
+ */
+public final class FiiIndicadoresIndex {
+
+    private static final String ANO_ATUAL = "Atual";
+
+    private final Map<String, Map<String, BigDecimal>> atuais;
+
+    private FiiIndicadoresIndex(Map<String, Map<String, BigDecimal>> atuais) {
+        this.atuais = atuais;
+    }
+
+    public static FiiIndicadoresIndex of(FiiIndicadorHistoricoDTO historico) {
+        if (historico == null || historico.indicadores() == null) {
+            return new FiiIndicadoresIndex(Map.of());
+        }
+        Map<String, Map<String, BigDecimal>> atuais = new HashMap<>(historico.indicadores().size() * 2);
+        for (Map.Entry<String, List<FiiIndicadorHistoricoItemDTO>> grupo : historico.indicadores().entrySet()) {
+            if (grupo.getValue() == null) {
+                continue;
+            }
+            Map<String, BigDecimal> porChave = new HashMap<>(4);
+            for (FiiIndicadorHistoricoItemDTO item : grupo.getValue()) {
+                if (item != null && item.key() != null && item.value() != null && ANO_ATUAL.equalsIgnoreCase(item.year())) {
+                    porChave.putIfAbsent(item.key(), item.value());
+                }
+            }
+            atuais.put(grupo.getKey(), porChave);
+        }
+        return new FiiIndicadoresIndex(atuais);
+    }
+
+    public BigDecimal atual(String grupo, String chave) {
+        Map<String, BigDecimal> porChave = atuais.get(grupo);
+        return porChave != null ? porChave.get(chave) : null;
+    }
+}
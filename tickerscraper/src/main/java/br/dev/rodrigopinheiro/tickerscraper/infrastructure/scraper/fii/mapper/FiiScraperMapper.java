@@ -4,15 +4,11 @@ import br.dev.rodrigopinheiro.tickerscraper.domain.model.FiiDividendo;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.FundoImobiliario;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParser;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
-import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoDTO;
-import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoItemDTO;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDividendoDTO;
 import org.mapstruct.*;
 
 import java.math.BigDecimal;
 import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
 
 @Mapper(componentModel = "spring", uses={IndicadorParser.class})
 public interface FiiScraperMapper {
@@ -43,23 +39,29 @@ public interface FiiScraperMapper {
             @Mapping(source = "infoCards.variacao12M", target = "variacao12M", qualifiedByName = "paraBigDecimal"),
 
             // Histórico “Atual” (fonte de verdade numérica)
-            @Mapping(target = "valorDeMercado",          expression = "java(pickAtual(dados.infoHistorico(), \"VALOR DE MERCADO\", \"enterprise_value\"))"),
-            @Mapping(target = "pvp",                     expression = "java(pickAtual(dados.infoHistorico(), \"P/VP\", \"p_vp\"))"),
-            @Mapping(target = "dividendYield",           expression = "java(pickAtual(dados.infoHistorico(), \"DIVIDEND YIELD (DY)\", \"dividend_yield_last_12_months\"))"),
-            @Mapping(target = "liquidezDiaria",          expression = "java(pickAtual(dados.infoHistorico(), \"LIQUIDEZ DIÁRIA\", \"daily_liquidity\"))"),
-            @Mapping(target = "valorPatrimonial",        expression = "java(pickAtual(dados.infoHistorico(), \"VALOR PATRIMONIAL\", \"equity_value\"))"),
-            @Mapping(target = "valorPatrimonialPorCota", expression = "java(pickAtual(dados.infoHistorico(), \"VAL. PATRIMONIAL P/ COTA\", \"equity_value_account\"))"),
-            @Mapping(target = "vacancia",                expression = "java(pickAtual(dados.infoHistorico(), \"VACÂNCIA\", \"occupancy_rate\"))"),
-            @Mapping(target = "numeroDeCotistas",        expression = "java(toLong(pickAtual(dados.infoHistorico(), \"NÚMERO DE COTISTAS\", \"shareholders_count\")))"),
-            @Mapping(target = "cotasEmitidas",           expression = "java(toLong(pickAtual(dados.infoHistorico(), \"COTAS EMITIDAS\", \"quote_count\")))"),
+            @Mapping(target = "valorDeMercado",          expression = "java(historico.atual(\"VALOR DE MERCADO\", \"enterprise_value\"))"),
+            @Mapping(target = "pvp",                     expression = "java(historico.atual(\"P/VP\", \"p_vp\"))"),
+            @Mapping(target = "dividendYield",           expression = "java(historico.atual(\"DIVIDEND YIELD (DY)\", \"dividend_yield_last_12_months\"))"),
+            @Mapping(target = "liquidezDiaria",          expression = "java(historico.atual(\"LIQUIDEZ DIÁRIA\", \"daily_liquidity\"))"),
+            @Mapping(target = "valorPatrimonial",        expression = "java(historico.atual(\"VALOR PATRIMONIAL\", \"equity_value\"))"),
+            @Mapping(target = "valorPatrimonialPorCota", expression = "java(historico.atual(\"VAL. PATRIMONIAL P/ COTA\", \"equity_value_account\"))"),
+            @Mapping(target = "vacancia",                expression = "java(historico.atual(\"VACÂNCIA\", \"occupancy_rate\"))"),
+            @Mapping(target = "numeroDeCotistas",        expression = "java(toLong(historico.atual(\"NÚMERO DE COTISTAS\", \"shareholders_count\")))"),
+            @Mapping(target = "cotasEmitidas",           expression = "java(toLong(historico.atual(\"COTAS EMITIDAS\", \"quote_count\")))"),
 
             // Dividendos (lista)
             @Mapping(source = "dividendos", target = "fiiDividendos"),
             
             // Data de atualização
-            @Mapping(target = "dataAtualizacao", expression = "java(java.time.LocalDateTime.now())")
+            @Mapping(target = "dataAtualizacao", expression = "java(java.time.LocalDateTime.now())"),
+            @Mapping(target = "dataAtualizacaoCotacao", ignore = true)
     })
-    FundoImobiliario toDomain(FiiDadosFinanceirosDTO dados);
+    FundoImobiliario toDomain(FiiDadosFinanceirosDTO dados, @Context FiiIndicadoresIndex historico);
+
+    // Indexa o histórico "Atual" uma única vez por DTO antes de mapear
+    default FundoImobiliario toDomain(FiiDadosFinanceirosDTO dados) {
+        return toDomain(dados, FiiIndicadoresIndex.of(dados != null ? dados.infoHistorico() : null));
+    }
     
     // -------- elemento da lista: FiiDividendoDTO → FiiDividendo (domain) --------
     @Mappings({
@@ -83,20 +85,6 @@ public interface FiiScraperMapper {
     }
 
     // -------- helpers internos (não dependem de classe externa no impl gerado) --------
-    default BigDecimal pickAtual(FiiIndicadorHistoricoDTO historico, String grupo, String chave) {
-        if (historico == null) return null;
-        Map<String, List<FiiIndicadorHistoricoItemDTO>> map = historico.indicadores(); // ajuste se o accessor for outro
-        if (map == null) return null;
-        List<FiiIndicadorHistoricoItemDTO> itens = map.get(grupo);
-        if (itens == null) return null;
-
-        return itens.stream()
-                .filter(i -> i != null && "Atual".equalsIgnoreCase(i.year()) && chave.equals(i.key()) && i.value() != null)
-                .findFirst()
-                .map(FiiIndicadorHistoricoItemDTO::value) // já é BigDecimal nos seus DTOs
-                .orElse(null);
-    }
-
     default Long toLong(BigDecimal v) {
         return v == null ? null : v.longValue();
     }
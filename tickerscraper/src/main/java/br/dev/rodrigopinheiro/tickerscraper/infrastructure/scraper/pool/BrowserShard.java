@@ -0,0 +1,122 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+
+import java.time.Duration;
+
+/**
+ * Um processo Chromium da frota, com sua própria instância Playwright e pool de contextos.
+ *
+ * Cada shard tem conexão Playwright dedicada (o cliente Java não é thread-safe entre browsers)
+ * e um limite de páginas concorrentes dado pelo {@code maxSize} do pool.
+ *
+ * Ciclo de vida: ativo → drenando (não recebe novas páginas, as emprestadas terminam) → fechado.
+ */
+public final class BrowserShard {
+
+    private final int index;
+    private final Playwright playwright;
+    private final Browser browser;
+    private final PlaywrightContextPool pool;
+    private final ProcessHandle driverProcess;
+    private final long startedAtNanos = System.nanoTime();
+    private volatile boolean alive = true;
+    private volatile boolean draining;
+    private volatile long rssBytes = -1;
+
+    public BrowserShard(int index, Playwright playwright, Browser browser, PlaywrightContextPool pool) {
+        this(index, playwright, browser, pool, null);
+    }
+
+    /**
+     * @param driverProcess processo driver do Playwright deste shard (raiz da árvore do Chromium),
+     *                      usado para medir RSS; {@code null} se não identificado
+     */
+    public BrowserShard(int index, Playwright playwright, Browser browser, PlaywrightContextPool pool,
+                        ProcessHandle driverProcess) {
+        this.index = index;
+        this.playwright = playwright;
+        this.browser = browser;
+        this.pool = pool;
+        this.driverProcess = driverProcess;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public Browser browser() {
+        return browser;
+    }
+
+    public PlaywrightContextPool pool() {
+        return pool;
+    }
+
+    public boolean isAlive() {
+        return alive && browser != null && browser.isConnected();
+    }
+
+    /**
+     * @return true se o shard está vivo e pode receber novas páginas
+     */
+    public boolean isAccepting() {
+        return !draining && isAlive();
+    }
+
+    /**
+     * Retira o shard da seleção; páginas já emprestadas seguem até a devolução.
+     */
+    public void markDead() {
+        this.alive = false;
+    }
+
+    /**
+     * Para de aceitar novas páginas sem interromper as emprestadas (reciclagem).
+     */
+    public void markDraining() {
+        this.draining = true;
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * @return true se não há páginas emprestadas nem chamadores aguardando no pool
+     */
+    public boolean isDrained() {
+        return pool.load() == 0;
+    }
+
+    public Duration age() {
+        return Duration.ofNanos(System.nanoTime() - startedAtNanos);
+    }
+
+    public long pagesServed() {
+        return pool.servedCount();
+    }
+
+    /**
+     * Último RSS medido por {@link #refreshRss()}, em bytes; -1 se desconhecido.
+     */
+    public long rssBytes() {
+        return rssBytes;
+    }
+
+    /**
+     * Mede novamente o RSS da árvore de processos do browser.
+     */
+    public long refreshRss() {
+        rssBytes = ProcessMemoryProbe.treeRssBytes(driverProcess);
+        return rssBytes;
+    }
+
+    public void close() {
+        markDead();
+        try { pool.close(); } catch (Exception ignored) {}
+        try { browser.close(); } catch (Exception ignored) {}
+        try { playwright.close(); } catch (Exception ignored) {}
+    }
+}
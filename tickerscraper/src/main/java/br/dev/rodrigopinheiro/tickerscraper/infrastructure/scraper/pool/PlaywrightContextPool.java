@@ -0,0 +1,245 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingTimeoutException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.PlaywrightProperties;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pool limitado de pares BrowserContext/Page pré-aquecidos sobre um único Browser.
+ *
+ * - Empréstimo com fila justa (Semaphore fair) e timeout de espera
+ * - Reuso LIFO: o contexto mais recente volta primeiro, mantendo o cache HTTP quente
+ * - Reset de estado entre scrapes (listeners, cookies, storage, about:blank)
+ * - Descarte após {@code maxUsesPerContext} empréstimos ou em caso de falha no reset
+ *
+ * Com {@code enabled=false} o pool apenas limita a concorrência: cada devolução fecha o contexto.
+ */
+public class PlaywrightContextPool {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaywrightContextPool.class);
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "() => { try { localStorage.clear(); sessionStorage.clear(); } catch (e) {} }";
+
+    private final String name;
+    private final Supplier<BrowserContext> contextFactory;
+    private final Function<BrowserContext, Page> pageFactory;
+    private final PlaywrightProperties.Pool config;
+    private final Semaphore permits;
+    private final Deque<PooledPage> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicLong served = new AtomicLong();
+    private final Timer waitTimer;
+    private final Counter acquireTimeouts;
+    private final MeterRegistry meterRegistry;
+    private final List<Meter> meters = new ArrayList<>();
+    private volatile boolean closed;
+
+    public PlaywrightContextPool(String name,
+                                 Supplier<BrowserContext> contextFactory,
+                                 Function<BrowserContext, Page> pageFactory,
+                                 PlaywrightProperties.Pool config,
+                                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.contextFactory = contextFactory;
+        this.pageFactory = pageFactory;
+        this.config = config;
+        this.permits = new Semaphore(Math.max(1, config.getMaxSize()), true);
+
+        this.meterRegistry = meterRegistry;
+
+        // Timer e contador são compartilhados com um pool substituto de mesmo nome; os gauges não
+        this.waitTimer = Timer.builder("scraper.playwright.pool.wait")
+                .tag("pool", name).register(meterRegistry);
+        this.acquireTimeouts = Counter.builder("scraper.playwright.pool.acquire.timeouts")
+                .tag("pool", name).register(meterRegistry);
+    }
+
+    /**
+     * Cria antecipadamente {@code minIdle} contextos para evitar cold start no primeiro scrape.
+     */
+    public void preWarm() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        int target = Math.min(config.getMinIdle(), config.getMaxSize());
+        for (int i = idle.size(); i < target; i++) {
+            try {
+                idle.offerLast(create());
+            } catch (Exception e) {
+                log.warn("[{}] Falha ao pré-aquecer contexto Playwright: {}", name, e.getMessage());
+                return;
+            }
+        }
+        log.info("[{}] Pool Playwright pré-aquecido com {} contexto(s), max={}", name, idle.size(), config.getMaxSize());
+    }
+
+    /**
+     * Empresta um par contexto/página, aguardando na fila justa até {@code acquireTimeout}.
+     *
+     * @throws ScrapingTimeoutException se nenhum slot for liberado dentro do timeout
+     */
+    public PooledPage lease(String ticker, String url) {
+        Duration timeout = config.getAcquireTimeout();
+        boolean acquired = false;
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            acquireTimeouts.increment();
+            log.warn("[{}] Timeout aguardando contexto Playwright para {} ({} ocupados)", name, ticker, leased.get());
+            throw new ScrapingTimeoutException(ticker, url, timeout, "CONTEXT_POOL_ACQUIRE");
+        }
+
+        try {
+            PooledPage pooled = idle.pollFirst();
+            if (pooled == null) {
+                pooled = create();
+            }
+            pooled.markLeased();
+            leased.incrementAndGet();
+            served.incrementAndGet();
+            return pooled;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Recebe um par devolvido via {@link PooledPage#release()}.
+     */
+    void giveBack(PooledPage pooled) {
+        leased.decrementAndGet();
+        try {
+            if (closed || !config.isEnabled() || pooled.isBroken() || pooled.uses() >= config.getMaxUsesPerContext() || !reset(pooled)) {
+                pooled.close();
+            } else {
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int leasedCount() {
+        return leased.get();
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    public int waitingCount() {
+        return waiting.get();
+    }
+
+    /**
+     * Quantidade de slots ocupados ou disputados; usado para escolher o browser menos carregado.
+     */
+    public int load() {
+        return leased.get() + waiting.get();
+    }
+
+    public int capacity() {
+        return config.getMaxSize();
+    }
+
+    /**
+     * Total de páginas emprestadas desde a criação do pool.
+     */
+    public long servedCount() {
+        return served.get();
+    }
+
+    /**
+     * Fecha os contextos ociosos; contextos emprestados são fechados na devolução.
+     * Os gauges são removidos para que um pool substituto possa registrar os mesmos nomes.
+     */
+    public void close() {
+        closed = true;
+        PooledPage pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.close();
+        }
+        removeMeters();
+    }
+
+    /**
+     * Registra os gauges do pool. Separado do construtor para que um pool substituto só os registre
+     * depois de assumir o lugar do antigo e de {@link #removeMeters()} ter sido chamado nele.
+     */
+    public void registerMeters() {
+        if (!meters.isEmpty()) {
+            return;
+        }
+        meters.add(Gauge.builder("scraper.playwright.pool.leased", leased, AtomicInteger::get)
+                .tag("pool", name).register(meterRegistry));
+        meters.add(Gauge.builder("scraper.playwright.pool.idle", idle, Deque::size)
+                .tag("pool", name).register(meterRegistry));
+        meters.add(Gauge.builder("scraper.playwright.pool.waiting", waiting, AtomicInteger::get)
+                .tag("pool", name).register(meterRegistry));
+    }
+
+    /**
+     * Remove os gauges do pool antes de um substituto com o mesmo nome registrar os seus;
+     * o Micrometer identifica o meter pelo nome+tags e devolveria o gauge antigo.
+     */
+    public void removeMeters() {
+        meters.forEach(meterRegistry::remove);
+        meters.clear();
+    }
+
+    private PooledPage create() {
+        BrowserContext ctx = contextFactory.get();
+        try {
+            return new PooledPage(this, ctx, pageFactory.apply(ctx));
+        } catch (RuntimeException e) {
+            try { ctx.close(); } catch (Exception ignored) {}
+            throw e;
+        }
+    }
+
+    private boolean reset(PooledPage pooled) {
+        pooled.detachHandlers();
+        try {
+            Page page = pooled.page();
+            page.evaluate(CLEAR_STORAGE_SCRIPT);
+            pooled.context().clearCookies();
+            page.navigate("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.debug("[{}] Reset de contexto falhou, descartando: {}", name, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Par BrowserContext/Page emprestado de um {@link PlaywrightContextPool}.
+ *
+ * Listeners registrados via {@link #onRequest(Consumer)}/{@link #onResponse(Consumer)}/{@link #onRequestFailed(Consumer)}
+ * são removidos na devolução,
+ * evitando que um scrape receba eventos de rede do scrape anterior.
+ * A devolução é idempotente e deve acontecer na thread que usa a página; quem cancela o scrape
+ * só chama {@link #markBroken()}, para que o par seja descartado na devolução em vez de voltar ao pool.
+ */
+public final class PooledPage {
+
+    private final PlaywrightContextPool owner;
+    private final BrowserContext context;
+    private final Page page;
+    private final List<Consumer<Request>> requestHandlers = new ArrayList<>();
+    private final List<Consumer<Response>> responseHandlers = new ArrayList<>();
+    private final List<Consumer<Request>> requestFailedHandlers = new ArrayList<>();
+    private final AtomicBoolean leased = new AtomicBoolean(false);
+    private int uses;
+    private volatile boolean broken;
+
+    PooledPage(PlaywrightContextPool owner, BrowserContext context, Page page) {
+        this.owner = owner;
+        this.context = context;
+        this.page = page;
+    }
+
+    public BrowserContext context() {
+        return context;
+    }
+
+    public Page page() {
+        return page;
+    }
+
+    /**
+     * Registra um listener de request que será desacoplado automaticamente na devolução.
+     */
+    public synchronized void onRequest(Consumer<Request> handler) {
+        page.onRequest(handler);
+        requestHandlers.add(handler);
+    }
+
+    /**
+     * Registra um listener de response que será desacoplado automaticamente na devolução.
+     */
+    public synchronized void onResponse(Consumer<Response> handler) {
+        page.onResponse(handler);
+        responseHandlers.add(handler);
+    }
+
+    /**
+     * Registra um listener de request falha (abortada, erro de rede) que será desacoplado automaticamente na devolução.
+     */
+    public synchronized void onRequestFailed(Consumer<Request> handler) {
+        page.onRequestFailed(handler);
+        requestFailedHandlers.add(handler);
+    }
+
+    /**
+     * Marca o par como inutilizável; ele será descartado em vez de voltar ao pool.
+     */
+    public void markBroken() {
+        this.broken = true;
+    }
+
+    /**
+     * Devolve o par ao pool de origem. Chamadas repetidas são ignoradas.
+     */
+    public void release() {
+        if (leased.compareAndSet(true, false)) {
+            owner.giveBack(this);
+        }
+    }
+
+    boolean isBroken() {
+        return broken || page.isClosed();
+    }
+
+    int uses() {
+        return uses;
+    }
+
+    void markLeased() {
+        uses++;
+        leased.set(true);
+    }
+
+    synchronized void detachHandlers() {
+        for (Consumer<Request> handler : requestHandlers) {
+            try { page.offRequest(handler); } catch (Exception ignored) {}
+        }
+        requestHandlers.clear();
+        for (Consumer<Response> handler : responseHandlers) {
+            try { page.offResponse(handler); } catch (Exception ignored) {}
+        }
+        responseHandlers.clear();
+        for (Consumer<Request> handler : requestFailedHandlers) {
+            try { page.offRequestFailed(handler); } catch (Exception ignored) {}
+        }
+        requestFailedHandlers.clear();
+    }
+
+    void close() {
+        try { page.close(); } catch (Exception ignored) {}
+        try { context.close(); } catch (Exception ignored) {}
+    }
+}
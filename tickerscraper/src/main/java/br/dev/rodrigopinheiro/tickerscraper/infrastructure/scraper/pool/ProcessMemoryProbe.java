@@ -0,0 +1,81 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Leitura de memória residente da árvore de processos de um browser.
+ *
+ * O cliente Java do Playwright sobe um processo driver (filho da JVM) que lança o Chromium;
+ * somando o RSS do driver e de todos os descendentes obtém-se o custo real do browser
+ * (processo principal, renderers, GPU/utility). Só funciona em Linux, via /proc.
+ */
+public final class ProcessMemoryProbe {
+
+    private static final Path PROC = Path.of("/proc");
+
+    private ProcessMemoryProbe() {
+    }
+
+    /**
+     * PIDs dos filhos diretos da JVM, para identificar o driver recém-criado por diferença.
+     */
+    public static Set<Long> currentChildren() {
+        return ProcessHandle.current().children().map(ProcessHandle::pid).collect(Collectors.toSet());
+    }
+
+    /**
+     * Filho da JVM que não existia em {@code before}; vazio se não houver exatamente um.
+     */
+    public static Optional<ProcessHandle> newChild(Set<Long> before) {
+        List<ProcessHandle> created = ProcessHandle.current().children()
+                .filter(p -> !before.contains(p.pid()))
+                .toList();
+        return created.size() == 1 ? Optional.of(created.get(0)) : Optional.empty();
+    }
+
+    /**
+     * RSS somado do processo e de todos os descendentes, em bytes.
+     *
+     * @return bytes residentes, ou -1 se o processo não existe ou /proc não está disponível
+     */
+    public static long treeRssBytes(ProcessHandle root) {
+        if (root == null || !root.isAlive() || !Files.isDirectory(PROC)) {
+            return -1;
+        }
+        long total = rssKb(root.pid());
+        if (total < 0) {
+            return -1;
+        }
+        total += root.descendants().mapToLong(p -> Math.max(0, rssKb(p.pid()))).sum();
+        return total * 1024;
+    }
+
+    static long rssKb(long pid) {
+        try {
+            return parseVmRssKb(Files.readAllLines(PROC.resolve(Long.toString(pid)).resolve("status")));
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Extrai o valor de {@code VmRSS:  123456 kB} de um /proc/&lt;pid&gt;/status.
+     */
+    static long parseVmRssKb(List<String> statusLines) {
+        for (String line : statusLines) {
+            if (line.startsWith("VmRSS:")) {
+                String value = line.substring("VmRSS:".length()).trim();
+                int space = value.indexOf(' ');
+                return Long.parseLong(space < 0 ? value : value.substring(0, space));
+            }
+        }
+        // Processos zumbis/kernel não têm VmRSS
+        return 0;
+    }
+}
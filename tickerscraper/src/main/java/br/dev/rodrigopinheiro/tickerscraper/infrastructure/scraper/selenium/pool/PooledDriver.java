@@ -0,0 +1,76 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.pool;
+
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.devtools.DevTools;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sessão ChromeDriver+DevTools emprestada de um {@link SeleniumDriverPool}.
+ *
+ * Listeners de DevTools adicionados durante o empréstimo são removidos na devolução.
+ * A devolução é idempotente e deve acontecer na thread que usa o driver; quem cancela o scrape
+ * só chama {@link #markBroken()}, para que a sessão seja descartada na devolução em vez de voltar ao pool.
+ */
+public final class PooledDriver {
+
+    private final SeleniumDriverPool owner;
+    private final ChromeDriver driver;
+    private final DevTools devTools;
+    private final AtomicBoolean leased = new AtomicBoolean(false);
+    private int uses;
+    private volatile boolean broken;
+
+    PooledDriver(SeleniumDriverPool owner, ChromeDriver driver, DevTools devTools) {
+        this.owner = owner;
+        this.driver = driver;
+        this.devTools = devTools;
+    }
+
+    public ChromeDriver driver() {
+        return driver;
+    }
+
+    /**
+     * Sessão DevTools com Network habilitado, ou null se não pôde ser criada (degradação).
+     */
+    public DevTools devTools() {
+        return devTools;
+    }
+
+    /**
+     * Marca a sessão como inutilizável; ela será encerrada em vez de voltar ao pool.
+     */
+    public void markBroken() {
+        this.broken = true;
+    }
+
+    /**
+     * Devolve a sessão ao pool de origem. Chamadas repetidas são ignoradas.
+     */
+    public void release() {
+        if (leased.compareAndSet(true, false)) {
+            owner.giveBack(this);
+        }
+    }
+
+    boolean isBroken() {
+        return broken;
+    }
+
+    int uses() {
+        return uses;
+    }
+
+    void markLeased() {
+        uses++;
+        leased.set(true);
+    }
+
+    void close() {
+        if (devTools != null) {
+            try { devTools.close(); } catch (Exception ignored) {}
+        }
+        try { driver.quit(); } catch (Exception ignored) {}
+    }
+}
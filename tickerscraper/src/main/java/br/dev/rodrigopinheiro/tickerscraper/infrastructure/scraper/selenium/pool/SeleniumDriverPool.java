@@ -0,0 +1,254 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.pool;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingTimeoutException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.SeleniumPoolProperties;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.AbstractScraperAdapter;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.retry.SeleniumRetryManager;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pool limitado de sessões ChromeDriver+DevTools aquecidas para os scrapers Selenium.
+ *
+ * - Binário do chromedriver resolvido uma única vez (WebDriverManager), não a cada scrape
+ * - Empréstimo com fila justa (Semaphore fair) e timeout de espera
+ * - Health check no empréstimo: sessão morta é descartada e substituída
+ * - Reset entre scrapes (listeners DevTools, cookies, storage, about:blank)
+ * - Reciclagem após {@code maxUsesPerDriver} empréstimos
+ *
+ * Com {@code enabled=false} o pool apenas limita a concorrência: cada devolução encerra o Chrome.
+ */
+@Component
+public class SeleniumDriverPool {
+
+    private static final Logger log = LoggerFactory.getLogger(SeleniumDriverPool.class);
+
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { localStorage.clear(); sessionStorage.clear(); } catch (e) {}";
+
+    private final SeleniumPoolProperties config;
+    private final Supplier<ChromeDriver> driverFactory;
+    private final Function<ChromeDriver, DevTools> devToolsFactory;
+    private final Semaphore permits;
+    private final Deque<PooledDriver> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger leased = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter acquireTimeouts;
+    private final Counter recycled;
+    private volatile boolean closed;
+
+    @Autowired
+    public SeleniumDriverPool(SeleniumPoolProperties config, SeleniumRetryManager retryManager, MeterRegistry meterRegistry) {
+        this(config,
+                driverSupplier(retryManager),
+                driver -> {
+                    try {
+                        return retryManager.setupDevToolsWithRetry(driver);
+                    } catch (Exception e) {
+                        log.warn("Falha ao configurar DevTools na sessão do pool, seguindo sem captura de rede: {}", e.getMessage());
+                        return null;
+                    }
+                },
+                meterRegistry);
+    }
+
+    SeleniumDriverPool(SeleniumPoolProperties config,
+                       Supplier<ChromeDriver> driverFactory,
+                       Function<ChromeDriver, DevTools> devToolsFactory,
+                       MeterRegistry meterRegistry) {
+        this.config = config;
+        this.driverFactory = driverFactory;
+        this.devToolsFactory = devToolsFactory;
+        this.permits = new Semaphore(Math.max(1, config.getMaxSize()), true);
+
+        Gauge.builder("scraper.selenium.pool.leased", leased, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("scraper.selenium.pool.idle", idle, Deque::size).register(meterRegistry);
+        this.waitTimer = Timer.builder("scraper.selenium.pool.wait").register(meterRegistry);
+        this.acquireTimeouts = Counter.builder("scraper.selenium.pool.acquire.timeouts").register(meterRegistry);
+        this.recycled = Counter.builder("scraper.selenium.pool.recycled").register(meterRegistry);
+    }
+
+    /**
+     * Resolve o chromedriver e aquece {@code minIdle} sessões fora da thread de startup;
+     * o Selenium é caminho de fallback e não deve atrasar nem derrubar a subida da aplicação.
+     */
+    @PostConstruct
+    void warmUpAsync() {
+        if (!config.isEnabled() || config.getMinIdle() <= 0) {
+            return;
+        }
+        Thread.ofVirtual().name("selenium-pool-warmup").start(this::preWarm);
+    }
+
+    /**
+     * Aquece até {@code minIdle} sessões ociosas sem passar de {@code maxSize} somadas às emprestadas.
+     * Cada criação segura um permit, então concorre com os empréstimos em vez de somar a eles.
+     */
+    void preWarm() {
+        while (!closed && idle.size() < config.getMinIdle()
+                && idle.size() + leased.get() < config.getMaxSize()) {
+            if (!permits.tryAcquire()) {
+                break;
+            }
+            try {
+                idle.offerLast(create());
+            } catch (Exception e) {
+                log.warn("Falha ao pré-aquecer sessão Selenium: {}", e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+        log.info("Pool Selenium pré-aquecido com {} sessão(ões), max={}", idle.size(), config.getMaxSize());
+    }
+
+    /**
+     * Empresta uma sessão saudável, aguardando na fila justa até {@code acquireTimeout}.
+     *
+     * @throws ScrapingTimeoutException se nenhum slot for liberado dentro do timeout
+     */
+    public PooledDriver lease(String ticker, String url) {
+        Duration timeout = config.getAcquireTimeout();
+        boolean acquired = false;
+        long start = System.nanoTime();
+        try {
+            acquired = permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            acquireTimeouts.increment();
+            log.warn("Timeout aguardando sessão Selenium para {} ({} ocupadas)", ticker, leased.get());
+            throw new ScrapingTimeoutException(ticker, url, timeout, "SELENIUM_POOL_ACQUIRE");
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null && !isHealthy(pooled)) {
+                log.info("Sessão Selenium ociosa não responde, descartando");
+                pooled.close();
+            }
+            if (pooled == null) {
+                pooled = create();
+            }
+            pooled.markLeased();
+            leased.incrementAndGet();
+            return pooled;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Recebe uma sessão devolvida via {@link PooledDriver#release()}.
+     */
+    void giveBack(PooledDriver pooled) {
+        leased.decrementAndGet();
+        try {
+            boolean exhausted = pooled.uses() >= config.getMaxUsesPerDriver();
+            if (closed || !config.isEnabled() || pooled.isBroken() || exhausted || !reset(pooled)) {
+                if (exhausted) {
+                    recycled.increment();
+                }
+                pooled.close();
+            } else {
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int leasedCount() {
+        return leased.get();
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            pooled.close();
+        }
+    }
+
+    private PooledDriver create() {
+        ChromeDriver driver = driverFactory.get();
+        try {
+            return new PooledDriver(this, driver, devToolsFactory.apply(driver));
+        } catch (RuntimeException e) {
+            try { driver.quit(); } catch (Exception ignored) {}
+            throw e;
+        }
+    }
+
+    private boolean isHealthy(PooledDriver pooled) {
+        try {
+            return pooled.driver().getSessionId() != null && pooled.driver().getWindowHandle() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean reset(PooledDriver pooled) {
+        try {
+            if (pooled.devTools() != null) {
+                pooled.devTools().clearListeners();
+            }
+            ChromeDriver driver = pooled.driver();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.debug("Reset de sessão Selenium falhou, descartando: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static Supplier<ChromeDriver> driverSupplier(SeleniumRetryManager retryManager) {
+        AtomicBoolean resolved = new AtomicBoolean(false);
+        return () -> {
+            // Resolução do binário uma única vez por processo
+            if (!resolved.get()) {
+                synchronized (resolved) {
+                    if (!resolved.get()) {
+                        WebDriverManager.chromedriver().setup();
+                        resolved.set(true);
+                    }
+                }
+            }
+            return retryManager.createWebDriverWithRetry(AbstractScraperAdapter.newDefaultChromeOptions());
+        };
+    }
+}
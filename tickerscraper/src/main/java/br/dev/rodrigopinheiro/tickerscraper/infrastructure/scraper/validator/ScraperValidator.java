@@ -40,6 +40,29 @@ public class ScraperValidator {
         return Optional.empty();
     }
     
+    /**
+     * Versão pré-compilada de {@link #findElementWithFallbacks(Element, String...)}: sem re-parsear os
+     * seletores e com todos os fallbacks resolvidos numa única travessia.
+     *
+     * A ausência é registrada em debug — em laços por célula ela é esperada (campos opcionais) e o
+     * warn por chamada dominava o custo do scraping.
+     *
+     * @param parent O elemento pai onde a busca será realizada
+     * @param chain Seletores compilados, em ordem de prioridade
+     * @return Optional contendo o elemento encontrado ou empty se nenhum seletor funcionar
+     */
+    public static Optional<Element> findElementWithFallbacks(Element parent, SelectorChain chain) {
+        if (parent == null || chain == null) {
+            return Optional.empty();
+        }
+
+        Optional<Element> found = chain.first(parent);
+        if (found.isEmpty()) {
+            logger.debug("Nenhum elemento encontrado com os seletores: {}", chain);
+        }
+        return found;
+    }
+
     /**
      * Extrai texto de um elemento com validação.
      * Tenta extrair o texto usando diferentes métodos (text, ownText, attr) em sequência.
@@ -0,0 +1,140 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Collector;
+import org.jsoup.select.CombiningEvaluator;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Seletores CSS com fallbacks compilados uma única vez em {@link Evaluator}s do Jsoup.
+ *
+ * Mantém a semântica do {@link ScraperValidator#findElementWithFallbacks(Element, String...)}
+ * (o primeiro seletor que casar vence, e dentro dele o primeiro elemento na ordem do documento),
+ * mas sem re-parsear as strings a cada chamada e resolvendo todos os fallbacks numa única
+ * travessia do DOM em vez de uma travessia por seletor.
+ *
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads (constantes estáticas).
+ */
+public final class SelectorChain {
+
+    private final String[] selectors;
+    private final Evaluator[] evaluators;
+    private final Evaluator any;
+    private final String description;
+
+    private static final Element MEMO_RESET_ROOT = new Element("div");
+
+    private SelectorChain(String[] selectors) {
+        if (selectors == null || selectors.length == 0) {
+            throw new IllegalArgumentException("Ao menos um seletor deve ser informado");
+        }
+        this.selectors = selectors.clone();
+        this.evaluators = Arrays.stream(selectors).map(QueryParser::parse).toArray(Evaluator[]::new);
+        this.any = evaluators.length == 1 ? evaluators[0] : new CombiningEvaluator.Or(List.of(evaluators));
+        this.description = Arrays.toString(selectors);
+    }
+
+    /**
+     * Compila os seletores (na ordem de prioridade).
+     *
+     * @throws org.jsoup.select.Selector.SelectorParseException se algum seletor for inválido
+     */
+    public static SelectorChain of(String... selectors) {
+        return new SelectorChain(selectors);
+    }
+
+    /**
+     * Primeiro elemento do seletor de maior prioridade que casar sob {@code root}.
+     */
+    public Optional<Element> first(Element root) {
+        if (root == null) {
+            return Optional.empty();
+        }
+        if (evaluators.length == 1) {
+            return Optional.ofNullable(root.selectFirst(evaluators[0]));
+        }
+        Element best = null;
+        int bestIndex = evaluators.length;
+        Iterator<Element> matches = Collector.stream(any, root).iterator();
+        while (bestIndex > 0 && matches.hasNext()) {
+            Element el = matches.next();
+            int index = indexOf(root, el, bestIndex);
+            if (index < bestIndex) {
+                best = el;
+                bestIndex = index;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Todos os elementos do primeiro seletor que encontrar algo (como o laço de fallbacks sobre
+     * {@code select}); vazio se nenhum casar.
+     */
+    public Elements selectAll(Element root) {
+        if (root == null) {
+            return new Elements();
+        }
+        Elements found = Collector.collect(any, root);
+        if (evaluators.length == 1 || found.isEmpty()) {
+            return found;
+        }
+        int bestIndex = evaluators.length;
+        for (Element el : found) {
+            bestIndex = Math.min(bestIndex, indexOf(root, el, bestIndex));
+            if (bestIndex == 0) break;
+        }
+        Evaluator winner = evaluators[bestIndex];
+        found.removeIf(el -> !winner.matches(root, el));
+        return found;
+    }
+
+    public boolean existsIn(Element root) {
+        return root != null && root.selectFirst(any) != null;
+    }
+
+    /**
+     * Menor índice (abaixo de {@code limit}) de um seletor que casa com o elemento; {@code limit} se nenhum.
+     * Para avaliação elemento a elemento (ex.: parse em streaming); combine com {@link #clearMemo()}.
+     */
+    public int indexOf(Element root, Element el, int limit) {
+        for (int i = 0; i < limit; i++) {
+            if (evaluators[i].matches(root, el)) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    Evaluator any() {
+        return any;
+    }
+
+    public int size() {
+        return evaluators.length;
+    }
+
+    /**
+     * Descarta o cache de avaliação estrutural (ancestrais, {@code :has}) da thread atual, que o Jsoup
+     * só limpa no início de cada {@code select}. Obter o stream já reinicia os evaluators; ele não é consumido.
+     */
+    public void clearMemo() {
+        Collector.stream(any, MEMO_RESET_ROOT);
+    }
+
+    public String[] selectors() {
+        return selectors.clone();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
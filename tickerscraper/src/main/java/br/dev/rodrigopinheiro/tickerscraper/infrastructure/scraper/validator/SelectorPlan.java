@@ -0,0 +1,103 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Collector;
+import org.jsoup.select.CombiningEvaluator;
+import org.jsoup.select.Evaluator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Grupo nomeado de {@link SelectorChain}s de uma seção (ex.: ticker + nome dentro do cabeçalho),
+ * resolvido numa única travessia do DOM sob a raiz informada.
+ *
+ * Cada cadeia mantém a própria prioridade de fallbacks; a travessia para assim que todas as cadeias
+ * encontraram o seletor de maior prioridade.
+ */
+public final class SelectorPlan {
+
+    private final List<String> names;
+    private final List<SelectorChain> chains;
+    private final Evaluator any;
+
+    private SelectorPlan(Map<String, SelectorChain> chains) {
+        this.names = List.copyOf(chains.keySet());
+        this.chains = List.copyOf(chains.values());
+        List<Evaluator> all = new ArrayList<>();
+        this.chains.forEach(c -> all.add(c.any()));
+        this.any = all.size() == 1 ? all.get(0) : new CombiningEvaluator.Or(all);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Resolve todas as cadeias do plano sob {@code root}.
+     */
+    public Resolved resolve(Element root) {
+        Element[] found = new Element[chains.size()];
+        if (root == null) {
+            return new Resolved(found);
+        }
+        int[] best = new int[chains.size()];
+        for (int i = 0; i < best.length; i++) {
+            best[i] = chains.get(i).size();
+        }
+        int pending = best.length;
+        Iterator<Element> matches = Collector.stream(any, root).iterator();
+        while (pending > 0 && matches.hasNext()) {
+            Element el = matches.next();
+            for (int i = 0; i < best.length; i++) {
+                if (best[i] == 0) continue;
+                int index = chains.get(i).indexOf(root, el, best[i]);
+                if (index < best[i]) {
+                    found[i] = el;
+                    best[i] = index;
+                    if (index == 0) pending--;
+                }
+            }
+        }
+        return new Resolved(found);
+    }
+
+    /**
+     * Resultado de {@link #resolve(Element)}.
+     */
+    public final class Resolved {
+        private final Element[] found;
+
+        private Resolved(Element[] found) {
+            this.found = found;
+        }
+
+        public Optional<Element> get(String name) {
+            int i = names.indexOf(name);
+            if (i < 0) {
+                throw new IllegalArgumentException("Seletor não declarado no plano: " + name);
+            }
+            return Optional.ofNullable(found[i]);
+        }
+    }
+
+    public static final class Builder {
+        private final Map<String, SelectorChain> chains = new LinkedHashMap<>();
+
+        public Builder add(String name, SelectorChain chain) {
+            chains.put(name, chain);
+            return this;
+        }
+
+        public SelectorPlan build() {
+            if (chains.isEmpty()) {
+                throw new IllegalArgumentException("Plano de seletores vazio");
+            }
+            return new SelectorPlan(chains);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+-- V11__add_data_atualizacao_cotacao.sql
+-- Data da última atualização só da cotação (preço, variação 12M e dividend yield),
+-- feita pela Brapi sem scraping completo. data_atualizacao continua sendo a do scraping completo.
+
+ALTER TABLE acao ADD COLUMN IF NOT EXISTS data_atualizacao_cotacao TIMESTAMP WITHOUT TIME ZONE;
+ALTER TABLE fundo_imobiliario ADD COLUMN IF NOT EXISTS data_atualizacao_cotacao TIMESTAMPTZ;
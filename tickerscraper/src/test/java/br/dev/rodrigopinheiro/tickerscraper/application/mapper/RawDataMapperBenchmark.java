@@ -0,0 +1,77 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadorFundamentalistaDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadoresFundamentalistasDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoCardsDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoDetailedDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoHeaderDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do endpoint /raw de ação: conversão pelo RawDataMapper e serialização da resposta.
+ *
+ * Não roda no {@code mvn test}. Para executar (alocação por operação com {@code -prof gc}):
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *   org.openjdk.jmh.Main RawDataMapperBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RawDataMapperBenchmark {
+
+    private final RawDataMapper mapper = new RawDataMapperImpl();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private AcaoDadosFinanceirosDTO dto;
+
+    @Setup
+    public void setup() {
+        Map<String, AcaoIndicadorFundamentalistaDTO> indicadores = new LinkedHashMap<>();
+        for (int i = 0; i < 40; i++) {
+            indicadores.put("IND" + i, new AcaoIndicadorFundamentalistaDTO(i + ",5%", "Definição " + i, null, null, null, null));
+        }
+        dto = new AcaoDadosFinanceirosDTO(
+                new AcaoInfoHeaderDTO("PETR4", "Petrobras"),
+                new AcaoInfoDetailedDTO("R$ 1", "R$ 2", "R$ 3", "100", "R$ 4", "R$ 5", "R$ 6", "R$ 7", "R$ 8",
+                        "Novo Mercado", "Petróleo", "Exploração", "BR", "Bovespa", "Sim"),
+                new AcaoInfoCardsDTO("R$ 38,50", "12,3%"),
+                new AcaoIndicadoresFundamentalistasDTO(indicadores));
+    }
+
+    @Benchmark
+    public Object toAcaoRawDataResponse() {
+        return mapper.toAcaoRawDataResponse(dto);
+    }
+
+    @Benchmark
+    public byte[] toAcaoRawDataResponseJson() throws Exception {
+        return objectMapper.writeValueAsBytes(mapper.toAcaoRawDataResponse(dto));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RawDataMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
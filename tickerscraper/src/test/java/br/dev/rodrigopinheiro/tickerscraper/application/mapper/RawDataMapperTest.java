@@ -0,0 +1,124 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.application.dto.AcaoRawDataResponse;
+import br.dev.rodrigopinheiro.tickerscraper.application.dto.BdrRawDataResponse;
+import br.dev.rodrigopinheiro.tickerscraper.application.dto.EtfRawDataResponse;
+import br.dev.rodrigopinheiro.tickerscraper.application.dto.ProcessingStatus;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadoresFundamentalistasDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoDetailedDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoHeaderDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.Demonstrativos;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoCards;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoHeader;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfInfoCardsDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfInfoHeaderDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o RawDataMapper e as visões de dados brutos.
+ */
+class RawDataMapperTest {
+
+    private final RawDataMapper mapper = new RawDataMapperImpl();
+
+    @Test
+    @DisplayName("Ação: dados brutos, status e metadados devem sair da mesma visão")
+    void shouldBuildAcaoResponseFromSingleView() {
+        AcaoInfoDetailedDTO detailed = new AcaoInfoDetailedDTO("R$ 1", "R$ 2", "R$ 3", "100", "R$ 4", "R$ 5",
+                "R$ 6", "R$ 7", "R$ 8", "Novo Mercado", "Petróleo", "Exploração", "BR", "Bovespa", "Sim");
+        AcaoIndicadoresFundamentalistasDTO indicadores = new AcaoIndicadoresFundamentalistasDTO(Map.of());
+        AcaoDadosFinanceirosDTO dto = new AcaoDadosFinanceirosDTO(new AcaoInfoHeaderDTO("PETR4", "Petrobras"),
+                detailed, null, indicadores);
+
+        AcaoRawDataResponse response = mapper.toAcaoRawDataResponse(dto);
+
+        Map<String, Object> esperado = new HashMap<>();
+        esperado.put("ticker", "PETR4");
+        esperado.put("nomeEmpresa", "Petrobras");
+        esperado.put("valorMercado", "R$ 1");
+        esperado.put("valorFirma", "R$ 2");
+        esperado.put("patrimonioLiquido", "R$ 3");
+        esperado.put("numeroTotalPapeis", "100");
+        esperado.put("ativos", "R$ 4");
+        esperado.put("ativoCirculante", "R$ 5");
+        esperado.put("dividaBruta", "R$ 6");
+        esperado.put("dividaLiquida", "R$ 7");
+        esperado.put("disponibilidade", "R$ 8");
+        esperado.put("indicadores", indicadores);
+        assertThat(response.rawData()).isEqualTo(esperado);
+        assertThat(response.rawData().keySet()).startsWith("ticker", "nomeEmpresa", "valorMercado");
+        assertThat(response.ticker()).isEqualTo("PETR4");
+        assertThat(response.processingStatus()).isEqualTo(ProcessingStatus.SUCCESS);
+        assertThat(response.metadata()).containsEntry("total_fields", "12").containsEntry("has_cards", "false");
+    }
+
+    @Test
+    @DisplayName("Campos de seção presente entram mesmo com valor nulo; seção ausente não entra")
+    void shouldKeepNullValuesOfPresentSections() {
+        EtfDadosFinanceirosDTO dto = new EtfDadosFinanceirosDTO(new EtfInfoHeaderDTO(null, "Ishares"), null);
+
+        EtfRawDataResponse response = mapper.toEtfRawDataResponse(dto);
+
+        assertThat(response.rawData()).containsOnlyKeys("ticker", "nomeEtf").containsEntry("ticker", null);
+        assertThat(response.processingStatus()).isEqualTo(ProcessingStatus.PARTIAL);
+        assertThat(mapper.toEtfRawDataResponse(new EtfDadosFinanceirosDTO(null, null)).processingStatus())
+                .isEqualTo(ProcessingStatus.FAILED);
+        assertThat(mapper.buildEtfRawDataMap(new EtfDadosFinanceirosDTO(null,
+                new EtfInfoCardsDTO("10", "1B", "5%", "7%", "1%")))).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("BDR: seções aninhadas e demonstrativos só com as partes presentes")
+    void shouldBuildNestedBdrViews() throws Exception {
+        Instant agora = Instant.parse("2025-01-02T10:00:00Z");
+        BdrDadosFinanceirosDTO dto = new BdrDadosFinanceirosDTO(new InfoHeader("AAPL34", "Apple"),
+                new InfoCards(new BigDecimal("10.5"), null), null, Map.of(),
+                new Demonstrativos(Map.of("EBIT", Map.of()), null, null), null, agora);
+
+        Map<String, Object> raw = mapper.buildBdrRawDataMap(dto);
+
+        assertThat(raw).containsOnlyKeys("header", "cards", "demonstrativos", "updatedAt");
+        assertThat(raw.get("header")).isEqualTo(Map.of("ticker", "AAPL34", "nomeBdr", "Apple"));
+        assertThat(raw.get("demonstrativos")).isEqualTo(Map.of("dre", Map.of("EBIT", Map.of())));
+        assertThat(mapper.buildBdrRawDataMap(new BdrDadosFinanceirosDTO(null, null, null, null,
+                new Demonstrativos(null, null, null), null, null))).containsOnlyKeys("updatedAt");
+
+        String json = new ObjectMapper().findAndRegisterModules().writeValueAsString(raw);
+        assertThat(json).startsWith("{\"header\":{\"ticker\":\"AAPL34\",\"nomeBdr\":\"Apple\"},\"cards\":{\"cotacao\":10.5,");
+
+        BdrRawDataResponse response = mapper.toBdrRawDataResponse(dto, Map.of());
+        assertThat(response.rawData()).isEqualTo(raw);
+    }
+
+    @Test
+    @DisplayName("A visão deve ser somente leitura, ler cada valor uma única vez e aceitar DTO nulo")
+    void viewShouldBeReadOnlyAndMemoized() {
+        int[] leituras = new int[1];
+        Map<String, Object> view = RawDataView.<String>esquema()
+                .campo("tamanho", s -> ++leituras[0])
+                .campoSe("vazio", String::isEmpty, s -> "sim")
+                .sobre("abc");
+
+        assertThat(view).containsOnlyKeys("tamanho");
+        assertThat(view.get("tamanho")).isEqualTo(1);
+        assertThat(view.get("tamanho")).isEqualTo(1);
+        assertThat(view.toString()).isEqualTo("{tamanho=1}");
+        assertThat(leituras[0]).isEqualTo(1);
+        assertThatThrownBy(() -> view.put("x", 1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> view.entrySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(mapper.buildAcaoRawDataMap(null)).isEmpty();
+    }
+}
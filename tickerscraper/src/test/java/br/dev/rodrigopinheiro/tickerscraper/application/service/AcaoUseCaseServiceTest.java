@@ -5,25 +5,40 @@ import br.dev.rodrigopinheiro.tickerscraper.application.dto.ProcessingStatus;
 import br.dev.rodrigopinheiro.tickerscraper.application.mapper.RawDataMapper;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.AcaoDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.AcaoRepositoryPort;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.DomainCachePolicy;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.FreshnessPolicy;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.GrupoDados;
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.Acao;
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Cotacao;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.*;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.mapper.AcaoScraperMapper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.BrapiHttpClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -49,6 +64,9 @@ class AcaoUseCaseServiceTest {
     
     @Mock
     private ObjectMapper objectMapper;
+
+    @Mock
+    private BrapiHttpClient brapiClient;
     
     private AcaoUseCaseService acaoUseCaseService;
     
@@ -62,7 +80,11 @@ class AcaoUseCaseServiceTest {
             repositoryPort,
             scraperMapper,
             rawDataMapper,
-            objectMapper
+            objectMapper,
+            new SimpleMeterRegistry(),
+            DomainCachePolicy.padrao(),
+            new TickerNegativeCacheService(Caffeine.newBuilder().build()),
+            brapiClient
         );
     }
     
@@ -178,6 +200,176 @@ class AcaoUseCaseServiceTest {
         verify(repositoryPort).save(any(Acao.class), anyString());
     }
     
+    @Test
+    @DisplayName("Deve servir do cache L1 sem consultar o repositório novamente")
+    void shouldServeFromDomainCache() {
+        // Given
+        Acao cachedAcao = createMockAcao();
+        cachedAcao.setDataAtualizacao(LocalDateTime.now().minusHours(1));
+        when(repositoryPort.findByTicker(NORMALIZED_TICKER))
+            .thenReturn(Optional.of(cachedAcao));
+
+        // When & Then
+        StepVerifier.create(acaoUseCaseService.getTickerData(TICKER)).assertNext(igualA(cachedAcao)).verifyComplete();
+        StepVerifier.create(acaoUseCaseService.getTickerData(" petr4")).assertNext(igualA(cachedAcao)).verifyComplete();
+
+        verify(repositoryPort, times(1)).findByTicker(NORMALIZED_TICKER);
+        verify(scraperPort, never()).scrape(anyString());
+    }
+
+    @Test
+    @DisplayName("Alterações de quem recebeu o objeto não devem vazar para o cache L1")
+    void shouldIsolateDomainCacheFromCallerMutations() {
+        // Given
+        Acao cachedAcao = createMockAcao();
+        cachedAcao.setDataAtualizacao(LocalDateTime.now().minusHours(1));
+        when(repositoryPort.findByTicker(NORMALIZED_TICKER))
+            .thenReturn(Optional.of(cachedAcao));
+
+        // When: o primeiro chamador altera a instância recebida
+        Acao primeira = acaoUseCaseService.getTickerData(TICKER).block();
+        primeira.setPrecoAtual(BigDecimal.ZERO);
+        primeira.setNomeEmpresa("Alterado");
+
+        // Then: a próxima leitura do L1 continua com os dados gravados
+        Acao segunda = acaoUseCaseService.getTickerData(TICKER).block();
+        assertThat(segunda).isNotSameAs(primeira);
+        assertThat(segunda.getPrecoAtual()).isNull();
+        assertThat(segunda.getNomeEmpresa()).isNull();
+        assertThat(segunda.getTicker()).isEqualTo(TICKER);
+        verify(repositoryPort, times(1)).findByTicker(NORMALIZED_TICKER);
+    }
+
+    @Test
+    @DisplayName("Deve retornar valor vencido na hora e revalidar em segundo plano dentro do hard TTL")
+    void shouldServeStaleWhileRevalidating() {
+        // Given
+        Acao staleAcao = createMockAcao();
+        staleAcao.setDataAtualizacao(LocalDateTime.now().minusHours(30));
+        AcaoDadosFinanceirosDTO scrapedData = createMockScrapedData();
+        Acao newAcao = createMockAcao();
+        newAcao.setDataAtualizacao(LocalDateTime.now());
+
+        when(repositoryPort.findByTicker(NORMALIZED_TICKER))
+            .thenReturn(Optional.of(staleAcao));
+        when(scraperPort.scrape(NORMALIZED_TICKER))
+            .thenReturn(Mono.just(scrapedData));
+        when(scraperMapper.toDomain(scrapedData))
+            .thenReturn(newAcao);
+        when(repositoryPort.save(any(Acao.class), any()))
+            .thenReturn(newAcao);
+
+        // When & Then: o vencido volta sem esperar o scraping
+        StepVerifier.create(acaoUseCaseService.getTickerData(TICKER)).assertNext(igualA(staleAcao)).verifyComplete();
+
+        // a atualização em segundo plano grava e substitui a entrada do cache L1
+        verify(repositoryPort, timeout(2000)).save(any(Acao.class), any());
+        await().untilAsserted(() ->
+            StepVerifier.create(acaoUseCaseService.getTickerData(TICKER)).assertNext(igualA(newAcao)).verifyComplete());
+        verify(scraperPort, times(1)).scrape(NORMALIZED_TICKER);
+        verify(repositoryPort, times(1)).findByTicker(NORMALIZED_TICKER);
+    }
+
+    @Test
+    @DisplayName("Não deve revalidar de novo dentro do backoff após uma falha")
+    void shouldBackOffAfterFailedRevalidation() {
+        // Given
+        Acao staleAcao = createMockAcao();
+        staleAcao.setDataAtualizacao(LocalDateTime.now().minusHours(30));
+
+        when(repositoryPort.findByTicker(NORMALIZED_TICKER))
+            .thenReturn(Optional.of(staleAcao));
+        when(scraperPort.scrape(NORMALIZED_TICKER))
+            .thenReturn(Mono.error(new RuntimeException("Site fora do ar")));
+
+        // When & Then: a falha em segundo plano mantém o vencido sendo servido
+        StepVerifier.create(acaoUseCaseService.getTickerData(TICKER)).assertNext(igualA(staleAcao)).verifyComplete();
+        verify(scraperPort, timeout(2000)).scrape(NORMALIZED_TICKER);
+        StepVerifier.create(acaoUseCaseService.getTickerData(TICKER)).assertNext(igualA(staleAcao)).verifyComplete();
+
+        verify(scraperPort, times(1)).scrape(NORMALIZED_TICKER);
+    }
+
+    @Test
+    @DisplayName("Só a cotação vencida deve ser atualizada pela Brapi num update pontual, sem scraping")
+    void shouldRefreshOnlyQuoteThroughBrapi() {
+        // Given: cotação vence em 15 minutos, os demais grupos em 1 dia
+        DomainCachePolicy policy = new DomainCachePolicy(true, 1000, Duration.ofDays(1), Duration.ofHours(36),
+            Map.of("acao", new FreshnessPolicy(Map.of(GrupoDados.COTACAO, Duration.ofMinutes(15)), Set.of())), null);
+        AcaoUseCaseService service = new AcaoUseCaseService(
+            scraperPort, repositoryPort, scraperMapper, rawDataMapper, objectMapper, new SimpleMeterRegistry(),
+            policy, new TickerNegativeCacheService(Caffeine.newBuilder().build()), brapiClient);
+
+        Acao staleQuote = createMockAcao();
+        staleQuote.setPrecoAtual(new BigDecimal("40.00"));
+        staleQuote.setVariacao12M(new BigDecimal("10.00"));
+        staleQuote.setDividendYield(new BigDecimal("8.00"));
+        staleQuote.setDataAtualizacao(LocalDateTime.now().minusHours(2));
+        Acao refreshed = createMockAcao();
+        refreshed.setDataAtualizacao(staleQuote.getDataAtualizacao());
+        refreshed.setDataAtualizacaoCotacao(LocalDateTime.now());
+
+        when(repositoryPort.findByTicker(NORMALIZED_TICKER))
+            .thenReturn(Optional.of(staleQuote), Optional.of(refreshed));
+        when(brapiClient.getPrice(NORMALIZED_TICKER))
+            .thenReturn(Mono.just(new BigDecimal("44.00")));
+        when(repositoryPort.updateCotacao(eq(NORMALIZED_TICKER), any(Cotacao.class)))
+            .thenReturn(true);
+
+        // When & Then: o vencido volta na hora e a cotação é atualizada em segundo plano
+        StepVerifier.create(service.getTickerData(TICKER)).assertNext(igualA(staleQuote)).verifyComplete();
+
+        ArgumentCaptor<Cotacao> cotacao = ArgumentCaptor.forClass(Cotacao.class);
+        verify(repositoryPort, timeout(2000)).updateCotacao(eq(NORMALIZED_TICKER), cotacao.capture());
+        assertThat(cotacao.getValue().preco()).isEqualByComparingTo("44.00");
+        assertThat(cotacao.getValue().variacao12M()).isEqualByComparingTo("21.00");
+        assertThat(cotacao.getValue().dividendYield()).isEqualByComparingTo("7.27");
+
+        await().untilAsserted(() ->
+            StepVerifier.create(service.getTickerData(TICKER)).assertNext(igualA(refreshed)).verifyComplete());
+        verify(scraperPort, never()).scrape(anyString());
+        verify(repositoryPort, never()).save(any(Acao.class), any());
+    }
+
+    @Test
+    @DisplayName("Chamadas concorrentes do mesmo ticker devem compartilhar um único scraping")
+    void shouldCoalesceConcurrentScrapes() {
+        // Given
+        AcaoDadosFinanceirosDTO scrapedData = createMockScrapedData();
+        Acao newAcao = createMockAcao();
+        Sinks.One<AcaoDadosFinanceirosDTO> scraping = Sinks.one();
+
+        when(repositoryPort.findByTicker(NORMALIZED_TICKER))
+            .thenReturn(Optional.empty());
+        when(scraperPort.scrape(NORMALIZED_TICKER))
+            .thenReturn(scraping.asMono());
+        when(scraperMapper.toDomain(scrapedData))
+            .thenReturn(newAcao);
+        when(repositoryPort.save(any(Acao.class), any()))
+            .thenReturn(newAcao);
+        when(rawDataMapper.toAcaoRawDataResponse(scrapedData))
+            .thenReturn(AcaoRawDataResponse.success(NORMALIZED_TICKER, Map.of(), "SCRAPER"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AcaoUseCaseService service = new AcaoUseCaseService(
+            scraperPort, repositoryPort, scraperMapper, rawDataMapper, objectMapper, registry, DomainCachePolicy.padrao(),
+            new TickerNegativeCacheService(Caffeine.newBuilder().build()), brapiClient);
+
+        // When
+        StepVerifier.create(Mono.zip(service.getTickerData(TICKER), service.getRawTickerData(" petr4 ")))
+            // a busca no banco roda em boundedElastic: só conclui o scraping depois que a segunda chamada entrou
+            .then(() -> await().until(() -> registry.counter("ticker.usecase.inflight.coalesced", "ativo", "acao").count() == 1))
+            .then(() -> scraping.tryEmitValue(scrapedData))
+            .assertNext(par -> {
+                assertThat(par.getT1()).isEqualTo(newAcao);
+                assertThat(par.getT2().processingStatus()).isEqualTo(ProcessingStatus.SUCCESS);
+            })
+            .verifyComplete();
+
+        // Then
+        verify(scraperPort, times(1)).scrape(NORMALIZED_TICKER);
+        verify(repositoryPort, times(1)).save(any(Acao.class), any());
+    }
+
     @Test
     @DisplayName("Deve propagar erro quando scraping falha")
     void shouldPropagateErrorWhenScrapingFails() {
@@ -200,6 +392,34 @@ class AcaoUseCaseServiceTest {
         verify(repositoryPort, never()).save(any(Acao.class), anyString());
     }
     
+    @Test
+    @DisplayName("Ticker não encontrado no scraping deve ir para o cache negativo e não ser raspado de novo")
+    void shouldNotScrapeTickerInNegativeCache() {
+        // Given
+        TickerNegativeCacheService negativeCache = new TickerNegativeCacheService(Caffeine.newBuilder().build());
+        AcaoUseCaseService service = new AcaoUseCaseService(
+            scraperPort, repositoryPort, scraperMapper, rawDataMapper, objectMapper, new SimpleMeterRegistry(),
+            DomainCachePolicy.padrao(), negativeCache, brapiClient);
+
+        when(repositoryPort.findByTicker(NORMALIZED_TICKER))
+            .thenReturn(Optional.empty());
+        when(scraperPort.scrape(NORMALIZED_TICKER))
+            .thenReturn(Mono.error(new TickerNotFoundException(NORMALIZED_TICKER, "https://investidor10.com.br/acoes/petr4/")));
+
+        // When / Then
+        StepVerifier.create(service.getTickerData(TICKER))
+            .expectError(TickerNotFoundException.class)
+            .verify();
+        StepVerifier.create(service.getTickerData(" petr4 "))
+            .expectErrorSatisfies(e -> assertThat(((TickerNotFoundException) e).getUrl())
+                .isEqualTo("https://investidor10.com.br/acoes/petr4/"))
+            .verify();
+
+        verify(scraperPort, times(1)).scrape(NORMALIZED_TICKER);
+        assertThat(negativeCache.get(TICKER, "acao")).isPresent();
+        assertThat(negativeCache.get(TICKER, "fii")).isEmpty();
+    }
+
     @Test
     @DisplayName("Deve retornar dados brutos como response")
     void shouldReturnRawDataAsResponse() {
@@ -301,6 +521,11 @@ class AcaoUseCaseServiceTest {
         acao.setDataAtualizacao(LocalDateTime.now());
         return acao;
     }
+
+    // O cache L1 entrega cópias: compara campo a campo em vez da instância
+    private static Consumer<Acao> igualA(Acao esperada) {
+        return atual -> assertThat(atual).usingRecursiveComparison().isEqualTo(esperada);
+    }
     
     private AcaoDadosFinanceirosDTO createMockScrapedData() {
         AcaoInfoHeaderDTO header = new AcaoInfoHeaderDTO(
@@ -5,10 +5,14 @@ import br.dev.rodrigopinheiro.tickerscraper.application.dto.ProcessingStatus;
 import br.dev.rodrigopinheiro.tickerscraper.application.mapper.RawDataMapper;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.FiiDataScrapperPort;
 import br.dev.rodrigopinheiro.tickerscraper.application.port.output.FiiRepositoryPort;
+import br.dev.rodrigopinheiro.tickerscraper.application.service.base.DomainCachePolicy;
 import br.dev.rodrigopinheiro.tickerscraper.domain.model.FundoImobiliario;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.*;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.mapper.FiiScraperMapper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.http.brapi.BrapiHttpClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,6 +52,9 @@ class FiiUseCaseServiceTest {
     
     @Mock
     private ObjectMapper objectMapper;
+
+    @Mock
+    private BrapiHttpClient brapiClient;
     
     private FiiUseCaseService fiiUseCaseService;
     
@@ -61,7 +68,11 @@ class FiiUseCaseServiceTest {
             repositoryPort,
             scraperMapper,
             rawDataMapper,
-            objectMapper
+            objectMapper,
+            new SimpleMeterRegistry(),
+            DomainCachePolicy.padrao(),
+            new TickerNegativeCacheService(Caffeine.newBuilder().build()),
+            brapiClient
         );
     }
     
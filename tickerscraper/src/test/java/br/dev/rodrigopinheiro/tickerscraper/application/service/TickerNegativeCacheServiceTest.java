@@ -0,0 +1,93 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.TickerNotFoundException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.CacheConfig;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.DomainCacheProperties;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.NegativeCacheProperties;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.TickerClassificationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes do cache negativo de tickers não encontrados.
+ */
+class TickerNegativeCacheServiceTest {
+
+    private TickerNegativeCacheService negativeCache;
+
+    @BeforeEach
+    void setUp() {
+        negativeCache = new TickerNegativeCacheService(Caffeine.newBuilder().recordStats().build());
+    }
+
+    @Test
+    @DisplayName("Entrada de um tipo de ativo não deve bloquear os demais; a de qualquer tipo bloqueia todos")
+    void shouldKeyByTickerAndAssetClass() {
+        negativeCache.put("hglg11", "fii", new TickerNotFoundException("HGLG11", "https://investidor10.com.br/fiis/hglg11/"));
+        negativeCache.put("XPTO3", TickerNegativeCacheService.QUALQUER,
+                new TickerNotFoundException("XPTO3", "API_BRAPI", "XPTO3", List.of("Verifique se o ticker está correto")));
+
+        assertThat(negativeCache.get(" HGLG11 ", "fii")).isPresent();
+        assertThat(negativeCache.get("HGLG11", "acao")).isEmpty();
+        assertThat(negativeCache.get("xpto3", "acao")).get()
+                .satisfies(e -> {
+                    assertThat(e.getUrl()).isEqualTo("API_BRAPI");
+                    assertThat(e.getSimilarTickers()).containsExactly("Verifique se o ticker está correto");
+                });
+        assertThat(negativeCache.get("XPTO3", TickerNegativeCacheService.QUALQUER)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Evict deve remover o ticker de todos os tipos e a listagem deve refletir o conteúdo")
+    void shouldEvictAndList() {
+        negativeCache.put("HGLG11", "fii", new TickerNotFoundException("HGLG11", "fii-url"));
+        negativeCache.put("HGLG11", "etf", new TickerNotFoundException("HGLG11", "etf-url"));
+        negativeCache.put("PETR4", "acao", new TickerNotFoundException("PETR4", "acao-url"));
+
+        assertThat(negativeCache.listar())
+                .extracting(TickerNegativeCacheService.Entrada::ticker, TickerNegativeCacheService.Entrada::tipo)
+                .containsExactly(
+                        tuple("HGLG11", "etf"),
+                        tuple("HGLG11", "fii"),
+                        tuple("PETR4", "acao"));
+
+        negativeCache.evict("hglg11");
+
+        assertThat(negativeCache.get("HGLG11", "fii")).isEmpty();
+        assertThat(negativeCache.listar()).extracting(TickerNegativeCacheService.Entrada::ticker).containsExactly("PETR4");
+
+        negativeCache.clear();
+        assertThat(negativeCache.listar()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Ticker presumido inexistente (página sem elementos) deve expirar antes do definitivo")
+    void shouldExpirePresumedNotFoundSooner() {
+        NegativeCacheProperties properties = new NegativeCacheProperties();
+        properties.setTtl(Duration.ofHours(6));
+        properties.setTtlPresumido(Duration.ofMinutes(10));
+        Cache<TickerNegativeCacheService.Chave, TickerNotFoundException> cache = new CacheConfig(
+                new TickerClassificationProperties(), new DomainCacheProperties(), properties).tickerNegativeCache();
+        negativeCache = new TickerNegativeCacheService(cache);
+
+        negativeCache.put("PETR4", "acao", new TickerNotFoundException("PETR4", "acao-url"));
+        negativeCache.put("HGLG11", "fii", TickerNotFoundException.presumido("HGLG11", "fii-url"));
+
+        var expiracao = cache.policy().expireVariably().orElseThrow();
+        assertThat(expiracao.getExpiresAfter(new TickerNegativeCacheService.Chave("PETR4", "acao")))
+                .get().matches(d -> d.compareTo(Duration.ofHours(5)) > 0);
+        assertThat(expiracao.getExpiresAfter(new TickerNegativeCacheService.Chave("HGLG11", "fii")))
+                .get().matches(d -> d.compareTo(Duration.ofMinutes(10)) <= 0);
+        assertThat(negativeCache.get("HGLG11", "fii")).get()
+                .matches(e -> !e.isDefinitivo());
+    }
+}
@@ -0,0 +1,85 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do frescor por grupo de campos e do calendário do pregão.
+ */
+class DomainCachePolicyTest {
+
+    private static final ZoneId SP = ZoneId.of("America/Sao_Paulo");
+
+    private final DomainCachePolicy policy = new DomainCachePolicy(true, 1000, Duration.ofDays(1), Duration.ofHours(36),
+            Map.of("acao", new FreshnessPolicy(
+                    Map.of(GrupoDados.COTACAO, Duration.ofMinutes(15), GrupoDados.CADASTRAL, Duration.ofDays(30)),
+                    Set.of(GrupoDados.COTACAO))),
+            new PregaoB3(SP, LocalTime.of(10, 0), LocalTime.of(18, 0), Set.of(LocalDate.of(2026, 11, 20))));
+
+    private static Instant em(String dataHora) {
+        return LocalDateTime.parse(dataHora).atZone(SP).toInstant();
+    }
+
+    private Set<GrupoDados> vencidos(String ativo, String atualizadoEm, String agora) {
+        Duration idade = Duration.between(em(atualizadoEm), em(agora));
+        return policy.vencidos(ativo, em(agora), (grupo, idadeMaxima) -> idade.compareTo(idadeMaxima) < 0);
+    }
+
+    @Test
+    @DisplayName("Com o pregão aberto só a cotação deve vencer em minutos")
+    void shouldExpireOnlyQuoteDuringTradingHours() {
+        assertThat(vencidos("acao", "2026-10-14T14:00", "2026-10-14T14:10")).isEmpty();
+        assertThat(vencidos("acao", "2026-10-14T14:00", "2026-10-14T14:30")).containsExactly(GrupoDados.COTACAO);
+        assertThat(vencidos("acao", "2026-10-13T14:00", "2026-10-14T15:00"))
+                .containsExactlyInAnyOrder(GrupoDados.COTACAO, GrupoDados.CARDS, GrupoDados.FUNDAMENTOS, GrupoDados.DIVIDENDOS);
+        // Sem política para o tipo de ativo: todos os grupos usam o softTtl
+        assertThat(vencidos("fii", "2026-10-14T14:00", "2026-10-14T14:30")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Cotação obtida após o último fechamento não deve vencer à noite, no fim de semana e em feriados")
+    void shouldKeepQuoteFreshWhileMarketIsClosed() {
+        assertThat(vencidos("acao", "2026-10-14T18:30", "2026-10-14T23:00")).isEmpty();
+        assertThat(vencidos("acao", "2026-10-16T18:05", "2026-10-18T12:00")).doesNotContain(GrupoDados.COTACAO);
+        // Atualizada antes do fechamento: o preço de fechamento ainda não foi visto
+        assertThat(vencidos("acao", "2026-10-14T17:00", "2026-10-14T20:00")).containsExactly(GrupoDados.COTACAO);
+        // Feriado de sexta: o último fechamento é o de quinta
+        assertThat(vencidos("acao", "2026-11-19T18:10", "2026-11-20T15:00")).doesNotContain(GrupoDados.COTACAO);
+        // Reabertura: a cotação da noite anterior vence
+        assertThat(vencidos("acao", "2026-10-14T18:30", "2026-10-15T10:30")).containsExactly(GrupoDados.COTACAO);
+    }
+
+    @Test
+    @DisplayName("Calendário deve identificar pregão aberto e último fechamento")
+    void shouldResolveTradingCalendar() {
+        PregaoB3 pregao = policy.pregao();
+
+        assertThat(pregao.aberto(em("2026-10-14T10:00"))).isTrue();
+        assertThat(pregao.aberto(em("2026-10-14T18:00"))).isFalse();
+        assertThat(pregao.aberto(em("2026-10-17T12:00"))).isFalse();
+        assertThat(pregao.ultimoFechamento(em("2026-10-19T09:00"))).isEqualTo(em("2026-10-16T18:00"));
+        assertThat(pregao.ultimoFechamento(em("2026-10-14T19:00"))).isEqualTo(em("2026-10-14T18:00"));
+        assertThat(pregao.ultimoFechamento(em("2026-11-23T11:00"))).isEqualTo(em("2026-11-19T18:00"));
+    }
+
+    @Test
+    @DisplayName("Hard TTL deve ser estendido com o pregão fechado só para tipos que seguem o pregão")
+    void shouldExtendHardTtlWhileMarketIsClosed() {
+        Instant segunda = em("2026-10-19T09:00");
+
+        assertThat(policy.idadeMaximaServida("acao", segunda)).isEqualTo(Duration.ofHours(63));
+        assertThat(policy.idadeMaximaServida("fii", segunda)).isEqualTo(Duration.ofHours(36));
+        assertThat(policy.idadeMaximaServida("acao", em("2026-10-14T14:00"))).isEqualTo(Duration.ofHours(36));
+    }
+}
@@ -0,0 +1,120 @@
+package br.dev.rodrigopinheiro.tickerscraper.application.service.base;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da deduplicação de execuções em andamento por chave.
+ */
+class SingleFlightTest {
+
+    private SimpleMeterRegistry registry;
+    private SingleFlight<String, String> singleFlight;
+    private AtomicInteger execucoes;
+    private AtomicInteger cancelamentos;
+    private List<Sinks.One<String>> operacoes;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("fii", registry);
+        execucoes = new AtomicInteger();
+        cancelamentos = new AtomicInteger();
+        operacoes = new ArrayList<>();
+    }
+
+    private Mono<String> chamar(String chave) {
+        return singleFlight.executar(chave, () -> {
+            execucoes.incrementAndGet();
+            Sinks.One<String> operacao = Sinks.one();
+            operacoes.add(operacao);
+            return operacao.asMono().doOnCancel(cancelamentos::incrementAndGet);
+        });
+    }
+
+    @Test
+    @DisplayName("Chamadas concorrentes da mesma chave devem compartilhar uma única execução")
+    void shouldCoalesceConcurrentCalls() {
+        List<String> resultados = new ArrayList<>();
+        chamar("HGLG11").subscribe(resultados::add);
+        chamar("HGLG11").subscribe(resultados::add);
+        chamar("HGLG11").subscribe(resultados::add);
+        chamar("MXRF11").subscribe(resultados::add);
+
+        assertThat(execucoes).hasValue(2);
+        assertThat(singleFlight.emAndamento()).isEqualTo(2);
+
+        operacoes.get(0).tryEmitValue("ok");
+
+        assertThat(resultados).containsExactly("ok", "ok", "ok");
+        assertThat(singleFlight.emAndamento()).isEqualTo(1);
+        assertThat(registry.get("ticker.usecase.inflight.coalesced").tag("ativo", "fii").counter().count()).isEqualTo(2);
+        assertThat(registry.get("ticker.usecase.inflight.executed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Erro deve chegar a todos os assinantes e a próxima chamada deve executar de novo")
+    void shouldFanOutErrorsAndReleaseKey() {
+        Mono<String> primeira = chamar("HGLG11");
+        Mono<String> segunda = chamar("HGLG11");
+        List<Throwable> erros = new ArrayList<>();
+        primeira.subscribe(v -> { }, erros::add);
+        segunda.subscribe(v -> { }, erros::add);
+
+        IllegalStateException falha = new IllegalStateException("scrape falhou");
+        operacoes.get(0).tryEmitError(falha);
+
+        assertThat(erros).containsExactly(falha, falha);
+        assertThat(singleFlight.emAndamento()).isZero();
+
+        StepVerifier.create(chamar("HGLG11"))
+                .then(() -> operacoes.get(1).tryEmitEmpty())
+                .verifyComplete();
+        assertThat(execucoes).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Cancelar um assinante não deve afetar os demais; cancelar todos deve cancelar a execução")
+    void shouldCancelOnlyWhenAllSubscribersLeave() {
+        List<String> resultados = new ArrayList<>();
+        Disposable primeiro = chamar("HGLG11").subscribe(resultados::add);
+        chamar("HGLG11").subscribe(resultados::add);
+
+        primeiro.dispose();
+        assertThat(cancelamentos).hasValue(0);
+        operacoes.get(0).tryEmitValue("ok");
+        assertThat(resultados).containsExactly("ok");
+
+        Disposable a = chamar("PETR4").subscribe();
+        Disposable b = chamar("PETR4").subscribe();
+        a.dispose();
+        b.dispose();
+
+        assertThat(cancelamentos).hasValue(1);
+        assertThat(singleFlight.emAndamento()).isZero();
+        chamar("PETR4").subscribe();
+        assertThat(execucoes).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Resultado síncrono deve ser entregue e não deve deixar a chave presa")
+    void shouldHandleSynchronousCompletion() {
+        StepVerifier.create(singleFlight.executar("HGLG11", () -> Mono.just("cache")))
+                .expectNext("cache")
+                .verifyComplete();
+
+        assertThat(singleFlight.emAndamento()).isZero();
+    }
+}
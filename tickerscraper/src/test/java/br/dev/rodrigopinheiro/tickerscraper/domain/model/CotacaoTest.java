@@ -0,0 +1,42 @@
+package br.dev.rodrigopinheiro.tickerscraper.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cotacao - Reprecificação pelo novo preço")
+class CotacaoTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2026, 10, 14, 14, 0);
+
+    @Test
+    @DisplayName("DY deve cair e variação 12M subir na proporção do novo preço")
+    void deveReprecificarDividendYieldEVariacao() {
+        var cotacao = Cotacao.reprecificar(new BigDecimal("10.00"), new BigDecimal("-20.00"), new BigDecimal("12.00"),
+                new BigDecimal("12.00"), AGORA);
+
+        assertThat(cotacao.preco()).isEqualByComparingTo("12.00");
+        // proventos de 12 meses: 1,20 / 12,00
+        assertThat(cotacao.dividendYield()).isEqualByComparingTo("10.00");
+        // preço de 12 meses atrás: 12,50 -> 12,00 / 12,50 - 1
+        assertThat(cotacao.variacao12M()).isEqualByComparingTo("-4.00");
+        assertThat(cotacao.dataAtualizacao()).isEqualTo(AGORA);
+    }
+
+    @Test
+    @DisplayName("Deve manter a escala das colunas e os valores anteriores sem preço anterior válido")
+    void deveManterValoresSemPrecoAnterior() {
+        var reprecificada = Cotacao.reprecificar(new BigDecimal("3.00"), new BigDecimal("1.5"), new BigDecimal("7.000000"),
+                new BigDecimal("3.30"), AGORA);
+        assertThat(reprecificada.dividendYield()).hasToString("6.363636");
+        assertThat(reprecificada.variacao12M()).hasToString("11.65");
+
+        var semAnterior = Cotacao.reprecificar(null, new BigDecimal("5.00"), null, new BigDecimal("3.30"), AGORA);
+        assertThat(semAnterior.variacao12M()).isEqualByComparingTo("5.00");
+        assertThat(semAnterior.dividendYield()).isNull();
+    }
+}
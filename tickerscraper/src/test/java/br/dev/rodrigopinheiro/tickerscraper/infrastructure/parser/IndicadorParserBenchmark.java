@@ -0,0 +1,60 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH: {@link IndicadorParser#parseBigdecimal(String)} (scanner de passada única) contra a
+ * implementação original por substituições e regex, sobre valores no formato das páginas de ação, FII e BDR.
+ *
+ * Não roda no {@code mvn test}. Para executar (acrescente {@code -prof gc} para ver a alocação por operação):
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *   br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParserBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndicadorParserBenchmark {
+
+    private static final String[] VALORES = {
+            "R$ 4,78", "79,97%", "1.234.567.000", "R$ 10,00 T", "9,78 B", "165,22 Bilhões",
+            "0,80 % a.a", "55,84", "-3,12%", "1,5 Milhões", "12.345,67", "-"
+    };
+
+    @Benchmark
+    public void scanner(Blackhole bh) {
+        for (String valor : VALORES) {
+            bh.consume(IndicadorParser.parseBigdecimal(valor));
+        }
+    }
+
+    @Benchmark
+    public void legado(Blackhole bh) {
+        for (String valor : VALORES) {
+            bh.consume(IndicadorParser.parseBigdecimalLegado(valor));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IndicadorParserBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -2,6 +2,7 @@ package br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser;
 
 import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
+import java.util.Random;
 import static org.junit.jupiter.api.Assertions.*;
 
 class IndicadorParserTest {
@@ -70,4 +71,41 @@ class IndicadorParserTest {
         assertEquals(0, BigDecimal.ZERO.compareTo(IndicadorParser.parseBigdecimal("-")));
         assertEquals(0, BigDecimal.ZERO.compareTo(IndicadorParser.parseBigdecimal("abc")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testScannerMantemResultadoDoParserOriginal() {
+        // Mesmo valor e mesma escala do caminho original, inclusive nos formatos que caem no fallback
+        String[] corpus = {
+                "10 M", "10M", "1,5 M", "R$ 1,5 M", "10 B", "10B", "9,78 B", "R$ 9,78 B", "10 T", "10T",
+                "R$ 10,00 T", "55,84", "R$ 55,84", "3,87%", "9,20%", "165,22 Bilhões", "86,60 Bilhões",
+                "500 Milhões", "1,5 Milhões", "2,5 Trilhões", "1 Bilhão", "1 Milhão", "1 Trilhão",
+                "", null, "-", "abc", "  ", "R$", "%",
+                "1.234.567,89", "1,234,567.89", "1.234", "1,234", "12,3", "12,", "12.", "1.2.3", "1,2,3",
+                "-4,5%", "R$ -12,30", "- 5", "0,80 % a.a", "0,80% a.a.", "1,10% ao ano", "1,10 %  a.a",
+                "10% A.A", "10 %%", "0", "-0,00", "10m", "10 t", "10 MM", "10, M", "2,5 TRILHÕES", "2,5 trilhões",
+                "1 bilhao", "US$ 10", "r$ 10", "10 R$", "999999999999999999", "9999999999999999999",
+                "999999999 T", "1.234,56 Bilhões", "\t 7,5 \n", "10\u00A0M", "1,5 % a.a %"
+        };
+        for (String texto : corpus) {
+            assertEquals(IndicadorParser.parseBigdecimalLegado(texto), IndicadorParser.parseBigdecimal(texto),
+                    () -> "Divergência para '" + texto + "'");
+        }
+    }
+
+    @Test
+    void testScannerMantemResultadoEmTextosAleatorios() {
+        String[] pedacos = {"0", "1", "5", "9", ",", ".", " ", "-", "R$", "%", " a.a", " ao ano",
+                "M", "b", "T", " Milhões", " bilhão", " Trilhões", "x", "\t"};
+        Random random = new Random(42);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder texto = new StringBuilder();
+            int tamanho = 1 + random.nextInt(8);
+            for (int k = 0; k < tamanho; k++) {
+                texto.append(pedacos[random.nextInt(pedacos.length)]);
+            }
+            String valor = texto.toString();
+            assertEquals(IndicadorParser.parseBigdecimalLegado(valor), IndicadorParser.parseBigdecimal(valor),
+                    () -> "Divergência para '" + valor + "'");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorPlanBenchmark;
+import ch.qos.logback.classic.Level;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da extração de indicadores de ação sobre a página de exemplo (40 células com tooltip).
+ *
+ * Não roda no {@code mvn test}. Para executar:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *   br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.AcaoIndicatorsScraperBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AcaoIndicatorsScraperBenchmark {
+
+    private final AcaoIndicatorsScraper scraper = new AcaoIndicatorsScraper();
+    private Document page;
+
+    @Setup
+    public void setup() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+        page = Jsoup.parse(SelectorPlanBenchmark.samplePage(40));
+    }
+
+    @Benchmark
+    public Object scrape() {
+        return scraper.scrape(page, "PETR4");
+    }
+
+    @Benchmark
+    public Object scrapeSemDefinicoes() {
+        return scraper.scrape(page, "PETR4", false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AcaoIndicatorsScraperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,62 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadorFundamentalistaDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadoresFundamentalistasDTO;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o AcaoIndicatorsScraper.
+ */
+class AcaoIndicatorsScraperTest {
+
+    private static final String GRID = "<div id='table-indicators'>"
+            + "<div class='cell'><span>P/L - PETR4<i data-content='<p>Preço sobre lucro</p><p>Preço / LPA</p>'></i></span>"
+            + "<div class='value'><span>4,78</span></div></div>"
+            + "<div class='cell'><span>ROE - PETR4<i data-content='Retorno sobre o patrimônio'></i></span>"
+            + "<div class='value'><span>29,65%</span></div>"
+            + "<div class='sector'><span class='destaque'>Petróleo</span></div></div>"
+            + "<div class='cell'><span> </span><div class='value'><span>1</span></div></div>"
+            + "</div>";
+
+    private final AcaoIndicatorsScraper scraper = new AcaoIndicatorsScraper();
+
+    @Test
+    @DisplayName("Deve montar o DTO de cada indicador com valor, definição, cálculo e classificação")
+    void shouldBuildIndicatorDtos() {
+        AcaoIndicadoresFundamentalistasDTO dto = scraper.scrape(Jsoup.parse(GRID), "petr4");
+
+        assertThat(dto.indicadores()).containsOnlyKeys("P/L", "ROE");
+        assertThat(dto.indicadores().get("P/L"))
+                .isEqualTo(new AcaoIndicadorFundamentalistaDTO("4,78", "Preço sobre lucro", "Preço / LPA", null, null, null));
+        assertThat(dto.indicadores().get("ROE"))
+                .isEqualTo(new AcaoIndicadorFundamentalistaDTO("29,65%", "Retorno sobre o patrimônio", null, "Petróleo", null, null));
+    }
+
+    @Test
+    @DisplayName("Tooltips iguais em páginas diferentes devem ser parseados uma única vez")
+    void shouldReuseParsedTooltips() {
+        Document primeira = Jsoup.parse(GRID);
+        Document segunda = Jsoup.parse(GRID.replace("PETR4", "VALE3").replace("4,78", "6,10"));
+
+        AcaoIndicadorFundamentalistaDTO pl = scraper.scrape(primeira, "PETR4").indicadores().get("P/L");
+        AcaoIndicadorFundamentalistaDTO outro = scraper.scrape(segunda, "VALE3").indicadores().get("P/L");
+
+        assertThat(outro.valor()).isEqualTo("6,10");
+        assertThat(outro.definicao()).isSameAs(pl.definicao());
+        assertThat(outro.calculo()).isSameAs(pl.calculo());
+    }
+
+    @Test
+    @DisplayName("Sem definições não deve ler os tooltips")
+    void shouldSkipDefinitionsWhenNotRequested() {
+        AcaoIndicadoresFundamentalistasDTO dto = scraper.scrape(Jsoup.parse(GRID), "PETR4", false);
+
+        assertThat(dto.indicadores().get("P/L"))
+                .isEqualTo(new AcaoIndicadorFundamentalistaDTO("4,78", null, null, null, null, null));
+    }
+}
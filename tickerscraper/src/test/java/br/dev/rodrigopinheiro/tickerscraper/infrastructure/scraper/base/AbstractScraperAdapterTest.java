@@ -0,0 +1,94 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool.PooledPage;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes unitários do empréstimo de páginas do pool em {@link AbstractScraperAdapter}.
+ */
+class AbstractScraperAdapterTest {
+
+    private final PooledPage pooled = mock(PooledPage.class);
+
+    private final AbstractScraperAdapter<String> adapter = new AbstractScraperAdapter<>() {
+        @Override
+        protected PooledPage leasePlaywrightPage(PlaywrightInitializer pwInit, String ticker, String url) {
+            return pooled;
+        }
+
+        @Override
+        protected String[] getEssentialSelectors() {
+            return new String[0];
+        }
+
+        @Override
+        protected String[] getCardsSelectors() {
+            return new String[0];
+        }
+
+        @Override
+        protected String buildUrl(String ticker) {
+            return "https://example.com/" + ticker;
+        }
+
+        @Override
+        protected String executeSpecificScraping(Document doc, String ticker) {
+            return ticker;
+        }
+    };
+
+    @Test
+    @DisplayName("Deve devolver a página ao pool ao fim do scraping, sem marcá-la como quebrada")
+    void shouldReleasePageAfterScraping() {
+        StepVerifier.create(adapter.withPooledPage(null, "HGLG11", "url", p -> "ok"))
+                .expectNext("ok")
+                .verifyComplete();
+
+        verify(pooled).release();
+        verify(pooled, never()).markBroken();
+    }
+
+    @Test
+    @DisplayName("Cancelamento só marca a página; a própria thread do scrape a devolve para descarte")
+    void shouldDiscardPageFromWorkerAfterCancel() throws InterruptedException {
+        CountDownLatch emUso = new CountDownLatch(1);
+        AtomicReference<String> threadDevolucao = new AtomicReference<>();
+        doAnswer(inv -> {
+            threadDevolucao.set(Thread.currentThread().getName());
+            return null;
+        }).when(pooled).release();
+
+        Disposable assinatura = adapter.withPooledPage(null, "HGLG11", "url", p -> {
+            emUso.countDown();
+            new CountDownLatch(1).await();
+            return "ok";
+        }).subscribe();
+
+        assertThat(emUso.await(5, TimeUnit.SECONDS)).isTrue();
+        assinatura.dispose();
+
+        verify(pooled, timeout(5_000)).release();
+        InOrder ordem = inOrder(pooled);
+        ordem.verify(pooled).markBroken();
+        ordem.verify(pooled).release();
+        assertThat(threadDevolucao.get()).startsWith("boundedElastic");
+    }
+}
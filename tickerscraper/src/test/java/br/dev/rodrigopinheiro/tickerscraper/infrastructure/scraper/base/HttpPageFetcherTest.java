@@ -0,0 +1,51 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.FiiApiConstants;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.CapturedRequest;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o HttpPageFetcher (detecção de anti-bot e descoberta de URLs de API).
+ */
+class HttpPageFetcherTest {
+
+    private static HttpPageFetcher.FetchedPage page(String html) {
+        String url = "https://investidor10.com.br/fiis/HGLG11";
+        return new HttpPageFetcher.FetchedPage(url, html, Jsoup.parse(html, url), "XSRF-TOKEN=abc");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar URLs completas das APIs no HTML, inclusive com barras escapadas")
+    void shouldDiscoverApiUrls() {
+        String html = """
+                <div data-url="/api/fii/dividendos/chart/10/1825/mes"></div>
+                <script>var cfg = {"historico":"https:\\/\\/investidor10.com.br\\/api\\/historico-indicadores\\/10\\/5"};</script>
+                <script>fetch('/api/fii/cotacao/fii/' + id + '/1');</script>
+                """;
+
+        Map<String, CapturedRequest> apis = HttpPageFetcher.discoverApiRequests(page(html), FiiApiConstants.TODAS_AS_CHAVES);
+
+        assertThat(apis).containsOnlyKeys(FiiApiConstants.DIVIDENDOS, FiiApiConstants.HISTORICO_INDICADORES);
+        assertThat(apis.get(FiiApiConstants.DIVIDENDOS).url())
+                .isEqualTo("https://investidor10.com.br/api/fii/dividendos/chart/10/1825/mes");
+        assertThat(apis.get(FiiApiConstants.HISTORICO_INDICADORES).url())
+                .isEqualTo("https://investidor10.com.br/api/historico-indicadores/10/5");
+        assertThat(apis.get(FiiApiConstants.DIVIDENDOS).headers())
+                .containsEntry("cookie", "XSRF-TOKEN=abc")
+                .containsEntry("Referer", "https://investidor10.com.br/fiis/HGLG11");
+    }
+
+    @Test
+    @DisplayName("Deve reconhecer páginas de desafio anti-bot")
+    void shouldDetectChallengePages() {
+        assertThat(HttpPageFetcher.isChallengePage("<html><title>Just a moment...</title></html>")).isTrue();
+        assertThat(HttpPageFetcher.isChallengePage("<script src=\"/cdn-cgi/challenge-platform/h/b\"></script>")).isTrue();
+        assertThat(HttpPageFetcher.isChallengePage("<div class=\"name-ticker\">HGLG11</div>")).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.PlaywrightProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testes unitários para a política de bloqueio de recursos do Playwright.
+ */
+class ResourceBlockingPolicyTest {
+
+    private final ResourceBlockingPolicy policy =
+            new ResourceBlockingPolicy(new PlaywrightProperties(), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("Deve bloquear imagens, fontes e mídia por extensão, inclusive com query string")
+    void shouldBlockUnneededResourceTypes() {
+        assertTrue(policy.shouldBlock("https://investidor10.com.br/storage/logo.png"));
+        assertTrue(policy.shouldBlock("https://investidor10.com.br/storage/logo.webp?v=3"));
+        assertTrue(policy.shouldBlock("https://fonts.gstatic.com/s/roboto.woff2"));
+        assertTrue(policy.shouldBlock("https://cdn.example.com/video/intro.mp4"));
+    }
+
+    @Test
+    @DisplayName("Deve bloquear scripts de analytics por padrão de URL")
+    void shouldBlockAnalyticsScripts() {
+        assertTrue(policy.shouldBlock("https://www.googletagmanager.com/gtag/js?id=G-XYZ"));
+    }
+
+    @Test
+    @DisplayName("Deve permitir documento, scripts próprios, CSS e XHR das APIs, que seguem usando o cache HTTP")
+    void shouldAllowDocumentAndApiCalls() {
+        assertFalse(policy.shouldBlock("https://investidor10.com.br/fiis/HGLG11/"));
+        assertFalse(policy.shouldBlock("https://investidor10.com.br/js/app.js"));
+        assertFalse(policy.shouldBlock("https://investidor10.com.br/css/app.css"));
+        assertFalse(policy.shouldBlock("https://investidor10.com.br/api/fii/dividendos/chart/10/1825/mes"));
+        assertFalse(policy.shouldBlock("https://investidor10.com.br/api/bdr/historico-indicadores/10/5"));
+    }
+
+    @Test
+    @DisplayName("Não deve bloquear nada quando desabilitado")
+    void shouldNotBlockWhenDisabled() {
+        PlaywrightProperties properties = new PlaywrightProperties();
+        properties.getBlocking().setEnabled(false);
+        ResourceBlockingPolicy disabled = new ResourceBlockingPolicy(properties, new SimpleMeterRegistry());
+
+        assertFalse(disabled.shouldBlock("https://investidor10.com.br/logo.png"));
+    }
+}
@@ -0,0 +1,144 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o FinancialStatementParser e a FinancialStatementTable.
+ */
+class FinancialStatementParserTest {
+
+    private static final String DRE = "[[\"#\",\"ÚLT. 12M\",\"2024\",\"2023\"],"
+            + "[\"Receita Líquida - (R$)\",[\"128,83 Bilhões\",\"128825000000,00\"],\"110,5 Bilhões\",null],"
+            + "[\"Margem Líquida\",\"23,68%\",[],{\"a\":[1,2.5,true]}],"
+            + "[\"EBIT\",[\"1,00\"]],"
+            + "[\"Custos\",1,2,3,[\"além do cabeçalho\"]],"
+            + "[\"EBIT\",\"substitui\",\"mantém a posição\"]]";
+
+    private static final DefaultDataBufferFactory BUFFERS = new DefaultDataBufferFactory();
+
+    @Test
+    @DisplayName("Deve produzir o mesmo mapa do parsing anterior via ObjectMapper")
+    void shouldMatchLegacyParsing() throws Exception {
+        Map<String, Object> tabela = FinancialStatementParser.parse(DRE);
+
+        assertThat(tabela).isEqualTo(legado(DRE));
+        assertThat(tabela.toString()).isEqualTo(legado(DRE).toString());
+        assertThat(tabela.keySet()).containsExactly("Receita Líquida - (R$)", "Margem Líquida", "EBIT", "Custos");
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a resposta em pedaços, inclusive cortando caracteres multibyte")
+    void shouldParseChunkedBuffers() throws Exception {
+        byte[] bytes = DRE.getBytes(StandardCharsets.UTF_8);
+        FinancialStatementParser parser = new FinancialStatementParser();
+        for (int i = 0; i < bytes.length; i += 3) {
+            DataBuffer chunk = BUFFERS.wrap(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + 3)));
+            parser.feed(chunk);
+        }
+
+        assertThat(parser.finish()).isEqualTo(legado(DRE));
+    }
+
+    @Test
+    @DisplayName("BdrApiScraper deve consumir o demonstrativo em streaming e devolver mapa vazio em caso de erro")
+    void apiScraperShouldStreamStatements() throws Exception {
+        byte[] bytes = DRE.getBytes(StandardCharsets.UTF_8);
+        int meio = bytes.length / 2;
+        WebClient ok = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .body(Flux.just(BUFFERS.wrap(Arrays.copyOfRange(bytes, 0, meio)),
+                                BUFFERS.wrap(Arrays.copyOfRange(bytes, meio, bytes.length))))
+                        .build()))
+                .build();
+        WebClient invalido = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK).body("[[\"#\"],").build()))
+                .build();
+
+        assertThat(new BdrApiScraper(ok).fetchDre("http://localhost/dre", Map.of()).block()).isEqualTo(legado(DRE));
+        assertThat(new BdrApiScraper(invalido).fetchDre("http://localhost/dre", Map.of()).block()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Períodos repetidos devem manter a posição do primeiro e o valor da última coluna")
+    void shouldHandleRepeatedPeriods() throws Exception {
+        String json = "[[\"#\",\"2024\",\"2023\",\"2024\"],[\"Lucro\",\"a\",\"b\",\"c\"],[\"Caixa\",\"x\",\"y\"]]";
+
+        Map<String, Object> tabela = FinancialStatementParser.parse(json);
+
+        assertThat(tabela).isEqualTo(legado(json));
+        assertThat(tabela.toString()).isEqualTo(legado(json).toString());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> lucro = (Map<String, Object>) tabela.get("Lucro");
+        assertThat(lucro).containsExactly(Map.entry("2024", "c"), Map.entry("2023", "b"));
+    }
+
+    @Test
+    @DisplayName("Sem linhas de dados deve retornar mapa vazio")
+    void shouldReturnEmptyMapWithoutRows() throws Exception {
+        assertThat(FinancialStatementParser.parse("[]")).isEmpty();
+        assertThat(FinancialStatementParser.parse("[[\"#\",\"2024\"]]")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JSON fora do formato deve falhar como no parsing anterior")
+    void shouldRejectMalformedStatements() {
+        assertThatThrownBy(() -> FinancialStatementParser.parse("{\"a\":1}")).hasMessageContaining("array of rows");
+        assertThatThrownBy(() -> FinancialStatementParser.parse("[[\"#\"],\"linha\"]")).hasMessageContaining("array");
+        assertThatThrownBy(() -> FinancialStatementParser.parse("[[\"#\",\"2024\"],[10,\"1\"]]")).hasMessageContaining("label");
+        assertThatThrownBy(() -> FinancialStatementParser.parse("[[\"#\"],[]]")).hasMessageContaining("empty");
+        assertThatThrownBy(() -> FinancialStatementParser.parse("[[\"#\"],[\"a\"")).hasMessageContaining("Unexpected end");
+
+        FinancialStatementParser vazio = new FinancialStatementParser();
+        assertThatThrownBy(vazio::finish).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("A tabela deve ser somente leitura")
+    void tableShouldBeReadOnly() throws Exception {
+        Map<String, Object> tabela = FinancialStatementParser.parse(DRE);
+
+        assertThatThrownBy(() -> tabela.put("x", Collections.emptyMap())).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> tabela.entrySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Parsing anterior do BdrApiScraper (ObjectMapper + LinkedHashMaps), usado como referência.
+     */
+    private static Map<String, Object> legado(String json) throws Exception {
+        List<List<Object>> data = new ObjectMapper().readValue(json, new TypeReference<>() {});
+        List<Object> header = data.get(0);
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (int i = 1; i < data.size(); i++) {
+            List<Object> row = data.get(i);
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int j = 1; j < row.size() && j < header.size(); j++) {
+                Object rawValue = row.get(j);
+                values.put(String.valueOf(header.get(j)),
+                        rawValue instanceof List<?> list && !list.isEmpty() ? list.get(0) : rawValue);
+            }
+            result.put((String) row.get(0), values);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.model.Bdr;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.Demonstrativos;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o BdrIndicadoresIndex e o mapeamento do BDR a partir dele.
+ */
+class BdrIndicadoresIndexTest {
+
+    @Test
+    @DisplayName("Deve indexar o primeiro valor 'Atual' de cada indicador e ignorar entradas fora do formato")
+    void shouldIndexCurrentIndicatorValues() {
+        Map<String, Object> indicadores = Map.of(
+                "P/L", List.of(Map.of("year", 2024, "value", "10.0"), Map.of("year", "atual", "value", "30.16"),
+                        Map.of("year", "Atual", "value", "99")),
+                "ROE", List.of("texto solto", Map.of("year", "Atual", "value", "29,65%")),
+                "VPA", List.of(Map.of("year", 2024, "value", "1.0")),
+                "LPA", "não é lista");
+        BdrDadosFinanceirosDTO dto = new BdrDadosFinanceirosDTO(null, null, null, indicadores,
+                new Demonstrativos(Map.of("EBIT", Map.of("2024", "1,00", "ÚLT. 12M", "128,53 Bilhões"),
+                        "EBITDA", Map.of("2024", "1,00")), null, null),
+                null, null);
+
+        BdrIndicadoresIndex indice = BdrIndicadoresIndex.of(dto);
+
+        assertThat(indice.indicador("P/L")).isEqualByComparingTo("30.16");
+        assertThat(indice.indicador("ROE")).isEqualByComparingTo("29.65");
+        assertThat(indice.indicador("VPA")).isNull();
+        assertThat(indice.indicador("LPA")).isNull();
+        assertThat(indice.indicador("inexistente")).isNull();
+        assertThat(indice.dre("EBIT")).isEqualByComparingTo("128530000000");
+        assertThat(indice.dre("EBITDA")).isNull();
+        assertThat(indice.bp("EBIT")).isNull();
+        assertThat(BdrIndicadoresIndex.of(null).fc("EBIT")).isNull();
+    }
+
+    @Test
+    @DisplayName("toDomain deve ler indicadores e demonstrativos do índice")
+    void toDomainShouldReadFromIndex() {
+        BdrDadosFinanceirosDTO dto = ScraperMapperBenchmark.sampleBdr();
+
+        Bdr bdr = new BdrScraperMapperImpl().toDomain(dto);
+
+        assertThat(bdr.getPl()).isEqualTo(new BigDecimal("0.25"));
+        assertThat(bdr.getDividendYield()).isEqualTo(new BigDecimal("14.25"));
+        assertThat(bdr.getReceitaTotalUsd()).isEqualByComparingTo("11234560000000");
+        assertThat(bdr.getPlUsd()).isEqualByComparingTo("41234560000000");
+        assertThat(bdr.getFcfUsd()).isEqualByComparingTo("31234560000000");
+    }
+}
@@ -0,0 +1,227 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.mapper;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.parser.IndicadorParser;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadorFundamentalistaDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoIndicadoresFundamentalistasDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoCardsDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.dto.AcaoInfoHeaderDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.mapper.AcaoScraperMapperImpl;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.BdrDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.Demonstrativos;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoCards;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoHeader;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.dto.InfoSobre;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoItemDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiInfoHeaderDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.mapper.FiiScraperMapperImpl;
+import ch.qos.logback.classic.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do mapeamento DTO → domínio dos scrapers.
+ *
+ * {@code bdrCamposPorStream} reproduz a busca anterior (um stream sobre a lista da API por campo) e
+ * {@code bdrCamposPorIndice} a leitura pelo {@link BdrIndicadoresIndex}; os demais medem o
+ * {@code toDomain} completo de BDR, ação e FII.
+ *
+ * Não roda no {@code mvn test}. Para executar:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *   br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.bdr.mapper.ScraperMapperBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScraperMapperBenchmark {
+
+    static final String[] INDICADORES_BDR = {
+            "P/L", "P/VP", "P/RECEITA (PSR)", "P/EBIT", "P/EBITDA", "P/ATIVO", "ROE", "ROIC", "ROA",
+            "MARGEM BRUTA", "MARGEM OPERACIONAL", "MARGEM LÍQUIDA", "VPA", "LPA", "DIVIDEND YIELD (DY)"
+    };
+    static final String[] DRE = {"Receita Total - (US$)", "Lucro Bruto - (US$)", "EBITDA", "EBIT", "Lucro Líquido - (US$)"};
+    static final String[] BP = {"Ativos Total - ($)", "Passivos Total - (US$)", "Dívida a Longo Prazo - ($)", "Patrimônio Líquido - ($)"};
+    static final String[] FC = {"Fluxo de Caixa Operacional - ($)", "Caixa Líquido usado para atividades de investimento - ($)", "Fluxo de Caixa Livre - ($)"};
+
+    private static final String[] INDICADORES_ACAO = {
+            "P/L", "P/RECEITA (PSR)", "P/VP", "DIVIDEND YIELD", "PAYOUT", "MARGEM LÍQUIDA", "MARGEM BRUTA",
+            "MARGEM EBIT", "MARGEM EBITDA", "EV/EBITDA", "EV/EBIT", "P/EBITDA", "P/ATIVO", "P/CAP.GIRO",
+            "P/ATIVO CIRC LIQ", "VPA", "LPA", "GIRO ATIVOS", "ROE", "ROIC", "ROA", "DÍVIDA LÍQUIDA / PATRIMÔNIO",
+            "DÍVIDA LÍQUIDA / EBITDA", "DÍVIDA LÍQUIDA / EBIT", "DÍVIDA BRUTA / PATRIMÔNIO", "PATRIMÔNIO / ATIVOS",
+            "PASSIVOS / ATIVOS", "LIQUIDEZ CORRENTE", "CAGR RECEITAS 5 ANOS", "CAGR LUCROS 5 ANOS"
+    };
+    private static final String[][] HISTORICO_FII = {
+            {"VALOR DE MERCADO", "enterprise_value"}, {"P/VP", "p_vp"},
+            {"DIVIDEND YIELD (DY)", "dividend_yield_last_12_months"}, {"LIQUIDEZ DIÁRIA", "daily_liquidity"},
+            {"VALOR PATRIMONIAL", "equity_value"}, {"VAL. PATRIMONIAL P/ COTA", "equity_value_account"},
+            {"VACÂNCIA", "occupancy_rate"}, {"NÚMERO DE COTISTAS", "shareholders_count"}, {"COTAS EMITIDAS", "quote_count"}
+    };
+
+    private final BdrScraperMapper bdrMapper = new BdrScraperMapperImpl();
+    private final AcaoScraperMapperImpl acaoMapper = new AcaoScraperMapperImpl();
+    private final FiiScraperMapperImpl fiiMapper = new FiiScraperMapperImpl();
+
+    private BdrDadosFinanceirosDTO bdr;
+    private AcaoDadosFinanceirosDTO acao;
+    private FiiDadosFinanceirosDTO fii;
+
+    @Setup
+    public void setup() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+        bdr = sampleBdr();
+        acao = sampleAcao();
+        fii = sampleFii();
+    }
+
+    @Benchmark
+    public void bdrCamposPorStream(Blackhole bh) {
+        for (String chave : INDICADORES_BDR) {
+            bh.consume(indicadorPorStream(bdr.indicadores(), chave));
+        }
+        for (String linha : DRE) bh.consume(demonstrativoPorLookup(bdr.demonstrativos().dre(), linha));
+        for (String linha : BP) bh.consume(demonstrativoPorLookup(bdr.demonstrativos().bp(), linha));
+        for (String linha : FC) bh.consume(demonstrativoPorLookup(bdr.demonstrativos().fc(), linha));
+    }
+
+    @Benchmark
+    public void bdrCamposPorIndice(Blackhole bh) {
+        BdrIndicadoresIndex indice = BdrIndicadoresIndex.of(bdr);
+        for (String chave : INDICADORES_BDR) {
+            bh.consume(indice.indicador(chave));
+        }
+        for (String linha : DRE) bh.consume(indice.dre(linha));
+        for (String linha : BP) bh.consume(indice.bp(linha));
+        for (String linha : FC) bh.consume(indice.fc(linha));
+    }
+
+    @Benchmark
+    public Object bdrToDomain() {
+        return bdrMapper.toDomain(bdr);
+    }
+
+    @Benchmark
+    public Object acaoToDomain() {
+        return acaoMapper.toDomain(acao);
+    }
+
+    @Benchmark
+    public Object fiiToDomain() {
+        return fiiMapper.toDomain(fii);
+    }
+
+    // Busca anterior do BdrScraperMapper (getIndicatorValueAsDecimal/getFinancialStatementValue)
+    private static BigDecimal indicadorPorStream(Map<String, Object> indicators, String key) {
+        if (indicators == null || !indicators.containsKey(key) || !(indicators.get(key) instanceof List)) {
+            return null;
+        }
+        return ((List<?>) indicators.get(key)).stream()
+                .filter(item -> item instanceof Map)
+                .map(item -> (Map<?, ?>) item)
+                .filter(map -> "Atual".equalsIgnoreCase(String.valueOf(map.get("year"))))
+                .findFirst()
+                .map(map -> IndicadorParser.parseBigdecimal(String.valueOf(map.get("value"))))
+                .orElse(null);
+    }
+
+    private static BigDecimal demonstrativoPorLookup(Map<String, Object> statementData, String rowLabel) {
+        if (statementData == null || !(statementData.get(rowLabel) instanceof Map<?, ?> valuesByPeriod)
+                || !valuesByPeriod.containsKey("ÚLT. 12M")) {
+            return null;
+        }
+        return IndicadorParser.parseBigdecimal(String.valueOf(valuesByPeriod.get("ÚLT. 12M")));
+    }
+
+    /**
+     * DTO de BDR no formato da API do Investidor10: indicadores com o histórico anual antes/depois do
+     * valor "Atual" e demonstrativos com vários períodos por linha.
+     */
+    public static BdrDadosFinanceirosDTO sampleBdr() {
+        Map<String, Object> indicadores = new LinkedHashMap<>();
+        int n = 0;
+        for (String chave : INDICADORES_BDR) {
+            List<Object> anos = new ArrayList<>();
+            for (int ano = 2015; ano < 2025; ano++) {
+                anos.add(Map.of("year", ano, "value", (n + ano % 7) + ".5"));
+            }
+            anos.add(Map.of("year", "Atual", "value", (n++) + ".25"));
+            indicadores.put(chave, anos);
+        }
+        return new BdrDadosFinanceirosDTO(
+                new InfoHeader("MSFT34", "Microsoft"),
+                new InfoCards(new BigDecimal("55.84"), 12.3),
+                new InfoSobre("US$ 3,80 Trilhões R$ 3.800.147.800.000", "Tecnologia", "Software", "48 BDRs = 1 ação"),
+                indicadores,
+                new Demonstrativos(demonstrativo(DRE), demonstrativo(BP), demonstrativo(FC)),
+                Map.of("content", List.of()),
+                Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    private static Map<String, Object> demonstrativo(String[] linhas) {
+        Map<String, Object> dados = new LinkedHashMap<>();
+        for (int i = 0; i < linhas.length; i++) {
+            Map<String, Object> periodos = new LinkedHashMap<>();
+            for (int ano = 2015; ano < 2025; ano++) {
+                periodos.put(String.valueOf(ano), (i + 1) + "0.000,00");
+            }
+            periodos.put("ÚLT. 12M", (i + 1) + "1.234,56 Bilhões");
+            dados.put(linhas[i], periodos);
+        }
+        return dados;
+    }
+
+    private static AcaoDadosFinanceirosDTO sampleAcao() {
+        Map<String, AcaoIndicadorFundamentalistaDTO> indicadores = new LinkedHashMap<>();
+        for (int i = 0; i < INDICADORES_ACAO.length; i++) {
+            indicadores.put(INDICADORES_ACAO[i], new AcaoIndicadorFundamentalistaDTO(i + ",5%", "Definição", "Cálculo", null, null, null));
+        }
+        return new AcaoDadosFinanceirosDTO(new AcaoInfoHeaderDTO("PETR4", "Petrobras"), null,
+                new AcaoInfoCardsDTO("R$ 38,50", "12,3%"), new AcaoIndicadoresFundamentalistasDTO(indicadores));
+    }
+
+    private static FiiDadosFinanceirosDTO sampleFii() {
+        Map<String, List<FiiIndicadorHistoricoItemDTO>> historico = new LinkedHashMap<>();
+        for (String[] indicador : HISTORICO_FII) {
+            List<FiiIndicadorHistoricoItemDTO> itens = new ArrayList<>();
+            for (int ano = 2015; ano < 2025; ano++) {
+                itens.add(new FiiIndicadorHistoricoItemDTO(String.valueOf(ano), indicador[1], BigDecimal.valueOf(ano), "decimal"));
+            }
+            itens.add(new FiiIndicadorHistoricoItemDTO("Atual", indicador[1], new BigDecimal("10.5"), "decimal"));
+            historico.put(indicador[0], itens);
+        }
+        return new FiiDadosFinanceirosDTO(1, new FiiInfoHeaderDTO("HGLG11", "CSHG Logística"),
+                new FiiIndicadorHistoricoDTO(historico), null, null, List.of(), null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ScraperMapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
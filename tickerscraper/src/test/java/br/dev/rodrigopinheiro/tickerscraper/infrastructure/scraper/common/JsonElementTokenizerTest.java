@@ -0,0 +1,137 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.FiiApiScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDividendoDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoDTO;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiIndicadorHistoricoItemDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Testes unitários para o JsonElementTokenizer e as variantes em streaming do FiiApiScraper.
+ */
+class JsonElementTokenizerTest {
+
+    private static final String DIVIDENDOS = "[{\"price\":0.85,\"created_at\":\"01/2024\",\"extra\":{\"a\":[1]}},"
+            + "null,{\"price\":1.10,\"created_at\":\"02/2024\"},{\"price\":\"1,2\"}]";
+
+    private static final String HISTORICO = "{\"P/VP\":[{\"year\":\"Atual\",\"key\":\"P/VP\",\"value\":0.95,\"type\":\"x\"},"
+            + "{\"year\":2024,\"key\":\"P/VP\",\"value\":1.50}],"
+            + "\"DIVIDEND YIELD (DY)\":[{\"year\":\"Atual\",\"key\":\"DY\",\"value\":12.3400,\"desconhecido\":true}],"
+            + "\"SEM ITENS\":[],\"VAZIO\":null}";
+
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+    private static final DefaultDataBufferFactory BUFFERS = new DefaultDataBufferFactory();
+
+    @Test
+    @DisplayName("Array na raiz deve emitir os mesmos DTOs da desserialização da lista inteira")
+    void shouldStreamRootArrayElements() throws Exception {
+        List<FiiDividendoDTO> esperado = new ArrayList<>(MAPPER.readValue(DIVIDENDOS.replace("{\"price\":\"1,2\"}", "{}"),
+                new TypeReference<List<FiiDividendoDTO>>() {}));
+        esperado.remove(null);
+
+        List<FiiDividendoDTO> dividendos = JsonElementTokenizer
+                .elementos(chunks(DIVIDENDOS.replace("{\"price\":\"1,2\"}", "{}"), 5), MAPPER, FiiDividendoDTO.class)
+                .collectList().block();
+
+        assertThat(dividendos).isEqualTo(esperado).hasSize(3);
+        assertThat(dividendos.get(1).price()).isEqualTo(new BigDecimal("1.10"));
+    }
+
+    @Test
+    @DisplayName("Objeto de arrays deve emitir cada item com o nome do grupo, em pedaços que cortam caracteres multibyte")
+    void shouldStreamGroupedElements() throws Exception {
+        Map<String, List<FiiIndicadorHistoricoItemDTO>> esperado = MAPPER.readValue(HISTORICO,
+                new TypeReference<FiiIndicadorHistoricoDTO>() {}).indicadores();
+
+        List<JsonElementTokenizer.ItemAgrupado<FiiIndicadorHistoricoItemDTO>> emitidos = JsonElementTokenizer
+                .elementosAgrupados(chunks(HISTORICO, 1), MAPPER, FiiIndicadorHistoricoItemDTO.class)
+                .collectList().block();
+        List<JsonElementTokenizer.ItemAgrupado<FiiIndicadorHistoricoItemDTO>> itens = emitidos.stream()
+                .filter(e -> !e.inicio()).toList();
+
+        assertThat(emitidos).filteredOn(JsonElementTokenizer.ItemAgrupado::inicio)
+                .extracting(JsonElementTokenizer.ItemAgrupado::grupo, JsonElementTokenizer.ItemAgrupado::nulo)
+                .containsExactly(tuple("P/VP", false), tuple("DIVIDEND YIELD (DY)", false),
+                        tuple("SEM ITENS", false), tuple("VAZIO", true));
+        assertThat(itens).extracting(JsonElementTokenizer.ItemAgrupado::grupo).containsExactly("P/VP", "P/VP", "DIVIDEND YIELD (DY)");
+        assertThat(itens).extracting(JsonElementTokenizer.ItemAgrupado::item).containsExactly(esperado.get("P/VP").get(0),
+                esperado.get("P/VP").get(1), esperado.get("DIVIDEND YIELD (DY)").get(0));
+        assertThat(itens.get(2).item().value()).isEqualTo(new BigDecimal("12.3400"));
+    }
+
+    @Test
+    @DisplayName("JSON malformado, truncado ou fora do formato deve falhar com DecodingException")
+    void shouldFailWithDecodingException() {
+        assertThatThrownBy(() -> JsonElementTokenizer.elementos(chunks(DIVIDENDOS, 7), MAPPER, FiiDividendoDTO.class)
+                .blockLast()).isInstanceOf(DecodingException.class).hasMessageContaining("FiiDividendoDTO");
+        assertThatThrownBy(() -> JsonElementTokenizer.elementos(chunks("{\"price\":1}", 4), MAPPER, FiiDividendoDTO.class)
+                .blockLast()).isInstanceOf(DecodingException.class).hasMessageContaining("raiz");
+        assertThatThrownBy(() -> JsonElementTokenizer.elementos(chunks("[{\"price\":1},", 4), MAPPER, FiiDividendoDTO.class)
+                .blockLast()).isInstanceOf(DecodingException.class).hasMessageContaining("end-of-input");
+        assertThatThrownBy(() -> JsonElementTokenizer.elementosAgrupados(chunks("{\"P/VP\":1}", 4), MAPPER,
+                FiiIndicadorHistoricoItemDTO.class).blockLast()).isInstanceOf(DecodingException.class).hasMessageContaining("P/VP");
+        assertThatThrownBy(() -> JsonElementTokenizer.elementos(chunks("[{]", 4), MAPPER, FiiDividendoDTO.class)
+                .blockLast()).isInstanceOf(DecodingException.class);
+    }
+
+    @Test
+    @DisplayName("Corpo vazio não deve emitir elementos")
+    void shouldEmitNothingForEmptyBody() {
+        assertThat(JsonElementTokenizer.elementos(Flux.empty(), MAPPER, FiiDividendoDTO.class).collectList().block()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("FiiApiScraper deve montar os Monos de dividendos e histórico sobre os streams")
+    void fiiApiScraperShouldCollectStreams() throws Exception {
+        String dividendos = DIVIDENDOS.replace(",{\"price\":\"1,2\"}", "");
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .body(chunks(request.url().getPath().endsWith("dividendos") ? dividendos : HISTORICO, 16))
+                        .build()))
+                .build();
+        FiiApiScraper scraper = new FiiApiScraper(webClient, MAPPER);
+
+        FiiIndicadorHistoricoDTO historico = scraper.requestHistorico("http://localhost/historico", Map.of()).block();
+        List<FiiDividendoDTO> lista = scraper.requestDividendos("http://localhost/dividendos", Map.of()).block();
+
+        FiiIndicadorHistoricoDTO esperado = MAPPER.readValue(HISTORICO, FiiIndicadorHistoricoDTO.class);
+        assertThat(historico.indicadores().keySet()).containsExactly("P/VP", "DIVIDEND YIELD (DY)", "SEM ITENS", "VAZIO");
+        assertThat(historico.indicadores().get("SEM ITENS")).isEmpty();
+        assertThat(historico.indicadores()).containsEntry("VAZIO", null);
+        assertThat(historico).isEqualTo(esperado);
+        assertThat(MAPPER.writeValueAsString(historico)).isEqualTo(MAPPER.writeValueAsString(esperado));
+        assertThat(lista).hasSize(2);
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int tamanho) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += tamanho) {
+            buffers.add(BUFFERS.wrap(Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + tamanho))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,140 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common;
+
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o XhrCaptureRegistry.
+ */
+class XhrCaptureRegistryTest {
+
+    private static Request request(String url) {
+        Request req = mock(Request.class);
+        when(req.url()).thenReturn(url);
+        when(req.headers()).thenReturn(Map.of("cookie", "a=b"));
+        return req;
+    }
+
+    @Test
+    @DisplayName("Deve completar o future da chave na primeira request correspondente")
+    void shouldCompleteFutureOnFirstMatch() {
+        XhrCaptureRegistry registry = new XhrCaptureRegistry(List.of("dividendos/chart", "cotacao/fii"));
+
+        registry.onRequest(request("https://investidor10.com.br/api/fii/dividendos/chart/10/1825/mes"));
+        registry.onRequest(request("https://investidor10.com.br/api/fii/dividendos/chart/99/1825/mes"));
+
+        assertThat(registry.future("dividendos/chart")).isDone();
+        assertThat(registry.get("dividendos/chart")).get()
+                .extracting(c -> c.url())
+                .isEqualTo("https://investidor10.com.br/api/fii/dividendos/chart/10/1825/mes");
+        assertThat(registry.missingKeys()).containsExactly("cotacao/fii");
+        assertThat(registry.allCaptured()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Não deve esperar quando todas as chaves já foram capturadas")
+    void shouldReturnImmediatelyWhenAllCaptured() {
+        XhrCaptureRegistry registry = new XhrCaptureRegistry(List.of("cotacao/fii"));
+        registry.onRequest(request("https://investidor10.com.br/api/cotacao/fii/10"));
+        Page page = mock(Page.class);
+
+        assertThat(registry.awaitAll(page, Duration.ofSeconds(5))).isTrue();
+        verify(page, never()).waitForCondition(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar false quando o prazo expira sem todas as chaves")
+    void shouldReturnFalseOnDeadline() {
+        XhrCaptureRegistry registry = new XhrCaptureRegistry(List.of("historico-indicadores"));
+        Page page = mock(Page.class);
+        doThrow(new TimeoutError("timeout")).when(page).waitForCondition(any(), any());
+
+        assertThat(registry.awaitAll(page, Duration.ofMillis(10))).isFalse();
+        assertThat(registry.capturedUrls()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Com as chaves obrigatórias capturadas, deve esperar as opcionais só até a rede ficar ociosa")
+    void shouldWaitOptionalKeysOnlyUntilNetworkIdle() {
+        XhrCaptureRegistry registry = new XhrCaptureRegistry(List.of("historico-indicadores", "fluxo-caixa"));
+        registry.onRequest(request("https://investidor10.com.br/api/bdr/historico-indicadores/10/5"));
+        Page page = mock(Page.class);
+
+        assertThat(registry.awaitRequired(page, List.of("historico-indicadores"), Duration.ofSeconds(10))).isFalse();
+        verify(page).waitForLoadState(eq(LoadState.NETWORKIDLE), any());
+        assertThat(registry.get("historico-indicadores")).isPresent();
+        assertThat(registry.missingKeys()).containsExactly("fluxo-caixa");
+    }
+
+    @Test
+    @DisplayName("Não deve esperar a rede ociosa quando as chaves obrigatórias não chegam no prazo")
+    void shouldNotWaitNetworkIdleWhenRequiredKeysTimeOut() {
+        XhrCaptureRegistry registry = new XhrCaptureRegistry(List.of("historico-indicadores", "fluxo-caixa"));
+        Page page = mock(Page.class);
+        doThrow(new TimeoutError("timeout")).when(page).waitForCondition(any(), any());
+
+        assertThat(registry.awaitRequired(page, List.of("historico-indicadores"), Duration.ofMillis(10))).isFalse();
+        verify(page, never()).waitForLoadState(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve anexar o corpo da response 2xx à request capturada")
+    void shouldAttachResponseBody() {
+        XhrCaptureRegistry registry = XhrCaptureRegistry.withResponseBodies(List.of("cotacao/fii", "dividendos/chart"));
+        String cotacaoUrl = "https://investidor10.com.br/api/cotacao/fii/10";
+        String dividendosUrl = "https://investidor10.com.br/api/fii/dividendos/chart/10/1825/mes";
+        registry.onRequest(request(cotacaoUrl));
+        registry.onRequest(request(dividendosUrl));
+        assertThat(registry.isSettled()).isFalse();
+
+        registry.onResponse(response(cotacaoUrl, true, "{\"price\":10.5}"));
+        registry.onResponse(response(dividendosUrl, false, null));
+
+        assertThat(registry.isSettled()).isTrue();
+        assertThat(registry.get("cotacao/fii")).get()
+                .extracting(c -> c.body())
+                .isEqualTo("{\"price\":10.5}");
+        assertThat(registry.get("dividendos/chart")).get()
+                .matches(c -> !c.hasBody());
+    }
+
+    @Test
+    @DisplayName("Deve considerar a captura concluída quando a request falha no browser")
+    void shouldSettleOnFailedRequest() {
+        XhrCaptureRegistry registry = XhrCaptureRegistry.withResponseBodies(List.of("cotacao/fii"));
+        Request req = request("https://investidor10.com.br/api/cotacao/fii/10");
+        when(req.failure()).thenReturn("net::ERR_ABORTED");
+        registry.onRequest(req);
+        assertThat(registry.isSettled()).isFalse();
+
+        registry.onRequestFailed(req);
+
+        assertThat(registry.isSettled()).isTrue();
+        assertThat(registry.get("cotacao/fii")).get()
+                .matches(c -> !c.hasBody());
+    }
+
+    private static Response response(String url, boolean ok, String body) {
+        Response res = mock(Response.class);
+        Request req = request(url);
+        when(res.url()).thenReturn(url);
+        when(res.request()).thenReturn(req);
+        when(res.ok()).thenReturn(ok);
+        when(res.text()).thenReturn(body);
+        return res;
+    }
+}
@@ -0,0 +1,123 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ElementNotFoundException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.FiiCardsScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.FiiInfoSobreScraper;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o ExtractedPage (semântica do plano avaliado sobre Document Jsoup).
+ */
+class ExtractedPageTest {
+
+    private static final String FII_HTML = """
+            <html><body>
+              <section id="cards-ticker">
+                <div class="_card cotacao"><span class="value"> R$ 10,50 </span></div>
+                <div class="_card"><span title="Variação (12M)">Variação</span>
+                  <div class="_card-body"><span>-3,20%</span></div></div>
+              </section>
+              <div id="about-company"><div class="content">
+                <div class="cell"><span class="name">Razão Social</span><div class="value"><span>FUNDO XPTO</span></div></div>
+                <div class="cell"><span class="name">CNPJ</span><div class="value"><span>12.345.678/0001-90</span></div></div>
+                <div class="cell"><span class="name">Segmento</span><div class="value"><span></span></div></div>
+              </div></div>
+              <script>var x = "<div>";</script>
+            </body></html>
+            """;
+
+    @Test
+    @DisplayName("Deve extrair texto, atributo, existência e região HTML com fallbacks de seletor")
+    void shouldExtractBasicKinds() {
+        Document doc = Jsoup.parse("<div class='b' data-id=' 42 '>  olá   mundo </div><p id='x'><b>in</b></p>");
+        ExtractionPlan plan = ExtractionPlan.of(
+                FieldSpec.text("t", ".a", ".b"),
+                FieldSpec.attr("id", "data-id", ".b"),
+                FieldSpec.exists("tem", ".nao", "#x"),
+                FieldSpec.exists("nao", ".nao"),
+                FieldSpec.html("regiao", "#x"),
+                FieldSpec.text("vazio", ".nao"));
+
+        ExtractedPage page = ExtractedPage.fromDocument(doc, plan);
+
+        assertThat(page.text("t")).contains("olá mundo");
+        assertThat(page.text("id")).contains("42");
+        assertThat(page.exists("tem")).isTrue();
+        assertThat(page.exists("nao")).isFalse();
+        assertThat(page.fragment("regiao")).get().extracting(e -> e.select("b").text()).isEqualTo("in");
+        assertThat(page.text("vazio")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve devolver o conteúdo bruto de <script> em campos TEXTS")
+    void shouldReturnScriptDataForTexts() {
+        Document doc = Jsoup.parse("<script type='application/ld+json'>{\"a\":1}</script>");
+
+        ExtractedPage page = ExtractedPage.fromDocument(doc,
+                ExtractionPlan.of(FieldSpec.texts("ld", "script[type=application/ld+json]")));
+
+        assertThat(page.texts("ld")).containsExactly("{\"a\":1}");
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem e títulos repetidos nos pares e omitir contêiner ausente")
+    void shouldKeepPairsInOrder() {
+        Document doc = Jsoup.parse("<div id='c'><div class='cell'><i>A</i><b>1</b></div>"
+                + "<div class='cell'><i>A</i><b>2</b></div><div class='cell'><b>3</b></div></div>");
+        ExtractionPlan plan = ExtractionPlan.of(
+                FieldSpec.pairs("p", new String[]{"#c"}, "div.cell", new String[]{"i"}, new String[]{"b"}),
+                FieldSpec.pairs("ausente", new String[]{"#nao"}, "div.cell", new String[]{"i"}, new String[]{"b"}));
+
+        ExtractedPage page = ExtractedPage.fromDocument(doc, plan);
+
+        assertThat(page.pairs("p")).get().isEqualTo(List.of(
+                Map.entry("A", "1"), Map.entry("A", "2"), Map.entry("", "3")));
+        assertThat(page.pairs("ausente")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Merge deve declarar uma única vez campos com o mesmo nome")
+    void mergeShouldDeduplicateByName() {
+        ExtractionPlan merged = ExtractionPlan.merge(
+                ExtractionPlan.of(FieldSpec.text("a", ".x"), FieldSpec.text("b", ".y")),
+                ExtractionPlan.of(FieldSpec.text("a", ".z")));
+
+        assertThat(merged.fields()).extracting(FieldSpec::name).containsExactly("a", "b");
+        assertThat(merged.fields().get(0).selectors()).containsExactly(".z");
+        assertThat(merged.argument()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Scrapers de FII devem produzir o mesmo DTO pelo Document e pelos campos extraídos")
+    void fiiScrapersShouldMatchDocumentPath() {
+        Document doc = Jsoup.parse(FII_HTML);
+        FiiCardsScraper cards = new FiiCardsScraper();
+        FiiInfoSobreScraper sobre = new FiiInfoSobreScraper();
+
+        ExtractedPage page = ExtractedPage.fromDocument(doc,
+                ExtractionPlan.merge(FiiCardsScraper.PLAN, FiiInfoSobreScraper.PLAN));
+
+        assertThat(cards.scrape(page)).isEqualTo(cards.scrape(doc));
+        assertThat(sobre.scrape(page)).isEqualTo(sobre.scrape(doc));
+        assertThat(cards.scrape(page).cotacao()).isEqualTo("R$ 10,50");
+        assertThat(sobre.scrape(page).cnpj()).isEqualTo("12.345.678/0001-90");
+    }
+
+    @Test
+    @DisplayName("Seção 'Sobre' sem contêiner deve lançar ElementNotFoundException")
+    void sobreWithoutContainerShouldThrow() {
+        ExtractedPage page = ExtractedPage.fromDocument(Jsoup.parse("<div></div>"), FiiInfoSobreScraper.PLAN);
+
+        assertThatThrownBy(() -> new FiiInfoSobreScraper().scrape(page))
+                .isInstanceOf(ElementNotFoundException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.extraction;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.AcaoCardsScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.AcaoDetailedInfoScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.AcaoHeaderScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.acao.AcaoIndicatorsScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.GenericHeaderScraper;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorPlanBenchmark;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o PageRegions (parse em streaming restrito às regiões).
+ */
+class PageRegionsTest {
+
+    private static final PageRegions ACAO_REGIONS = PageRegions.builder()
+            .region("div.name-ticker", "div.container-header", "header div.company-info")
+            .region("section#cards-ticker", ".cards-section", ".ticker-cards")
+            .region("#table-indicators", ".indicators-table", "table.indicators")
+            .region("div#info_about div.content", "div.info-about div.content", ".company-details")
+            .build();
+
+    @Test
+    @DisplayName("Scrapers de ação devem produzir o mesmo resultado sobre as regiões e sobre o Document inteiro")
+    void acaoScrapersShouldMatchFullDocument() {
+        String html = SelectorPlanBenchmark.samplePage(10);
+        Document full = Jsoup.parse(html);
+        Document regions = ACAO_REGIONS.parse(html, "https://investidor10.com.br/acoes/petr4/");
+
+        AcaoHeaderScraper header = new AcaoHeaderScraper(new GenericHeaderScraper());
+        AcaoCardsScraper cards = new AcaoCardsScraper();
+        AcaoDetailedInfoScraper detailed = new AcaoDetailedInfoScraper();
+        AcaoIndicatorsScraper indicators = new AcaoIndicatorsScraper();
+
+        assertThat(header.scrapeInfoHeader(regions)).isEqualTo(header.scrapeInfoHeader(full));
+        assertThat(cards.scrapeCardsInfo(regions)).isEqualTo(cards.scrapeCardsInfo(full));
+        assertThat(detailed.scrapeAndParseDetailedInfo(regions)).isEqualTo(detailed.scrapeAndParseDetailedInfo(full));
+        assertThat(indicators.scrape(regions, "PETR4")).isEqualTo(indicators.scrape(full, "PETR4"));
+        assertThat(indicators.scrape(regions, "PETR4").indicadores()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o que está fora das regiões e parar após a última região")
+    void shouldPruneAndStopEarly() {
+        String html = "<html><head><title>t</title><script>var big = 1;</script></head><body>"
+                + "<nav><a>menu</a></nav><div id='a'><p>A</p><script>x()</script></div>"
+                + "<div id='b'>B</div><footer>rodapé</footer><div id='depois'>não parseado</div></body></html>";
+
+        Document doc = PageRegions.builder().region("#a").region("#b").build().parse(html, "");
+
+        assertThat(doc.select("#a p").text()).isEqualTo("A");
+        assertThat(doc.select("#b").text()).isEqualTo("B");
+        assertThat(doc.select("nav, #depois, title")).isEmpty();
+        // O parser pode já ter aberto a tag seguinte ao parar, mas sem conteúdo
+        assertThat(doc.text()).doesNotContain("rodapé", "menu", "não parseado");
+        assertThat(doc.select("script")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve seguir procurando o seletor prioritário quando só o fallback apareceu")
+    void shouldKeepLookingForPreferredSelector() {
+        String html = "<body><div class='fallback'>F</div><p>meio</p><div class='preferido'>P</div></body>";
+
+        Document doc = PageRegions.builder().region(".preferido", ".fallback").build().parse(html, "");
+
+        assertThat(doc.select(".preferido").text()).isEqualTo("P");
+        assertThat(doc.select("p")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Regiões com todas as ocorrências devem manter cada bloco JSON-LD")
+    void everyMatchShouldKeepAllOccurrences() {
+        String html = "<html><head><script type='application/ld+json'>{\"@type\":\"Article\"}</script>"
+                + "<script>ignorado()</script></head><body><h1>Titulo</h1><div>resto</div>"
+                + "<script type='application/ld+json'>{\"@type\":\"FAQPage\"}</script></body></html>";
+
+        Document doc = PageRegions.builder()
+                .region("h1, h2")
+                .everyMatch("script[type='application/ld+json']")
+                .build()
+                .parse(html, "");
+
+        assertThat(doc.select("script[type='application/ld+json']")).hasSize(2);
+        assertThat(doc.select("script")).hasSize(2);
+        assertThat(doc.select("h1").text()).isEqualTo("Titulo");
+    }
+}
@@ -0,0 +1,64 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.DataParsingException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.etf.dto.EtfDadosFinanceirosDTO;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para o EtfScraper (parse por regiões e cards obrigatórios).
+ */
+class EtfScraperTest {
+
+    private static final String URL = "https://investidor10.com.br/etfs/bova11";
+
+    private final EtfScraper scraper = new EtfScraper(null);
+
+    private static String page(String dyCard) {
+        return """
+                <html><body>
+                <nav>menu</nav>
+                <div id="header_action"><div class="name-ticker">
+                  <h1>BOVA11</h1><h2 class="name-company">iShares Ibovespa</h2>
+                </div></div>
+                <section id="cards-ticker">
+                  <div class="_card cotacao"><div class="_card-body"><span class="value">R$ 142,70</span></div></div>
+                  <div class="_card"><div class="_card-body"><span>R$ 9,78 B</span></div></div>
+                  <div class="_card"><div class="_card-body"><span>11,88%</span></div></div>
+                  <div class="_card"><div class="_card-body"><span>45,10%</span></div></div>
+                  {dy}
+                </section>
+                <footer>rodapé</footer>
+                </body></html>
+                """.replace("{dy}", dyCard);
+    }
+
+    @Test
+    @DisplayName("Deve extrair header e todos os cards do HTML parseado por regiões")
+    void shouldScrapeHeaderAndCards() {
+        Document doc = EtfScraper.PAGE_REGIONS.parse(page("<div class=\"_card dy\"><div class=\"_card-body\"><span>0,00%</span></div></div>"), URL);
+
+        EtfDadosFinanceirosDTO dto = scraper.executeSpecificScraping(doc, "BOVA11");
+
+        assertThat(doc.selectFirst("nav")).isNull();
+        assertThat(dto.infoHeader().ticker()).isEqualTo("BOVA11");
+        assertThat(dto.infoHeader().nomeEtf()).isEqualTo("iShares Ibovespa");
+        assertThat(dto.infoCards().valorAtual()).isEqualTo("R$ 142,70");
+        assertThat(dto.infoCards().capitalizacao()).isEqualTo("R$ 9,78 B");
+        assertThat(dto.infoCards().dy()).isEqualTo("0,00%");
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando um card obrigatório não está na página")
+    void shouldFailWhenRequiredCardIsMissing() {
+        Document doc = EtfScraper.PAGE_REGIONS.parse(page(""), URL);
+
+        assertThatThrownBy(() -> scraper.executeSpecificScraping(doc, "BOVA11"))
+                .isInstanceOf(DataParsingException.class)
+                .hasMessageContaining("DY do ETF");
+    }
+}
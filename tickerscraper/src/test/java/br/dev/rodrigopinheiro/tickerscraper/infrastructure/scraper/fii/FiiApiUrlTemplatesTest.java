@@ -0,0 +1,41 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.FiiDirectApiProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para os templates de URL das APIs de FII.
+ */
+class FiiApiUrlTemplatesTest {
+
+    @Test
+    @DisplayName("Deve substituir apenas o segmento do ID interno")
+    void shouldTemplateOnlyInternalIdSegment() {
+        assertThat(FiiApiUrlTemplates.toTemplate("https://investidor10.com.br/api/fii/dividendos/chart/10/1825/mes", 10))
+                .contains("https://investidor10.com.br/api/fii/dividendos/chart/{id}/1825/mes");
+        assertThat(FiiApiUrlTemplates.toTemplate("https://investidor10.com.br/api/cotacao/fii/101?x=1", 101))
+                .contains("https://investidor10.com.br/api/cotacao/fii/{id}?x=1");
+        assertThat(FiiApiUrlTemplates.toTemplate("https://investidor10.com.br/api/cotacao/fii/1010", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve remontar URLs de outro FII após aprender todas as chaves")
+    void shouldExpandLearnedTemplates() {
+        FiiApiUrlTemplates templates = new FiiApiUrlTemplates(new FiiDirectApiProperties());
+        templates.learn(FiiApiConstants.DIVIDENDOS, "https://investidor10.com.br/api/fii/dividendos/chart/10/1825/mes", 10);
+        templates.learn(FiiApiConstants.HISTORICO_INDICADORES, "https://investidor10.com.br/api/fii/historico-indicadores/10/5", 10);
+        assertThat(templates.canRefresh()).isFalse();
+
+        templates.learn(FiiApiConstants.COTACAO, "https://investidor10.com.br/api/fii/cotacao/fii/10/1", 10);
+
+        assertThat(templates.canRefresh()).isTrue();
+        assertThat(templates.expand(FiiApiConstants.DIVIDENDOS, 77))
+                .contains("https://investidor10.com.br/api/fii/dividendos/chart/77/1825/mes");
+
+        templates.forget();
+        assertThat(templates.canRefresh()).isFalse();
+    }
+}
@@ -1,6 +1,7 @@
 package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii;
 
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.PlaywrightInitializer;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.base.HttpPageFetcher;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.common.CorrelationIdProvider;
 import br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto.FiiDadosFinanceirosDTO;
 import org.jsoup.Jsoup;
@@ -48,6 +49,12 @@ class FiiPlaywrightDirectScraperAdapterSolidTest {
     @Mock
     private CorrelationIdProvider correlationIdProvider;
     
+    @Mock
+    private HttpPageFetcher httpFetcher;
+    
+    @Mock
+    private FiiApiUrlTemplates urlTemplates;
+    
     private FiiPlaywrightDirectScraperAdapter adapter;
     
     @BeforeEach
@@ -60,7 +67,9 @@ class FiiPlaywrightDirectScraperAdapterSolidTest {
             cardsScraper,
             internalIdScrapper,
             apiScraper,
-            correlationIdProvider
+            correlationIdProvider,
+            httpFetcher,
+            urlTemplates
         );
     }
     
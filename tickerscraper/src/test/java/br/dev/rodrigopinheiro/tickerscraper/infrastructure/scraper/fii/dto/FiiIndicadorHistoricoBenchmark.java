@@ -0,0 +1,95 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.JacksonConfig;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do histórico de indicadores de um FII antigo (20 indicadores × 30 anos):
+ * leitura e escrita do JSON em colunas comparadas ao formato {@code Map<String, List<item>>}.
+ *
+ * Não roda no {@code mvn test}. Para executar (alocação por operação com {@code -prof gc}):
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *   org.openjdk.jmh.Main FiiIndicadorHistoricoBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiiIndicadorHistoricoBenchmark {
+
+    private static final TypeReference<Map<String, List<FiiIndicadorHistoricoItemDTO>>> FORMATO_MAPA = new TypeReference<>() {};
+
+    // Mesmo serializer de BigDecimal do ObjectMapper da aplicação (JacksonConfig)
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(
+            new SimpleModule().addSerializer(BigDecimal.class, new JacksonConfig.BigDecimalPlainSerializer()));
+    private byte[] json;
+    private FiiIndicadorHistoricoDTO colunas;
+    private Map<String, List<FiiIndicadorHistoricoItemDTO>> mapa;
+
+    @Setup
+    public void setup() throws Exception {
+        mapa = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            List<FiiIndicadorHistoricoItemDTO> itens = new ArrayList<>();
+            itens.add(new FiiIndicadorHistoricoItemDTO("Atual", "IND" + i, new BigDecimal("10.25"), "PERCENT"));
+            for (int ano = 2024; ano > 1994; ano--) {
+                itens.add(new FiiIndicadorHistoricoItemDTO(Integer.toString(ano), "IND" + i,
+                        BigDecimal.valueOf(ano * 7L + i, 2), "PERCENT"));
+            }
+            mapa.put("IND" + i, itens);
+        }
+        json = objectMapper.writeValueAsBytes(mapa);
+        colunas = new FiiIndicadorHistoricoDTO(mapa);
+    }
+
+    @Benchmark
+    public Object lerColunas() throws Exception {
+        return objectMapper.readValue(json, FiiIndicadorHistoricoDTO.class);
+    }
+
+    @Benchmark
+    public Object lerMapa() throws Exception {
+        return objectMapper.readValue(json, FORMATO_MAPA);
+    }
+
+    @Benchmark
+    public byte[] escreverColunas() throws Exception {
+        return objectMapper.writeValueAsBytes(colunas);
+    }
+
+    @Benchmark
+    public byte[] escreverMapa() throws Exception {
+        return objectMapper.writeValueAsBytes(mapa);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FiiIndicadorHistoricoBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,123 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.fii.dto;
+
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.JacksonConfig;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do armazenamento em colunas do histórico de indicadores de FII.
+ */
+class FiiIndicadorHistoricoDTOTest {
+
+    private static final TypeReference<Map<String, List<FiiIndicadorHistoricoItemDTO>>> FORMATO_ANTIGO = new TypeReference<>() {};
+
+    private static final String JSON = "{\"DIVIDEND_YIELD\":["
+            + "{\"year\":\"Atual\",\"key\":\"DY\",\"value\":12.10,\"type\":\"PERCENT\"},"
+            + "{\"year\":\"2023\",\"key\":\"DY\",\"value\":11.5,\"type\":\"PERCENT\"},"
+            + "{\"year\":\"2022\",\"key\":\"DY\",\"value\":null,\"type\":null}],"
+            + "\"P/VP\":[{\"year\":\"Atual\",\"key\":\"P/VP\",\"value\":0.95,\"type\":\"NUMBER\"}],"
+            + "\"VAZIO\":[],\"NULO\":null}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve ler e escrever o mesmo JSON do formato Map<String, List<item>>")
+    void shouldKeepJsonShape() throws Exception {
+        FiiIndicadorHistoricoDTO dto = objectMapper.readValue(JSON, FiiIndicadorHistoricoDTO.class);
+        Map<String, List<FiiIndicadorHistoricoItemDTO>> antigo = objectMapper.readValue(JSON, FORMATO_ANTIGO);
+
+        assertThat(dto.indicadores()).isEqualTo(antigo);
+        assertThat(dto.indicadores().keySet()).containsExactly("DIVIDEND_YIELD", "P/VP", "VAZIO", "NULO");
+        assertThat(objectMapper.writeValueAsString(dto)).isEqualTo(objectMapper.writeValueAsString(antigo));
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsString(dto), FiiIndicadorHistoricoDTO.class)).isEqualTo(dto);
+        assertThat(objectMapper.readValue("null", FiiIndicadorHistoricoDTO.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("Números lidos direto do parser devem ter o mesmo valor e escala do BigDecimal do Jackson")
+    void shouldParseNumbersLikeJackson() throws Exception {
+        String json = "{\"X\":[" + String.join(",",
+                item("0"), item("-0.50"), item("1e3"), item("1.5E-2"), item("123456789012345678"),
+                item("1234567890123456789.01"), item("-9223372036854775808"), item("\"7.50\""))
+                + ",{\"year\":2024,\"key\":\"K\",\"value\":1}]}";
+
+        FiiIndicadorHistoricoDTO dto = objectMapper.readValue(json, FiiIndicadorHistoricoDTO.class);
+        List<FiiIndicadorHistoricoItemDTO> antigo = objectMapper.readValue(json, FORMATO_ANTIGO).get("X");
+
+        assertThat(dto.indicadores().get("X")).containsExactlyElementsOf(antigo);
+        assertThat(dto.indicadores().get("X")).extracting(i -> i.value().scale())
+                .containsExactlyElementsOf(antigo.stream().map(i -> i.value().scale()).toList());
+        assertThat(dto.indicadores().get("X").get(8).year()).isEqualTo("2024");
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o serializer de BigDecimal configurado no ObjectMapper")
+    void shouldUseConfiguredBigDecimalSerializer() throws Exception {
+        ObjectMapper spring = new ObjectMapper().registerModule(
+                new SimpleModule().addSerializer(BigDecimal.class, new JacksonConfig.BigDecimalPlainSerializer()));
+        FiiIndicadorHistoricoDTO dto = objectMapper.readValue(JSON, FiiIndicadorHistoricoDTO.class);
+
+        assertThat(spring.writeValueAsString(dto))
+                .isEqualTo(spring.writeValueAsString(objectMapper.readValue(JSON, FORMATO_ANTIGO)))
+                .contains("\"value\":12.1,");
+    }
+
+    @Test
+    @DisplayName("Anos, textos e valores fora do intervalo compacto devem voltar idênticos")
+    void shouldRoundTripEdgeValues() {
+        List<FiiIndicadorHistoricoItemDTO> itens = Arrays.asList(
+                new FiiIndicadorHistoricoItemDTO("2024", "A", new BigDecimal("1.10"), "PERCENT"),
+                new FiiIndicadorHistoricoItemDTO("0", "A", new BigDecimal("1E+3"), "PERCENT"),
+                new FiiIndicadorHistoricoItemDTO("02024", null, new BigDecimal("123456789012345678901234567890.5"), null),
+                new FiiIndicadorHistoricoItemDTO("-1", "B", new BigDecimal("1E-200"), ""),
+                new FiiIndicadorHistoricoItemDTO(null, "B", BigDecimal.valueOf(Long.MIN_VALUE), "atual"),
+                null,
+                new FiiIndicadorHistoricoItemDTO("9999999999", "B", null, "PERCENT"));
+        Map<String, List<FiiIndicadorHistoricoItemDTO>> mapa = new LinkedHashMap<>();
+        mapa.put("X", itens);
+
+        FiiIndicadorHistoricoDTO dto = new FiiIndicadorHistoricoDTO(mapa);
+
+        List<FiiIndicadorHistoricoItemDTO> esperado = new ArrayList<>(itens);
+        esperado.remove(null);
+        assertThat(dto.indicadores().get("X")).containsExactlyElementsOf(esperado);
+        assertThat(dto.indicadores().get("X").get(0).value().scale()).isEqualTo(2);
+        assertThat(dto.indicadores().get("Y")).isNull();
+        assertThat(new FiiIndicadorHistoricoDTO(null).indicadores()).isNull();
+    }
+
+    @Test
+    @DisplayName("Builder deve agrupar itens na ordem de chegada e a visão deve ser somente leitura")
+    void builderShouldGroupInArrivalOrder() {
+        FiiIndicadorHistoricoItemDTO a = new FiiIndicadorHistoricoItemDTO("Atual", "DY", BigDecimal.ONE, "PERCENT");
+        FiiIndicadorHistoricoItemDTO b = new FiiIndicadorHistoricoItemDTO("Atual", "P/VP", BigDecimal.TEN, "NUMBER");
+        FiiIndicadorHistoricoItemDTO c = new FiiIndicadorHistoricoItemDTO("2023", "DY", BigDecimal.ZERO, "PERCENT");
+
+        FiiIndicadorHistoricoDTO dto = FiiIndicadorHistoricoDTO.builder()
+                .item("DY", a).item("P/VP", b).item("DY", c).build();
+
+        assertThat(dto.indicadores()).isEqualTo(Map.of("DY", List.of(a, c), "P/VP", List.of(b)));
+        assertThat(dto.indicadores().keySet()).containsExactly("DY", "P/VP");
+        assertThat(dto).isEqualTo(new FiiIndicadorHistoricoDTO(Map.of("DY", List.of(a, c), "P/VP", List.of(b))));
+        assertThat(dto.toString()).startsWith("FiiIndicadorHistoricoDTO[indicadores={DY=[FiiIndicadorHistoricoItemDTO[");
+        assertThatThrownBy(() -> dto.indicadores().get("DY").add(a)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> dto.indicadores().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static String item(String valor) {
+        return "{\"year\":\"Atual\",\"key\":\"K\",\"value\":" + valor + ",\"type\":\"NUMBER\"}";
+    }
+}
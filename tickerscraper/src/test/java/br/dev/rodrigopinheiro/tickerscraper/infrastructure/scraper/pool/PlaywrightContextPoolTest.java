@@ -0,0 +1,141 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingTimeoutException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.PlaywrightProperties;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o PlaywrightContextPool usando contextos/páginas mockados.
+ */
+class PlaywrightContextPoolTest {
+
+    private PlaywrightProperties.Pool config;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger contextsCreated;
+
+    @BeforeEach
+    void setUp() {
+        config = new PlaywrightProperties.Pool();
+        config.setMaxSize(2);
+        config.setMinIdle(1);
+        config.setMaxUsesPerContext(3);
+        config.setAcquireTimeout(Duration.ofMillis(100));
+        registry = new SimpleMeterRegistry();
+        contextsCreated = new AtomicInteger();
+    }
+
+    private PlaywrightContextPool newPool() {
+        PlaywrightContextPool pool = new PlaywrightContextPool("test",
+                () -> {
+                    contextsCreated.incrementAndGet();
+                    return mock(BrowserContext.class);
+                },
+                ctx -> mock(Page.class),
+                config, registry);
+        pool.registerMeters();
+        return pool;
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o mesmo contexto após devolução")
+    void shouldReuseContextAfterRelease() {
+        PlaywrightContextPool pool = newPool();
+        pool.preWarm();
+        assertThat(pool.idleCount()).isEqualTo(1);
+
+        PooledPage first = pool.lease("HGLG11", "url");
+        first.release();
+        PooledPage second = pool.lease("HGLG11", "url");
+
+        assertThat(second).isSameAs(first);
+        assertThat(contextsCreated.get()).isEqualTo(1);
+        assertThat(pool.servedCount()).isEqualTo(2);
+        verify(first.context()).clearCookies();
+        verify(first.page()).navigate("about:blank");
+    }
+
+    @Test
+    @DisplayName("Devolução repetida não deve liberar slots extras")
+    void releaseShouldBeIdempotent() {
+        PlaywrightContextPool pool = newPool();
+
+        PooledPage pooled = pool.lease("PETR4", "url");
+        pooled.release();
+        pooled.release();
+
+        assertThat(pool.leasedCount()).isZero();
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar contexto após atingir maxUsesPerContext")
+    void shouldDiscardContextAfterMaxUses() {
+        PlaywrightContextPool pool = newPool();
+
+        PooledPage pooled = null;
+        for (int i = 0; i < config.getMaxUsesPerContext(); i++) {
+            pooled = pool.lease("PETR4", "url");
+            pooled.release();
+        }
+
+        verify(pooled.context()).close();
+        assertThat(pool.idleCount()).isZero();
+        assertThat(pool.lease("PETR4", "url")).isNotSameAs(pooled);
+    }
+
+    @Test
+    @DisplayName("Deve lançar ScrapingTimeoutException quando o pool estiver esgotado")
+    void shouldTimeoutWhenPoolExhausted() {
+        PlaywrightContextPool pool = newPool();
+        pool.lease("A", "url");
+        pool.lease("B", "url");
+
+        assertThatThrownBy(() -> pool.lease("C", "url"))
+                .isInstanceOf(ScrapingTimeoutException.class);
+        assertThat(registry.get("scraper.playwright.pool.acquire.timeouts").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("scraper.playwright.pool.leased").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Deve descartar página marcada como quebrada")
+    void shouldDiscardBrokenPage() {
+        PlaywrightContextPool pool = newPool();
+
+        PooledPage pooled = pool.lease("PETR4", "url");
+        pooled.markBroken();
+        pooled.release();
+
+        verify(pooled.context()).close();
+        assertThat(pool.idleCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Gauges devem seguir o pool substituto só depois da troca")
+    void shouldRegisterReplacementGaugesAfterSwap() {
+        PlaywrightContextPool old = newPool();
+        old.lease("A", "url");
+        PlaywrightContextPool fresh = new PlaywrightContextPool("test", () -> mock(BrowserContext.class),
+                ctx -> mock(Page.class), config, registry);
+
+        // Antes da troca o gauge ainda é o do pool antigo
+        assertThat(registry.get("scraper.playwright.pool.leased").gauge().value()).isEqualTo(1.0);
+
+        old.removeMeters();
+        fresh.registerMeters();
+        old.close();
+
+        assertThat(registry.get("scraper.playwright.pool.leased").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,37 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para a leitura de RSS via /proc.
+ */
+class ProcessMemoryProbeTest {
+
+    @Test
+    @DisplayName("Deve extrair VmRSS em kB do /proc/<pid>/status")
+    void shouldParseVmRss() {
+        List<String> status = List.of(
+                "Name:\tchrome",
+                "VmPeak:\t 3145728 kB",
+                "VmRSS:\t  524288 kB",
+                "Threads:\t12");
+
+        assertThat(ProcessMemoryProbe.parseVmRssKb(status)).isEqualTo(524288);
+        assertThat(ProcessMemoryProbe.parseVmRssKb(List.of("Name:\tkthreadd"))).isZero();
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    @DisplayName("Deve medir o RSS da árvore do processo atual")
+    void shouldMeasureCurrentProcessTree() {
+        assertThat(ProcessMemoryProbe.treeRssBytes(ProcessHandle.current())).isPositive();
+        assertThat(ProcessMemoryProbe.treeRssBytes(null)).isEqualTo(-1);
+    }
+}
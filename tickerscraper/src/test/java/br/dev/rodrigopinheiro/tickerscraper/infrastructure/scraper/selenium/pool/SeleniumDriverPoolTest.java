@@ -0,0 +1,143 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.selenium.pool;
+
+import br.dev.rodrigopinheiro.tickerscraper.domain.exception.ScrapingTimeoutException;
+import br.dev.rodrigopinheiro.tickerscraper.infrastructure.config.SeleniumPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.remote.SessionId;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o SeleniumDriverPool usando ChromeDrivers mockados.
+ */
+class SeleniumDriverPoolTest {
+
+    private SeleniumPoolProperties config;
+    private SimpleMeterRegistry registry;
+    private AtomicInteger driversCreated;
+
+    @BeforeEach
+    void setUp() {
+        config = new SeleniumPoolProperties();
+        config.setMaxSize(2);
+        config.setMinIdle(1);
+        config.setMaxUsesPerDriver(3);
+        config.setAcquireTimeout(Duration.ofMillis(100));
+        registry = new SimpleMeterRegistry();
+        driversCreated = new AtomicInteger();
+    }
+
+    private SeleniumDriverPool newPool() {
+        return new SeleniumDriverPool(config,
+                () -> {
+                    driversCreated.incrementAndGet();
+                    ChromeDriver driver = mock(ChromeDriver.class, RETURNS_DEEP_STUBS);
+                    when(driver.getSessionId()).thenReturn(new SessionId("s" + driversCreated.get()));
+                    when(driver.getWindowHandle()).thenReturn("main");
+                    return driver;
+                },
+                driver -> mock(DevTools.class),
+                registry);
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar a mesma sessão após devolução")
+    void shouldReuseSessionAfterRelease() {
+        SeleniumDriverPool pool = newPool();
+        pool.preWarm();
+        assertThat(pool.idleCount()).isEqualTo(1);
+
+        PooledDriver first = pool.lease("HGLG11", "url");
+        first.release();
+        PooledDriver second = pool.lease("HGLG11", "url");
+
+        assertThat(second).isSameAs(first);
+        assertThat(driversCreated.get()).isEqualTo(1);
+        verify(first.devTools()).clearListeners();
+        verify(first.driver()).get("about:blank");
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o Chrome após atingir maxUsesPerDriver")
+    void shouldQuitDriverAfterMaxUses() {
+        SeleniumDriverPool pool = newPool();
+
+        PooledDriver pooled = null;
+        for (int i = 0; i < config.getMaxUsesPerDriver(); i++) {
+            pooled = pool.lease("PETR4", "url");
+            pooled.release();
+        }
+
+        verify(pooled.driver()).quit();
+        assertThat(pool.idleCount()).isZero();
+        assertThat(registry.get("scraper.selenium.pool.recycled").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve substituir sessão ociosa que não responde ao health check")
+    void shouldReplaceUnhealthyIdleSession() {
+        SeleniumDriverPool pool = newPool();
+        pool.preWarm();
+        PooledDriver stale = pool.lease("PETR4", "url");
+        stale.release();
+        when(stale.driver().getWindowHandle()).thenThrow(new NoSuchSessionException("sessão morta"));
+
+        PooledDriver fresh = pool.lease("PETR4", "url");
+
+        assertThat(fresh).isNotSameAs(stale);
+        verify(stale.driver()).quit();
+        assertThat(driversCreated.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve lançar ScrapingTimeoutException quando o pool estiver esgotado")
+    void shouldTimeoutWhenPoolExhausted() {
+        SeleniumDriverPool pool = newPool();
+        pool.lease("A", "url");
+        pool.lease("B", "url");
+
+        assertThatThrownBy(() -> pool.lease("C", "url"))
+                .isInstanceOf(ScrapingTimeoutException.class);
+        assertThat(registry.get("scraper.selenium.pool.acquire.timeouts").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve descartar sessão marcada como quebrada")
+    void shouldDiscardBrokenSession() {
+        SeleniumDriverPool pool = newPool();
+
+        PooledDriver pooled = pool.lease("PETR4", "url");
+        pooled.markBroken();
+        pooled.release();
+        pooled.release();
+
+        verify(pooled.driver()).quit();
+        assertThat(pool.idleCount()).isZero();
+        assertThat(pool.leasedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Pré-aquecimento não deve passar do máximo somado às sessões emprestadas")
+    void shouldCapPreWarmAtMaxSize() {
+        config.setMinIdle(2);
+        SeleniumDriverPool pool = newPool();
+        pool.lease("PETR4", "url");
+
+        pool.preWarm();
+
+        assertThat(pool.idleCount()).isEqualTo(1);
+        assertThat(pool.leasedCount() + pool.idleCount()).isEqualTo(config.getMaxSize());
+        assertThat(driversCreated).hasValue(2);
+    }
+}
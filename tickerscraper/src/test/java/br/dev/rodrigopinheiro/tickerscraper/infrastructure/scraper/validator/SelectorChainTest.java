@@ -0,0 +1,93 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Selector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para SelectorChain e SelectorPlan.
+ */
+class SelectorChainTest {
+
+    private static final Document PAGE = Jsoup.parse(SelectorPlanBenchmark.samplePage(5));
+
+    @Test
+    @DisplayName("Deve priorizar o primeiro seletor mesmo que outro case antes no documento")
+    void shouldPreferFirstSelectorOverDocumentOrder() {
+        Document doc = Jsoup.parse("<p class='b'>segundo</p><p class='a'>primeiro</p><p class='a'>outro</p>");
+
+        SelectorChain chain = SelectorChain.of(".a", ".b");
+
+        assertThat(chain.first(doc)).get().extracting(Element::text).isEqualTo("primeiro");
+        assertThat(chain.first(doc)).isEqualTo(ScraperValidator.findElementWithFallbacks(doc, ".a", ".b"));
+    }
+
+    @Test
+    @DisplayName("Deve cair no seletor seguinte quando o primeiro não casa")
+    void shouldFallBackToNextSelector() {
+        Document doc = Jsoup.parse("<div><span class='ticker'>HGLG11</span><span class='ticker'>X</span></div>");
+
+        SelectorChain chain = SelectorChain.of("h1", "span.ticker", ".ticker-symbol");
+
+        assertThat(chain.first(doc)).get().extracting(Element::text).isEqualTo("HGLG11");
+        assertThat(SelectorChain.of("h3").first(doc)).isEmpty();
+        assertThat(chain.first(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("selectAll deve devolver apenas os elementos do primeiro seletor que encontrar algo")
+    void selectAllShouldKeepOnlyWinningSelector() {
+        Document doc = Jsoup.parse("<i class='item'>1</i><b class='cell'>a</b><i class='item'>2</i><b class='cell'>b</b>");
+
+        assertThat(SelectorChain.of(".nada", ".cell", ".item").selectAll(doc))
+                .extracting(Element::text).containsExactly("a", "b");
+        assertThat(SelectorChain.of(".nada").selectAll(doc)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado das strings sobre a página de exemplo")
+    void shouldMatchStringSelectorsOnSamplePage() {
+        String[][] casos = {
+                {"div.name-ticker", "div.container-header"},
+                {"div._card.pl div._card-body span", ".pl .value"},
+                {".nao-existe", "div.value > span", ".value span"},
+                {"[data-content]", "[data-tooltip]", "[title]"},
+                {"div._card:has(span:containsOwn(dy)) span.value", "span.value"}
+        };
+        for (String[] selectors : casos) {
+            assertThat(SelectorChain.of(selectors).first(PAGE))
+                    .as("%s", String.join(" | ", selectors))
+                    .isEqualTo(ScraperValidator.findElementWithFallbacks(PAGE, selectors));
+        }
+    }
+
+    @Test
+    @DisplayName("SelectorPlan deve resolver cada cadeia com sua própria prioridade numa travessia")
+    void planShouldResolveEachChain() {
+        Element container = PAGE.selectFirst("div.container-header");
+        SelectorPlan plan = SelectorPlan.builder()
+                .add("ticker", SelectorChain.of("h1", "span.ticker"))
+                .add("nome", SelectorChain.of(".company-title", "h2.name-company"))
+                .add("ausente", SelectorChain.of(".nada"))
+                .build();
+
+        SelectorPlan.Resolved resolved = plan.resolve(container);
+
+        assertThat(resolved.get("ticker")).get().extracting(Element::text).isEqualTo("PETR4");
+        assertThat(resolved.get("nome")).get().extracting(Element::text).isEqualTo("Petróleo Brasileiro S.A.");
+        assertThat(resolved.get("ausente")).isEmpty();
+        assertThatThrownBy(() -> resolved.get("outro")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Seletor inválido deve falhar na compilação, não na extração")
+    void invalidSelectorShouldFailOnCompile() {
+        assertThatThrownBy(() -> SelectorChain.of("div[")).isInstanceOf(Selector.SelectorParseException.class);
+    }
+}
@@ -0,0 +1,156 @@
+package br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator;
+
+import ch.qos.logback.classic.Level;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH: fallbacks de seletor por strings ({@code Element.select(String)} a cada chamada)
+ * contra {@link SelectorChain}/{@link SelectorPlan} pré-compilados, sobre uma página no formato do
+ * Investidor10 (cabeçalho, cards e grade de indicadores de ação com tooltips).
+ *
+ * Não roda no {@code mvn test}. Para executar:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *   br.dev.rodrigopinheiro.tickerscraper.infrastructure.scraper.validator.SelectorPlanBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectorPlanBenchmark {
+
+    private static final String[] CONTAINER = {"div.name-ticker", "div.container-header", "header div.company-info"};
+    private static final String[] TICKER = {"h1", "span.ticker", ".ticker-symbol"};
+    private static final String[] NOME = {"h2.name-company", "span.company-name", ".company-title"};
+    private static final String[] GRID = {"#table-indicators", ".indicators-table", "table.indicators"};
+    private static final String[] CELL = {".cell", ".indicator-cell", ".indicator-item"};
+    private static final String[] TITLE = {"span", ".title", ".indicator-title"};
+    private static final String[] VALUE = {"div.value > span", ".indicator-value", ".value span"};
+    private static final String[] TOOLTIP = {"[data-content]", "[data-tooltip]", "[title]"};
+    private static final List<String> CLASSIFICACOES = List.of(".sector .destaque", ".subsector .destaque", ".segment .destaque");
+
+    private static final SelectorChain CONTAINER_CHAIN = SelectorChain.of(CONTAINER);
+    private static final SelectorPlan HEADER_PLAN = SelectorPlan.builder()
+            .add("ticker", SelectorChain.of(TICKER))
+            .add("nome", SelectorChain.of(NOME))
+            .build();
+    private static final SelectorChain GRID_CHAIN = SelectorChain.of(GRID);
+    private static final SelectorChain CELL_CHAIN = SelectorChain.of(CELL);
+    private static final SelectorPlan CELL_PLAN = SelectorPlan.builder()
+            .add("titulo", SelectorChain.of(TITLE))
+            .add("valor", SelectorChain.of(VALUE))
+            .add("tooltip", SelectorChain.of(TOOLTIP))
+            .add("setor", SelectorChain.of(CLASSIFICACOES.get(0)))
+            .add("subsetor", SelectorChain.of(CLASSIFICACOES.get(1)))
+            .add("segmento", SelectorChain.of(CLASSIFICACOES.get(2)))
+            .build();
+
+    private Document page;
+
+    @Setup
+    public void setup() {
+        // Nível de produção (application.yml): warn visível, debug desligado
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+        page = Jsoup.parse(samplePage(40));
+    }
+
+    @Benchmark
+    public void headerStrings(Blackhole bh) {
+        Element container = ScraperValidator.findElementWithFallbacks(page, CONTAINER).orElseThrow();
+        bh.consume(ScraperValidator.findElementWithFallbacks(container, TICKER));
+        bh.consume(ScraperValidator.findElementWithFallbacks(container, NOME));
+    }
+
+    @Benchmark
+    public void headerCompiled(Blackhole bh) {
+        Element container = ScraperValidator.findElementWithFallbacks(page, CONTAINER_CHAIN).orElseThrow();
+        SelectorPlan.Resolved fields = HEADER_PLAN.resolve(container);
+        bh.consume(fields.get("ticker"));
+        bh.consume(fields.get("nome"));
+    }
+
+    @Benchmark
+    public void indicatorsStrings(Blackhole bh) {
+        Element grid = ScraperValidator.findElementWithFallbacks(page, GRID).orElseThrow();
+        List<Element> cells = List.of();
+        for (String selector : CELL) {
+            cells = grid.select(selector);
+            if (!cells.isEmpty()) break;
+        }
+        for (Element cell : cells) {
+            bh.consume(ScraperValidator.findElementWithFallbacks(cell, TITLE));
+            bh.consume(ScraperValidator.findElementWithFallbacks(cell, VALUE));
+            bh.consume(ScraperValidator.findElementWithFallbacks(cell, TOOLTIP));
+            for (String classificacao : CLASSIFICACOES) {
+                bh.consume(ScraperValidator.extractTextWithDefault(cell, classificacao, ""));
+            }
+        }
+    }
+
+    @Benchmark
+    public void indicatorsCompiled(Blackhole bh) {
+        Element grid = ScraperValidator.findElementWithFallbacks(page, GRID_CHAIN).orElseThrow();
+        for (Element cell : CELL_CHAIN.selectAll(grid)) {
+            SelectorPlan.Resolved fields = CELL_PLAN.resolve(cell);
+            bh.consume(fields.get("titulo"));
+            bh.consume(fields.get("valor"));
+            bh.consume(fields.get("tooltip"));
+            bh.consume(fields.get("setor"));
+            bh.consume(fields.get("subsetor"));
+            bh.consume(fields.get("segmento"));
+        }
+    }
+
+    /**
+     * Página sintética com a estrutura das páginas de ação do Investidor10.
+     */
+    public static String samplePage(int indicadores) {
+        StringBuilder html = new StringBuilder("<html><head><title>PETR4</title></head><body>");
+        html.append("<nav>").append("<a href='#'>menu</a>".repeat(30)).append("</nav>");
+        html.append("<div class='container-header'><div class='name-ticker'><h1>PETR4</h1>")
+                .append("<h2 class='name-company'>Petróleo Brasileiro S.A.</h2></div></div>");
+        html.append("<section id='cards-ticker'>");
+        for (String card : List.of("cotacao", "pl", "pvp", "dy")) {
+            html.append("<div class='_card ").append(card).append("'><div class='_card-header'><span>")
+                    .append(card).append("</span></div><div class='_card-body'><span class='value'>12,34</span></div></div>");
+        }
+        html.append("</section><div id='table-indicators'>");
+        for (int i = 0; i < indicadores; i++) {
+            html.append("<div class='cell'><span class='d-flex'>INDICADOR ").append(i).append(" - PETR4")
+                    .append("<i data-content='<p>Definição ").append(i).append("</p><p>Cálculo</p>'></i></span>")
+                    .append("<div class='value d-flex'><span>").append(i).append(",5%</span></div></div>");
+        }
+        html.append("</div><div id='info_about'><div class='content'>");
+        html.append("<div class='cell'><span class='title'>Setor</span><div class='detail-value'>Petróleo</div></div>".repeat(10));
+        html.append("</div></div><footer>").append("<p>texto de rodapé</p>".repeat(50)).append("</footer></body></html>");
+        return html.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SelectorPlanBenchmark.class.getSimpleName()).build()).run();
+    }
+}